@@ -36,6 +36,7 @@ import org.wso2.carbon.identity.action.execution.internal.service.impl.ActionExe
 import org.wso2.carbon.identity.action.execution.internal.service.impl.ActionExecutionResponseProcessorFactory;
 import org.wso2.carbon.identity.action.execution.internal.service.impl.ActionExecutorServiceImpl;
 import org.wso2.carbon.identity.action.execution.internal.service.impl.ActionInvocationResponseClassFactory;
+import org.wso2.carbon.identity.action.execution.internal.util.ActionEndpointMetricsReporter;
 import org.wso2.carbon.identity.action.management.api.service.ActionManagementService;
 import org.wso2.carbon.identity.rule.evaluation.api.service.RuleEvaluationService;
 
@@ -54,6 +55,8 @@ public class ActionExecutionServiceComponent {
     protected void activate(ComponentContext context) {
 
         try {
+            ActionExecutorServiceImpl.getInstance().start();
+            ActionEndpointMetricsReporter.getInstance().start();
             BundleContext bundleCtx = context.getBundleContext();
             bundleCtx.registerService(ActionExecutorService.class.getName(), ActionExecutorServiceImpl.getInstance(),
                     null);
@@ -69,6 +72,8 @@ public class ActionExecutionServiceComponent {
         try {
             BundleContext bundleCtx = context.getBundleContext();
             bundleCtx.ungetService(bundleCtx.getServiceReference(ActionExecutorService.class));
+            ActionEndpointMetricsReporter.getInstance().shutdown();
+            ActionExecutorServiceImpl.getInstance().shutdown();
             LOG.debug("Action execution bundle is deactivated.");
         } catch (Throwable e) {
             LOG.error("Error while deactivating Action execution service component.", e);
@@ -18,9 +18,7 @@
 
 package org.wso2.carbon.identity.action.execution.internal.service.impl;
 
-import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
@@ -54,6 +52,7 @@ import org.wso2.carbon.identity.action.execution.api.service.ActionExecutorServi
 import org.wso2.carbon.identity.action.execution.internal.component.ActionExecutionServiceComponentHolder;
 import org.wso2.carbon.identity.action.execution.internal.util.APIClient;
 import org.wso2.carbon.identity.action.execution.internal.util.ActionExecutionDiagnosticLogger;
+import org.wso2.carbon.identity.action.execution.internal.util.ActionExecutionJsonCodecs;
 import org.wso2.carbon.identity.action.execution.internal.util.ActionExecutorConfig;
 import org.wso2.carbon.identity.action.execution.internal.util.AuthMethods;
 import org.wso2.carbon.identity.action.execution.internal.util.OperationComparator;
@@ -63,7 +62,6 @@ import org.wso2.carbon.identity.action.management.api.model.Action;
 import org.wso2.carbon.identity.action.management.api.model.AuthProperty;
 import org.wso2.carbon.identity.action.management.api.model.Authentication;
 import org.wso2.carbon.identity.central.log.mgt.utils.LoggerUtils;
-import org.wso2.carbon.identity.core.ThreadLocalAwareExecutors;
 import org.wso2.carbon.identity.rule.evaluation.api.exception.RuleEvaluationException;
 import org.wso2.carbon.identity.rule.evaluation.api.model.FlowType;
 import org.wso2.carbon.identity.rule.evaluation.api.model.RuleEvaluationResult;
@@ -72,7 +70,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
 import java.util.stream.Collectors;
 
 /**
@@ -84,11 +81,9 @@ public class ActionExecutorServiceImpl implements ActionExecutorService {
 
     private static final Log LOG = LogFactory.getLog(ActionExecutorServiceImpl.class);
 
-    private static final int THREAD_POOL_SIZE = Runtime.getRuntime().availableProcessors() * 2;
     private static final ActionExecutorServiceImpl INSTANCE = new ActionExecutorServiceImpl();
     private static final ActionExecutionDiagnosticLogger DIAGNOSTIC_LOGGER = new ActionExecutionDiagnosticLogger();
-    private final APIClient apiClient;
-    private final ExecutorService executorService = ThreadLocalAwareExecutors.newFixedThreadPool(THREAD_POOL_SIZE);
+    private volatile APIClient apiClient;
 
     private ActionExecutorServiceImpl() {
 
@@ -100,6 +95,25 @@ public class ActionExecutorServiceImpl implements ActionExecutorService {
         return INSTANCE;
     }
 
+    /**
+     * Create a new API client if the current one is shut down, so that the service can be used after the component
+     * is reactivated.
+     */
+    public synchronized void start() {
+
+        if (apiClient.isShutdown()) {
+            apiClient = new APIClient();
+        }
+    }
+
+    /**
+     * Shut down the API client, releasing its request threads, retry scheduler and HTTP connections.
+     */
+    public synchronized void shutdown() {
+
+        apiClient.shutdown();
+    }
+
     @Override
     public boolean isExecutionEnabled(ActionType actionType) {
 
@@ -296,9 +310,9 @@ public class ActionExecutorServiceImpl implements ActionExecutorService {
                                                                  String payload) throws ActionExecutionException {
 
         String apiEndpoint = action.getEndpoint().getUri();
-        CompletableFuture<ActionInvocationResponse> actionExecutor = CompletableFuture.supplyAsync(
-                () -> apiClient.callAPI(ActionType.valueOf(action.getType().getActionType()),
-                        apiEndpoint, authenticationMethod, payload), executorService);
+        // The request and its retries run on the bounded request pool of the API client, while this thread waits.
+        CompletableFuture<ActionInvocationResponse> actionExecutor = apiClient.callAPIAsync(
+                ActionType.valueOf(action.getType().getActionType()), apiEndpoint, authenticationMethod, payload);
         try {
             return actionExecutor.get();
         } catch (InterruptedException | ExecutionException e) {
@@ -529,35 +543,28 @@ public class ActionExecutorServiceImpl implements ActionExecutorService {
 
     private String serializeRequest(ActionExecutionRequest request) throws JsonProcessingException {
 
-        ObjectMapper requestObjectmapper = new ObjectMapper();
-        requestObjectmapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
-        requestObjectmapper.setSerializationInclusion(JsonInclude.Include.NON_EMPTY);
-        return requestObjectmapper.writeValueAsString(request);
+        return ActionExecutionJsonCodecs.getRequestWriter().writeValueAsString(request);
     }
 
     private String serializeSuccessResponse(ActionInvocationSuccessResponse response) throws JsonProcessingException {
 
-        ObjectMapper objectMapper = new ObjectMapper();
-        return objectMapper.writeValueAsString(response);
+        return ActionExecutionJsonCodecs.getResponseWriter().writeValueAsString(response);
     }
 
     private String serializeIncompleteResponse(ActionInvocationIncompleteResponse response)
             throws JsonProcessingException {
 
-        ObjectMapper objectMapper = new ObjectMapper();
-        return objectMapper.writeValueAsString(response);
+        return ActionExecutionJsonCodecs.getResponseWriter().writeValueAsString(response);
     }
 
     private String serializeErrorResponse(ActionInvocationErrorResponse response) throws JsonProcessingException {
 
-        ObjectMapper objectMapper = new ObjectMapper();
-        return objectMapper.writeValueAsString(response);
+        return ActionExecutionJsonCodecs.getResponseWriter().writeValueAsString(response);
     }
 
     private String serializeFailureResponse(ActionInvocationFailureResponse response) throws JsonProcessingException {
 
-        ObjectMapper objectMapper = new ObjectMapper();
-        return objectMapper.writeValueAsString(response);
+        return ActionExecutionJsonCodecs.getResponseWriter().writeValueAsString(response);
     }
 
     private List<PerformableOperation> validatePerformableOperations(
@@ -19,10 +19,10 @@
 package org.wso2.carbon.identity.action.execution.internal.service.impl;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.ObjectCodec;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.wso2.carbon.identity.action.execution.api.model.ActionType;
 import org.wso2.carbon.identity.action.execution.api.model.ResponseData;
 
@@ -40,9 +40,10 @@ public class ResponseDataDeserializer extends JsonDeserializer<ResponseData> {
             throws IOException {
 
         ActionType actionType = (ActionType) ctxt.getAttribute(ACTION_TYPE_ATTR_NAME);
-        JsonNode node = p.getCodec().readTree(p);
-        ObjectMapper mapper = (ObjectMapper) p.getCodec();
-        return mapper.treeToValue(node,
+        // The codec is either an object mapper or a shared object reader, based on how the response is read.
+        ObjectCodec codec = p.getCodec();
+        JsonNode node = codec.readTree(p);
+        return codec.treeToValue(node,
                 ActionInvocationResponseClassFactory.getInvocationSuccessResponseDataClass(actionType));
     }
 }
@@ -19,8 +19,6 @@
 package org.wso2.carbon.identity.action.execution.internal.util;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.module.SimpleModule;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.http.HttpEntity;
@@ -35,30 +33,60 @@ import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.http.util.EntityUtils;
+import org.slf4j.MDC;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.identity.action.execution.api.exception.ActionInvocationException;
 import org.wso2.carbon.identity.action.execution.api.model.ActionExecutionStatus;
-import org.wso2.carbon.identity.action.execution.api.model.ActionInvocationErrorResponse;
-import org.wso2.carbon.identity.action.execution.api.model.ActionInvocationFailureResponse;
-import org.wso2.carbon.identity.action.execution.api.model.ActionInvocationIncompleteResponse;
 import org.wso2.carbon.identity.action.execution.api.model.ActionInvocationResponse;
-import org.wso2.carbon.identity.action.execution.api.model.ActionInvocationSuccessResponse;
 import org.wso2.carbon.identity.action.execution.api.model.ActionType;
-import org.wso2.carbon.identity.action.execution.api.model.ResponseData;
-import org.wso2.carbon.identity.action.execution.internal.service.impl.ResponseDataDeserializer;
+import org.wso2.carbon.identity.core.ThreadLocalAwareThreadPoolExecutor;
 
 import java.io.IOException;
 import java.net.SocketTimeoutException;
 import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * This class is responsible for making API calls to the external services.
+ * <p>
+ * The attempts of a request are executed with the blocking HTTP client on a bounded pool of request threads, whose
+ * size and queue capacity are configurable. A caller waiting for the response holds its own thread, hence the pool
+ * bounds the number of action requests in flight rather than making them non-blocking. The caller waits at most for
+ * the time all the attempts of the request can take with the configured timeouts, and a request that can't be queued
+ * is rejected. A failed attempt is retried after the retry interval on a timer, so a request waiting for its next
+ * attempt doesn't hold a request thread.
+ * <p>
+ * When the circuit breaker is enabled, each endpoint is guarded by an {@link ActionEndpointCircuitBreaker}, and the
+ * requests to an unavailable endpoint fail fast without being sent or retried.
  */
 public class APIClient {
 
     private static final Log LOG = LogFactory.getLog(APIClient.class);
     private static final ActionExecutionDiagnosticLogger DIAGNOSTIC_LOGGER = new ActionExecutionDiagnosticLogger();
     private static final String ACTION_STATUS = "actionStatus";
+    // Allowance for a request to wait for a request thread, on top of the time its attempts can take.
+    private static final long REQUEST_QUEUEING_ALLOWANCE_IN_MILLIS = 1000;
     private final CloseableHttpClient httpClient;
+    private final long responseWaitTimeoutInMillis;
+    private final ExecutorService executorService = new ThreadLocalAwareThreadPoolExecutor(
+            Math.max(1, ActionExecutorConfig.getInstance().getHttpRequestExecutorPoolSize()),
+            Math.max(1, ActionExecutorConfig.getInstance().getHttpRequestExecutorPoolSize()), 0L,
+            TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(
+                    Math.max(1, ActionExecutorConfig.getInstance().getHttpRequestExecutorQueueCapacity())));
+    private final ScheduledExecutorService retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "ActionExecutionRetryScheduler");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     public APIClient() {
 
@@ -75,18 +103,104 @@ public class APIClient {
                 .setRelativeRedirectsAllowed(false)
                 .build();
         PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
-        connectionManager.setMaxTotal(ActionExecutorConfig.getInstance().getHttpConnectionPoolSize());
+        int poolSize = ActionExecutorConfig.getInstance().getHttpConnectionPoolSize();
+        connectionManager.setMaxTotal(poolSize);
+        // Bound the connections of each endpoint, so that a slow endpoint can't hold the whole pool.
+        int poolSizePerRoute = ActionExecutorConfig.getInstance().getHttpConnectionPoolSizePerRoute();
+        if (poolSizePerRoute > 0) {
+            connectionManager.setDefaultMaxPerRoute(poolSize > 0 ? Math.min(poolSizePerRoute, poolSize) :
+                    poolSizePerRoute);
+        }
         httpClient = HttpClientBuilder.create().setDefaultRequestConfig(config).setConnectionManager(connectionManager)
                 .build();
+
+        int retryCount = Math.max(0, ActionExecutorConfig.getInstance().getHttpRequestRetryCount());
+        long attemptTimeout = (long) Math.max(0, connectionRequestTimeout) + Math.max(0, connectionTimeout) +
+                Math.max(0, readTimeout);
+        long retryInterval = Math.max(0, ActionExecutorConfig.getInstance().getHttpRequestRetryIntervalInMillis());
+        responseWaitTimeoutInMillis = (retryCount + 1) * attemptTimeout + retryCount * retryInterval +
+                REQUEST_QUEUEING_ALLOWANCE_IN_MILLIS;
     }
 
+    /**
+     * Call the API and wait for its response, at most for the time all the attempts of the request can take.
+     *
+     * @param actionType Action type.
+     * @param url        API endpoint.
+     * @param authMethod Authentication method of the endpoint.
+     * @param payload    Request payload.
+     * @return Response of the API.
+     */
     public ActionInvocationResponse callAPI(ActionType actionType, String url, AuthMethods.AuthMethod authMethod,
                                             String payload) {
 
+        try {
+            return callAPIAsync(actionType, url, authMethod, payload).get(responseWaitTimeoutInMillis,
+                    TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            LOG.error("Request for API: " + url + " did not complete within " + responseWaitTimeoutInMillis + " ms.");
+            return new ActionInvocationResponse.Builder()
+                    .errorLog("Timed out while waiting for the response of the action request.").build();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new ActionInvocationResponse.Builder()
+                    .errorLog("Interrupted while waiting for the response of the action request.").build();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RejectedExecutionException) {
+                LOG.error("Request for API: " + url + " is rejected as the action request queue is full.");
+                return new ActionInvocationResponse.Builder()
+                        .errorLog("Failed to execute the action request as the request queue is full.").build();
+            }
+            LOG.error("Request for API: " + url + " failed due to an error.", e.getCause());
+            return new ActionInvocationResponse.Builder()
+                    .errorLog("Failed to execute the action request.").build();
+        }
+    }
+
+    /**
+     * Call the API without waiting for its response. The request is executed on the request threads of the client,
+     * and a failed attempt is retried after the configured retry interval.
+     *
+     * @param actionType Action type.
+     * @param url        API endpoint.
+     * @param authMethod Authentication method of the endpoint.
+     * @param payload    Request payload.
+     * @return Future completed with the response of the API.
+     */
+    public CompletableFuture<ActionInvocationResponse> callAPIAsync(ActionType actionType, String url,
+                                                                    AuthMethods.AuthMethod authMethod,
+                                                                    String payload) {
+
         HttpPost httpPost = new HttpPost(url);
         setRequestEntity(httpPost, payload, authMethod, actionType);
 
-        return executeRequest(actionType, httpPost);
+        CompletableFuture<ActionInvocationResponse> result = new CompletableFuture<>();
+        executeRequestAsynchronously(new RequestExecution(actionType, httpPost), result);
+        return result;
+    }
+
+    /**
+     * Stop the request threads and the retry scheduler of the client, and close the HTTP client.
+     */
+    public void shutdown() {
+
+        retryScheduler.shutdownNow();
+        executorService.shutdown();
+        try {
+            httpClient.close();
+        } catch (IOException e) {
+            LOG.debug("Error while closing the HTTP client of the action executor.", e);
+        }
+    }
+
+    /**
+     * Check whether the client is shut down.
+     *
+     * @return Whether the client is shut down.
+     */
+    public boolean isShutdown() {
+
+        return executorService.isShutdown();
     }
 
     private void setRequestEntity(HttpPost httpPost, String jsonRequest, AuthMethods.AuthMethod authMethod,
@@ -103,36 +217,50 @@ public class APIClient {
                 ActionAPIVersionResolver.resolveAPIVersion(actionType));
     }
 
-    private ActionInvocationResponse executeRequest(ActionType actionType, HttpPost request) {
+    private void executeRequestAsynchronously(RequestExecution execution,
+                                              CompletableFuture<ActionInvocationResponse> result) {
 
-        int attempts = 0;
-        int retryCount = ActionExecutorConfig.getInstance().getHttpRequestRetryCount();
-        ActionInvocationResponse actionInvocationResponse = null;
-        Throwable throwable = null;
-
-        while (attempts < retryCount) {
-            try (CloseableHttpResponse response = httpClient.execute(request)) {
-                actionInvocationResponse = handleResponse(actionType, response);
-                if (!actionInvocationResponse.isError() || !actionInvocationResponse.isRetry()) {
-                    return actionInvocationResponse;
+        if (!execution.hasNextAttempt()) {
+            result.complete(execution.getResult());
+            return;
+        }
+        try {
+            executorService.execute(() -> {
+                try {
+                    execution.executeAttempt();
+                    if (execution.hasNextAttempt() && execution.getRetryInterval() > 0) {
+                        scheduleRetry(execution, result);
+                    } else {
+                        executeRequestAsynchronously(execution, result);
+                    }
+                } catch (RuntimeException e) {
+                    result.completeExceptionally(e);
                 }
-                logEndpointUnavailability(request, attempts + 1, retryCount);
-            } catch (ConnectTimeoutException | SocketTimeoutException e) {
-                throwable = e;
-                logEndpointTimeout(request, attempts + 1, retryCount);
-            } catch (Exception e) {
-                DIAGNOSTIC_LOGGER.logAPICallError(request);
-                LOG.error("Request for API: " + request.getURI() + " failed due to an error.", e);
-                break;
-            } finally {
-                request.releaseConnection();
-            }
-            attempts++;
+            });
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e);
         }
+    }
 
-        LOG.warn("Maximum retry attempts reached for API: " + request.getURI(), throwable);
-        return actionInvocationResponse != null ? actionInvocationResponse : new ActionInvocationResponse.Builder()
-                .errorLog("Failed to execute the action request or maximum retry attempts reached.").build();
+    private void scheduleRetry(RequestExecution execution, CompletableFuture<ActionInvocationResponse> result) {
+
+        // The retry is submitted to the I/O threads from the scheduler thread, hence the MDC of the request is
+        // restored for it to be propagated to the next attempt.
+        Map<String, String> contextMap = MDC.getCopyOfContextMap();
+        try {
+            retryScheduler.schedule(() -> {
+                if (contextMap != null) {
+                    MDC.setContextMap(contextMap);
+                }
+                try {
+                    executeRequestAsynchronously(execution, result);
+                } finally {
+                    MDC.clear();
+                }
+            }, execution.getRetryInterval(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e);
+        }
     }
 
     private ActionInvocationResponse handleResponse(ActionType actionType, HttpResponse response) {
@@ -226,7 +354,7 @@ public class APIClient {
 
         // If an error response is received, return the error response in order to communicate back to the client.
         if (isAcceptablePayload(responseEntity)) {
-            return deserialize(responseEntity, ActionInvocationErrorResponse.class);
+            return deserializeErrorResponse(responseEntity);
         }
         return null;
     }
@@ -250,36 +378,30 @@ public class APIClient {
 
         try {
             String jsonResponse = validateJsonResponse(responseEntity);
-            ObjectMapper objectMapper = new ObjectMapper();
-            JsonNode rootNode = objectMapper.readTree(jsonResponse);
+            JsonNode rootNode = ActionExecutionJsonCodecs.getTreeReader().readTree(jsonResponse);
             String actionStatus = rootNode.path(ACTION_STATUS).asText();
             if (actionStatus.isEmpty()) {
                 throw new ActionInvocationException("Reading JSON response failed.");
             }
             if (actionStatus.equals(ActionExecutionStatus.Status.SUCCESS.name())) {
-                // Configure dynamic deserializer for the extended ResponseData class based on the action type.
-                SimpleModule module = new SimpleModule();
-                module.addDeserializer(ResponseData.class, new ResponseDataDeserializer());
-                objectMapper.setConfig(objectMapper.getDeserializationConfig()
-                        .withAttribute(ResponseDataDeserializer.ACTION_TYPE_ATTR_NAME, actionType));
-                objectMapper.registerModule(module);
-                return objectMapper.readValue(jsonResponse, ActionInvocationSuccessResponse.class);
+                // The success response reader resolves the extended ResponseData class based on the action type.
+                return ActionExecutionJsonCodecs.getSuccessResponseReader(actionType).readValue(jsonResponse);
             } else if (actionStatus.equals(ActionExecutionStatus.Status.INCOMPLETE.name())) {
-                return objectMapper.readValue(jsonResponse, ActionInvocationIncompleteResponse.class);
+                return ActionExecutionJsonCodecs.getIncompleteResponseReader().readValue(jsonResponse);
             } else {
-                return objectMapper.readValue(jsonResponse, ActionInvocationFailureResponse.class);
+                return ActionExecutionJsonCodecs.getFailureResponseReader().readValue(jsonResponse);
             }
         } catch (IOException e) {
             throw new ActionInvocationException("Reading JSON response failed.", e);
         }
     }
 
-    private <T> T deserialize(HttpEntity responseEntity, Class<T> returnType) throws ActionInvocationException {
+    private ActionInvocationResponse.APIResponse deserializeErrorResponse(HttpEntity responseEntity)
+            throws ActionInvocationException {
 
         try {
             String jsonResponse = validateJsonResponse(responseEntity);
-            ObjectMapper objectMapper = new ObjectMapper();
-            return objectMapper.readValue(jsonResponse, returnType);
+            return ActionExecutionJsonCodecs.getErrorResponseReader().readValue(jsonResponse);
         } catch (IOException e) {
             throw new ActionInvocationException("Parsing JSON response failed.", e);
         }
@@ -312,4 +434,120 @@ public class APIClient {
             LOG.debug("Request for API: " + request.getURI() + " timed out. Maximum retry attempts reached.");
         }
     }
+
+    /**
+     * Holds the state of the attempts made to execute a request.
+     */
+    private final class RequestExecution {
+
+        private final ActionType actionType;
+        private final HttpPost request;
+        private final int retryCount;
+        private final long retryInterval;
+        private final ActionEndpointCircuitBreaker circuitBreaker;
+        private final int tenantId;
+        private final String tenantDomain;
+        private int attempts;
+        private boolean completed;
+        private boolean aborted;
+        private boolean rejected;
+        private ActionInvocationResponse actionInvocationResponse;
+        private Throwable throwable;
+
+        RequestExecution(ActionType actionType, HttpPost request) {
+
+            this.actionType = actionType;
+            this.request = request;
+            this.retryCount = ActionExecutorConfig.getInstance().getHttpRequestRetryCount();
+            this.retryInterval = ActionExecutorConfig.getInstance().getHttpRequestRetryIntervalInMillis();
+            this.circuitBreaker = ActionExecutorConfig.getInstance().isCircuitBreakerEnabled() ?
+                    ActionEndpointCircuitBreakerRegistry.getInstance().getCircuitBreaker(request.getURI().toString()) :
+                    null;
+            // The attempts run on the request threads, hence the tenant of the caller is restored for each attempt.
+            PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+            this.tenantId = carbonContext.getTenantId();
+            this.tenantDomain = carbonContext.getTenantDomain();
+        }
+
+        boolean hasNextAttempt() {
+
+            return !completed && !aborted && !rejected && attempts < retryCount;
+        }
+
+        long getRetryInterval() {
+
+            return retryInterval;
+        }
+
+        void executeAttempt() {
+
+            try {
+                PrivilegedCarbonContext.startTenantFlow();
+                PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+                carbonContext.setTenantId(tenantId);
+                carbonContext.setTenantDomain(tenantDomain);
+                sendRequest();
+            } finally {
+                PrivilegedCarbonContext.endTenantFlow();
+            }
+        }
+
+        private void sendRequest() {
+
+            if (circuitBreaker != null && !circuitBreaker.tryAcquirePermission()) {
+                rejectAttempt();
+                return;
+            }
+            long startTime = System.nanoTime();
+            boolean failed = true;
+            try (CloseableHttpResponse response = httpClient.execute(request)) {
+                actionInvocationResponse = handleResponse(actionType, response);
+                if (!actionInvocationResponse.isError() || !actionInvocationResponse.isRetry()) {
+                    failed = false;
+                    completed = true;
+                    return;
+                }
+                logEndpointUnavailability(request, attempts + 1, retryCount);
+            } catch (ConnectTimeoutException | SocketTimeoutException e) {
+                throwable = e;
+                logEndpointTimeout(request, attempts + 1, retryCount);
+            } catch (Exception e) {
+                DIAGNOSTIC_LOGGER.logAPICallError(request);
+                LOG.error("Request for API: " + request.getURI() + " failed due to an error.", e);
+                aborted = true;
+                return;
+            } finally {
+                request.releaseConnection();
+                if (circuitBreaker != null) {
+                    circuitBreaker.onResult(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime), failed);
+                }
+            }
+            attempts++;
+        }
+
+        private void rejectAttempt() {
+
+            DIAGNOSTIC_LOGGER.logAPICallRejected(request);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Request for API: " + request.getURI() + " is rejected as the circuit breaker of the " +
+                        "endpoint is " + circuitBreaker.getState() + ".");
+            }
+            rejected = true;
+            // Keep the response of a previous attempt, if any, as it describes the failure of the endpoint better.
+            if (actionInvocationResponse == null) {
+                actionInvocationResponse = new ActionInvocationResponse.Builder()
+                        .errorLog("Failed to execute the action request as the endpoint is unavailable.").build();
+            }
+        }
+
+        ActionInvocationResponse getResult() {
+
+            if (completed || rejected) {
+                return actionInvocationResponse;
+            }
+            LOG.warn("Maximum retry attempts reached for API: " + request.getURI(), throwable);
+            return actionInvocationResponse != null ? actionInvocationResponse : new ActionInvocationResponse.Builder()
+                    .errorLog("Failed to execute the action request or maximum retry attempts reached.").build();
+        }
+    }
 }
@@ -0,0 +1,321 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.action.execution.internal.util;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.metrics.LatencyHistogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Circuit breaker of an action endpoint.
+ * <p>
+ * The breaker records the outcome of the last calls made to the endpoint in a count based sliding window. When the
+ * failure rate or the slow call rate reaches its threshold, the breaker opens and the calls are rejected without
+ * reaching the endpoint. After the configured wait duration, a limited number of probing calls are permitted and the
+ * breaker closes again if they are healthy, or re-opens otherwise.
+ * <p>
+ * The breaker also keeps a latency histogram of the calls made to the endpoint.
+ */
+public class ActionEndpointCircuitBreaker {
+
+    private static final Log LOG = LogFactory.getLog(ActionEndpointCircuitBreaker.class);
+
+    /**
+     * State of the circuit breaker.
+     */
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String endpoint;
+    private final Config config;
+    private final LongSupplier clock;
+    private final LatencyHistogram latencyHistogram = new LatencyHistogram();
+    private final LongAdder notPermittedCalls = new LongAdder();
+
+    private final boolean[] failedCalls;
+    private final boolean[] slowCalls;
+    private int recordedCalls;
+    private int nextIndex;
+    private int failedCallCount;
+    private int slowCallCount;
+
+    private volatile State state = State.CLOSED;
+    private volatile long lastUsedAt;
+    private long openedAt;
+    private int halfOpenPermittedCalls;
+    private int halfOpenRecordedCalls;
+    private int halfOpenFailedCalls;
+    private int halfOpenSlowCalls;
+
+    public ActionEndpointCircuitBreaker(String endpoint, Config config) {
+
+        this(endpoint, config, System::currentTimeMillis);
+    }
+
+    public ActionEndpointCircuitBreaker(String endpoint, Config config, LongSupplier clock) {
+
+        this.endpoint = endpoint;
+        this.config = config;
+        this.clock = clock;
+        this.failedCalls = new boolean[config.getSlidingWindowSize()];
+        this.slowCalls = new boolean[config.getSlidingWindowSize()];
+        this.lastUsedAt = clock.getAsLong();
+    }
+
+    /**
+     * Acquire a permission to call the endpoint.
+     *
+     * @return True if the call is permitted, false if the breaker is open.
+     */
+    public synchronized boolean tryAcquirePermission() {
+
+        lastUsedAt = clock.getAsLong();
+        if (state == State.OPEN) {
+            if (clock.getAsLong() - openedAt < config.getWaitDurationInOpenStateInMillis()) {
+                notPermittedCalls.increment();
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermittedCalls >= config.getPermittedCallsInHalfOpenState()) {
+                notPermittedCalls.increment();
+                return false;
+            }
+            halfOpenPermittedCalls++;
+        }
+        return true;
+    }
+
+    /**
+     * Record the outcome of a permitted call.
+     *
+     * @param durationInMillis Duration of the call in milliseconds.
+     * @param failed           Whether the call failed due to the endpoint being unavailable or timing out.
+     */
+    public synchronized void onResult(long durationInMillis, boolean failed) {
+
+        latencyHistogram.record(TimeUnit.MILLISECONDS.toNanos(durationInMillis));
+        boolean slow = durationInMillis > config.getSlowCallDurationInMillis();
+
+        if (state == State.HALF_OPEN) {
+            halfOpenRecordedCalls++;
+            if (failed) {
+                halfOpenFailedCalls++;
+            }
+            if (slow) {
+                halfOpenSlowCalls++;
+            }
+            if (halfOpenRecordedCalls >= config.getPermittedCallsInHalfOpenState()) {
+                transitionTo(isAboveThresholds(halfOpenFailedCalls, halfOpenSlowCalls, halfOpenRecordedCalls) ?
+                        State.OPEN : State.CLOSED);
+            }
+            return;
+        }
+        if (state == State.OPEN) {
+            // A call permitted before the breaker opened.
+            return;
+        }
+
+        if (recordedCalls == failedCalls.length) {
+            failedCallCount -= failedCalls[nextIndex] ? 1 : 0;
+            slowCallCount -= slowCalls[nextIndex] ? 1 : 0;
+        } else {
+            recordedCalls++;
+        }
+        failedCalls[nextIndex] = failed;
+        slowCalls[nextIndex] = slow;
+        failedCallCount += failed ? 1 : 0;
+        slowCallCount += slow ? 1 : 0;
+        nextIndex = (nextIndex + 1) % failedCalls.length;
+
+        if (recordedCalls >= config.getMinimumNumberOfCalls() &&
+                isAboveThresholds(failedCallCount, slowCallCount, recordedCalls)) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    public String getEndpoint() {
+
+        return endpoint;
+    }
+
+    public State getState() {
+
+        return state;
+    }
+
+    /**
+     * Returns the time the endpoint was last called through the breaker, or the time the breaker was created.
+     *
+     * @return Last used time in milliseconds.
+     */
+    public long getLastUsedAt() {
+
+        return lastUsedAt;
+    }
+
+    /**
+     * Returns the percentage of failed calls in the sliding window, or -1 if the minimum number of calls is not
+     * recorded yet.
+     *
+     * @return Failure rate as a percentage.
+     */
+    public synchronized float getFailureRate() {
+
+        return recordedCalls < config.getMinimumNumberOfCalls() ? -1 : failedCallCount * 100f / recordedCalls;
+    }
+
+    /**
+     * Returns the percentage of slow calls in the sliding window, or -1 if the minimum number of calls is not
+     * recorded yet.
+     *
+     * @return Slow call rate as a percentage.
+     */
+    public synchronized float getSlowCallRate() {
+
+        return recordedCalls < config.getMinimumNumberOfCalls() ? -1 : slowCallCount * 100f / recordedCalls;
+    }
+
+    public long getNotPermittedCalls() {
+
+        return notPermittedCalls.sum();
+    }
+
+    public LatencyHistogram getLatencyHistogram() {
+
+        return latencyHistogram;
+    }
+
+    private boolean isAboveThresholds(int failed, int slow, int total) {
+
+        return failed * 100f / total >= config.getFailureRateThreshold() ||
+                slow * 100f / total >= config.getSlowCallRateThreshold();
+    }
+
+    private void transitionTo(State newState) {
+
+        if (newState == State.OPEN) {
+            LOG.warn("Circuit breaker of the action endpoint: " + endpoint + " transitioned from " + state + " to " +
+                    newState + ". Calls to the endpoint are rejected for " +
+                    config.getWaitDurationInOpenStateInMillis() + " ms.");
+        } else if (LOG.isDebugEnabled()) {
+            LOG.debug("Circuit breaker of the action endpoint: " + endpoint + " transitioned from " + state + " to " +
+                    newState + ".");
+        }
+        if (newState == State.OPEN) {
+            openedAt = clock.getAsLong();
+        }
+        if (newState == State.CLOSED) {
+            recordedCalls = 0;
+            nextIndex = 0;
+            failedCallCount = 0;
+            slowCallCount = 0;
+        }
+        halfOpenPermittedCalls = 0;
+        halfOpenRecordedCalls = 0;
+        halfOpenFailedCalls = 0;
+        halfOpenSlowCalls = 0;
+        state = newState;
+    }
+
+    /**
+     * Thresholds of the circuit breaker.
+     */
+    public static class Config {
+
+        private final int failureRateThreshold;
+        private final int slowCallRateThreshold;
+        private final long slowCallDurationInMillis;
+        private final int slidingWindowSize;
+        private final int minimumNumberOfCalls;
+        private final long waitDurationInOpenStateInMillis;
+        private final int permittedCallsInHalfOpenState;
+
+        public Config(int failureRateThreshold, int slowCallRateThreshold, long slowCallDurationInMillis,
+                      int slidingWindowSize, int minimumNumberOfCalls, long waitDurationInOpenStateInMillis,
+                      int permittedCallsInHalfOpenState) {
+
+            this.failureRateThreshold = failureRateThreshold;
+            this.slowCallRateThreshold = slowCallRateThreshold;
+            this.slowCallDurationInMillis = slowCallDurationInMillis;
+            this.slidingWindowSize = Math.max(1, slidingWindowSize);
+            this.minimumNumberOfCalls = Math.max(1, Math.min(minimumNumberOfCalls, this.slidingWindowSize));
+            this.waitDurationInOpenStateInMillis = waitDurationInOpenStateInMillis;
+            this.permittedCallsInHalfOpenState = Math.max(1, permittedCallsInHalfOpenState);
+        }
+
+        /**
+         * Build the thresholds from the system configuration.
+         *
+         * @param executorConfig Action executor configuration.
+         * @return Circuit breaker thresholds.
+         */
+        public static Config from(ActionExecutorConfig executorConfig) {
+
+            return new Config(executorConfig.getCircuitBreakerFailureRateThreshold(),
+                    executorConfig.getCircuitBreakerSlowCallRateThreshold(),
+                    executorConfig.getCircuitBreakerSlowCallDurationInMillis(),
+                    executorConfig.getCircuitBreakerSlidingWindowSize(),
+                    executorConfig.getCircuitBreakerMinimumNumberOfCalls(),
+                    executorConfig.getCircuitBreakerWaitDurationInOpenStateInMillis(),
+                    executorConfig.getCircuitBreakerPermittedCallsInHalfOpenState());
+        }
+
+        public int getFailureRateThreshold() {
+
+            return failureRateThreshold;
+        }
+
+        public int getSlowCallRateThreshold() {
+
+            return slowCallRateThreshold;
+        }
+
+        public long getSlowCallDurationInMillis() {
+
+            return slowCallDurationInMillis;
+        }
+
+        public int getSlidingWindowSize() {
+
+            return slidingWindowSize;
+        }
+
+        public int getMinimumNumberOfCalls() {
+
+            return minimumNumberOfCalls;
+        }
+
+        public long getWaitDurationInOpenStateInMillis() {
+
+            return waitDurationInOpenStateInMillis;
+        }
+
+        public int getPermittedCallsInHalfOpenState() {
+
+            return permittedCallsInHalfOpenState;
+        }
+    }
+}
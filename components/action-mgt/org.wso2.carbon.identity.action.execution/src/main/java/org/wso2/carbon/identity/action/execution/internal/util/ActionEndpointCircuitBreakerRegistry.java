@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.action.execution.internal.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Registry of the circuit breakers of the action endpoints, keyed by the endpoint URI.
+ * The registered breakers expose the state and latency metrics of each endpoint.
+ * <p>
+ * The breakers are keyed by the endpoint, hence the breaker of an endpoint that is no longer called, e.g. after the
+ * endpoint of an action is updated or the action is deleted, is removed once it is idle for the configured idle
+ * timeout. The number of breakers is also bounded, and the least recently used breakers are removed once the bound
+ * is exceeded. Both are enforced when a breaker is created, as the registry only grows then.
+ */
+public class ActionEndpointCircuitBreakerRegistry {
+
+    private static final ActionEndpointCircuitBreakerRegistry INSTANCE = new ActionEndpointCircuitBreakerRegistry();
+
+    private final Map<String, ActionEndpointCircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+    private final int maxCircuitBreakers;
+    private final long idleTimeoutInMillis;
+    private final LongSupplier clock;
+
+    private ActionEndpointCircuitBreakerRegistry() {
+
+        this(ActionExecutorConfig.getInstance().getCircuitBreakerMaxEndpoints(),
+                ActionExecutorConfig.getInstance().getCircuitBreakerIdleTimeoutInMillis(), System::currentTimeMillis);
+    }
+
+    public ActionEndpointCircuitBreakerRegistry(int maxCircuitBreakers, long idleTimeoutInMillis, LongSupplier clock) {
+
+        this.maxCircuitBreakers = maxCircuitBreakers;
+        this.idleTimeoutInMillis = idleTimeoutInMillis;
+        this.clock = clock;
+    }
+
+    public static ActionEndpointCircuitBreakerRegistry getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Get the circuit breaker of the given endpoint. The breaker is created with the configured thresholds, when the
+     * endpoint is called for the first time.
+     *
+     * @param endpoint Endpoint URI.
+     * @return Circuit breaker of the endpoint.
+     */
+    public ActionEndpointCircuitBreaker getCircuitBreaker(String endpoint) {
+
+        ActionEndpointCircuitBreaker circuitBreaker = circuitBreakers.get(endpoint);
+        if (circuitBreaker != null) {
+            return circuitBreaker;
+        }
+        circuitBreaker = circuitBreakers.computeIfAbsent(endpoint, key -> new ActionEndpointCircuitBreaker(key,
+                ActionEndpointCircuitBreaker.Config.from(ActionExecutorConfig.getInstance()), clock));
+        removeUnusedCircuitBreakers(circuitBreaker);
+        return circuitBreaker;
+    }
+
+    /**
+     * Get the circuit breakers of all the endpoints called so far.
+     *
+     * @return Unmodifiable map of the circuit breakers keyed by the endpoint URI.
+     */
+    public Map<String, ActionEndpointCircuitBreaker> getCircuitBreakers() {
+
+        return Collections.unmodifiableMap(circuitBreakers);
+    }
+
+    /**
+     * Remove the circuit breaker of the given endpoint.
+     *
+     * @param endpoint Endpoint URI.
+     */
+    public void removeCircuitBreaker(String endpoint) {
+
+        circuitBreakers.remove(endpoint);
+    }
+
+    private void removeUnusedCircuitBreakers(ActionEndpointCircuitBreaker createdCircuitBreaker) {
+
+        if (idleTimeoutInMillis > 0) {
+            long idleSince = clock.getAsLong() - idleTimeoutInMillis;
+            circuitBreakers.values().removeIf(circuitBreaker -> circuitBreaker.getLastUsedAt() < idleSince);
+        }
+        if (maxCircuitBreakers <= 0 || circuitBreakers.size() <= maxCircuitBreakers) {
+            return;
+        }
+        List<ActionEndpointCircuitBreaker> leastRecentlyUsed = new ArrayList<>(circuitBreakers.values());
+        leastRecentlyUsed.remove(createdCircuitBreaker);
+        leastRecentlyUsed.sort(Comparator.comparingLong(ActionEndpointCircuitBreaker::getLastUsedAt));
+        for (ActionEndpointCircuitBreaker circuitBreaker : leastRecentlyUsed) {
+            if (circuitBreakers.size() <= maxCircuitBreakers) {
+                break;
+            }
+            circuitBreakers.remove(circuitBreaker.getEndpoint(), circuitBreaker);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.action.execution.internal.util;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.metrics.LatencyHistogram;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reporter that periodically logs the state and latency metrics of the action endpoint circuit breakers.
+ * The report is scheduled only when the circuit breakers are enabled.
+ */
+public class ActionEndpointMetricsReporter {
+
+    private static final Log LOG = LogFactory.getLog(ActionEndpointMetricsReporter.class);
+    private static final ActionEndpointMetricsReporter INSTANCE = new ActionEndpointMetricsReporter();
+
+    private ScheduledExecutorService reportScheduler;
+
+    private ActionEndpointMetricsReporter() {
+
+    }
+
+    public static ActionEndpointMetricsReporter getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Start reporting the metrics at the configured interval.
+     */
+    public synchronized void start() {
+
+        if (reportScheduler != null) {
+            return;
+        }
+        ActionExecutorConfig config = ActionExecutorConfig.getInstance();
+        long reportIntervalInMillis = config.getCircuitBreakerMetricsReportIntervalInMillis();
+        if (!config.isCircuitBreakerEnabled() || reportIntervalInMillis <= 0) {
+            return;
+        }
+        reportScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ActionEndpointMetricsReporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        reportScheduler.scheduleAtFixedRate(this::report, reportIntervalInMillis, reportIntervalInMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stop reporting the metrics.
+     */
+    public synchronized void shutdown() {
+
+        if (reportScheduler != null) {
+            reportScheduler.shutdownNow();
+            reportScheduler = null;
+        }
+    }
+
+    /**
+     * Log the metrics of the circuit breakers of all the endpoints called so far.
+     */
+    public void report() {
+
+        if (!LOG.isInfoEnabled()) {
+            return;
+        }
+        try {
+            for (ActionEndpointCircuitBreaker circuitBreaker :
+                    ActionEndpointCircuitBreakerRegistry.getInstance().getCircuitBreakers().values()) {
+                LOG.info(buildReport(circuitBreaker));
+            }
+        } catch (RuntimeException e) {
+            LOG.error("Error while reporting the metrics of the action endpoints.", e);
+        }
+    }
+
+    /**
+     * Build the report line of the given circuit breaker.
+     *
+     * @param circuitBreaker Circuit breaker of an endpoint.
+     * @return Report of the state and latency metrics of the endpoint.
+     */
+    public static String buildReport(ActionEndpointCircuitBreaker circuitBreaker) {
+
+        LatencyHistogram latencyHistogram = circuitBreaker.getLatencyHistogram();
+        return "Action endpoint: " + circuitBreaker.getEndpoint() +
+                ", state: " + circuitBreaker.getState() +
+                ", failureRate: " + circuitBreaker.getFailureRate() +
+                ", slowCallRate: " + circuitBreaker.getSlowCallRate() +
+                ", notPermittedCalls: " + circuitBreaker.getNotPermittedCalls() +
+                ", calls: " + latencyHistogram.getCount() +
+                ", meanLatencyMs: " + TimeUnit.NANOSECONDS.toMillis((long) latencyHistogram.getMeanNanos()) +
+                ", p95LatencyMs: " + TimeUnit.MICROSECONDS.toMillis(latencyHistogram.getPercentileMicros(95)) +
+                ", p99LatencyMs: " + TimeUnit.MICROSECONDS.toMillis(latencyHistogram.getPercentileMicros(99)) +
+                ", maxLatencyMs: " + TimeUnit.NANOSECONDS.toMillis(latencyHistogram.getMaxNanos());
+    }
+}
@@ -231,6 +231,20 @@ public class ActionExecutionDiagnosticLogger {
                         DiagnosticLog.ResultStatus.FAILED));
     }
 
+    public void logAPICallRejected(HttpPost request) {
+
+        if (!LoggerUtils.isDiagnosticLogsEnabled()) {
+            return;
+        }
+
+        triggerLogEvent(
+                initializeDiagnosticLogBuilder(
+                        ActionExecutionLogConstants.ActionIDs.SEND_ACTION_REQUEST,
+                        "Request for external endpoint " + request.getURI() + " for action is rejected as the" +
+                                " endpoint is unavailable.",
+                        DiagnosticLog.ResultStatus.FAILED));
+    }
+
     private DiagnosticLog.DiagnosticLogBuilder addActionConfigParams(
             DiagnosticLog.DiagnosticLogBuilder diagnosticLogBuilder, Action action) {
 
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.action.execution.internal.util;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.wso2.carbon.identity.action.execution.api.model.ActionInvocationErrorResponse;
+import org.wso2.carbon.identity.action.execution.api.model.ActionInvocationFailureResponse;
+import org.wso2.carbon.identity.action.execution.api.model.ActionInvocationIncompleteResponse;
+import org.wso2.carbon.identity.action.execution.api.model.ActionInvocationSuccessResponse;
+import org.wso2.carbon.identity.action.execution.api.model.ActionType;
+import org.wso2.carbon.identity.action.execution.api.model.ResponseData;
+import org.wso2.carbon.identity.action.execution.internal.service.impl.ResponseDataDeserializer;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * This class holds the JSON readers and writers used to serialize the action requests and deserialize the action
+ * responses. Readers and writers are immutable and thread safe, hence they are built once and shared, instead of
+ * creating an object mapper per request.
+ */
+public final class ActionExecutionJsonCodecs {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .registerModule(new SimpleModule().addDeserializer(ResponseData.class, new ResponseDataDeserializer()));
+    private static final ObjectWriter REQUEST_WRITER = new ObjectMapper()
+            .setSerializationInclusion(JsonInclude.Include.NON_EMPTY).writer();
+    private static final ObjectWriter RESPONSE_WRITER = OBJECT_MAPPER.writer();
+    private static final ObjectReader TREE_READER = OBJECT_MAPPER.reader();
+    private static final ObjectReader INCOMPLETE_RESPONSE_READER =
+            OBJECT_MAPPER.readerFor(ActionInvocationIncompleteResponse.class);
+    private static final ObjectReader FAILURE_RESPONSE_READER =
+            OBJECT_MAPPER.readerFor(ActionInvocationFailureResponse.class);
+    private static final ObjectReader ERROR_RESPONSE_READER =
+            OBJECT_MAPPER.readerFor(ActionInvocationErrorResponse.class);
+    private static final Map<ActionType, ObjectReader> SUCCESS_RESPONSE_READERS = new EnumMap<>(ActionType.class);
+
+    static {
+        // The response data of a success response is resolved by the action type, which is passed to the
+        // ResponseDataDeserializer as a reader attribute.
+        for (ActionType actionType : ActionType.values()) {
+            SUCCESS_RESPONSE_READERS.put(actionType, OBJECT_MAPPER.readerFor(ActionInvocationSuccessResponse.class)
+                    .withAttribute(ResponseDataDeserializer.ACTION_TYPE_ATTR_NAME, actionType));
+        }
+    }
+
+    private ActionExecutionJsonCodecs() {
+
+    }
+
+    /**
+     * Returns the writer used to serialize the action execution requests. Null and empty values are omitted.
+     *
+     * @return Action execution request writer.
+     */
+    public static ObjectWriter getRequestWriter() {
+
+        return REQUEST_WRITER;
+    }
+
+    /**
+     * Returns the writer used to serialize the action invocation responses, e.g. for debug logs.
+     *
+     * @return Action invocation response writer.
+     */
+    public static ObjectWriter getResponseWriter() {
+
+        return RESPONSE_WRITER;
+    }
+
+    /**
+     * Returns the reader used to read the action invocation responses as a JSON tree.
+     *
+     * @return JSON tree reader.
+     */
+    public static ObjectReader getTreeReader() {
+
+        return TREE_READER;
+    }
+
+    /**
+     * Returns the reader used to deserialize the success responses of the given action type.
+     *
+     * @param actionType Action type.
+     * @return Success response reader.
+     */
+    public static ObjectReader getSuccessResponseReader(ActionType actionType) {
+
+        return SUCCESS_RESPONSE_READERS.get(actionType);
+    }
+
+    /**
+     * Returns the reader used to deserialize the incomplete responses.
+     *
+     * @return Incomplete response reader.
+     */
+    public static ObjectReader getIncompleteResponseReader() {
+
+        return INCOMPLETE_RESPONSE_READER;
+    }
+
+    /**
+     * Returns the reader used to deserialize the failure responses.
+     *
+     * @return Failure response reader.
+     */
+    public static ObjectReader getFailureResponseReader() {
+
+        return FAILURE_RESPONSE_READER;
+    }
+
+    /**
+     * Returns the reader used to deserialize the error responses.
+     *
+     * @return Error response reader.
+     */
+    public static ObjectReader getErrorResponseReader() {
+
+        return ERROR_RESPONSE_READER;
+    }
+}
@@ -50,11 +50,53 @@ public class ActionExecutorConfig {
     private static final String HTTP_CONNECTION_TIMEOUT_PROPERTY = "Actions.HTTPClient.HTTPConnectionTimeout";
     private static final String HTTP_CONNECTION_POOL_SIZE_PROPERTY = "Actions.HTTPClient.HTTPConnectionPoolSize";
     private static final String HTTP_REQUEST_RETRY_COUNT_PROPERTY = "Actions.HTTPClient.HTTPRequestRetryCount";
+    private static final String HTTP_CONNECTION_POOL_SIZE_PER_ROUTE_PROPERTY =
+            "Actions.HTTPClient.HTTPConnectionPoolSizePerRoute";
+    private static final String HTTP_REQUEST_RETRY_INTERVAL_PROPERTY = "Actions.HTTPClient.HTTPRequestRetryInterval";
+    private static final String HTTP_REQUEST_EXECUTOR_POOL_SIZE_PROPERTY =
+            "Actions.HTTPClient.HTTPRequestExecutorPoolSize";
+    private static final String HTTP_REQUEST_EXECUTOR_QUEUE_CAPACITY_PROPERTY =
+            "Actions.HTTPClient.HTTPRequestExecutorQueueCapacity";
+    private static final String CIRCUIT_BREAKER_ENABLE_PROPERTY = "Actions.HTTPClient.CircuitBreaker.Enable";
+    private static final String CIRCUIT_BREAKER_FAILURE_RATE_THRESHOLD_PROPERTY =
+            "Actions.HTTPClient.CircuitBreaker.FailureRateThreshold";
+    private static final String CIRCUIT_BREAKER_SLOW_CALL_RATE_THRESHOLD_PROPERTY =
+            "Actions.HTTPClient.CircuitBreaker.SlowCallRateThreshold";
+    private static final String CIRCUIT_BREAKER_SLOW_CALL_DURATION_PROPERTY =
+            "Actions.HTTPClient.CircuitBreaker.SlowCallDuration";
+    private static final String CIRCUIT_BREAKER_SLIDING_WINDOW_SIZE_PROPERTY =
+            "Actions.HTTPClient.CircuitBreaker.SlidingWindowSize";
+    private static final String CIRCUIT_BREAKER_MINIMUM_NUMBER_OF_CALLS_PROPERTY =
+            "Actions.HTTPClient.CircuitBreaker.MinimumNumberOfCalls";
+    private static final String CIRCUIT_BREAKER_WAIT_DURATION_IN_OPEN_STATE_PROPERTY =
+            "Actions.HTTPClient.CircuitBreaker.WaitDurationInOpenState";
+    private static final String CIRCUIT_BREAKER_PERMITTED_CALLS_IN_HALF_OPEN_STATE_PROPERTY =
+            "Actions.HTTPClient.CircuitBreaker.PermittedCallsInHalfOpenState";
+    private static final String CIRCUIT_BREAKER_MAX_ENDPOINTS_PROPERTY =
+            "Actions.HTTPClient.CircuitBreaker.MaxEndpoints";
+    private static final String CIRCUIT_BREAKER_IDLE_TIMEOUT_PROPERTY =
+            "Actions.HTTPClient.CircuitBreaker.IdleTimeout";
+    private static final String CIRCUIT_BREAKER_METRICS_REPORT_INTERVAL_PROPERTY =
+            "Actions.HTTPClient.CircuitBreaker.MetricsReportInterval";
     private static final int DEFAULT_HTTP_REQUEST_RETRY_COUNT = 2;
     private static final int DEFAULT_HTTP_CONNECTION_POOL_SIZE = 20;
+    private static final int DEFAULT_HTTP_CONNECTION_POOL_SIZE_PER_ROUTE = 10;
+    private static final int DEFAULT_HTTP_REQUEST_RETRY_INTERVAL_IN_MILLIS = 0;
+    private static final int DEFAULT_HTTP_REQUEST_EXECUTOR_POOL_SIZE = Runtime.getRuntime().availableProcessors() * 2;
+    private static final int DEFAULT_HTTP_REQUEST_EXECUTOR_QUEUE_CAPACITY = 1000;
     private static final int DEFAULT_HTTP_READ_TIMEOUT_IN_MILLIS = 5000;
     private static final int DEFAULT_HTTP_CONNECTION_REQUEST_TIMEOUT_IN_MILLIS = 2000;
     private static final int DEFAULT_HTTP_CONNECTION_TIMEOUT_IN_MILLIS = 2000;
+    private static final int DEFAULT_CIRCUIT_BREAKER_FAILURE_RATE_THRESHOLD = 50;
+    private static final int DEFAULT_CIRCUIT_BREAKER_SLOW_CALL_RATE_THRESHOLD = 100;
+    private static final int DEFAULT_CIRCUIT_BREAKER_SLOW_CALL_DURATION_IN_MILLIS = 3000;
+    private static final int DEFAULT_CIRCUIT_BREAKER_SLIDING_WINDOW_SIZE = 20;
+    private static final int DEFAULT_CIRCUIT_BREAKER_MINIMUM_NUMBER_OF_CALLS = 10;
+    private static final int DEFAULT_CIRCUIT_BREAKER_WAIT_DURATION_IN_OPEN_STATE_IN_MILLIS = 30000;
+    private static final int DEFAULT_CIRCUIT_BREAKER_PERMITTED_CALLS_IN_HALF_OPEN_STATE = 3;
+    private static final int DEFAULT_CIRCUIT_BREAKER_MAX_ENDPOINTS = 1000;
+    private static final int DEFAULT_CIRCUIT_BREAKER_IDLE_TIMEOUT_IN_MILLIS = 3600000;
+    private static final int DEFAULT_CIRCUIT_BREAKER_METRICS_REPORT_INTERVAL_IN_MILLIS = 300000;
 
     private ActionExecutorConfig() {
 
@@ -132,6 +174,68 @@ public class ActionExecutorConfig {
         return poolSizePropertyValue;
     }
 
+    /**
+     * Returns the maximum number of connections the HTTP client can lease for a single endpoint, based on the system
+     * configuration. This bounds the connections a slow endpoint can hold from the shared connection pool.
+     *
+     * @return The HTTP connection pool size per endpoint, or the default if the property is missing or invalid.
+     */
+    public int getHttpConnectionPoolSizePerRoute() {
+
+        int poolSizePropertyValue = DEFAULT_HTTP_CONNECTION_POOL_SIZE_PER_ROUTE;
+        String poolSizeValue = (String) IdentityConfigParser.getInstance().getConfiguration().
+                get(HTTP_CONNECTION_POOL_SIZE_PER_ROUTE_PROPERTY);
+        if (StringUtils.isNotBlank(poolSizeValue)) {
+            try {
+                poolSizePropertyValue = Integer.parseInt(poolSizeValue);
+            } catch (NumberFormatException e) {
+                LOG.debug("Failed to read Http client connection pool size per route property in identity.xml." +
+                        " Expects a number. Using the default value: " +
+                        DEFAULT_HTTP_CONNECTION_POOL_SIZE_PER_ROUTE, e);
+            }
+        }
+        return poolSizePropertyValue;
+    }
+
+    /**
+     * Retrieves the number of threads which execute the HTTP requests to the action endpoints. This bounds the number
+     * of action requests in flight, as the caller of an action waits for its response.
+     * If the configuration value is invalid or missing, the default pool size is parsed.
+     *
+     * @return The HTTP request executor pool size.
+     */
+    public int getHttpRequestExecutorPoolSize() {
+
+        int poolSize = parseIntConfig(HTTP_REQUEST_EXECUTOR_POOL_SIZE_PROPERTY,
+                DEFAULT_HTTP_REQUEST_EXECUTOR_POOL_SIZE);
+        return poolSize > 0 ? poolSize : DEFAULT_HTTP_REQUEST_EXECUTOR_POOL_SIZE;
+    }
+
+    /**
+     * Retrieves the number of HTTP requests that can wait for a request thread. Requests beyond this are rejected
+     * with an error response instead of being queued.
+     * If the configuration value is invalid or missing, the default capacity is parsed.
+     *
+     * @return The HTTP request executor queue capacity.
+     */
+    public int getHttpRequestExecutorQueueCapacity() {
+
+        int queueCapacity = parseIntConfig(HTTP_REQUEST_EXECUTOR_QUEUE_CAPACITY_PROPERTY,
+                DEFAULT_HTTP_REQUEST_EXECUTOR_QUEUE_CAPACITY);
+        return queueCapacity > 0 ? queueCapacity : DEFAULT_HTTP_REQUEST_EXECUTOR_QUEUE_CAPACITY;
+    }
+
+    /**
+     * Retrieves the interval to wait before retrying a failed HTTP request.
+     * If the configuration value is invalid or missing, the default interval is parsed.
+     *
+     * @return The HTTP request retry interval int value in milliseconds.
+     */
+    public int getHttpRequestRetryIntervalInMillis() {
+
+        return parseTimeoutConfig(HTTP_REQUEST_RETRY_INTERVAL_PROPERTY, DEFAULT_HTTP_REQUEST_RETRY_INTERVAL_IN_MILLIS);
+    }
+
     /**
      * Retrieves the HTTP read timeout configuration.
      * If the configuration value is invalid or missing, the default timeout value is parsed.
@@ -166,6 +270,129 @@ public class ActionExecutorConfig {
         return parseTimeoutConfig(HTTP_CONNECTION_TIMEOUT_PROPERTY, DEFAULT_HTTP_CONNECTION_TIMEOUT_IN_MILLIS);
     }
 
+    /**
+     * Returns whether the requests to the action endpoints are guarded by a circuit breaker per endpoint.
+     *
+     * @return True if the circuit breaker is enabled in the system configuration.
+     */
+    public boolean isCircuitBreakerEnabled() {
+
+        return parseBooleanConfig(CIRCUIT_BREAKER_ENABLE_PROPERTY, false);
+    }
+
+    /**
+     * Retrieves the percentage of failed calls at or above which the circuit breaker of an endpoint opens.
+     *
+     * @return The failure rate threshold as a percentage.
+     */
+    public int getCircuitBreakerFailureRateThreshold() {
+
+        return parseIntConfig(CIRCUIT_BREAKER_FAILURE_RATE_THRESHOLD_PROPERTY,
+                DEFAULT_CIRCUIT_BREAKER_FAILURE_RATE_THRESHOLD);
+    }
+
+    /**
+     * Retrieves the percentage of slow calls at or above which the circuit breaker of an endpoint opens.
+     *
+     * @return The slow call rate threshold as a percentage.
+     */
+    public int getCircuitBreakerSlowCallRateThreshold() {
+
+        return parseIntConfig(CIRCUIT_BREAKER_SLOW_CALL_RATE_THRESHOLD_PROPERTY,
+                DEFAULT_CIRCUIT_BREAKER_SLOW_CALL_RATE_THRESHOLD);
+    }
+
+    /**
+     * Retrieves the duration above which a call to an endpoint is considered slow by the circuit breaker.
+     *
+     * @return The slow call duration int value in milliseconds.
+     */
+    public int getCircuitBreakerSlowCallDurationInMillis() {
+
+        return parseTimeoutConfig(CIRCUIT_BREAKER_SLOW_CALL_DURATION_PROPERTY,
+                DEFAULT_CIRCUIT_BREAKER_SLOW_CALL_DURATION_IN_MILLIS);
+    }
+
+    /**
+     * Retrieves the number of most recent calls the circuit breaker uses to calculate the failure and slow call rates.
+     *
+     * @return The sliding window size of the circuit breaker.
+     */
+    public int getCircuitBreakerSlidingWindowSize() {
+
+        return parseIntConfig(CIRCUIT_BREAKER_SLIDING_WINDOW_SIZE_PROPERTY,
+                DEFAULT_CIRCUIT_BREAKER_SLIDING_WINDOW_SIZE);
+    }
+
+    /**
+     * Retrieves the number of calls to be recorded before the circuit breaker calculates the failure and slow call
+     * rates.
+     *
+     * @return The minimum number of calls of the circuit breaker.
+     */
+    public int getCircuitBreakerMinimumNumberOfCalls() {
+
+        return parseIntConfig(CIRCUIT_BREAKER_MINIMUM_NUMBER_OF_CALLS_PROPERTY,
+                DEFAULT_CIRCUIT_BREAKER_MINIMUM_NUMBER_OF_CALLS);
+    }
+
+    /**
+     * Retrieves the time an open circuit breaker rejects the calls before permitting the probing calls.
+     *
+     * @return The wait duration in open state int value in milliseconds.
+     */
+    public int getCircuitBreakerWaitDurationInOpenStateInMillis() {
+
+        return parseTimeoutConfig(CIRCUIT_BREAKER_WAIT_DURATION_IN_OPEN_STATE_PROPERTY,
+                DEFAULT_CIRCUIT_BREAKER_WAIT_DURATION_IN_OPEN_STATE_IN_MILLIS);
+    }
+
+    /**
+     * Retrieves the number of probing calls a half open circuit breaker permits to decide whether to close.
+     *
+     * @return The number of permitted calls in half open state.
+     */
+    public int getCircuitBreakerPermittedCallsInHalfOpenState() {
+
+        return parseIntConfig(CIRCUIT_BREAKER_PERMITTED_CALLS_IN_HALF_OPEN_STATE_PROPERTY,
+                DEFAULT_CIRCUIT_BREAKER_PERMITTED_CALLS_IN_HALF_OPEN_STATE);
+    }
+
+    /**
+     * Retrieves the maximum number of endpoints the circuit breakers are kept for. The least recently used breakers
+     * are removed once the limit is exceeded.
+     *
+     * @return The maximum number of endpoints with a circuit breaker.
+     */
+    public int getCircuitBreakerMaxEndpoints() {
+
+        return parseIntConfig(CIRCUIT_BREAKER_MAX_ENDPOINTS_PROPERTY, DEFAULT_CIRCUIT_BREAKER_MAX_ENDPOINTS);
+    }
+
+    /**
+     * Retrieves the time after which the circuit breaker of an endpoint that is not called is removed, e.g. when the
+     * endpoint of an action is updated or the action is deleted.
+     *
+     * @return The idle timeout of the circuit breakers int value in milliseconds.
+     */
+    public int getCircuitBreakerIdleTimeoutInMillis() {
+
+        return parseTimeoutConfig(CIRCUIT_BREAKER_IDLE_TIMEOUT_PROPERTY,
+                DEFAULT_CIRCUIT_BREAKER_IDLE_TIMEOUT_IN_MILLIS);
+    }
+
+    /**
+     * Retrieves the interval at which the state and latency metrics of the action endpoint circuit breakers are
+     * logged. A non positive value disables the report.
+     *
+     * @return The metrics report interval int value in milliseconds.
+     */
+    public int getCircuitBreakerMetricsReportIntervalInMillis() {
+
+        return parseTimeoutConfig(CIRCUIT_BREAKER_METRICS_REPORT_INTERVAL_PROPERTY,
+                DEFAULT_CIRCUIT_BREAKER_METRICS_REPORT_INTERVAL_IN_MILLIS);
+    }
+
     private int parseTimeoutConfig(String timeoutTypeName, int defaultTimeout) {
 
         int timeoutPropertyValue = defaultTimeout;
@@ -181,6 +408,30 @@ public class ActionExecutorConfig {
         return timeoutPropertyValue;
     }
 
+    private int parseIntConfig(String propertyName, int defaultValue) {
+
+        String propertyValue = (String) IdentityConfigParser.getInstance().getConfiguration().get(propertyName);
+        if (StringUtils.isBlank(propertyValue)) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(propertyValue.trim());
+        } catch (NumberFormatException e) {
+            LOG.debug("Failed to read " + propertyName + " property in identity.xml." +
+                    " Expects an integer. Using the default value: " + defaultValue, e);
+            return defaultValue;
+        }
+    }
+
+    private boolean parseBooleanConfig(String propertyName, boolean defaultValue) {
+
+        Object propertyValue = IdentityConfigParser.getInstance().getConfiguration().get(propertyName);
+        if (propertyValue == null || StringUtils.isBlank(propertyValue.toString())) {
+            return defaultValue;
+        }
+        return Boolean.parseBoolean(propertyValue.toString().trim());
+    }
+
     private boolean isActionTypeEnabled(String actionTypePropertyName) {
 
         boolean isActionTypeEnabled = false;
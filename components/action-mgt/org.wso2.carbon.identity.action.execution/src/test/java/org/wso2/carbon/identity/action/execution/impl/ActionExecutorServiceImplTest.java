@@ -86,6 +86,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -390,13 +391,14 @@ public class ActionExecutorServiceImplTest {
                 actionExecutionRequest);
 
         ActionInvocationResponse actionInvocationResponse = createSuccessActionInvocationResponse();
-        when(apiClient.callAPI(any(), any(), any(), any())).thenReturn(actionInvocationResponse);
+        when(apiClient.callAPIAsync(any(), any(), any(), any())).thenReturn(
+                CompletableFuture.completedFuture(actionInvocationResponse));
 
         actionExecutorService.execute(actionType, FlowContext.create(), "tenantDomain");
 
         String payload = getJSONRequestPayload(actionExecutionRequest);
         // Verify that the HTTP client was called with the expected request
-        verify(apiClient).callAPI(any(), any(), any(), eq(payload));
+        verify(apiClient).callAPIAsync(any(), any(), any(), eq(payload));
     }
 
     @Test
@@ -421,13 +423,14 @@ public class ActionExecutorServiceImplTest {
                 actionExecutionRequest);
 
         ActionInvocationResponse actionInvocationResponse = createSuccessActionInvocationResponse();
-        when(apiClient.callAPI(any(), any(), any(), any())).thenReturn(actionInvocationResponse);
+        when(apiClient.callAPIAsync(any(), any(), any(), any())).thenReturn(
+                CompletableFuture.completedFuture(actionInvocationResponse));
 
         actionExecutorService.execute(actionType, FlowContext.create(), "tenantDomain");
 
         String payload = getJSONRequestPayload(actionExecutionRequest);
         // Verify that the HTTP client was called with the expected request
-        verify(apiClient).callAPI(any(), any(), any(), eq(payload));
+        verify(apiClient).callAPIAsync(any(), any(), any(), eq(payload));
     }
 
     @Test
@@ -458,7 +461,8 @@ public class ActionExecutorServiceImplTest {
 
         ActionInvocationResponse actionInvocationResponse =
                 createSuccessActionInvocationResponse();
-        when(apiClient.callAPI(any(), any(), any(), any())).thenReturn(actionInvocationResponse);
+        when(apiClient.callAPIAsync(any(), any(), any(), any())).thenReturn(
+                CompletableFuture.completedFuture(actionInvocationResponse));
 
         ActionExecutionStatus expectedStatus = new SuccessStatus.Builder().build();
         when(actionExecutionResponseProcessor.getSupportedActionType()).thenReturn(actionType);
@@ -506,7 +510,8 @@ public class ActionExecutorServiceImplTest {
                 actionExecutionRequest);
 
         ActionInvocationResponse actionInvocationResponse = createSuccessActionInvocationResponse();
-        when(apiClient.callAPI(any(), any(), any(), any())).thenReturn(actionInvocationResponse);
+        when(apiClient.callAPIAsync(any(), any(), any(), any())).thenReturn(
+                CompletableFuture.completedFuture(actionInvocationResponse));
 
         ActionExecutionStatus expectedStatus = new SuccessStatus.Builder().build();
         when(actionExecutionResponseProcessor.getSupportedActionType()).thenReturn(actionType);
@@ -543,7 +548,8 @@ public class ActionExecutorServiceImplTest {
                 mock(ActionExecutionRequest.class));
 
         ActionInvocationResponse actionInvocationResponse = createFailureActionInvocationResponse();
-        when(apiClient.callAPI(any(), any(), any(), any())).thenReturn(actionInvocationResponse);
+        when(apiClient.callAPIAsync(any(), any(), any(), any())).thenReturn(
+                CompletableFuture.completedFuture(actionInvocationResponse));
 
         ActionExecutionStatus expectedStatus = new FailedStatus(new Failure("Error_reason",
                 "Error_description"));
@@ -582,7 +588,8 @@ public class ActionExecutorServiceImplTest {
                 mock(ActionExecutionRequest.class));
 
         ActionInvocationResponse actionInvocationResponse = createIncompleteActionInvocationResponse();
-        when(apiClient.callAPI(any(), any(), any(), any())).thenReturn(actionInvocationResponse);
+        when(apiClient.callAPIAsync(any(), any(), any(), any())).thenReturn(
+                CompletableFuture.completedFuture(actionInvocationResponse));
 
         ActionExecutionStatus expectedStatus = new IncompleteStatus.Builder().build();
         when(actionExecutionResponseProcessor.getSupportedActionType()).thenReturn(actionType);
@@ -622,7 +629,8 @@ public class ActionExecutorServiceImplTest {
                 mock(ActionExecutionRequest.class));
 
         ActionInvocationResponse actionInvocationResponse = createActionInvocationResponseWithoutAPIResponse();
-        when(apiClient.callAPI(any(), any(), any(), any())).thenReturn(actionInvocationResponse);
+        when(apiClient.callAPIAsync(any(), any(), any(), any())).thenReturn(
+                CompletableFuture.completedFuture(actionInvocationResponse));
 
         actionExecutorService.execute(actionType, FlowContext.create(), "tenantDomain");
     }
@@ -648,7 +656,8 @@ public class ActionExecutorServiceImplTest {
                 mock(ActionExecutionRequest.class));
 
         ActionInvocationResponse actionInvocationResponse = createErrorActionInvocationResponse();
-        when(apiClient.callAPI(any(), any(), any(), any())).thenReturn(actionInvocationResponse);
+        when(apiClient.callAPIAsync(any(), any(), any(), any())).thenReturn(
+                CompletableFuture.completedFuture(actionInvocationResponse));
 
         ActionExecutionStatus expectedStatus = new ErrorStatus(new Error("Error_message",
                 "Error_description"));
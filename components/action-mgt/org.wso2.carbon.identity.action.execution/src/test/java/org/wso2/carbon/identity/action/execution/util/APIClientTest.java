@@ -37,6 +37,7 @@ import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
+import org.wso2.carbon.base.CarbonBaseConstants;
 import org.wso2.carbon.identity.action.execution.api.model.ActionInvocationErrorResponse;
 import org.wso2.carbon.identity.action.execution.api.model.ActionInvocationFailureResponse;
 import org.wso2.carbon.identity.action.execution.api.model.ActionInvocationIncompleteResponse;
@@ -56,8 +57,13 @@ import java.io.IOException;
 import java.lang.reflect.Field;
 import java.net.SocketTimeoutException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
@@ -91,6 +97,8 @@ public class APIClientTest {
     @BeforeMethod
     public void setUp() throws Exception {
 
+        System.setProperty(CarbonBaseConstants.CARBON_HOME,
+                Paths.get(System.getProperty("user.dir"), "src", "test", "resources").toString());
         actionExecutorConfigStatic = mockStatic(ActionExecutorConfig.class);
         loggerUtils = mockStatic(LoggerUtils.class);
         loggerUtils.when(() -> LoggerUtils.isDiagnosticLogsEnabled()).thenReturn(true);
@@ -100,11 +108,14 @@ public class APIClientTest {
         MockitoAnnotations.openMocks(this);
         when(actionExecutorConfig.getHttpRequestRetryCount()).thenReturn(2);
         setField(apiClient, "httpClient", httpClient);
+        // Static mocks are bound to the test thread, hence the requests are executed on the test thread.
+        setField(apiClient, "executorService", new CallerRunsExecutorService());
     }
 
     @AfterMethod
     public void tearDown() {
 
+        apiClient.shutdown();
         actionExecutorConfigStatic.close();
         loggerUtils.close();
     }
@@ -525,10 +536,116 @@ public class APIClientTest {
                 "Failed to execute the action request or maximum retry attempts reached.");
     }
 
+    @Test
+    public void testCallAPIAsyncRetryOnTimeoutAndReceiveSuccessResponse() throws Exception {
+
+        when(httpClient.execute(any(HttpPost.class))).thenThrow(new ConnectTimeoutException("Connection Timeout"))
+                .thenReturn(httpResponse);
+        when(httpResponse.getStatusLine()).thenReturn(statusLine);
+        when(statusLine.getStatusCode()).thenReturn(HttpStatus.SC_OK);
+        InputStreamEntity entity = new InputStreamEntity(new ByteArrayInputStream(
+                "{\"actionStatus\":\"SUCCESS\",\"operations\":[]}".getBytes(StandardCharsets.UTF_8)));
+        entity.setContentType(ContentType.APPLICATION_JSON.getMimeType());
+        when(httpResponse.getEntity()).thenReturn(entity);
+
+        ActionInvocationResponse response = apiClient.callAPIAsync(ActionType.PRE_ISSUE_ACCESS_TOKEN,
+                "http://example.com", null, "{}").get(5, TimeUnit.SECONDS);
+
+        assertNotNull(response);
+        assertTrue(response.isSuccess());
+        verify(httpClient, times(2)).execute(any(HttpPost.class));
+    }
+
+    @Test
+    public void testCallAPIWaitIsBoundedByTimeout() throws Exception {
+
+        setField(apiClient, "responseWaitTimeoutInMillis", 10L);
+        // An executor which never runs the request, as if all the request threads are busy.
+        setField(apiClient, "executorService", new CallerRunsExecutorService() {
+
+            @Override
+            public void execute(Runnable command) {
+
+            }
+        });
+
+        ActionInvocationResponse response = apiClient.callAPI(ActionType.PRE_ISSUE_ACCESS_TOKEN,
+                "http://example.com", null, "{}");
+
+        assertTrue(response.isError());
+        assertEquals(response.getErrorLog(), "Timed out while waiting for the response of the action request.");
+        verify(httpClient, times(0)).execute(any(HttpPost.class));
+    }
+
+    @Test
+    public void testCallAPIRejectedWhenRequestQueueIsFull() throws Exception {
+
+        setField(apiClient, "executorService", new CallerRunsExecutorService() {
+
+            @Override
+            public void execute(Runnable command) {
+
+                throw new RejectedExecutionException("Request queue is full.");
+            }
+        });
+
+        ActionInvocationResponse response = apiClient.callAPI(ActionType.PRE_ISSUE_ACCESS_TOKEN,
+                "http://example.com", null, "{}");
+
+        assertTrue(response.isError());
+        assertEquals(response.getErrorLog(),
+                "Failed to execute the action request as the request queue is full.");
+    }
+
     private void setField(Object target, String fieldName, Object value) throws Exception {
 
         Field field = target.getClass().getDeclaredField(fieldName);
         field.setAccessible(true);
         field.set(target, value);
     }
+
+    /**
+     * Executor service which runs the submitted tasks on the calling thread.
+     */
+    static class CallerRunsExecutorService extends AbstractExecutorService {
+
+        private volatile boolean shutdown;
+
+        @Override
+        public void execute(Runnable command) {
+
+            command.run();
+        }
+
+        @Override
+        public void shutdown() {
+
+            shutdown = true;
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+
+            shutdown = true;
+            return Collections.emptyList();
+        }
+
+        @Override
+        public boolean isShutdown() {
+
+            return shutdown;
+        }
+
+        @Override
+        public boolean isTerminated() {
+
+            return shutdown;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+
+            return shutdown;
+        }
+    }
 }
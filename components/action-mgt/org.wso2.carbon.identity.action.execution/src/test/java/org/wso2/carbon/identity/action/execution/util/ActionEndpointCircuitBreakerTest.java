@@ -0,0 +1,325 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.action.execution.util;
+
+import com.sun.net.httpserver.HttpServer;
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.base.CarbonBaseConstants;
+import org.wso2.carbon.identity.action.execution.api.model.ActionInvocationResponse;
+import org.wso2.carbon.identity.action.execution.api.model.ActionType;
+import org.wso2.carbon.identity.action.execution.internal.util.APIClient;
+import org.wso2.carbon.identity.action.execution.internal.util.ActionEndpointCircuitBreaker;
+import org.wso2.carbon.identity.action.execution.internal.util.ActionEndpointCircuitBreakerRegistry;
+import org.wso2.carbon.identity.action.execution.internal.util.ActionEndpointMetricsReporter;
+import org.wso2.carbon.identity.action.execution.internal.util.ActionExecutorConfig;
+import org.wso2.carbon.identity.central.log.mgt.utils.LoggerUtils;
+import org.wso2.carbon.identity.core.metrics.LatencyHistogram;
+
+import java.io.OutputStream;
+import java.lang.reflect.Field;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class ActionEndpointCircuitBreakerTest {
+
+    private static final String ENDPOINT = "http://example.com";
+
+    private final AtomicLong clock = new AtomicLong();
+    private ActionEndpointCircuitBreaker circuitBreaker;
+
+    private HttpServer stubServer;
+    private final AtomicInteger unavailableEndpointCalls = new AtomicInteger();
+    private MockedStatic<ActionExecutorConfig> actionExecutorConfigStatic;
+    private MockedStatic<LoggerUtils> loggerUtils;
+    private APIClient apiClient;
+
+    @BeforeClass
+    public void setUpClass() throws Exception {
+
+        stubServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stubServer.createContext("/unavailable", exchange -> {
+            unavailableEndpointCalls.incrementAndGet();
+            exchange.sendResponseHeaders(503, -1);
+            exchange.close();
+        });
+        stubServer.createContext("/available", exchange -> {
+            byte[] body = "{\"actionStatus\":\"SUCCESS\",\"operations\":[]}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        });
+        stubServer.start();
+
+        System.setProperty(CarbonBaseConstants.CARBON_HOME,
+                Paths.get(System.getProperty("user.dir"), "src", "test", "resources").toString());
+        actionExecutorConfigStatic = mockStatic(ActionExecutorConfig.class);
+        loggerUtils = mockStatic(LoggerUtils.class);
+        ActionExecutorConfig actionExecutorConfig = mock(ActionExecutorConfig.class);
+        actionExecutorConfigStatic.when(ActionExecutorConfig::getInstance).thenReturn(actionExecutorConfig);
+        when(actionExecutorConfig.getHttpReadTimeoutInMillis()).thenReturn(2000);
+        when(actionExecutorConfig.getHttpConnectionRequestTimeoutInMillis()).thenReturn(2000);
+        when(actionExecutorConfig.getHttpConnectionTimeoutInMillis()).thenReturn(2000);
+        when(actionExecutorConfig.getHttpConnectionPoolSize()).thenReturn(20);
+        when(actionExecutorConfig.getHttpConnectionPoolSizePerRoute()).thenReturn(10);
+        when(actionExecutorConfig.getHttpRequestRetryCount()).thenReturn(2);
+        when(actionExecutorConfig.isCircuitBreakerEnabled()).thenReturn(true);
+        when(actionExecutorConfig.getCircuitBreakerFailureRateThreshold()).thenReturn(50);
+        when(actionExecutorConfig.getCircuitBreakerSlowCallRateThreshold()).thenReturn(100);
+        when(actionExecutorConfig.getCircuitBreakerSlowCallDurationInMillis()).thenReturn(3000);
+        when(actionExecutorConfig.getCircuitBreakerSlidingWindowSize()).thenReturn(10);
+        when(actionExecutorConfig.getCircuitBreakerMinimumNumberOfCalls()).thenReturn(4);
+        when(actionExecutorConfig.getCircuitBreakerWaitDurationInOpenStateInMillis()).thenReturn(60000);
+        when(actionExecutorConfig.getCircuitBreakerPermittedCallsInHalfOpenState()).thenReturn(1);
+        when(actionExecutorConfig.getCircuitBreakerMaxEndpoints()).thenReturn(100);
+        when(actionExecutorConfig.getCircuitBreakerIdleTimeoutInMillis()).thenReturn(3600000);
+        apiClient = new APIClient();
+        // Static mocks are bound to the test thread, hence the requests are executed on the test thread.
+        Field executorService = APIClient.class.getDeclaredField("executorService");
+        executorService.setAccessible(true);
+        executorService.set(apiClient, new APIClientTest.CallerRunsExecutorService());
+    }
+
+    @AfterClass
+    public void tearDownClass() {
+
+        apiClient.shutdown();
+        stubServer.stop(0);
+        actionExecutorConfigStatic.close();
+        loggerUtils.close();
+    }
+
+    @BeforeMethod
+    public void setUp() {
+
+        clock.set(0);
+        circuitBreaker = new ActionEndpointCircuitBreaker(ENDPOINT,
+                new ActionEndpointCircuitBreaker.Config(50, 50, 1000, 4, 4, 10000, 2), clock::get);
+    }
+
+    @Test
+    public void testCircuitBreakerStaysClosedBelowMinimumNumberOfCalls() {
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(circuitBreaker.tryAcquirePermission());
+            circuitBreaker.onResult(10, true);
+        }
+        assertEquals(circuitBreaker.getState(), ActionEndpointCircuitBreaker.State.CLOSED);
+        assertEquals(circuitBreaker.getFailureRate(), -1f);
+    }
+
+    @Test
+    public void testCircuitBreakerOpensOnFailureRate() {
+
+        recordCalls(2, 10, false);
+        recordCalls(2, 10, true);
+
+        assertEquals(circuitBreaker.getState(), ActionEndpointCircuitBreaker.State.OPEN);
+        assertFalse(circuitBreaker.tryAcquirePermission());
+        assertEquals(circuitBreaker.getNotPermittedCalls(), 1);
+    }
+
+    @Test
+    public void testCircuitBreakerOpensOnSlowCallRate() {
+
+        recordCalls(2, 10, false);
+        recordCalls(2, 2000, false);
+
+        assertEquals(circuitBreaker.getState(), ActionEndpointCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    public void testSlidingWindowEvictsOldestCalls() {
+
+        recordCalls(1, 10, true);
+        recordCalls(3, 10, false);
+        assertEquals(circuitBreaker.getState(), ActionEndpointCircuitBreaker.State.CLOSED);
+        assertEquals(circuitBreaker.getFailureRate(), 25f);
+
+        recordCalls(1, 10, false);
+        assertEquals(circuitBreaker.getFailureRate(), 0f);
+    }
+
+    @Test
+    public void testCircuitBreakerClosesAfterHealthyProbes() {
+
+        recordCalls(4, 10, true);
+        assertEquals(circuitBreaker.getState(), ActionEndpointCircuitBreaker.State.OPEN);
+
+        clock.addAndGet(10000);
+        assertTrue(circuitBreaker.tryAcquirePermission());
+        assertEquals(circuitBreaker.getState(), ActionEndpointCircuitBreaker.State.HALF_OPEN);
+        assertTrue(circuitBreaker.tryAcquirePermission());
+        assertFalse(circuitBreaker.tryAcquirePermission());
+
+        circuitBreaker.onResult(10, false);
+        circuitBreaker.onResult(10, false);
+        assertEquals(circuitBreaker.getState(), ActionEndpointCircuitBreaker.State.CLOSED);
+        assertEquals(circuitBreaker.getFailureRate(), -1f);
+    }
+
+    @Test
+    public void testCircuitBreakerReopensAfterFailedProbes() {
+
+        recordCalls(4, 10, true);
+        clock.addAndGet(10000);
+        assertTrue(circuitBreaker.tryAcquirePermission());
+        assertTrue(circuitBreaker.tryAcquirePermission());
+        circuitBreaker.onResult(10, true);
+        circuitBreaker.onResult(10, false);
+
+        assertEquals(circuitBreaker.getState(), ActionEndpointCircuitBreaker.State.OPEN);
+        assertFalse(circuitBreaker.tryAcquirePermission());
+    }
+
+    @Test
+    public void testLatencyHistogram() {
+
+        recordCalls(1, 5, false);
+        recordCalls(1, 60, false);
+        recordCalls(1, 20000, false);
+
+        LatencyHistogram histogram = circuitBreaker.getLatencyHistogram();
+        assertEquals(histogram.getCount(), 3);
+        assertEquals(histogram.getTotalNanos(), TimeUnit.MILLISECONDS.toNanos(20065));
+        assertEquals(histogram.getMaxNanos(), TimeUnit.MILLISECONDS.toNanos(20000));
+        assertEquals(histogram.getPercentileMicros(30), 5_000);
+        assertEquals(histogram.getPercentileMicros(60), 100_000);
+        assertEquals(histogram.getPercentileMicros(100), 20_000_000);
+    }
+
+    @Test
+    public void testMetricsReport() {
+
+        recordCalls(1, 5, false);
+        recordCalls(1, 20000, false);
+
+        String report = ActionEndpointMetricsReporter.buildReport(circuitBreaker);
+        assertTrue(report.contains("Action endpoint: " + ENDPOINT));
+        assertTrue(report.contains("state: CLOSED"));
+        assertTrue(report.contains("calls: 2"));
+        assertTrue(report.contains("p99LatencyMs: 20000"));
+        assertTrue(report.contains("maxLatencyMs: 20000"));
+    }
+
+    @Test
+    public void testRegistryRemovesIdleCircuitBreakers() {
+
+        ActionEndpointCircuitBreakerRegistry registry = new ActionEndpointCircuitBreakerRegistry(10, 1000, clock::get);
+        ActionEndpointCircuitBreaker removedEndpointCircuitBreaker = registry.getCircuitBreaker("http://removed.com");
+        ActionEndpointCircuitBreaker usedEndpointCircuitBreaker = registry.getCircuitBreaker(ENDPOINT);
+
+        clock.set(800);
+        assertTrue(usedEndpointCircuitBreaker.tryAcquirePermission());
+        clock.set(1500);
+        registry.getCircuitBreaker("http://updated.com");
+
+        assertFalse(registry.getCircuitBreakers().containsKey("http://removed.com"));
+        assertEquals(registry.getCircuitBreaker(ENDPOINT), usedEndpointCircuitBreaker);
+        assertEquals(registry.getCircuitBreakers().size(), 2);
+        assertTrue(registry.getCircuitBreaker("http://removed.com") != removedEndpointCircuitBreaker);
+    }
+
+    @Test
+    public void testRegistryRemovesLeastRecentlyUsedCircuitBreakers() {
+
+        ActionEndpointCircuitBreakerRegistry registry = new ActionEndpointCircuitBreakerRegistry(2, 0, clock::get);
+        registry.getCircuitBreaker("http://first.com");
+        clock.set(10);
+        registry.getCircuitBreaker("http://second.com");
+        clock.set(20);
+        assertTrue(registry.getCircuitBreaker("http://first.com").tryAcquirePermission());
+
+        clock.set(30);
+        registry.getCircuitBreaker("http://third.com");
+
+        assertEquals(registry.getCircuitBreakers().size(), 2);
+        assertTrue(registry.getCircuitBreakers().containsKey("http://first.com"));
+        assertFalse(registry.getCircuitBreakers().containsKey("http://second.com"));
+        assertTrue(registry.getCircuitBreakers().containsKey("http://third.com"));
+    }
+
+    @Test
+    public void testAPIClientFailsFastForUnavailableEndpoint() {
+
+        String endpoint = getStubServerUrl("/unavailable");
+
+        // Each call is attempted twice, hence the breaker opens with the second call.
+        for (int i = 0; i < 2; i++) {
+            ActionInvocationResponse response = apiClient.callAPI(ActionType.PRE_ISSUE_ACCESS_TOKEN, endpoint, null,
+                    "{}");
+            assertTrue(response.isError());
+        }
+        assertEquals(unavailableEndpointCalls.get(), 4);
+        ActionEndpointCircuitBreaker endpointCircuitBreaker =
+                ActionEndpointCircuitBreakerRegistry.getInstance().getCircuitBreakers().get(endpoint);
+        assertEquals(endpointCircuitBreaker.getState(), ActionEndpointCircuitBreaker.State.OPEN);
+
+        ActionInvocationResponse response = apiClient.callAPI(ActionType.PRE_ISSUE_ACCESS_TOKEN, endpoint, null,
+                "{}");
+        assertTrue(response.isError());
+        assertEquals(response.getErrorLog(), "Failed to execute the action request as the endpoint is unavailable.");
+        assertEquals(unavailableEndpointCalls.get(), 4);
+        assertEquals(endpointCircuitBreaker.getNotPermittedCalls(), 1);
+        assertEquals(endpointCircuitBreaker.getLatencyHistogram().getCount(), 4);
+    }
+
+    @Test
+    public void testAPIClientRecordsCallsOfAvailableEndpoint() {
+
+        String endpoint = getStubServerUrl("/available");
+
+        ActionInvocationResponse response = apiClient.callAPI(ActionType.PRE_ISSUE_ACCESS_TOKEN, endpoint, null,
+                "{}");
+        assertTrue(response.isSuccess());
+        ActionEndpointCircuitBreaker endpointCircuitBreaker =
+                ActionEndpointCircuitBreakerRegistry.getInstance().getCircuitBreakers().get(endpoint);
+        assertEquals(endpointCircuitBreaker.getState(), ActionEndpointCircuitBreaker.State.CLOSED);
+        assertEquals(endpointCircuitBreaker.getLatencyHistogram().getCount(), 1);
+    }
+
+    private void recordCalls(int count, long durationInMillis, boolean failed) {
+
+        for (int i = 0; i < count; i++) {
+            assertTrue(circuitBreaker.tryAcquirePermission());
+            circuitBreaker.onResult(durationInMillis, failed);
+        }
+    }
+
+    private String getStubServerUrl(String path) {
+
+        return "http://localhost:" + stubServer.getAddress().getPort() + path;
+    }
+}
@@ -453,6 +453,68 @@ public class ActionExecutorConfigTest {
         Assert.assertEquals(20, actionExecutorConfig.getHttpConnectionPoolSize());
     }
 
+    @Test
+    public void testGetHttpConnectionPoolSizePerRoute() {
+
+        Map<String, Object> configMap = new HashMap<>();
+        configMap.put("Actions.HTTPClient.HTTPConnectionPoolSizePerRoute", "5");
+        when(mockIdentityConfigParser.getConfiguration()).thenReturn(configMap);
+        Assert.assertEquals(5, actionExecutorConfig.getHttpConnectionPoolSizePerRoute());
+    }
+
+    @Test
+    public void testGetHttpConnectionPoolSizePerRouteForInvalidConfig() {
+
+        //If the server configuration value is not a number, the default pool size per route value of 10 is parsed
+        Map<String, Object> configMap = new HashMap<>();
+        configMap.put("Actions.HTTPClient.HTTPConnectionPoolSizePerRoute", "value");
+        when(mockIdentityConfigParser.getConfiguration()).thenReturn(configMap);
+        Assert.assertEquals(10, actionExecutorConfig.getHttpConnectionPoolSizePerRoute());
+    }
+
+    @Test
+    public void testGetHttpRequestExecutorPoolSize() {
+
+        Map<String, Object> configMap = new HashMap<>();
+        configMap.put("Actions.HTTPClient.HTTPRequestExecutorPoolSize", "50");
+        when(mockIdentityConfigParser.getConfiguration()).thenReturn(configMap);
+        Assert.assertEquals(50, actionExecutorConfig.getHttpRequestExecutorPoolSize());
+    }
+
+    @Test
+    public void testGetHttpRequestExecutorPoolSizeForInvalidConfig() {
+
+        //If the server configuration value is not a positive number, the default pool size is parsed
+        Map<String, Object> configMap = new HashMap<>();
+        configMap.put("Actions.HTTPClient.HTTPRequestExecutorPoolSize", "0");
+        when(mockIdentityConfigParser.getConfiguration()).thenReturn(configMap);
+        Assert.assertEquals(Runtime.getRuntime().availableProcessors() * 2,
+                actionExecutorConfig.getHttpRequestExecutorPoolSize());
+    }
+
+    @Test
+    public void testGetHttpRequestExecutorQueueCapacity() {
+
+        Map<String, Object> configMap = new HashMap<>();
+        configMap.put("Actions.HTTPClient.HTTPRequestExecutorQueueCapacity", "200");
+        when(mockIdentityConfigParser.getConfiguration()).thenReturn(configMap);
+        Assert.assertEquals(200, actionExecutorConfig.getHttpRequestExecutorQueueCapacity());
+
+        configMap.put("Actions.HTTPClient.HTTPRequestExecutorQueueCapacity", "value");
+        Assert.assertEquals(1000, actionExecutorConfig.getHttpRequestExecutorQueueCapacity());
+    }
+
+    @Test
+    public void testIsCircuitBreakerEnabled() {
+
+        Map<String, Object> configMap = new HashMap<>();
+        when(mockIdentityConfigParser.getConfiguration()).thenReturn(configMap);
+        Assert.assertFalse(actionExecutorConfig.isCircuitBreakerEnabled());
+
+        configMap.put("Actions.HTTPClient.CircuitBreaker.Enable", "true");
+        Assert.assertTrue(actionExecutorConfig.isCircuitBreakerEnabled());
+    }
+
     @Test
     public void testGetHttpRequestRetryCount() {
 
@@ -127,6 +127,9 @@ public class ApplicationConstants {
     public static final String TRUSTED_APP_CONSENT_REQUIRED_PROPERTY = "ApplicationMgt.TrustedAppConsentRequired";
     public static final String TRUSTED_APP_MAX_THUMBPRINT_COUNT_PROPERTY =
             "ApplicationMgt.TrustedAppMaxThumbprintCount";
+    public static final String APPLICATION_CACHE_WARM_UP_ENABLED_PROPERTY = "ApplicationMgt.CacheWarmUp.Enable";
+    public static final String APPLICATION_CACHE_WARM_UP_APPLICATIONS_PROPERTY =
+            "ApplicationMgt.CacheWarmUp.Applications.ApplicationName";
 
     public static final String NON_EXISTING_USER_CODE = "30007 - ";
 
@@ -30,6 +30,7 @@ import org.wso2.carbon.identity.application.common.util.IdentityApplicationConst
 
 import java.sql.Connection;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 
@@ -64,6 +65,27 @@ public interface ApplicationDAO {
      */
     ServiceProvider getApplication(int applicationId) throws IdentityApplicationManagementException;
 
+    /**
+     * Get the service providers with the given application ids.
+     *
+     * @param applicationIds The application ids.
+     * @return Service providers which exist, in the order of the given application ids.
+     * @throws IdentityApplicationManagementException throws when an error occurs in retrieving service providers with
+     *                                                all the configurations.
+     */
+    default List<ServiceProvider> getApplications(List<Integer> applicationIds)
+            throws IdentityApplicationManagementException {
+
+        List<ServiceProvider> serviceProviders = new ArrayList<>();
+        for (Integer applicationId : new LinkedHashSet<>(applicationIds)) {
+            ServiceProvider serviceProvider = getApplication(applicationId);
+            if (serviceProvider != null) {
+                serviceProviders.add(serviceProvider);
+            }
+        }
+        return serviceProviders;
+    }
+
     /**
      * @return
      * @throws IdentityApplicationManagementException
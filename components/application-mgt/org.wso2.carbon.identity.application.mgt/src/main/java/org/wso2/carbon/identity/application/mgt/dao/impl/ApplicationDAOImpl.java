@@ -128,6 +128,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -227,6 +228,7 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
     private static final String UUID = "UUID";
     private static final String SPACE = " ";
     private static final String ID = "ID";
+    private static final int MAX_APPLICATIONS_PER_BULK_LOAD = 100;
 
     private static final Log log = LogFactory.getLog(ApplicationDAOImpl.class);
     private static final Log AUDIT_LOG = CarbonConstants.AUDIT_LOG;
@@ -302,6 +304,40 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
         return idpProperties;
     }
 
+    /**
+     * Get the service provider properties of the given service providers.
+     *
+     * @param dbConnection database connection
+     * @param spIds        SP Ids
+     * @return service provider properties against the SP Id
+     */
+    private Map<Integer, List<ServiceProviderProperty>> getServicePropertiesBySpIds(Connection dbConnection,
+                                                                                List<Integer> spIds)
+            throws SQLException {
+
+        Map<Integer, List<ServiceProviderProperty>> spProperties = new HashMap<>();
+        String sqlStatement = isH2DB() ? ApplicationMgtDBQueries.GET_SP_METADATA_BY_SP_IDS_H2 :
+                ApplicationMgtDBQueries.GET_SP_METADATA_BY_SP_IDS;
+        try (PreparedStatement prepStmt = dbConnection.prepareStatement(buildAppIdListSQLStatement(sqlStatement,
+                spIds.size()))) {
+            for (int i = 0; i < spIds.size(); i++) {
+                prepStmt.setInt(i + 1, spIds.get(i));
+            }
+            try (ResultSet rs = prepStmt.executeQuery()) {
+                while (rs.next()) {
+                    ServiceProviderProperty property = new ServiceProviderProperty();
+                    property.setName(rs.getString("NAME"));
+                    property.setValue(rs.getString("VALUE"));
+                    property.setDisplayName(rs.getString("DISPLAY_NAME"));
+                    spProperties.computeIfAbsent(rs.getInt("SP_ID"), spId -> new ArrayList<>()).add(property);
+                }
+            }
+        } catch (DataAccessException e) {
+            throw new SQLException("Error while retrieving SP metadata for SP IDs: " + spIds, e);
+        }
+        return spProperties;
+    }
+
     /**
      * Add Service provider properties
      *
@@ -2244,78 +2280,151 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
             if (serviceProvider == null) {
                 return null;
             }
-            int tenantID = IdentityTenantUtil.getTenantId(serviceProvider.getTenantDomain());
             List<ServiceProviderProperty> propertyList = getServicePropertiesBySpId(connection, applicationId);
+            loadApplicationConfigurations(serviceProvider, propertyList, null, null, connection);
+            return serviceProvider;
+        } catch (SQLException | CertificateRetrievingException e) {
+            throw new IdentityApplicationManagementException("Failed to get service provider with id: " + applicationId,
+                    e);
+        }
+    }
 
-            serviceProvider.setJwksUri(getJwksUri(propertyList));
-            serviceProvider.setTemplateId(getTemplateId(propertyList));
-            serviceProvider.setTemplateVersion(getTemplateVersion(propertyList));
-            serviceProvider.setApplicationEnabled(getIsApplicationEnabled(propertyList));
-            serviceProvider.setManagementApp(getIsManagementApp(propertyList));
-            serviceProvider.setB2BSelfServiceApp(getIsB2BSSApp(propertyList));
-            serviceProvider.setAPIBasedAuthenticationEnabled(getIsAPIBasedAuthenticationEnabled(propertyList));
-            ClientAttestationMetaData clientAttestationMetaData = new ClientAttestationMetaData();
-            clientAttestationMetaData.setAttestationEnabled(getIsAttestationEnabled(propertyList));
-            clientAttestationMetaData.setAndroidPackageName(getAndroidPackageName(propertyList));
-            clientAttestationMetaData.setAppleAppId(getAppleAppId(propertyList));
-            if (StringUtils.isNotEmpty(clientAttestationMetaData.getAndroidPackageName())
-                    && clientAttestationMetaData.isAttestationEnabled()) {
-                clientAttestationMetaData.setAndroidAttestationServiceCredentials
-                        (getAndroidAttestationServiceCredentials(serviceProvider));
-            }
-            serviceProvider.setClientAttestationMetaData(clientAttestationMetaData);
-            serviceProvider.setTrustedAppMetadata(
-                    getSpTrustedAppMetadata(applicationId, connection, tenantID, propertyList));
-            serviceProvider.setInboundAuthenticationConfig(getInboundAuthenticationConfig(
-                    applicationId, connection, tenantID));
-            serviceProvider
-                    .setLocalAndOutBoundAuthenticationConfig(getLocalAndOutboundAuthenticationConfig(
-                            applicationId, connection, tenantID, propertyList));
-
-            serviceProvider.setInboundProvisioningConfig(getInboundProvisioningConfiguration(
-                    applicationId, connection, tenantID));
-
-            serviceProvider.setOutboundProvisioningConfig(getOutboundProvisioningConfiguration(
-                    applicationId, connection, tenantID));
-
-            // Load Claim Mapping
-            serviceProvider.setClaimConfig(getClaimConfiguration(applicationId, connection,
-                    tenantID));
+    /**
+     * Load the applications with the given IDs. The applications are loaded over a single database connection, and
+     * the basic application data, service provider properties, role mappings and request path authenticators of the
+     * applications are loaded with a single query per batch of applications. The rest of the configurations, which
+     * span several tables or depend on other services, are loaded per application.
+     *
+     * @param applicationIds IDs of the applications.
+     * @return Applications which exist, in the order of the given IDs.
+     * @throws IdentityApplicationManagementException If an error occurs while loading the applications.
+     */
+    @Override
+    public List<ServiceProvider> getApplications(List<Integer> applicationIds)
+            throws IdentityApplicationManagementException {
 
-            // Load Role Mappings
-            List<RoleMapping> roleMappings = getRoleMappingOfApplication(applicationId, connection,
-                    tenantID);
-            PermissionsAndRoleConfig permissionAndRoleConfig = new PermissionsAndRoleConfig();
-            permissionAndRoleConfig.setRoleMappings(roleMappings.toArray(new RoleMapping[0]));
-            serviceProvider.setPermissionAndRoleConfig(permissionAndRoleConfig);
+        List<ServiceProvider> serviceProviders = new ArrayList<>();
+        if (CollectionUtils.isEmpty(applicationIds)) {
+            return serviceProviders;
+        }
+        List<Integer> distinctApplicationIds = new ArrayList<>(new LinkedHashSet<>(applicationIds));
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(false)) {
+            for (int from = 0; from < distinctApplicationIds.size(); from += MAX_APPLICATIONS_PER_BULK_LOAD) {
+                List<Integer> batch = distinctApplicationIds.subList(from,
+                        Math.min(from + MAX_APPLICATIONS_PER_BULK_LOAD, distinctApplicationIds.size()));
+                Map<Integer, ServiceProvider> basicApplicationData = getBasicApplicationData(batch, connection);
+                Map<Integer, List<ServiceProviderProperty>> propertiesOfApplications =
+                        getServicePropertiesBySpIds(connection, batch);
+                Map<Integer, List<RoleMapping>> roleMappingsOfApplications =
+                        getRoleMappingsOfApplications(batch, connection);
+                Map<Integer, List<RequestPathAuthenticatorConfig>> requestPathAuthenticatorsOfApplications =
+                        getRequestPathAuthenticatorsOfApplications(batch, connection);
+                for (Integer applicationId : batch) {
+                    ServiceProvider serviceProvider = basicApplicationData.get(applicationId);
+                    if (serviceProvider == null) {
+                        if (log.isDebugEnabled()) {
+                            log.debug("No application found with id: " + applicationId);
+                        }
+                        continue;
+                    }
+                    loadApplicationConfigurations(serviceProvider,
+                            propertiesOfApplications.getOrDefault(applicationId, new ArrayList<>()),
+                            roleMappingsOfApplications.getOrDefault(applicationId, new ArrayList<>()),
+                            requestPathAuthenticatorsOfApplications.getOrDefault(applicationId, new ArrayList<>()),
+                            connection);
+                    serviceProviders.add(serviceProvider);
+                }
+            }
+            return serviceProviders;
+        } catch (SQLException | CertificateRetrievingException e) {
+            throw new IdentityApplicationManagementException("Failed to get service providers with ids: " +
+                    distinctApplicationIds, e);
+        }
+    }
 
-            RequestPathAuthenticatorConfig[] requestPathAuthenticators = getRequestPathAuthenticators(
-                    applicationId, connection, tenantID);
-            serviceProvider.setRequestPathAuthenticatorConfigs(requestPathAuthenticators);
+    /**
+     * Load the configurations of an application on top of its basic application data. The role mappings and the
+     * request path authenticators are loaded from the database unless they are given.
+     */
+    private void loadApplicationConfigurations(ServiceProvider serviceProvider,
+                                               List<ServiceProviderProperty> propertyList,
+                                               List<RoleMapping> roleMappings,
+                                               List<RequestPathAuthenticatorConfig> requestPathAuthenticators,
+                                               Connection connection)
+            throws SQLException, CertificateRetrievingException, IdentityApplicationManagementException {
 
-            serviceProvider.setSpProperties(propertyList.toArray(new ServiceProviderProperty[0]));
-            serviceProvider.setCertificateContent(getCertificateContent(propertyList, tenantID));
+        int applicationId = serviceProvider.getApplicationID();
+        int tenantID = IdentityTenantUtil.getTenantId(serviceProvider.getTenantDomain());
+
+        serviceProvider.setJwksUri(getJwksUri(propertyList));
+        serviceProvider.setTemplateId(getTemplateId(propertyList));
+        serviceProvider.setTemplateVersion(getTemplateVersion(propertyList));
+        serviceProvider.setApplicationEnabled(getIsApplicationEnabled(propertyList));
+        serviceProvider.setManagementApp(getIsManagementApp(propertyList));
+        serviceProvider.setB2BSelfServiceApp(getIsB2BSSApp(propertyList));
+        serviceProvider.setAPIBasedAuthenticationEnabled(getIsAPIBasedAuthenticationEnabled(propertyList));
+        ClientAttestationMetaData clientAttestationMetaData = new ClientAttestationMetaData();
+        clientAttestationMetaData.setAttestationEnabled(getIsAttestationEnabled(propertyList));
+        clientAttestationMetaData.setAndroidPackageName(getAndroidPackageName(propertyList));
+        clientAttestationMetaData.setAppleAppId(getAppleAppId(propertyList));
+        if (StringUtils.isNotEmpty(clientAttestationMetaData.getAndroidPackageName())
+                && clientAttestationMetaData.isAttestationEnabled()) {
+            clientAttestationMetaData.setAndroidAttestationServiceCredentials
+                    (getAndroidAttestationServiceCredentials(serviceProvider));
+        }
+        serviceProvider.setClientAttestationMetaData(clientAttestationMetaData);
+        serviceProvider.setTrustedAppMetadata(
+                getSpTrustedAppMetadata(applicationId, connection, tenantID, propertyList));
+        serviceProvider.setInboundAuthenticationConfig(getInboundAuthenticationConfig(
+                applicationId, connection, tenantID));
+        serviceProvider
+                .setLocalAndOutBoundAuthenticationConfig(getLocalAndOutboundAuthenticationConfig(
+                        applicationId, connection, tenantID, propertyList));
+
+        serviceProvider.setInboundProvisioningConfig(getInboundProvisioningConfiguration(
+                applicationId, connection, tenantID));
+
+        serviceProvider.setOutboundProvisioningConfig(getOutboundProvisioningConfiguration(
+                applicationId, connection, tenantID));
+
+        // Load Claim Mapping
+        serviceProvider.setClaimConfig(getClaimConfiguration(applicationId, connection,
+                tenantID));
+
+        // Load Role Mappings
+        if (roleMappings == null) {
+            roleMappings = getRoleMappingOfApplication(applicationId, connection, tenantID);
+        }
+        PermissionsAndRoleConfig permissionAndRoleConfig = new PermissionsAndRoleConfig();
+        permissionAndRoleConfig.setRoleMappings(roleMappings.toArray(new RoleMapping[0]));
+        serviceProvider.setPermissionAndRoleConfig(permissionAndRoleConfig);
+
+        if (requestPathAuthenticators == null) {
+            serviceProvider.setRequestPathAuthenticatorConfigs(getRequestPathAuthenticators(
+                    applicationId, connection, tenantID));
+        } else {
+            serviceProvider.setRequestPathAuthenticatorConfigs(
+                    requestPathAuthenticators.toArray(new RequestPathAuthenticatorConfig[0]));
+        }
 
-            // Set role associations.
-            serviceProvider.setAssociatedRolesConfig(
-                    getAssociatedRoles(serviceProvider.getApplicationResourceId(), connection, tenantID));
-            // Will be supported with 'Advance Consent Management Feature'.
-            /*
-            ConsentConfig consentConfig = serviceProvider.getConsentConfig();
-            if (isNull(consentConfig)) {
-                consentConfig = new ConsentConfig();
-            }
-            consentConfig.setConsentPurposeConfigs(getConsentPurposeConfigs(connection, applicationId, tenantID));
-            serviceProvider.setConsentConfig(consentConfig);
-            */
+        serviceProvider.setSpProperties(propertyList.toArray(new ServiceProviderProperty[0]));
+        serviceProvider.setCertificateContent(getCertificateContent(propertyList, tenantID));
 
-            String serviceProviderName = serviceProvider.getApplicationName();
-            loadApplicationPermissions(serviceProviderName, serviceProvider);
-            return serviceProvider;
-        } catch (SQLException | CertificateRetrievingException e) {
-            throw new IdentityApplicationManagementException("Failed to get service provider with id: " + applicationId,
-                    e);
+        // Set role associations.
+        serviceProvider.setAssociatedRolesConfig(
+                getAssociatedRoles(serviceProvider.getApplicationResourceId(), connection, tenantID));
+        // Will be supported with 'Advance Consent Management Feature'.
+        /*
+        ConsentConfig consentConfig = serviceProvider.getConsentConfig();
+        if (isNull(consentConfig)) {
+            consentConfig = new ConsentConfig();
         }
+        consentConfig.setConsentPurposeConfigs(getConsentPurposeConfigs(connection, applicationId, tenantID));
+        serviceProvider.setConsentConfig(consentConfig);
+        */
+
+        String serviceProviderName = serviceProvider.getApplicationName();
+        loadApplicationPermissions(serviceProviderName, serviceProvider);
     }
 
     private AssociatedRolesConfig getAssociatedRoles(String applicationId, Connection connection, int tenantID)
@@ -2657,80 +2766,7 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
             rs = prepStmt.executeQuery();
 
             if (rs.next()) {
-                serviceProvider = new ServiceProvider();
-                serviceProvider.setApplicationID(rs.getInt(ApplicationTableColumns.ID));
-                serviceProvider.setApplicationResourceId(rs.getString(ApplicationTableColumns.UUID));
-                serviceProvider.setApplicationName(rs.getString(ApplicationTableColumns.APP_NAME));
-                serviceProvider.setApplicationVersion(rs.getString(ApplicationTableColumns.APP_VERSION));
-                serviceProvider.setDescription(rs.getString(ApplicationTableColumns.DESCRIPTION));
-                serviceProvider.setImageUrl(rs.getString(ApplicationTableColumns.IMAGE_URL));
-
-                serviceProvider.setAccessUrl(rs.getString(ApplicationTableColumns.ACCESS_URL));
-                if (ApplicationMgtUtil.isConsoleOrMyAccount(serviceProvider.getApplicationName())) {
-                    serviceProvider.setAccessUrl(ApplicationMgtUtil.resolveOriginUrlFromPlaceholders(
-                            rs.getString(ApplicationTableColumns.ACCESS_URL), serviceProvider.getApplicationName()));
-                }
-                String tenantDomain = IdentityTenantUtil.getTenantDomain(rs.getInt(ApplicationTableColumns.TENANT_ID));
-                if (ApplicationMgtUtil.isConsole(serviceProvider.getApplicationName())) {
-                    String consoleAccessUrl = getConsoleAccessUrlFromServerConfig(tenantDomain);
-                    if (StringUtils.isNotBlank(consoleAccessUrl)) {
-                        serviceProvider.setAccessUrl(consoleAccessUrl);
-                    }
-                }
-                if (ApplicationMgtUtil.isMyAccount(serviceProvider.getApplicationName())) {
-                    String myAccountAccessUrl = getMyAccountAccessUrlFromServerConfig(tenantDomain);
-                    if (StringUtils.isNotBlank(myAccountAccessUrl)) {
-                        serviceProvider.setAccessUrl(myAccountAccessUrl);
-                    }
-                }
-
-                serviceProvider.setDiscoverable(getBooleanValue(rs.getString(ApplicationTableColumns.IS_DISCOVERABLE)));
-                serviceProvider.setDiscoverableGroups(getDiscoverableGroups(appId, connection, tenantDomain));
-
-                User owner = new User();
-                owner.setUserName(rs.getString(ApplicationTableColumns.USERNAME));
-                owner.setUserStoreDomain(rs.getString(ApplicationTableColumns.USER_STORE));
-                owner.setTenantDomain(getUserTenantDomain(
-                        IdentityTenantUtil.getTenantDomain(rs.getInt(ApplicationTableColumns.TENANT_ID)),
-                        rs.getString(ApplicationTableColumns.USER_STORE) + "/" +
-                                rs.getString(ApplicationTableColumns.USERNAME)));
-                serviceProvider.setOwner(owner);
-                serviceProvider.setTenantDomain(
-                        IdentityTenantUtil.getTenantDomain(rs.getInt(ApplicationTableColumns.TENANT_ID)));
-
-                ClaimConfig claimConfig = new ClaimConfig();
-                claimConfig.setRoleClaimURI(rs.getString(ApplicationTableColumns.ROLE_CLAIM));
-                claimConfig.setLocalClaimDialect(
-                        getBooleanValue(rs.getString(ApplicationTableColumns.IS_LOCAL_CLAIM_DIALECT)));
-                claimConfig.setAlwaysSendMappedLocalSubjectId(
-                        getBooleanValue(rs.getString(ApplicationTableColumns.IS_SEND_LOCAL_SUBJECT_ID)));
-                serviceProvider.setClaimConfig(claimConfig);
-
-                LocalAndOutboundAuthenticationConfig localAndOutboundAuthenticationConfig =
-                        new LocalAndOutboundAuthenticationConfig();
-                localAndOutboundAuthenticationConfig.setAlwaysSendBackAuthenticatedListOfIdPs(
-                        getBooleanValue(rs.getString(ApplicationTableColumns.IS_SEND_AUTH_LIST_OF_IDPS)));
-                localAndOutboundAuthenticationConfig.setEnableAuthorization(
-                        getBooleanValue(rs.getString(ApplicationTableColumns.ENABLE_AUTHORIZATION)));
-                localAndOutboundAuthenticationConfig.setSubjectClaimUri(
-                        rs.getString(ApplicationTableColumns.SUBJECT_CLAIM_URI));
-                serviceProvider.setLocalAndOutBoundAuthenticationConfig(localAndOutboundAuthenticationConfig);
-
-                serviceProvider.setSaasApp(getBooleanValue(rs.getString(ApplicationTableColumns.IS_SAAS_APP)));
-
-                // Will be supported with 'Advance Consent Management Feature'.
-                /*
-                ConsentConfig consentConfig = new ConsentConfig();
-                consentConfig.setEnabled("1".equals(rs.getString(18)));
-                serviceProvider.setConsentConfig(consentConfig);
-                */
-
-                if (log.isDebugEnabled()) {
-                    log.debug("ApplicationID: " + serviceProvider.getApplicationID()
-                            + " ApplicationName: " + serviceProvider.getApplicationName()
-                            + " UserName: " + serviceProvider.getOwner().getUserName()
-                            + " TenantDomain: " + serviceProvider.getOwner().getTenantDomain());
-                }
+                serviceProvider = buildBasicApplicationData(rs, connection);
             }
 
             return serviceProvider;
@@ -2743,6 +2779,120 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
         }
     }
 
+    private Map<Integer, ServiceProvider> getBasicApplicationData(List<Integer> appIds, Connection connection)
+            throws SQLException, IdentityApplicationManagementException {
+
+        if (log.isDebugEnabled()) {
+            log.debug("Loading Basic Application Data of application IDs: " + appIds);
+        }
+
+        Map<Integer, ServiceProvider> serviceProviders = new HashMap<>();
+        try (PreparedStatement prepStmt = connection.prepareStatement(buildAppIdListSQLStatement(
+                ApplicationMgtDBQueries.LOAD_BASIC_APP_INFO_BY_APP_IDS, appIds.size()))) {
+            for (int i = 0; i < appIds.size(); i++) {
+                prepStmt.setInt(i + 1, appIds.get(i));
+            }
+            try (ResultSet rs = prepStmt.executeQuery()) {
+                while (rs.next()) {
+                    ServiceProvider serviceProvider = buildBasicApplicationData(rs, connection);
+                    serviceProviders.put(serviceProvider.getApplicationID(), serviceProvider);
+                }
+            }
+            return serviceProviders;
+        } catch (URLBuilderException e) {
+            throw new IdentityApplicationManagementException(
+                    "Error occurred when resolving origin of the access URL with placeholders", e);
+        }
+    }
+
+    private String buildAppIdListSQLStatement(String sqlStatement, int numberOfApps) {
+
+        String appIdList = String.join(", ", Collections.nCopies(numberOfApps, "?"));
+        return StringUtils.replace(sqlStatement, ApplicationMgtDBQueries.SQLPlaceholders.APP_ID_LIST_PLACEHOLDER,
+                appIdList);
+    }
+
+    private ServiceProvider buildBasicApplicationData(ResultSet rs, Connection connection)
+            throws SQLException, URLBuilderException, IdentityApplicationManagementException {
+
+        ServiceProvider serviceProvider = new ServiceProvider();
+        serviceProvider.setApplicationID(rs.getInt(ApplicationTableColumns.ID));
+        serviceProvider.setApplicationResourceId(rs.getString(ApplicationTableColumns.UUID));
+        serviceProvider.setApplicationName(rs.getString(ApplicationTableColumns.APP_NAME));
+        serviceProvider.setApplicationVersion(rs.getString(ApplicationTableColumns.APP_VERSION));
+        serviceProvider.setDescription(rs.getString(ApplicationTableColumns.DESCRIPTION));
+        serviceProvider.setImageUrl(rs.getString(ApplicationTableColumns.IMAGE_URL));
+
+        serviceProvider.setAccessUrl(rs.getString(ApplicationTableColumns.ACCESS_URL));
+        if (ApplicationMgtUtil.isConsoleOrMyAccount(serviceProvider.getApplicationName())) {
+            serviceProvider.setAccessUrl(ApplicationMgtUtil.resolveOriginUrlFromPlaceholders(
+                    rs.getString(ApplicationTableColumns.ACCESS_URL), serviceProvider.getApplicationName()));
+        }
+        String tenantDomain = IdentityTenantUtil.getTenantDomain(rs.getInt(ApplicationTableColumns.TENANT_ID));
+        if (ApplicationMgtUtil.isConsole(serviceProvider.getApplicationName())) {
+            String consoleAccessUrl = getConsoleAccessUrlFromServerConfig(tenantDomain);
+            if (StringUtils.isNotBlank(consoleAccessUrl)) {
+                serviceProvider.setAccessUrl(consoleAccessUrl);
+            }
+        }
+        if (ApplicationMgtUtil.isMyAccount(serviceProvider.getApplicationName())) {
+            String myAccountAccessUrl = getMyAccountAccessUrlFromServerConfig(tenantDomain);
+            if (StringUtils.isNotBlank(myAccountAccessUrl)) {
+                serviceProvider.setAccessUrl(myAccountAccessUrl);
+            }
+        }
+
+        serviceProvider.setDiscoverable(getBooleanValue(rs.getString(ApplicationTableColumns.IS_DISCOVERABLE)));
+        serviceProvider.setDiscoverableGroups(getDiscoverableGroups(serviceProvider.getApplicationID(), connection,
+                tenantDomain));
+
+        User owner = new User();
+        owner.setUserName(rs.getString(ApplicationTableColumns.USERNAME));
+        owner.setUserStoreDomain(rs.getString(ApplicationTableColumns.USER_STORE));
+        owner.setTenantDomain(getUserTenantDomain(
+                IdentityTenantUtil.getTenantDomain(rs.getInt(ApplicationTableColumns.TENANT_ID)),
+                rs.getString(ApplicationTableColumns.USER_STORE) + "/" +
+                        rs.getString(ApplicationTableColumns.USERNAME)));
+        serviceProvider.setOwner(owner);
+        serviceProvider.setTenantDomain(
+                IdentityTenantUtil.getTenantDomain(rs.getInt(ApplicationTableColumns.TENANT_ID)));
+
+        ClaimConfig claimConfig = new ClaimConfig();
+        claimConfig.setRoleClaimURI(rs.getString(ApplicationTableColumns.ROLE_CLAIM));
+        claimConfig.setLocalClaimDialect(
+                getBooleanValue(rs.getString(ApplicationTableColumns.IS_LOCAL_CLAIM_DIALECT)));
+        claimConfig.setAlwaysSendMappedLocalSubjectId(
+                getBooleanValue(rs.getString(ApplicationTableColumns.IS_SEND_LOCAL_SUBJECT_ID)));
+        serviceProvider.setClaimConfig(claimConfig);
+
+        LocalAndOutboundAuthenticationConfig localAndOutboundAuthenticationConfig =
+                new LocalAndOutboundAuthenticationConfig();
+        localAndOutboundAuthenticationConfig.setAlwaysSendBackAuthenticatedListOfIdPs(
+                getBooleanValue(rs.getString(ApplicationTableColumns.IS_SEND_AUTH_LIST_OF_IDPS)));
+        localAndOutboundAuthenticationConfig.setEnableAuthorization(
+                getBooleanValue(rs.getString(ApplicationTableColumns.ENABLE_AUTHORIZATION)));
+        localAndOutboundAuthenticationConfig.setSubjectClaimUri(
+                rs.getString(ApplicationTableColumns.SUBJECT_CLAIM_URI));
+        serviceProvider.setLocalAndOutBoundAuthenticationConfig(localAndOutboundAuthenticationConfig);
+
+        serviceProvider.setSaasApp(getBooleanValue(rs.getString(ApplicationTableColumns.IS_SAAS_APP)));
+
+        // Will be supported with 'Advance Consent Management Feature'.
+        /*
+        ConsentConfig consentConfig = new ConsentConfig();
+        consentConfig.setEnabled("1".equals(rs.getString(18)));
+        serviceProvider.setConsentConfig(consentConfig);
+        */
+
+        if (log.isDebugEnabled()) {
+            log.debug("ApplicationID: " + serviceProvider.getApplicationID()
+                    + " ApplicationName: " + serviceProvider.getApplicationName()
+                    + " UserName: " + serviceProvider.getOwner().getUserName()
+                    + " TenantDomain: " + serviceProvider.getOwner().getTenantDomain());
+        }
+        return serviceProvider;
+    }
+
     private boolean getBooleanValue(String booleanValueAsString) throws SQLException {
 
         return "1".equals(booleanValueAsString);
@@ -3797,6 +3947,64 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
         return roleMappingList;
     }
 
+    /**
+     * Get the role mappings of the given applications.
+     *
+     * @param applicationIds IDs of the applications.
+     * @param connection     Database connection.
+     * @return Role mappings against the application ID.
+     */
+    private Map<Integer, List<RoleMapping>> getRoleMappingsOfApplications(List<Integer> applicationIds,
+                                                                         Connection connection)
+            throws SQLException {
+
+        Map<Integer, List<RoleMapping>> roleMappings = new HashMap<>();
+        try (PreparedStatement prepStmt = connection.prepareStatement(buildAppIdListSQLStatement(
+                ApplicationMgtDBQueries.LOAD_ROLE_MAPPING_BY_APP_IDS, applicationIds.size()))) {
+            for (int i = 0; i < applicationIds.size(); i++) {
+                prepStmt.setInt(i + 1, applicationIds.get(i));
+            }
+            try (ResultSet resultSet = prepStmt.executeQuery()) {
+                while (resultSet.next()) {
+                    RoleMapping roleMapping = new RoleMapping();
+                    LocalRole localRole = new LocalRole();
+                    localRole.setLocalRoleName(resultSet.getString(2));
+                    roleMapping.setLocalRole(localRole);
+                    roleMapping.setRemoteRole(resultSet.getString(3));
+                    roleMappings.computeIfAbsent(resultSet.getInt(1), appId -> new ArrayList<>()).add(roleMapping);
+                }
+            }
+        }
+        return roleMappings;
+    }
+
+    /**
+     * Get the request path authenticators of the given applications.
+     *
+     * @param applicationIds IDs of the applications.
+     * @param connection     Database connection.
+     * @return Request path authenticators against the application ID.
+     */
+    private Map<Integer, List<RequestPathAuthenticatorConfig>> getRequestPathAuthenticatorsOfApplications(
+            List<Integer> applicationIds, Connection connection) throws SQLException {
+
+        Map<Integer, List<RequestPathAuthenticatorConfig>> authenticators = new HashMap<>();
+        try (PreparedStatement prepStmt = connection.prepareStatement(buildAppIdListSQLStatement(
+                ApplicationMgtDBQueries.LOAD_REQ_PATH_AUTHENTICATORS_BY_APP_IDS, applicationIds.size()))) {
+            for (int i = 0; i < applicationIds.size(); i++) {
+                prepStmt.setInt(i + 1, applicationIds.get(i));
+            }
+            try (ResultSet resultSet = prepStmt.executeQuery()) {
+                while (resultSet.next()) {
+                    RequestPathAuthenticatorConfig reqAuth = new RequestPathAuthenticatorConfig();
+                    reqAuth.setName(resultSet.getString(2));
+                    authenticators.computeIfAbsent(resultSet.getInt(1), appId -> new ArrayList<>()).add(reqAuth);
+                }
+            }
+        }
+        return authenticators;
+    }
+
     /**
      * Get count of applications for user
      *
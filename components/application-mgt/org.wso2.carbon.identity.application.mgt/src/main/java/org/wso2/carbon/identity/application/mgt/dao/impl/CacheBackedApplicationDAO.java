@@ -61,6 +61,7 @@ import org.wso2.carbon.identity.application.mgt.internal.cache.TrustedAppPlatfor
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 
@@ -132,6 +133,78 @@ public class CacheBackedApplicationDAO extends ApplicationDAOImpl {
         return serviceProvider;
     }
 
+    @Override
+    public List<ServiceProvider> getApplications(List<Integer> applicationIds)
+            throws IdentityApplicationManagementException {
+
+        String tenantDomain = CarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+        Map<Integer, ServiceProvider> serviceProviders = new HashMap<>();
+        List<Integer> uncachedApplicationIds = new ArrayList<>();
+        for (Integer applicationId : applicationIds) {
+            ServiceProvider serviceProvider = getApplicationFromCache(applicationId, tenantDomain);
+            if (serviceProvider != null) {
+                serviceProviders.put(applicationId, serviceProvider);
+            } else {
+                uncachedApplicationIds.add(applicationId);
+            }
+        }
+        if (!uncachedApplicationIds.isEmpty()) {
+            for (ServiceProvider serviceProvider : appDAO.getApplications(uncachedApplicationIds)) {
+                addToCache(serviceProvider, serviceProvider.getTenantDomain());
+                serviceProviders.put(serviceProvider.getApplicationID(), serviceProvider);
+            }
+        }
+
+        List<ServiceProvider> orderedServiceProviders = new ArrayList<>();
+        for (Integer applicationId : new LinkedHashSet<>(applicationIds)) {
+            ServiceProvider serviceProvider = serviceProviders.get(applicationId);
+            if (serviceProvider != null) {
+                orderedServiceProviders.add(serviceProvider);
+            }
+        }
+        return orderedServiceProviders;
+    }
+
+    /**
+     * Load the given applications of a tenant into the application caches, so that the first requests after a
+     * server restart are not served from the database. Applications which are already cached or which do not exist
+     * are skipped.
+     *
+     * @param applicationNames Names of the applications.
+     * @param tenantDomain     Tenant domain of the applications.
+     * @return Number of applications which were loaded into the caches.
+     * @throws IdentityApplicationManagementException If an error occurs while loading the applications.
+     */
+    public int warmUpApplicationCache(List<String> applicationNames, String tenantDomain)
+            throws IdentityApplicationManagementException {
+
+        List<Integer> applicationIds = new ArrayList<>();
+        for (String applicationName : applicationNames) {
+            if (getApplicationFromCache(applicationName, tenantDomain) != null) {
+                continue;
+            }
+            ApplicationBasicInfo applicationBasicInfo = getApplicationBasicInfoByName(applicationName,
+                    tenantDomain);
+            if (applicationBasicInfo == null) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Application: " + applicationName + " is not available in the tenant: " +
+                            tenantDomain + " to warm up the application cache.");
+                }
+                continue;
+            }
+            applicationIds.add(applicationBasicInfo.getApplicationId());
+        }
+        if (applicationIds.isEmpty()) {
+            return 0;
+        }
+
+        List<ServiceProvider> serviceProviders = appDAO.getApplications(applicationIds);
+        for (ServiceProvider serviceProvider : serviceProviders) {
+            addToCache(serviceProvider, tenantDomain);
+        }
+        return serviceProviders.size();
+    }
+
     public String getApplicationName(int applicationID) throws IdentityApplicationManagementException {
 
         ServiceProvider applicationFromCache = getApplicationFromCache(applicationID,
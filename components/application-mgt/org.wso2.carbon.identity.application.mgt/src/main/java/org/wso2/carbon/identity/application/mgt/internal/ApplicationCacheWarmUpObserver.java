@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.mgt.internal;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.base.MultitenantConstants;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.core.ServerStartupObserver;
+import org.wso2.carbon.identity.application.common.IdentityApplicationManagementException;
+import org.wso2.carbon.identity.application.mgt.ApplicationConstants;
+import org.wso2.carbon.identity.application.mgt.ApplicationMgtSystemConfig;
+import org.wso2.carbon.identity.application.mgt.dao.ApplicationDAO;
+import org.wso2.carbon.identity.application.mgt.dao.impl.CacheBackedApplicationDAO;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Loads the most used applications of the super tenant into the application caches once the server has started, so
+ * that the first requests after a restart do not have to load them from the database one by one.
+ * The applications are configured with ApplicationMgt.CacheWarmUp.Applications.ApplicationName, and default to the
+ * Console and My Account applications. Warming up is enabled with ApplicationMgt.CacheWarmUp.Enable.
+ */
+public class ApplicationCacheWarmUpObserver implements ServerStartupObserver {
+
+    private static final Log log = LogFactory.getLog(ApplicationCacheWarmUpObserver.class);
+
+    @Override
+    public void completingServerStartup() {
+        // Do nothing.
+    }
+
+    @Override
+    public void completedServerStartup() {
+
+        if (!Boolean.parseBoolean(
+                IdentityUtil.getProperty(ApplicationConstants.APPLICATION_CACHE_WARM_UP_ENABLED_PROPERTY))) {
+            return;
+        }
+        ApplicationDAO applicationDAO = ApplicationMgtSystemConfig.getInstance().getApplicationDAO();
+        if (!(applicationDAO instanceof CacheBackedApplicationDAO)) {
+            return;
+        }
+
+        List<String> applicationNames =
+                IdentityUtil.getPropertyAsList(ApplicationConstants.APPLICATION_CACHE_WARM_UP_APPLICATIONS_PROPERTY);
+        if (applicationNames.isEmpty()) {
+            applicationNames = Arrays.asList(ApplicationConstants.CONSOLE_APPLICATION_NAME,
+                    ApplicationConstants.MY_ACCOUNT_APPLICATION_NAME);
+        }
+        try {
+            PrivilegedCarbonContext.startTenantFlow();
+            PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+            carbonContext.setTenantDomain(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME, true);
+            int loadedApplicationCount = ((CacheBackedApplicationDAO) applicationDAO).warmUpApplicationCache(
+                    applicationNames, MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+            if (log.isDebugEnabled()) {
+                log.debug("Loaded " + loadedApplicationCount + " applications into the application caches.");
+            }
+        } catch (IdentityApplicationManagementException e) {
+            log.error("Error while warming up the application caches.", e);
+        } finally {
+            PrivilegedCarbonContext.endTenantFlow();
+        }
+    }
+}
@@ -38,6 +38,7 @@ import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
 import org.wso2.carbon.CarbonConstants;
 import org.wso2.carbon.consent.mgt.core.ConsentManager;
+import org.wso2.carbon.core.ServerStartupObserver;
 import org.wso2.carbon.identity.api.resource.mgt.APIResourceManager;
 import org.wso2.carbon.identity.application.common.model.ServiceProvider;
 import org.wso2.carbon.identity.application.mgt.AbstractInboundAuthenticatorConfig;
@@ -146,6 +147,7 @@ public class ApplicationManagementServiceComponent {
                     new AuthorizedAPIManagementServiceImpl(), null);
 
             bundleContext.registerService(LoginFlowAIManager.class, new LoginFlowAIManagerImpl(), null);
+            bundleContext.registerService(ServerStartupObserver.class, new ApplicationCacheWarmUpObserver(), null);
 
             bundleContext.registerService(RoleManagementListener.class, new DefaultRoleManagementListener(), null);
             bundleContext.registerService(ApplicationMgtListener.class, new DefaultRoleManagementListener(), null);
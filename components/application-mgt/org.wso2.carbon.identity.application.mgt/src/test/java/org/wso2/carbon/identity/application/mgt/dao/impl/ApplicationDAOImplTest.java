@@ -30,6 +30,7 @@ import org.wso2.carbon.identity.application.common.model.ApplicationBasicInfo;
 import org.wso2.carbon.identity.application.common.model.AssociatedRolesConfig;
 import org.wso2.carbon.identity.application.common.model.DiscoverableGroup;
 import org.wso2.carbon.identity.application.common.model.GroupBasicInfo;
+import org.wso2.carbon.identity.application.common.model.RequestPathAuthenticatorConfig;
 import org.wso2.carbon.identity.application.common.model.RoleV2;
 import org.wso2.carbon.identity.application.common.model.ServiceProvider;
 import org.wso2.carbon.identity.application.common.model.ServiceProviderProperty;
@@ -419,6 +420,60 @@ public class ApplicationDAOImplTest {
         assertEquals(serviceProvider2.getAssociatedRolesConfig().getRoles().length, 0);
     }
 
+    @Test(description = "Test loading applications in bulk.")
+    public void testGetApplications() throws IdentityApplicationManagementException {
+
+        ApplicationDAO applicationDAO = new ApplicationDAOImpl();
+        List<Integer> applicationIds = new ArrayList<>();
+        for (int i = 1; i <= 2; i++) {
+            ServiceProvider serviceProvider = new ServiceProvider();
+            serviceProvider.setApplicationName("test-bulk-load-app-" + i);
+            serviceProvider.setApplicationVersion("v1.0.0");
+            serviceProvider.setApplicationID(applicationDAO.createApplication(serviceProvider,
+                    SUPER_TENANT_DOMAIN_NAME));
+            serviceProvider.setAccessUrl("https://localhost:5000/test-bulk-load-app-" + i);
+            ServiceProviderProperty spProperty = new ServiceProviderProperty();
+            spProperty.setName("testProperty");
+            spProperty.setValue("value-" + i);
+            serviceProvider.setSpProperties(new ServiceProviderProperty[] {spProperty});
+            RequestPathAuthenticatorConfig requestPathAuthenticator = new RequestPathAuthenticatorConfig();
+            requestPathAuthenticator.setName("test-request-path-authenticator-" + i);
+            serviceProvider.setRequestPathAuthenticatorConfigs(
+                    new RequestPathAuthenticatorConfig[] {requestPathAuthenticator});
+            applicationDAO.updateApplication(serviceProvider, SUPER_TENANT_DOMAIN_NAME);
+            applicationIds.add(serviceProvider.getApplicationID());
+        }
+
+        List<ServiceProvider> serviceProviders = applicationDAO.getApplications(
+                Arrays.asList(applicationIds.get(1), applicationIds.get(0), -1, applicationIds.get(1)));
+
+        assertEquals(serviceProviders.size(), 2);
+        for (int i = 0; i < 2; i++) {
+            ServiceProvider serviceProvider = serviceProviders.get(i);
+            ServiceProvider expectedServiceProvider = applicationDAO.getApplication(applicationIds.get(1 - i));
+            assertEquals(serviceProvider.getApplicationID(), expectedServiceProvider.getApplicationID());
+            assertEquals(serviceProvider.getApplicationName(), expectedServiceProvider.getApplicationName());
+            assertEquals(serviceProvider.getAccessUrl(), expectedServiceProvider.getAccessUrl());
+            assertEquals(getSpPropertyValue(serviceProvider, "testProperty"), "value-" + (2 - i));
+            assertEquals(serviceProvider.getSpProperties().length, expectedServiceProvider.getSpProperties().length);
+            assertEquals(serviceProvider.getRequestPathAuthenticatorConfigs().length, 1);
+            assertEquals(serviceProvider.getRequestPathAuthenticatorConfigs()[0].getName(),
+                    "test-request-path-authenticator-" + (2 - i));
+            assertEquals(serviceProvider.getPermissionAndRoleConfig().getRoleMappings().length,
+                    expectedServiceProvider.getPermissionAndRoleConfig().getRoleMappings().length);
+        }
+    }
+
+    private String getSpPropertyValue(ServiceProvider serviceProvider, String propertyName) {
+
+        for (ServiceProviderProperty spProperty : serviceProvider.getSpProperties()) {
+            if (propertyName.equals(spProperty.getName())) {
+                return spProperty.getValue();
+            }
+        }
+        return null;
+    }
+
     /**
      * Get a new DiscoverableGroup object.
      *
@@ -27,9 +27,9 @@ public class SQLConstants {
 
     public static final String CREATE_ASYNC_OPERATION = "INSERT INTO IDN_ASYNC_OPERATION_STATUS( OPERATION_ID, " +
             "CORRELATION_ID, OPERATION_TYPE, SUBJECT_TYPE, SUBJECT_ID, INITIATED_ORG_ID, INITIATED_USER_ID, STATUS, " +
-            "CREATED_AT, LAST_MODIFIED, POLICY) VALUES( :OPERATION_ID;, :CORRELATION_ID;, :OPERATION_TYPE;, " +
-            ":SUBJECT_TYPE;, :SUBJECT_ID;, :INITIATED_ORG_ID;, :INITIATED_USER_ID;, :STATUS;, :CREATED_AT;, " +
-            ":LAST_MODIFIED;, :POLICY;)";
+            "CREATED_AT, LAST_MODIFIED, POLICY, SUCCESS_COUNT, FAILED_COUNT, PARTIALLY_COMPLETED_COUNT) VALUES( " +
+            ":OPERATION_ID;, :CORRELATION_ID;, :OPERATION_TYPE;, :SUBJECT_TYPE;, :SUBJECT_ID;, :INITIATED_ORG_ID;, " +
+            ":INITIATED_USER_ID;, :STATUS;, :CREATED_AT;, :LAST_MODIFIED;, :POLICY;, 0, 0, 0)";
 
     public static final String UPDATE_ASYNC_OPERATION = "UPDATE IDN_ASYNC_OPERATION_STATUS SET STATUS = :STATUS;, " +
             "LAST_MODIFIED = :LAST_MODIFIED; WHERE OPERATION_ID = :OPERATION_ID;";
@@ -41,7 +41,8 @@ public class SQLConstants {
 
     public static final String GET_OPERATIONS = "SELECT OPERATION_ID, CURSOR_KEY, CORRELATION_ID, OPERATION_TYPE, " +
             "SUBJECT_TYPE, SUBJECT_ID, INITIATED_ORG_ID, INITIATED_USER_ID, STATUS, POLICY, CREATED_AT, " +
-            "LAST_MODIFIED FROM IDN_ASYNC_OPERATION_STATUS WHERE INITIATED_ORG_ID = :INITIATED_ORG_ID;";
+            "LAST_MODIFIED, SUCCESS_COUNT, FAILED_COUNT, PARTIALLY_COMPLETED_COUNT FROM IDN_ASYNC_OPERATION_STATUS " +
+            "WHERE INITIATED_ORG_ID = :INITIATED_ORG_ID;";
 
     public static final String GET_OPERATIONS_TAIL = " ORDER BY CURSOR_KEY DESC LIMIT :LIMIT;";
 
@@ -52,8 +53,8 @@ public class SQLConstants {
 
     public static final String GET_OPERATION = "SELECT OPERATION_ID, CURSOR_KEY, CORRELATION_ID, OPERATION_TYPE, " +
             "SUBJECT_TYPE, SUBJECT_ID, INITIATED_ORG_ID, INITIATED_USER_ID, STATUS, POLICY, CREATED_AT, " +
-            "LAST_MODIFIED FROM IDN_ASYNC_OPERATION_STATUS WHERE OPERATION_ID = :OPERATION_ID; AND " +
-            "INITIATED_ORG_ID = :INITIATED_ORG_ID;";
+            "LAST_MODIFIED, SUCCESS_COUNT, FAILED_COUNT, PARTIALLY_COMPLETED_COUNT FROM IDN_ASYNC_OPERATION_STATUS " +
+            "WHERE OPERATION_ID = :OPERATION_ID; AND INITIATED_ORG_ID = :INITIATED_ORG_ID;";
 
     public static final String GET_UNIT_OPERATIONS = "SELECT UNIT_OPERATION_ID, CURSOR_KEY, OPERATION_ID, " +
             "RESIDENT_RESOURCE_ID, TARGET_ORG_ID, STATUS, STATUS_MESSAGE, " +
@@ -81,6 +82,16 @@ public class SQLConstants {
             "IDN_ASYNC_OPERATION_STATUS WHERE OPERATION_ID = :OPERATION_ID; AND " +
             "INITIATED_ORG_ID = :INITIATED_ORG_ID;) GROUP BY STATUS";
 
+    public static final String INCREMENT_UNIT_OPERATION_STATUS_COUNT = "UPDATE IDN_ASYNC_OPERATION_STATUS SET " +
+            "SUCCESS_COUNT = SUCCESS_COUNT + :SUCCESS_COUNT;, FAILED_COUNT = FAILED_COUNT + :FAILED_COUNT;, " +
+            "PARTIALLY_COMPLETED_COUNT = PARTIALLY_COMPLETED_COUNT + :PARTIALLY_COMPLETED_COUNT; " +
+            "WHERE OPERATION_ID = :OPERATION_ID;";
+
+    public static final String UPDATE_UNIT_OPERATION_STATUS_COUNT = "UPDATE IDN_ASYNC_OPERATION_STATUS SET " +
+            "SUCCESS_COUNT = :SUCCESS_COUNT;, FAILED_COUNT = :FAILED_COUNT;, " +
+            "PARTIALLY_COMPLETED_COUNT = :PARTIALLY_COMPLETED_COUNT; WHERE OPERATION_ID = :OPERATION_ID; AND " +
+            "SUCCESS_COUNT IS NULL";
+
     /**
      * SQL Placeholders.
      */
@@ -104,6 +115,9 @@ public class SQLConstants {
         public static final String TARGET_ORG_ID = "TARGET_ORG_ID";
         public static final String STATUS_MESSAGE = "STATUS_MESSAGE";
         public static final String COUNT = "COUNT";
+        public static final String SUCCESS_COUNT = "SUCCESS_COUNT";
+        public static final String FAILED_COUNT = "FAILED_COUNT";
+        public static final String PARTIALLY_COMPLETED_COUNT = "PARTIALLY_COMPLETED_COUNT";
     }
 
     /**
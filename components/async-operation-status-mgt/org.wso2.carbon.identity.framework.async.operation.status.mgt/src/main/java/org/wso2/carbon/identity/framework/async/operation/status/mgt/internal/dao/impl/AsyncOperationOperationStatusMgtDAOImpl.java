@@ -43,7 +43,9 @@ import org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.ut
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -69,25 +71,30 @@ import static org.wso2.carbon.identity.framework.async.operation.status.mgt.inte
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.GET_UNIT_OPERATIONS_TAIL_MSSQL;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.GET_UNIT_OPERATIONS_TAIL_ORACLE;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.GET_UNIT_OPERATION_STATUS_COUNT;
+import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.INCREMENT_UNIT_OPERATION_STATUS_COUNT;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.LIMIT;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.SQLPlaceholders.CORRELATION_ID;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.SQLPlaceholders.COUNT;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.SQLPlaceholders.CREATED_AT;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.SQLPlaceholders.CURSOR_KEY;
+import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.SQLPlaceholders.FAILED_COUNT;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.SQLPlaceholders.INITIATED_ORG_ID;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.SQLPlaceholders.INITIATED_USER_ID;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.SQLPlaceholders.LAST_MODIFIED;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.SQLPlaceholders.OPERATION_ID;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.SQLPlaceholders.OPERATION_TYPE;
+import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.SQLPlaceholders.PARTIALLY_COMPLETED_COUNT;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.SQLPlaceholders.POLICY;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.SQLPlaceholders.RESIDENT_RESOURCE_ID;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.SQLPlaceholders.STATUS;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.SQLPlaceholders.STATUS_MESSAGE;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.SQLPlaceholders.SUBJECT_ID;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.SQLPlaceholders.SUBJECT_TYPE;
+import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.SQLPlaceholders.SUCCESS_COUNT;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.SQLPlaceholders.TARGET_ORG_ID;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.SQLPlaceholders.UNIT_OPERATION_ID;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.UPDATE_ASYNC_OPERATION;
+import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.UPDATE_UNIT_OPERATION_STATUS_COUNT;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.util.AsyncOperationStatusMgtExceptionHandler.handleServerException;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.util.AsyncOperationStatusMgtExceptionHandler.throwRuntimeException;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.util.FilterQueryBuilderUtil.buildFilterQuery;
@@ -145,11 +152,13 @@ public class AsyncOperationOperationStatusMgtDAOImpl implements AsyncOperationSt
             throws AsyncOperationStatusMgtException {
 
         Timestamp currentTimestamp = new Timestamp(new Date().getTime());
+        List<UnitOperationInitDTO> unitOperations = new ArrayList<>(queue);
+        Map<String, UnitOperationStatusCount> statusCounts = getUnitOperationStatusCounts(unitOperations);
         NamedJdbcTemplate jdbcTemplate = AsyncOperationStatusMgtDbUtil.getNewTemplate();
         try {
-            jdbcTemplate.withTransaction(template ->
+            jdbcTemplate.withTransaction(template -> {
                 template.executeBatchInsert(CREATE_ASYNC_OPERATION_UNIT_BATCH, statement -> {
-                    for (UnitOperationInitDTO context : queue) {
+                    for (UnitOperationInitDTO context : unitOperations) {
                         statement.setString(UNIT_OPERATION_ID, UUID.randomUUID().toString());
                         statement.setString(OPERATION_ID, context.getOperationId());
                         statement.setString(RESIDENT_RESOURCE_ID, context.getOperationInitiatedResourceId());
@@ -159,7 +168,19 @@ public class AsyncOperationOperationStatusMgtDAOImpl implements AsyncOperationSt
                         statement.setTimeStamp(CREATED_AT, currentTimestamp, null);
                         statement.addBatch();
                     }
-                }, null));
+                }, null);
+                // The status counts of the operations are updated in the same transaction as the unit operations,
+                // hence the counts never drift from the persisted unit operations.
+                for (Map.Entry<String, UnitOperationStatusCount> entry : statusCounts.entrySet()) {
+                    template.executeUpdate(INCREMENT_UNIT_OPERATION_STATUS_COUNT, statement -> {
+                        statement.setInt(SUCCESS_COUNT, entry.getValue().getSuccess());
+                        statement.setInt(FAILED_COUNT, entry.getValue().getFailed());
+                        statement.setInt(PARTIALLY_COMPLETED_COUNT, entry.getValue().getPartiallyCompleted());
+                        statement.setString(OPERATION_ID, entry.getKey());
+                    });
+                }
+                return null;
+            });
         } catch (TransactionException e) {
             throw handleServerException(ERROR_WHILE_PERSISTING_ASYNC_OPERATION_STATUS_UNIT, e);
         }
@@ -309,6 +330,63 @@ public class AsyncOperationOperationStatusMgtDAOImpl implements AsyncOperationSt
         });
     }
 
+    private Map<String, UnitOperationStatusCount> getUnitOperationStatusCounts(
+            List<UnitOperationInitDTO> unitOperations) {
+
+        Map<String, UnitOperationStatusCount> statusCounts = new HashMap<>();
+        for (UnitOperationInitDTO unitOperation : unitOperations) {
+            String status = unitOperation.getUnitOperationStatus();
+            UnitOperationStatusCount countObj = statusCounts.computeIfAbsent(unitOperation.getOperationId(),
+                    operationId -> new UnitOperationStatusCount());
+            if (OperationStatus.SUCCESS.toString().equals(status)) {
+                countObj.setSuccess(countObj.getSuccess() + 1);
+            } else if (OperationStatus.FAILED.toString().equals(status)) {
+                countObj.setFailed(countObj.getFailed() + 1);
+            } else if (OperationStatus.PARTIALLY_COMPLETED.toString().equals(status)) {
+                countObj.setPartiallyCompleted(countObj.getPartiallyCompleted() + 1);
+            }
+        }
+        return statusCounts;
+    }
+
+    private UnitOperationStatusCount getUnitOperationStatusCount(ResultSet resultSet)
+            throws SQLException, DataAccessException {
+
+        int success = resultSet.getInt(SUCCESS_COUNT);
+        if (resultSet.wasNull()) {
+            // Operations registered before the status counts were maintained don't have the counts yet.
+            return reconcileUnitOperationStatusCount(resultSet.getString(OPERATION_ID),
+                    resultSet.getString(INITIATED_ORG_ID));
+        }
+        UnitOperationStatusCount countObj = new UnitOperationStatusCount();
+        countObj.setSuccess(success);
+        countObj.setFailed(resultSet.getInt(FAILED_COUNT));
+        countObj.setPartiallyCompleted(resultSet.getInt(PARTIALLY_COMPLETED_COUNT));
+        return countObj;
+    }
+
+    /**
+     * Count the unit operations of an operation by status, and persist the counts with the operation. The counts are
+     * only persisted if the operation doesn't have counts yet.
+     */
+    private UnitOperationStatusCount reconcileUnitOperationStatusCount(String operationId,
+                                                                       String requestInitiatedOrgId)
+            throws DataAccessException {
+
+        UnitOperationStatusCount countObj = getUnitOperationStatusCount(operationId, requestInitiatedOrgId);
+        NamedJdbcTemplate jdbcTemplate = AsyncOperationStatusMgtDbUtil.getNewTemplate();
+        jdbcTemplate.executeUpdate(UPDATE_UNIT_OPERATION_STATUS_COUNT, statement -> {
+            statement.setInt(SUCCESS_COUNT, countObj.getSuccess());
+            statement.setInt(FAILED_COUNT, countObj.getFailed());
+            statement.setInt(PARTIALLY_COMPLETED_COUNT, countObj.getPartiallyCompleted());
+            statement.setString(OPERATION_ID, operationId);
+        });
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Reconciled the unit operation status counts of the operation: " + operationId);
+        }
+        return countObj;
+    }
+
     private UnitOperationStatusCount getUnitOperationStatusCount(String operationId, String requestInitiatedOrgId)
             throws  DataAccessException {
 
@@ -401,8 +479,7 @@ public class AsyncOperationOperationStatusMgtDAOImpl implements AsyncOperationSt
                 .operationPolicy(resultSet.getString(POLICY))
                 .createdTime(Timestamp.valueOf(resultSet.getString(CREATED_AT)))
                 .modifiedTime(Timestamp.valueOf(resultSet.getString(LAST_MODIFIED)))
-                .unitStatusCount(getUnitOperationStatusCount(resultSet.getString(OPERATION_ID),
-                        resultSet.getString(INITIATED_ORG_ID)))
+                .unitStatusCount(getUnitOperationStatusCount(resultSet))
                 .build();
     }
 
@@ -24,29 +24,71 @@ import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.excepti
 import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.models.UnitOperationInitDTO;
 import org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.dao.AsyncOperationStatusMgtDAO;
 
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * In-memory queue to store async operations, with database fallback.
+ * <p>
+ * Operations are added to the active segment without locking. Once the active segment reaches the threshold, or once
+ * the flush interval elapses, it is swapped with an empty segment and handed to a dedicated flusher thread which
+ * persists it in batch, retrying failed attempts. Hence adding an operation never waits for the database. The number
+ * of segments waiting for the flusher is bounded, and a segment is persisted in the calling thread when the backlog
+ * is full.
  */
 public class AsyncOperationDataBuffer {
 
     private static final Log LOG = LogFactory.getLog(AsyncOperationDataBuffer.class);
-    private final ConcurrentLinkedQueue<UnitOperationInitDTO> queue = new ConcurrentLinkedQueue<>();
+
+    private static final int DEFAULT_MAX_BACKLOG_SEGMENTS = 10;
+    private static final int DEFAULT_MAX_RETRIES = 2;
+    private static final long DEFAULT_RETRY_INTERVAL_IN_MILLIS = 500;
+
+    private final AtomicReference<Segment> activeSegment = new AtomicReference<>(new Segment());
     private final AsyncOperationStatusMgtDAO asyncOperationStatusMgtDAO;
     private final int threshold;
     private final int flushIntervalSeconds;
-    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final int maxRetries;
+    private final long retryIntervalInMillis;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "AsyncOperationDataBufferScheduler");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ThreadPoolExecutor flusher;
+    private final AtomicInteger pendingSegments = new AtomicInteger();
+    private final Metrics metrics = new Metrics();
 
     public AsyncOperationDataBuffer(AsyncOperationStatusMgtDAO asyncOperationStatusMgtDAO, int threshold,
                                     int flushIntervalSeconds) {
 
+        this(asyncOperationStatusMgtDAO, threshold, flushIntervalSeconds, DEFAULT_MAX_BACKLOG_SEGMENTS,
+                DEFAULT_MAX_RETRIES, DEFAULT_RETRY_INTERVAL_IN_MILLIS);
+    }
+
+    public AsyncOperationDataBuffer(AsyncOperationStatusMgtDAO asyncOperationStatusMgtDAO, int threshold,
+                                    int flushIntervalSeconds, int maxBacklogSegments, int maxRetries,
+                                    long retryIntervalInMillis) {
+
         this.asyncOperationStatusMgtDAO = asyncOperationStatusMgtDAO;
-        this.threshold = threshold;
+        this.threshold = Math.max(1, threshold);
         this.flushIntervalSeconds = flushIntervalSeconds;
+        this.maxRetries = Math.max(0, maxRetries);
+        this.retryIntervalInMillis = Math.max(0, retryIntervalInMillis);
+        this.flusher = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, maxBacklogSegments)), runnable -> {
+                    Thread thread = new Thread(runnable, "AsyncOperationDataBufferFlusher");
+                    thread.setDaemon(true);
+                    return thread;
+                });
 
         startPeriodicFlushTask();
     }
@@ -56,69 +98,220 @@ public class AsyncOperationDataBuffer {
      *
      * @param operation The operation to add.
      */
-    public synchronized void add(UnitOperationInitDTO operation) throws AsyncOperationStatusMgtException {
+    public void add(UnitOperationInitDTO operation) throws AsyncOperationStatusMgtException {
 
-        queue.offer(operation);
-        if (queue.size() >= threshold) {
-            persistToDatabase();
+        while (true) {
+            Segment segment = activeSegment.get();
+            int size;
+            segment.writers.incrementAndGet();
+            try {
+                // The segment was swapped out after it was read, hence add the operation to the new segment.
+                if (segment.sealed) {
+                    continue;
+                }
+                segment.operations.offer(operation);
+                size = segment.size.incrementAndGet();
+            } finally {
+                segment.writers.decrementAndGet();
+            }
+            metrics.added.incrementAndGet();
+            if (size == threshold) {
+                swap(segment);
+            }
+            return;
         }
     }
 
     /**
-     * Check if the queue is empty.
+     * Check if the queue is empty, including the operations waiting to be persisted.
      *
      * @return True if the queue is empty, false otherwise.
      */
     public boolean isEmpty() {
 
-        return queue.isEmpty();
+        return activeSegment.get().size.get() == 0 && pendingSegments.get() == 0;
     }
 
     /**
-     * Retrieve and remove an operation from the queue.
+     * Retrieve and remove an operation from the queue. Operations which are already handed over to be persisted are
+     * not returned.
      *
      * @return The next operation, or null if the queue is empty.
      */
-    public synchronized UnitOperationInitDTO dequeue() {
+    public UnitOperationInitDTO dequeue() {
+
+        Segment segment = activeSegment.get();
+        UnitOperationInitDTO operation = segment.operations.poll();
+        if (operation != null) {
+            segment.size.decrementAndGet();
+        }
+        return operation;
+    }
+
+    /**
+     * Get the metrics of the buffer.
+     *
+     * @return Metrics of the buffer.
+     */
+    public Metrics getMetrics() {
 
-        return queue.poll();
+        return metrics;
     }
 
     /**
-     * Shuts down the scheduled task.
+     * Shuts down the scheduled task, and persists the buffered operations.
      */
     public void shutdown() {
 
         scheduler.shutdown();
+        swap(activeSegment.get());
+        flusher.shutdown();
+        try {
+            if (!flusher.awaitTermination(flushIntervalSeconds + 10L, TimeUnit.SECONDS)) {
+                LOG.warn("Timed out while persisting the buffered unit operation records to the database.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
     }
 
     /**
-     * Persist queued operations to the database in batch.
+     * Swap out the given segment if it is still the active segment, and hand it over to be persisted.
      */
-    private synchronized void persistToDatabase() throws AsyncOperationStatusMgtException {
+    private void swap(Segment segment) {
 
-        if (!queue.isEmpty()) {
-            asyncOperationStatusMgtDAO.registerAsyncStatusUnit(queue);
-            queue.clear();
+        if (segment.size.get() == 0 || !activeSegment.compareAndSet(segment, new Segment())) {
+            return;
+        }
+        segment.sealed = true;
+        pendingSegments.incrementAndGet();
+        try {
+            flusher.execute(() -> persistToDatabase(segment));
+        } catch (RejectedExecutionException e) {
+            // The backlog is full or the buffer is shutting down, hence persist the segment in the calling thread.
+            metrics.callerRuns.incrementAndGet();
+            persistToDatabase(segment);
         }
     }
 
     /**
-     * Periodically flushes the queue to avoid long delays for small workloads.
+     * Persist the operations of a swapped out segment to the database in batch.
      */
-    private void startPeriodicFlushTask() {
+    private void persistToDatabase(Segment segment) {
 
-        scheduler.scheduleAtFixedRate(() -> {
-            if (!queue.isEmpty()) {
+        try {
+            // Operations being added to the segment when it was swapped out are waited for.
+            while (segment.writers.get() > 0) {
+                Thread.yield();
+            }
+            int size = segment.size.get();
+            for (int attempt = 0; ; attempt++) {
                 try {
-                    persistToDatabase();
-                } catch (AsyncOperationStatusMgtException e) {
+                    asyncOperationStatusMgtDAO.registerAsyncStatusUnit(segment.operations);
+                    metrics.persisted.addAndGet(size);
+                    metrics.flushes.incrementAndGet();
+                    return;
+                } catch (AsyncOperationStatusMgtException | RuntimeException e) {
+                    if (attempt >= maxRetries) {
+                        metrics.dropped.addAndGet(size);
+                        LOG.error("Error while flushing " + size + " unit operation records to the database.", e);
+                        return;
+                    }
+                    metrics.retries.incrementAndGet();
                     if (LOG.isDebugEnabled()) {
-                        LOG.error("Error while flushing unit operation records to the database.", e);
+                        LOG.debug("Retrying to flush unit operation records to the database.", e);
                     }
+                    TimeUnit.MILLISECONDS.sleep(retryIntervalInMillis);
                 }
             }
-        }, flushIntervalSeconds, flushIntervalSeconds, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOG.error("Interrupted while flushing unit operation records to the database.");
+        } finally {
+            pendingSegments.decrementAndGet();
+        }
+    }
+
+    /**
+     * Periodically flushes the queue to avoid long delays for small workloads.
+     */
+    private void startPeriodicFlushTask() {
+
+        scheduler.scheduleAtFixedRate(() -> swap(activeSegment.get()), flushIntervalSeconds, flushIntervalSeconds,
+                TimeUnit.SECONDS);
+    }
+
+    /**
+     * Operations which are persisted together.
+     */
+    private static class Segment {
+
+        private final ConcurrentLinkedQueue<UnitOperationInitDTO> operations = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicInteger writers = new AtomicInteger();
+        private volatile boolean sealed;
     }
 
+    /**
+     * Metrics of the buffer.
+     */
+    public class Metrics {
+
+        private final AtomicLong added = new AtomicLong();
+        private final AtomicLong persisted = new AtomicLong();
+        private final AtomicLong dropped = new AtomicLong();
+        private final AtomicLong retries = new AtomicLong();
+        private final AtomicLong flushes = new AtomicLong();
+        private final AtomicLong callerRuns = new AtomicLong();
+
+        public long getAddedCount() {
+
+            return added.get();
+        }
+
+        public long getPersistedCount() {
+
+            return persisted.get();
+        }
+
+        /**
+         * Get the number of operations which could not be persisted after retrying.
+         *
+         * @return Number of operations which could not be persisted.
+         */
+        public long getDroppedCount() {
+
+            return dropped.get();
+        }
+
+        public long getRetriedCount() {
+
+            return retries.get();
+        }
+
+        public long getFlushCount() {
+
+            return flushes.get();
+        }
+
+        /**
+         * Get the number of segments persisted in the calling thread as the backlog was full.
+         *
+         * @return Number of segments persisted in the calling thread.
+         */
+        public long getCallerRunsCount() {
+
+            return callerRuns.get();
+        }
+
+        public int getBufferedCount() {
+
+            return activeSegment.get().size.get();
+        }
+
+        public int getPendingSegmentCount() {
+
+            return pendingSegments.get();
+        }
+    }
 }
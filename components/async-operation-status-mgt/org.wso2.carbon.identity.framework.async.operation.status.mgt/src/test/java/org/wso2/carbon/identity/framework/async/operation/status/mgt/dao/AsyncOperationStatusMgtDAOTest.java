@@ -31,6 +31,7 @@ import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.excepti
 import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.models.OperationInitDTO;
 import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.models.OperationResponseDTO;
 import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.models.UnitOperationInitDTO;
+import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.models.UnitOperationStatusCount;
 import org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.dao.AsyncOperationStatusMgtDAO;
 import org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.dao.impl.AsyncOperationOperationStatusMgtDAOImpl;
 import org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.models.dos.UnitOperationDO;
@@ -52,6 +53,7 @@ import static org.wso2.carbon.identity.framework.async.operation.status.mgt.cons
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.constants.TestAsyncOperationConstants.INITIATOR_ID_1;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.constants.TestAsyncOperationConstants.POLICY_SELECTIVE_SHARE;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.constants.TestAsyncOperationConstants.RESIDENT_ORG_ID_1;
+import static org.wso2.carbon.identity.framework.async.operation.status.mgt.constants.TestAsyncOperationConstants.RESIDENT_ORG_ID_2;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.constants.TestAsyncOperationConstants.RESIDENT_ORG_ID_3;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.constants.TestAsyncOperationConstants.RESIDENT_ORG_ID_4;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.constants.TestAsyncOperationConstants.SUBJECT_ID_1;
@@ -286,6 +288,69 @@ public class AsyncOperationStatusMgtDAOTest {
         }
     }
 
+    @Test(priority = 9)
+    public void testUnitOperationStatusCountIsMaintained() throws Exception {
+
+        OperationInitDTO operation1 = new OperationInitDTO(CORR_ID_1, TYPE_USER_SHARE, SUBJECT_TYPE_USER,
+                SUBJECT_ID_1, RESIDENT_ORG_ID_1, INITIATOR_ID_1, POLICY_SELECTIVE_SHARE);
+        String returnedId = dao.registerAsyncStatusWithUpdate(operation1);
+
+        ConcurrentLinkedQueue<UnitOperationInitDTO> list = new ConcurrentLinkedQueue<>();
+        list.add(new UnitOperationInitDTO(returnedId, RESIDENT_ORG_ID_1, RESIDENT_ORG_ID_2, SUCCESS,
+                StringUtils.EMPTY));
+        list.add(new UnitOperationInitDTO(returnedId, RESIDENT_ORG_ID_1, RESIDENT_ORG_ID_3, FAILED,
+                "Invalid User Id."));
+        dao.registerAsyncStatusUnit(list);
+        list.clear();
+        list.add(new UnitOperationInitDTO(returnedId, RESIDENT_ORG_ID_1, RESIDENT_ORG_ID_4, SUCCESS,
+                StringUtils.EMPTY));
+        dao.registerAsyncStatusUnit(list);
+
+        UnitOperationStatusCount statusCount = dao.getOperation(returnedId, RESIDENT_ORG_ID_1).getUnitStatusCount();
+        assertEquals(2, statusCount.getSuccess());
+        assertEquals(1, statusCount.getFailed());
+        assertEquals(0, statusCount.getPartiallyCompleted());
+    }
+
+    @Test(priority = 10)
+    public void testUnitOperationStatusCountIsReconciled() throws Exception {
+
+        OperationInitDTO operation1 = new OperationInitDTO(CORR_ID_1, TYPE_USER_SHARE, SUBJECT_TYPE_USER,
+                SUBJECT_ID_1, RESIDENT_ORG_ID_1, INITIATOR_ID_1, POLICY_SELECTIVE_SHARE);
+        String returnedId = dao.registerAsyncStatusWithUpdate(operation1);
+        ConcurrentLinkedQueue<UnitOperationInitDTO> list = new ConcurrentLinkedQueue<>();
+        list.add(new UnitOperationInitDTO(returnedId, RESIDENT_ORG_ID_1, RESIDENT_ORG_ID_2, SUCCESS,
+                StringUtils.EMPTY));
+        list.add(new UnitOperationInitDTO(returnedId, RESIDENT_ORG_ID_1, RESIDENT_ORG_ID_3, PARTIALLY_COMPLETED,
+                StringUtils.EMPTY));
+        dao.registerAsyncStatusUnit(list);
+
+        // Operations registered before the status counts were maintained don't have the counts.
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.executeUpdate("UPDATE IDN_ASYNC_OPERATION_STATUS SET SUCCESS_COUNT = NULL, " +
+                        "FAILED_COUNT = NULL, PARTIALLY_COMPLETED_COUNT = NULL");
+            }
+            connection.commit();
+        }
+
+        UnitOperationStatusCount statusCount = dao.getOperations(RESIDENT_ORG_ID_1, 100, null).get(0)
+                .getUnitStatusCount();
+        assertEquals(1, statusCount.getSuccess());
+        assertEquals(0, statusCount.getFailed());
+        assertEquals(1, statusCount.getPartiallyCompleted());
+
+        // The reconciled counts are persisted, and maintained with the unit operations registered afterwards.
+        list.clear();
+        list.add(new UnitOperationInitDTO(returnedId, RESIDENT_ORG_ID_1, RESIDENT_ORG_ID_4, FAILED,
+                "Invalid User Id."));
+        dao.registerAsyncStatusUnit(list);
+        statusCount = dao.getOperation(returnedId, RESIDENT_ORG_ID_1).getUnitStatusCount();
+        assertEquals(1, statusCount.getSuccess());
+        assertEquals(1, statusCount.getFailed());
+        assertEquals(1, statusCount.getPartiallyCompleted());
+    }
+
     private void cleanUpDB() throws Exception {
 
         try (Connection connection = IdentityDatabaseUtil.getDBConnection()) {
@@ -21,16 +21,25 @@ package org.wso2.carbon.identity.framework.async.operation.status.mgt.queue;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
+import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.exception.AsyncOperationStatusMgtServerException;
 import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.models.UnitOperationInitDTO;
 import org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.dao.AsyncOperationStatusMgtDAO;
 import org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.queue.AsyncOperationDataBuffer;
 
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -93,6 +102,66 @@ public class AsyncOperationDataBufferTest {
         assertTrue(dataBuffer.isEmpty());
     }
 
+    @Test
+    void testConcurrentAddsArePersisted() throws Exception {
+
+        AsyncOperationStatusMgtDAO dao = mock(AsyncOperationStatusMgtDAO.class);
+        AtomicInteger persistedCount = new AtomicInteger();
+        doAnswer(invocation -> {
+            ConcurrentLinkedQueue<?> operations = invocation.getArgument(0);
+            persistedCount.addAndGet(operations.size());
+            return null;
+        }).when(dao).registerAsyncStatusUnit(any());
+        AsyncOperationDataBuffer buffer = new AsyncOperationDataBuffer(dao, threshold, 60, 2, 0, 0);
+
+        int threadCount = 8;
+        int operationsPerThread = 5000;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(threadCount);
+        for (int i = 0; i < threadCount; i++) {
+            executorService.execute(() -> {
+                try {
+                    startLatch.await();
+                    for (int j = 0; j < operationsPerThread; j++) {
+                        buffer.add(new UnitOperationInitDTO());
+                    }
+                } catch (Exception e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+        startLatch.countDown();
+        assertTrue(doneLatch.await(30, TimeUnit.SECONDS));
+        executorService.shutdown();
+        buffer.shutdown();
+
+        // No operation is lost or persisted twice while segments are swapped out concurrently.
+        assertEquals(threadCount * operationsPerThread, persistedCount.get());
+        assertEquals(threadCount * operationsPerThread, buffer.getMetrics().getAddedCount());
+        assertEquals(threadCount * operationsPerThread, buffer.getMetrics().getPersistedCount());
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    void testFailedFlushIsRetried() throws Exception {
+
+        AsyncOperationStatusMgtDAO dao = mock(AsyncOperationStatusMgtDAO.class);
+        doThrow(new AsyncOperationStatusMgtServerException("Error"))
+                .doNothing().when(dao).registerAsyncStatusUnit(any());
+        AsyncOperationDataBuffer buffer = new AsyncOperationDataBuffer(dao, 1, 60, 2, 1, 0);
+
+        buffer.add(new UnitOperationInitDTO());
+        buffer.shutdown();
+
+        verify(dao, times(2)).registerAsyncStatusUnit(any());
+        assertEquals(1, buffer.getMetrics().getRetriedCount());
+        assertEquals(1, buffer.getMetrics().getPersistedCount());
+        assertEquals(0, buffer.getMetrics().getDroppedCount());
+    }
+
     private void emptyBuffer() {
 
         while (!dataBuffer.isEmpty()) {
@@ -10,6 +10,9 @@ CREATE TABLE PUBLIC.IDN_ASYNC_OPERATION_STATUS (
 	IDN_CREATED_TIME TIMESTAMP NOT NULL,
 	LAST_MODIFIED TIMESTAMP NOT NULL,
 	POLICY CHARACTER VARYING(127),
+	SUCCESS_COUNT INTEGER,
+	FAILED_COUNT INTEGER,
+	PARTIALLY_COMPLETED_COUNT INTEGER,
 	CONSTRAINT IDN_OPERATION_PK PRIMARY KEY (OPERATION_ID)
 );
 
@@ -21,15 +21,19 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import java.lang.management.ManagementFactory;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Supervises the execution of any script engine, and kills the thread if the time taken is too much.
+ * <p>
+ * The running executions are kept in a concurrent registry, which is swept by a single monitoring task at a fixed
+ * rate. Hence the cost of supervising an execution is a registry insert and removal, regardless of the number of
+ * concurrent executions.
  */
 public class JSExecutionSupervisor {
 
@@ -37,8 +41,10 @@ public class JSExecutionSupervisor {
     private static final String JS_EXECUTION_MONITOR = "JS-Exec-Monitor";
     private final long timeoutInMillis;
     private final long memoryLimitInBytes;
+    private static final String UNKNOWN_TENANT = "unknown";
     private long taskExecutionRateInMillis = 50L;
-    private Map<String, TaskHolder> currentScriptExecutions = new HashMap<>();
+    private final Map<String, MonitoringTask> currentScriptExecutions = new ConcurrentHashMap<>();
+    private final Map<String, JSExecutionTenantStatistics> tenantStatistics = new ConcurrentHashMap<>();
     private ScheduledExecutorService monitoringService;
     private static final int MONITOR_TYPE_TIME = 0;
     private static final int MONITOR_TYPE_MEMORY = 1;
@@ -64,7 +70,17 @@ public class JSExecutionSupervisor {
             memoryLimitInBytes = -1;
         }
 
-        monitoringService = new ScheduledThreadPoolExecutor(threadCount, r -> new Thread(r, JS_EXECUTION_MONITOR));
+        /*
+         * All the executions are checked by a single sweeping task, hence one thread is sufficient regardless of the
+         * configured thread count.
+         */
+        monitoringService = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread thread = new Thread(r, JS_EXECUTION_MONITOR);
+            thread.setDaemon(true);
+            return thread;
+        });
+        monitoringService.scheduleAtFixedRate(this::sweep, taskExecutionRateInMillis, taskExecutionRateInMillis,
+                TimeUnit.MILLISECONDS);
     }
 
     /**
@@ -105,10 +121,8 @@ public class JSExecutionSupervisor {
 
         MonitoringTask monitoringTask = new MonitoringTask(Thread.currentThread(), identifier, serviceProvider,
                 tenantDomain, elapsedTimeInMillis, consumedMemoryInBytes);
-        ScheduledFuture<?> monitoredFuture = monitoringService.
-                scheduleAtFixedRate(monitoringTask, taskExecutionRateInMillis, taskExecutionRateInMillis,
-                        TimeUnit.MILLISECONDS);
-        currentScriptExecutions.put(identifier, new TaskHolder(monitoringTask, monitoredFuture));
+        monitoringTask.getStatistics().recordMonitoredExecution();
+        currentScriptExecutions.put(identifier, monitoringTask);
     }
 
     /**
@@ -119,48 +133,63 @@ public class JSExecutionSupervisor {
      */
     public JSExecutionMonitorData completed(String identifier) {
 
-        TaskHolder taskHolder = currentScriptExecutions.remove(identifier);
-        if (taskHolder == null) {
+        MonitoringTask task = currentScriptExecutions.remove(identifier);
+        if (task == null) {
             // Nothing to be done as there was no such task with the given identifier.
             return null;
         }
 
-        ScheduledFuture<?> monitoredFuture = taskHolder.getScheduledFuture();
-        if (taskHolder.getScheduledFuture() != null) {
-            monitoredFuture.cancel(true);
-        }
-
-        MonitoringTask task = taskHolder.getMonitoringTask();
-        long elapsedTime = 0L;
-        long consumedMemory = 0L;
-        if (task != null) {
-            elapsedTime = task.getTotalElapsedTime();
-            consumedMemory = task.getTotalConsumedMemory();
-            task.turnOffThreadMemoryCounting();
-        }
+        long elapsedTime = task.getTotalElapsedTime();
+        long consumedMemory = task.getTotalConsumedMemory();
+        task.turnOffThreadMemoryCounting();
 
         return new JSExecutionMonitorData(elapsedTime, consumedMemory);
     }
 
-    private class TaskHolder {
-
-        private MonitoringTask monitoringTask;
-        private ScheduledFuture<?> scheduledFuture;
+    /**
+     * Get the number of script executions which are currently monitored.
+     *
+     * @return Number of active script executions.
+     */
+    public int getActiveExecutionCount() {
 
-        public TaskHolder(MonitoringTask monitoringTask, ScheduledFuture<?> scheduledFuture) {
+        return currentScriptExecutions.size();
+    }
 
-            this.monitoringTask = monitoringTask;
-            this.scheduledFuture = scheduledFuture;
-        }
+    /**
+     * Get the script execution counters of the given tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     * @return Script execution counters of the tenant, or null if no script was executed for the tenant.
+     */
+    public JSExecutionTenantStatistics getTenantStatistics(String tenantDomain) {
 
-        public MonitoringTask getMonitoringTask() {
+        return tenantStatistics.get(tenantDomain != null ? tenantDomain : UNKNOWN_TENANT);
+    }
 
-            return monitoringTask;
-        }
+    /**
+     * Get the script execution counters of all the tenants.
+     *
+     * @return Script execution counters keyed by the tenant domain.
+     */
+    public Map<String, JSExecutionTenantStatistics> getTenantStatistics() {
 
-        public ScheduledFuture<?> getScheduledFuture() {
+        return Collections.unmodifiableMap(tenantStatistics);
+    }
 
-            return scheduledFuture;
+    /**
+     * Check all the running executions against the time and memory limits.
+     */
+    private void sweep() {
+
+        for (MonitoringTask task : currentScriptExecutions.values()) {
+            try {
+                task.run();
+            } catch (Throwable e) {
+                // An exception must not stop the sweeping task, as it would stop supervising all the executions.
+                LOG.error("Error while monitoring the script execution of service provider: " +
+                        task.serviceProvider + ", tenant: " + task.tenantDomain, e);
+            }
         }
     }
 
@@ -175,6 +204,9 @@ public class JSExecutionSupervisor {
         private long startMemoryInBytes;
         private long consumedMemoryInBytes;
         private ThreadMXBean memoryCounter = null;
+        private final JSExecutionTenantStatistics statistics;
+        private boolean timeWarningRecorded;
+        private boolean memoryWarningRecorded;
 
         public MonitoringTask(Thread originalThread, String id, String serviceProvider, String tenantDomain,
                               long elapsedTimeInMillis) {
@@ -192,6 +224,8 @@ public class JSExecutionSupervisor {
             this.timeCreated = System.currentTimeMillis();
             this.elapsedTimeInMillis = elapsedTimeInMillis;
             this.consumedMemoryInBytes = consumedMemoryInBytes;
+            this.statistics = tenantStatistics.computeIfAbsent(tenantDomain != null ? tenantDomain : UNKNOWN_TENANT,
+                    JSExecutionTenantStatistics::new);
 
             if (memoryLimitInBytes > 0) {
                 java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
@@ -227,6 +261,10 @@ public class JSExecutionSupervisor {
             }
 
             if (isTimeBasedWarnThresholdReached(elapsedTime)) {
+                if (!timeWarningRecorded) {
+                    timeWarningRecorded = true;
+                    statistics.recordTimeLimitWarning();
+                }
                 printThresholdReachedWarnLog(MONITOR_TYPE_TIME, elapsedTime);
                 return;
             }
@@ -239,6 +277,10 @@ public class JSExecutionSupervisor {
                 }
 
                 if (isMemoryBasedWarnThresholdReached(consumedMemory)) {
+                    if (!memoryWarningRecorded) {
+                        memoryWarningRecorded = true;
+                        statistics.recordMemoryLimitWarning();
+                    }
                     printThresholdReachedWarnLog(MONITOR_TYPE_MEMORY, consumedMemory);
                     return;
                 }
@@ -247,12 +289,20 @@ public class JSExecutionSupervisor {
 
         private void terminateScriptExecutingThread(int monitorType, long consumedResourceValue) {
 
+            // Marking current monitoring task as complete. Skip the termination if the execution has just completed.
+            if (!currentScriptExecutions.remove(id, this)) {
+                return;
+            }
+            turnOffThreadMemoryCounting();
+
             String warnLog;
             if (MONITOR_TYPE_TIME == monitorType) {
+                statistics.recordTimeLimitTermination();
                 warnLog = String.format("The script took too much time to execute. Thread: %s, service provider: %s, " +
                                 "tenant: %s, execution duration: %s(ms).", originalThread.getName(), serviceProvider,
                         tenantDomain, consumedResourceValue);
             } else {
+                statistics.recordMemoryLimitTermination();
                 warnLog = String.format("The script took too much memory to execute. Thread: %s, service provider: " +
                                 "%s, tenant: %s, consumed memory: %s(bytes).", originalThread.getName(),
                         serviceProvider, tenantDomain, consumedResourceValue);
@@ -264,9 +314,6 @@ public class JSExecutionSupervisor {
             LOG.warn(warnLog, throwable);
             originalThread.interrupt();
             originalThread.stop();
-
-            // Marking current monitoring task as complete.
-            completed(id);
         }
 
         private void printThresholdReachedWarnLog(int monitorType, long consumedResourceValue) {
@@ -285,6 +332,11 @@ public class JSExecutionSupervisor {
             LOG.warn(warnLog);
         }
 
+        private JSExecutionTenantStatistics getStatistics() {
+
+            return statistics;
+        }
+
         private long getTotalElapsedTime() {
 
             return (System.currentTimeMillis() - timeCreated) + elapsedTimeInMillis;
@@ -0,0 +1,109 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.config.model.graph;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of the adaptive auth script executions of a tenant, which were terminated or reached the warn threshold
+ * of the limits enforced by the {@link JSExecutionSupervisor}.
+ */
+public class JSExecutionTenantStatistics {
+
+    private final String tenantDomain;
+    private final LongAdder monitoredExecutions = new LongAdder();
+    private final LongAdder timeLimitTerminations = new LongAdder();
+    private final LongAdder memoryLimitTerminations = new LongAdder();
+    private final LongAdder timeLimitWarnings = new LongAdder();
+    private final LongAdder memoryLimitWarnings = new LongAdder();
+
+    public JSExecutionTenantStatistics(String tenantDomain) {
+
+        this.tenantDomain = tenantDomain;
+    }
+
+    public String getTenantDomain() {
+
+        return tenantDomain;
+    }
+
+    /**
+     * @return Number of script executions monitored for the tenant.
+     */
+    public long getMonitoredExecutionCount() {
+
+        return monitoredExecutions.sum();
+    }
+
+    /**
+     * @return Number of script executions terminated as they exceeded the time limit.
+     */
+    public long getTimeLimitTerminationCount() {
+
+        return timeLimitTerminations.sum();
+    }
+
+    /**
+     * @return Number of script executions terminated as they exceeded the memory limit.
+     */
+    public long getMemoryLimitTerminationCount() {
+
+        return memoryLimitTerminations.sum();
+    }
+
+    /**
+     * @return Number of script executions which consumed over the warn threshold of the time limit.
+     */
+    public long getTimeLimitWarningCount() {
+
+        return timeLimitWarnings.sum();
+    }
+
+    /**
+     * @return Number of script executions which consumed over the warn threshold of the memory limit.
+     */
+    public long getMemoryLimitWarningCount() {
+
+        return memoryLimitWarnings.sum();
+    }
+
+    void recordMonitoredExecution() {
+
+        monitoredExecutions.increment();
+    }
+
+    void recordTimeLimitTermination() {
+
+        timeLimitTerminations.increment();
+    }
+
+    void recordMemoryLimitTermination() {
+
+        memoryLimitTerminations.increment();
+    }
+
+    void recordTimeLimitWarning() {
+
+        timeLimitWarnings.increment();
+    }
+
+    void recordMemoryLimitWarning() {
+
+        memoryLimitWarnings.increment();
+    }
+}
@@ -33,6 +33,13 @@ public interface JsGenericGraphBuilderFactory<T> {
 
     void init();
 
+    /**
+     * Release the resources held by the factory, e.g. the shared script engine.
+     */
+    default void shutdown() {
+
+    }
+
     JsBaseGraphBuilder createBuilder(AuthenticationContext context, Map<Integer, StepConfig> stepConfigMapCopy);
 
     JsBaseGraphBuilder createBuilder(AuthenticationContext authenticationContext,
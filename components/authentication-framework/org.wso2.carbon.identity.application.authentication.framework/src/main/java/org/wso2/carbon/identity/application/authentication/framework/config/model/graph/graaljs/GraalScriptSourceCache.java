@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.config.model.graph.graaljs;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.graalvm.polyglot.Source;
+import org.wso2.carbon.identity.core.metrics.LatencyHistogram;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.POLYGLOT_LANGUAGE;
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.POLYGLOT_SOURCE;
+
+/**
+ * LRU cache of GraalJS {@link Source} objects, keyed by the owner of the script and the hash of its content.
+ * <p>
+ * Contexts created on the shared polyglot engine reuse the parsed and compiled code of a source only when the same
+ * source is evaluated again, hence the adaptive authentication scripts and the serialized function fragments are
+ * resolved through this cache instead of building a new source on every evaluation. Each entry also keeps the hit
+ * count and the evaluation latency of its script.
+ */
+public class GraalScriptSourceCache {
+
+    public static final int DEFAULT_MAX_SIZE = 500;
+    private static final String FUNCTION_SCOPE = "function";
+    private static final GraalScriptSourceCache INSTANCE = new GraalScriptSourceCache();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private volatile int maxSize = DEFAULT_MAX_SIZE;
+    private final Map<String, CachedSource> sources = new LinkedHashMap<String, CachedSource>(16, 0.75f, true) {
+
+        private static final long serialVersionUID = 2512930482916553031L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedSource> eldest) {
+
+            if (size() > maxSize) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+    };
+
+    private GraalScriptSourceCache() {
+
+    }
+
+    public static GraalScriptSourceCache getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Set the maximum number of sources kept in the cache. A size of zero disables caching.
+     *
+     * @param maxSize Maximum number of cached sources.
+     */
+    public void setMaxSize(int maxSize) {
+
+        this.maxSize = Math.max(0, maxSize);
+        synchronized (sources) {
+            if (sources.size() > this.maxSize) {
+                clear();
+            }
+        }
+    }
+
+    public int getMaxSize() {
+
+        return maxSize;
+    }
+
+    /**
+     * Get the cached source of the given script, building it on a cache miss.
+     *
+     * @param scope  Owner of the script, e.g. the tenant and the application the script belongs to.
+     * @param script Script content.
+     * @return Cached source.
+     */
+    public CachedSource getSource(String scope, String script) {
+
+        String key = scope + "#" + DigestUtils.sha256Hex(script);
+        if (maxSize == 0) {
+            misses.increment();
+            return new CachedSource(key, buildSource(script));
+        }
+        CachedSource cachedSource;
+        synchronized (sources) {
+            cachedSource = sources.get(key);
+        }
+        if (cachedSource != null) {
+            hits.increment();
+            cachedSource.hits.increment();
+            return cachedSource;
+        }
+        misses.increment();
+        // Building the source is done outside the lock. A concurrent miss for the same key builds an equal source.
+        CachedSource newSource = new CachedSource(key, buildSource(script));
+        synchronized (sources) {
+            CachedSource existing = sources.putIfAbsent(key, newSource);
+            return existing != null ? existing : newSource;
+        }
+    }
+
+    /**
+     * Get the cached source of a serialized javascript function. The function is wrapped in parentheses so that
+     * evaluating the source returns the function itself.
+     *
+     * @param functionSource Source of the function.
+     * @return Cached source.
+     */
+    public CachedSource getFunctionSource(String functionSource) {
+
+        return getSource(FUNCTION_SCOPE, "(" + functionSource + ")");
+    }
+
+    public long getHitCount() {
+
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+
+        return evictions.sum();
+    }
+
+    public int size() {
+
+        synchronized (sources) {
+            return sources.size();
+        }
+    }
+
+    /**
+     * Get a snapshot of the cached sources, to inspect the per script hit counts and evaluation latencies.
+     *
+     * @return Cached sources, from the least to the most recently used.
+     */
+    public List<CachedSource> getCachedSources() {
+
+        synchronized (sources) {
+            return Collections.unmodifiableList(new ArrayList<>(sources.values()));
+        }
+    }
+
+    public void clear() {
+
+        synchronized (sources) {
+            sources.clear();
+        }
+    }
+
+    private static Source buildSource(String script) {
+
+        return Source.newBuilder(POLYGLOT_LANGUAGE, script, POLYGLOT_SOURCE).cached(true).buildLiteral();
+    }
+
+    /**
+     * A cached script source along with its usage statistics.
+     */
+    public static class CachedSource {
+
+        private final String key;
+        private final Source source;
+        private final LongAdder hits = new LongAdder();
+        private final LatencyHistogram evaluationLatency = new LatencyHistogram();
+
+        private CachedSource(String key, Source source) {
+
+            this.key = key;
+            this.source = source;
+        }
+
+        public String getKey() {
+
+            return key;
+        }
+
+        public Source getSource() {
+
+            return source;
+        }
+
+        public long getHitCount() {
+
+            return hits.sum();
+        }
+
+        public LatencyHistogram getEvaluationLatency() {
+
+            return evaluationLatency;
+        }
+
+        /**
+         * Record the time taken to evaluate the script of this source.
+         *
+         * @param elapsedNanos Elapsed time in nanoseconds.
+         */
+        public void recordEvaluation(long elapsedNanos) {
+
+            evaluationLatency.record(elapsedNanos);
+        }
+    }
+}
@@ -75,8 +75,15 @@ public class GraalSerializableJsFunction implements GenericSerializableJsFunctio
     public Object apply(Context polyglotContext, Object... params) {
 
         if (isPolyglotFunction) {
-            Value jsFunction = polyglotContext.eval("js", "(" + getSource() + ")");
-            return jsFunction.execute(params);
+            GraalScriptSourceCache.CachedSource cachedSource =
+                    GraalScriptSourceCache.getInstance().getFunctionSource(getSource());
+            long startTime = System.nanoTime();
+            try {
+                Value jsFunction = polyglotContext.eval(cachedSource.getSource());
+                return jsFunction.execute(params);
+            } finally {
+                cachedSource.recordEvaluation(System.nanoTime() - startTime);
+            }
         }
 
         return null;
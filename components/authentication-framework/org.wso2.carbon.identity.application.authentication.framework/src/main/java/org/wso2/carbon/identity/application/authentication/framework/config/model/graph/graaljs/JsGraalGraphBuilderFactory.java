@@ -21,6 +21,7 @@ package org.wso2.carbon.identity.application.authentication.framework.config.mod
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Engine;
 import org.graalvm.polyglot.HostAccess;
 import org.graalvm.polyglot.ResourceLimits;
 import org.graalvm.polyglot.Value;
@@ -47,6 +48,8 @@ import java.util.Map;
 
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.AdaptiveAuthentication.DEFAULT_GRAALJS_SCRIPT_STATEMENTS_LIMIT;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.AdaptiveAuthentication.GRAALJS_SCRIPT_STATEMENTS_LIMIT;
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.AdaptiveAuthentication.GRAALJS_SHARED_ENGINE_ENABLE;
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.AdaptiveAuthentication.GRAALJS_SOURCE_CACHE_SIZE;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.JS_FUNC_SELECT_ACR_FROM;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.JS_LOG;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.POLYGLOT_LANGUAGE;
@@ -54,6 +57,8 @@ import static org.wso2.carbon.identity.application.authentication.framework.util
 /**
  * Factory to create a Javascript based sequence builder.
  * This factory is there to reuse of GraalJS Polyglot Context and any related expensive objects.
+ * The contexts are created on a polyglot engine shared within the node, so that the code of the cached script sources
+ * is parsed and compiled once.
  * <p>
  * Since Nashorn is deprecated in JDK 11 and onwards. We are introducing GraalJS engine.
  */
@@ -61,11 +66,68 @@ public class JsGraalGraphBuilderFactory implements JsGenericGraphBuilderFactory<
 
     private static final Log LOG = LogFactory.getLog(JsGraalGraphBuilderFactory.class);
     private static final String JS_BINDING_CURRENT_CONTEXT = "JS_BINDING_CURRENT_CONTEXT";
+    private static final Object ENGINE_LOCK = new Object();
+    private static volatile Engine sharedEngine;
     private int javascriptResourceLimit = 0;
+    private boolean sharedEngineEnabled = true;
+    private volatile HostAccess hostAccess;
+    private volatile ResourceLimits resourceLimits;
 
     public void init() {
 
         setJavascriptResourceLimit();
+        setSourceCacheSize();
+        String sharedEngineConfig = IdentityUtil.getProperty(GRAALJS_SHARED_ENGINE_ENABLE);
+        if (sharedEngineConfig != null) {
+            sharedEngineEnabled = Boolean.parseBoolean(sharedEngineConfig);
+        }
+    }
+
+    @Override
+    public void shutdown() {
+
+        closeSharedEngine();
+    }
+
+    /**
+     * Get the polyglot engine shared by all the contexts created in this node. Sharing the engine allows the parsed
+     * and compiled code of the cached script sources to be reused across authentication requests.
+     *
+     * @return Shared polyglot engine.
+     */
+    public static Engine getSharedEngine() {
+
+        Engine engine = sharedEngine;
+        if (engine == null) {
+            synchronized (ENGINE_LOCK) {
+                engine = sharedEngine;
+                if (engine == null) {
+                    engine = Engine.newBuilder()
+                            .option("engine.WarnInterpreterOnly", "false")
+                            .build();
+                    sharedEngine = engine;
+                }
+            }
+        }
+        return engine;
+    }
+
+    /**
+     * Close the shared polyglot engine and clear the cached script sources.
+     */
+    public static void closeSharedEngine() {
+
+        synchronized (ENGINE_LOCK) {
+            if (sharedEngine != null) {
+                try {
+                    sharedEngine.close(true);
+                } catch (IllegalStateException e) {
+                    LOG.warn("Error while closing the shared GraalJS engine.", e);
+                }
+                sharedEngine = null;
+            }
+        }
+        GraalScriptSourceCache.getInstance().clear();
     }
 
     @SuppressWarnings("unchecked")
@@ -106,11 +168,16 @@ public class JsGraalGraphBuilderFactory implements JsGenericGraphBuilderFactory<
 
     public Context createEngine(AuthenticationContext authenticationContext) {
 
-        Context context = Context.newBuilder(POLYGLOT_LANGUAGE)
+        Context.Builder contextBuilder = Context.newBuilder(POLYGLOT_LANGUAGE)
                 .allowHostAccess(getHostAccess())
-                .resourceLimits(getResourceLimits())
-                .option("engine.WarnInterpreterOnly", "false")
-                .build();
+                .resourceLimits(getResourceLimits());
+        if (sharedEngineEnabled) {
+            // Engine options are defined on the shared engine, hence they can't be set on the context.
+            contextBuilder.engine(getSharedEngine());
+        } else {
+            contextBuilder.option("engine.WarnInterpreterOnly", "false");
+        }
+        Context context = contextBuilder.build();
 
         Value bindings = context.getBindings(POLYGLOT_LANGUAGE);
         bindings.putMember(JS_FUNC_SELECT_ACR_FROM, new GraalSelectAcrFromFunction());
@@ -120,13 +187,25 @@ public class JsGraalGraphBuilderFactory implements JsGenericGraphBuilderFactory<
 
     public ResourceLimits getResourceLimits() {
 
-        ResourceLimits.Builder resourceLimitsBuilder = ResourceLimits.newBuilder();
-        resourceLimitsBuilder.statementLimit(javascriptResourceLimit, null);
-        return resourceLimitsBuilder.build();
+        // The same limits are used by all the contexts, as required by contexts sharing an engine.
+        if (resourceLimits == null) {
+            ResourceLimits.Builder resourceLimitsBuilder = ResourceLimits.newBuilder();
+            resourceLimitsBuilder.statementLimit(javascriptResourceLimit, null);
+            resourceLimits = resourceLimitsBuilder.build();
+        }
+        return resourceLimits;
     }
 
     public HostAccess getHostAccess() {
 
+        if (hostAccess == null) {
+            hostAccess = buildHostAccess();
+        }
+        return hostAccess;
+    }
+
+    private HostAccess buildHostAccess() {
+
         /*
          * We need to map the graaljs proxy objects be exposed as their abstract classes to be able to use the current
          * functional interfaces we have for existing conditional authentication functions.
@@ -176,6 +255,20 @@ public class JsGraalGraphBuilderFactory implements JsGenericGraphBuilderFactory<
                 currentNode);
     }
 
+    private void setSourceCacheSize() {
+
+        String sourceCacheSize = IdentityUtil.getProperty(GRAALJS_SOURCE_CACHE_SIZE);
+        if (sourceCacheSize != null) {
+            try {
+                GraalScriptSourceCache.getInstance().setMaxSize(Integer.parseInt(sourceCacheSize.trim()));
+            } catch (NumberFormatException e) {
+                LOG.warn("Error while parsing the script source cache size. Defaulting to " +
+                        GraalScriptSourceCache.DEFAULT_MAX_SIZE, e);
+                GraalScriptSourceCache.getInstance().setMaxSize(GraalScriptSourceCache.DEFAULT_MAX_SIZE);
+            }
+        }
+    }
+
     private void setJavascriptResourceLimit() {
 
         /*
@@ -194,5 +287,6 @@ public class JsGraalGraphBuilderFactory implements JsGenericGraphBuilderFactory<
         } else {
             javascriptResourceLimit = DEFAULT_GRAALJS_SCRIPT_STATEMENTS_LIMIT;
         }
+        resourceLimits = null;
     }
 }
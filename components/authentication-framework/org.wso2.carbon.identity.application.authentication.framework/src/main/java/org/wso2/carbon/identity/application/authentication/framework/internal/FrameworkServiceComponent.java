@@ -89,6 +89,7 @@ import org.wso2.carbon.identity.application.authentication.framework.servlet.Lon
 import org.wso2.carbon.identity.application.authentication.framework.session.extender.processor.SessionExtenderProcessor;
 import org.wso2.carbon.identity.application.authentication.framework.session.extender.request.SessionExtenderRequestFactory;
 import org.wso2.carbon.identity.application.authentication.framework.session.extender.response.SessionExtenderResponseFactory;
+import org.wso2.carbon.identity.application.authentication.framework.store.CompactSessionSerializer;
 import org.wso2.carbon.identity.application.authentication.framework.store.JavaSessionSerializer;
 import org.wso2.carbon.identity.application.authentication.framework.store.LongWaitStatusStoreService;
 import org.wso2.carbon.identity.application.authentication.framework.store.PushedAuthDataStore;
@@ -362,7 +363,7 @@ public class FrameworkServiceComponent {
         FrameworkServiceDataHolder.getInstance().setUserSessionMappingEnabled(FrameworkUtils
                 .isUserSessionMappingEnabled());
         if (FrameworkServiceDataHolder.getInstance().getSessionSerializer() == null) {
-            FrameworkServiceDataHolder.getInstance().setSessionSerializer(new JavaSessionSerializer());
+            FrameworkServiceDataHolder.getInstance().setSessionSerializer(getDefaultSessionSerializer());
         }
 
         // Set skip local user search for authentication flow handlers enabled.
@@ -438,6 +439,9 @@ public class FrameworkServiceComponent {
         if (FrameworkServiceDataHolder.getInstance().getJsExecutionSupervisor() != null) {
             FrameworkServiceDataHolder.getInstance().getJsExecutionSupervisor().shutdown();
         }
+        if (FrameworkServiceDataHolder.getInstance().getJsGenericGraphBuilderFactory() != null) {
+            FrameworkServiceDataHolder.getInstance().getJsGenericGraphBuilderFactory().shutdown();
+        }
     }
 
     @Reference(
@@ -558,6 +562,34 @@ public class FrameworkServiceComponent {
         return tagList.toArray(new String[0]);
     }
 
+    /**
+     * Get the session serializer used when no session serializer is registered as an OSGi service. The compact
+     * session serializer is used if it is enabled in the configuration, and it can still read the session data
+     * written by the Java session serializer.
+     *
+     * @return Default session serializer.
+     */
+    private static SessionSerializer getDefaultSessionSerializer() {
+
+        if (!Boolean.parseBoolean(IdentityUtil.getProperty(
+                FrameworkConstants.Config.COMPACT_SESSION_SERIALIZER_ENABLE))) {
+            return new JavaSessionSerializer();
+        }
+        String compressionEnabled = IdentityUtil.getProperty(
+                FrameworkConstants.Config.COMPACT_SESSION_SERIALIZER_COMPRESSION_ENABLE);
+        String compressionThreshold = IdentityUtil.getProperty(
+                FrameworkConstants.Config.COMPACT_SESSION_SERIALIZER_COMPRESSION_THRESHOLD);
+        if (StringUtils.isBlank(compressionEnabled) && StringUtils.isBlank(compressionThreshold)) {
+            return new CompactSessionSerializer();
+        }
+        int threshold = CompactSessionSerializer.DEFAULT_COMPRESSION_THRESHOLD;
+        if (StringUtils.isNumeric(compressionThreshold)) {
+            threshold = Integer.parseInt(compressionThreshold);
+        }
+        return new CompactSessionSerializer(StringUtils.isBlank(compressionEnabled) ||
+                Boolean.parseBoolean(compressionEnabled), threshold);
+    }
+
     @Reference(
             name = "session.serializer",
             service = SessionSerializer.class,
@@ -580,7 +612,7 @@ public class FrameworkServiceComponent {
 
     protected void unsetSessionSerializer(SessionSerializer sessionSerializer) {
 
-        FrameworkServiceDataHolder.getInstance().setSessionSerializer(new JavaSessionSerializer());
+        FrameworkServiceDataHolder.getInstance().setSessionSerializer(getDefaultSessionSerializer());
 
         if (log.isDebugEnabled()) {
             log.debug("Removed session serializer.");
@@ -0,0 +1,436 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import org.wso2.carbon.identity.application.authentication.framework.cache.AuthenticationContextCacheEntry;
+import org.wso2.carbon.identity.application.authentication.framework.cache.AuthenticationErrorCacheEntry;
+import org.wso2.carbon.identity.application.authentication.framework.cache.AuthenticationRequestCacheEntry;
+import org.wso2.carbon.identity.application.authentication.framework.cache.AuthenticationResultCacheEntry;
+import org.wso2.carbon.identity.application.authentication.framework.cache.SessionContextCacheEntry;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.ApplicationConfig;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.AuthenticatorConfig;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.ExternalIdPConfig;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.OptimizedApplicationConfig;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.OptimizedAuthenticatorConfig;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.OptimizedSequenceConfig;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.OptimizedStepConfig;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.SequenceConfig;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.StepConfig;
+import org.wso2.carbon.identity.application.authentication.framework.context.AuthHistory;
+import org.wso2.carbon.identity.application.authentication.framework.context.AuthenticationContext;
+import org.wso2.carbon.identity.application.authentication.framework.context.OptimizedSessionContext;
+import org.wso2.carbon.identity.application.authentication.framework.context.SessionAuthHistory;
+import org.wso2.carbon.identity.application.authentication.framework.context.SessionContext;
+import org.wso2.carbon.identity.application.authentication.framework.exception.SessionSerializerException;
+import org.wso2.carbon.identity.application.authentication.framework.model.AuthenticatedIdPData;
+import org.wso2.carbon.identity.application.authentication.framework.model.AuthenticatedUser;
+import org.wso2.carbon.identity.application.authentication.framework.model.AuthenticationRequest;
+import org.wso2.carbon.identity.application.authentication.framework.model.AuthenticationResult;
+import org.wso2.carbon.identity.application.authentication.framework.model.OptimizedAuthenticatedIdPData;
+import org.wso2.carbon.identity.application.common.model.User;
+import org.wso2.carbon.identity.core.bean.context.MessageContext;
+import org.wso2.carbon.identity.core.cache.CacheEntry;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.ObjectStreamField;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Session serializer which produces compact blobs for the session object graphs. The object graph is written with
+ * Java serialization, but the class names in the class descriptors are replaced with the stable id of a registered
+ * class, or kept for the classes which are not registered. Blobs larger than the compression threshold are
+ * compressed with deflate.
+ * <p>
+ * Each blob starts with a header of a magic number, the format version and the flags. Blobs written by the
+ * {@link JavaSessionSerializer} do not have the header, hence they are still read with plain Java serialization.
+ * <p>
+ * Apart from the class name, the class descriptors are written as is, hence a blob is read with the same class
+ * evolution rules as Java serialization, i.e. a class is compatible as long as its serialVersionUID is unchanged.
+ * The blobs of the first format version, which only have a fingerprint of the serializable fields, are still read
+ * as long as the serializable fields of each class are unchanged.
+ */
+public class CompactSessionSerializer implements SessionSerializer {
+
+    static final int MAGIC = 0x1D5E;
+    static final int VERSION = 2;
+    static final int VERSION_FIELDS_FINGERPRINT = 1;
+    static final int FLAG_COMPRESSED = 0x01;
+    private static final int JAVA_STREAM_MAGIC = 0xACED;
+    private static final int HEADER_LENGTH = 4;
+    private static final int TAG_REGISTERED_CLASS = 0;
+    private static final int TAG_NAMED_CLASS = 1;
+    public static final int DEFAULT_COMPRESSION_THRESHOLD = 1024;
+
+    // Stable ids of the registered classes, written to the blobs in place of the class names. An id must never be
+    // reassigned to another class, and the id of a removed class must not be reused.
+    private static final Map<Integer, Class<?>> REGISTERED_CLASSES = new HashMap<>();
+    private static final Map<Class<?>, Integer> REGISTERED_CLASS_IDS = new HashMap<>();
+    private static final int MAX_REGISTERED_CLASS_ID = 0xFFFF;
+
+    static {
+        registerClass(0, AuthenticationContext.class);
+        registerClass(1, MessageContext.class);
+        registerClass(2, SessionContext.class);
+        registerClass(3, SequenceConfig.class);
+        registerClass(4, StepConfig.class);
+        registerClass(5, AuthenticatorConfig.class);
+        registerClass(6, ApplicationConfig.class);
+        registerClass(7, ExternalIdPConfig.class);
+        registerClass(8, AuthenticatedUser.class);
+        registerClass(9, User.class);
+        registerClass(10, AuthenticatedIdPData.class);
+        registerClass(11, AuthHistory.class);
+        registerClass(12, SessionAuthHistory.class);
+        registerClass(13, AuthenticationRequest.class);
+        registerClass(14, AuthenticationResult.class);
+        registerClass(15, OptimizedSessionContext.class);
+        registerClass(16, OptimizedSequenceConfig.class);
+        registerClass(17, OptimizedStepConfig.class);
+        registerClass(18, OptimizedAuthenticatorConfig.class);
+        registerClass(19, OptimizedApplicationConfig.class);
+        registerClass(20, OptimizedAuthenticatedIdPData.class);
+        registerClass(21, CacheEntry.class);
+        registerClass(22, AuthenticationContextCacheEntry.class);
+        registerClass(23, SessionContextCacheEntry.class);
+        registerClass(24, AuthenticationRequestCacheEntry.class);
+        registerClass(25, AuthenticationResultCacheEntry.class);
+        registerClass(26, AuthenticationErrorCacheEntry.class);
+        registerClass(27, HashMap.class);
+        registerClass(28, LinkedHashMap.class);
+        registerClass(29, ConcurrentHashMap.class);
+        registerClass(30, TreeMap.class);
+        registerClass(31, ArrayList.class);
+        registerClass(32, LinkedList.class);
+        registerClass(33, HashSet.class);
+        registerClass(34, LinkedHashSet.class);
+        registerClass(35, Number.class);
+        registerClass(36, Integer.class);
+        registerClass(37, Long.class);
+        registerClass(38, Boolean.class);
+        registerClass(39, Enum.class);
+        registerClass(40, String[].class);
+        registerClass(41, Object[].class);
+        registerClass(42, byte[].class);
+    }
+
+    private static void registerClass(int classId, Class<?> clazz) {
+
+        if (classId > MAX_REGISTERED_CLASS_ID || REGISTERED_CLASSES.containsKey(classId)) {
+            throw new IllegalArgumentException("Invalid registered class id: " + classId);
+        }
+        REGISTERED_CLASSES.put(classId, clazz);
+        REGISTERED_CLASS_IDS.put(clazz, classId);
+    }
+
+    private final boolean compressionEnabled;
+    private final int compressionThreshold;
+    private final JavaSessionSerializer javaSessionSerializer = new JavaSessionSerializer();
+
+    public CompactSessionSerializer() {
+
+        this(true, DEFAULT_COMPRESSION_THRESHOLD);
+    }
+
+    /**
+     * Create a compact session serializer.
+     *
+     * @param compressionEnabled   Whether the blobs should be compressed.
+     * @param compressionThreshold Minimum size in bytes of a blob to be compressed.
+     */
+    public CompactSessionSerializer(boolean compressionEnabled, int compressionThreshold) {
+
+        this.compressionEnabled = compressionEnabled;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public InputStream serializeSessionObject(Object value) throws SessionSerializerException {
+
+        ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new CompactObjectOutputStream(payload)) {
+            oos.writeObject(value);
+        } catch (IOException e) {
+            throw new SessionSerializerException("Error while serializing the session object", e);
+        }
+
+        boolean compress = compressionEnabled && payload.size() >= compressionThreshold;
+        ByteArrayOutputStream blob = new ByteArrayOutputStream(compress ? payload.size() / 2 : payload.size() +
+                HEADER_LENGTH);
+        blob.write(MAGIC >>> 8);
+        blob.write(MAGIC & 0xFF);
+        blob.write(VERSION);
+        blob.write(compress ? FLAG_COMPRESSED : 0);
+        try {
+            if (compress) {
+                Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+                try (OutputStream deflaterStream = new DeflaterOutputStream(blob, deflater)) {
+                    payload.writeTo(deflaterStream);
+                } finally {
+                    deflater.end();
+                }
+            } else {
+                payload.writeTo(blob);
+            }
+        } catch (IOException e) {
+            throw new SessionSerializerException("Error while compressing the session object", e);
+        }
+        return new ByteArrayInputStream(blob.toByteArray());
+    }
+
+    @Override
+    public Object deSerializeSessionObject(InputStream inputStream) throws SessionSerializerException {
+
+        InputStream in = inputStream.markSupported() ? inputStream : new BufferedInputStream(inputStream);
+        int version;
+        int flags;
+        try {
+            in.mark(HEADER_LENGTH);
+            int magic = (in.read() << 8) | in.read();
+            if (magic != MAGIC) {
+                in.reset();
+                if (magic == JAVA_STREAM_MAGIC) {
+                    // Blob written by the Java session serializer.
+                    return javaSessionSerializer.deSerializeSessionObject(in);
+                }
+                throw new SessionSerializerException("Unknown session object format", null);
+            }
+            version = in.read();
+            if (version != VERSION && version != VERSION_FIELDS_FINGERPRINT) {
+                throw new SessionSerializerException("Unsupported session object format version: " + version, null);
+            }
+            flags = in.read();
+        } catch (IOException e) {
+            throw new SessionSerializerException("Error while reading the session object header", e);
+        }
+
+        InputStream payload = (flags & FLAG_COMPRESSED) != 0 ? new InflaterInputStream(in) : in;
+        try (ObjectInputStream ois = new CompactObjectInputStream(payload, version)) {
+            return ois.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            throw new SessionSerializerException("Error while de serializing the session object", e);
+        }
+    }
+
+    /**
+     * Fingerprint of the serializable fields of a class, written by the first format version to detect layout
+     * changes since a blob was written.
+     */
+    private static int getFieldsFingerprint(ObjectStreamClass descriptor) {
+
+        int fingerprint = 1;
+        for (ObjectStreamField field : descriptor.getFields()) {
+            fingerprint = 31 * fingerprint + field.getName().hashCode();
+            fingerprint = 31 * fingerprint + field.getTypeCode();
+            String typeString = field.getTypeString();
+            fingerprint = 31 * fingerprint + (typeString != null ? typeString.hashCode() : 0);
+        }
+        return fingerprint;
+    }
+
+    /**
+     * Object output stream which writes short class references instead of the class names in the class descriptors.
+     */
+    private static final class CompactObjectOutputStream extends ObjectOutputStream {
+
+        private ObjectStreamClass pendingDescriptor;
+
+        private CompactObjectOutputStream(OutputStream out) throws IOException {
+
+            super(out);
+        }
+
+        @Override
+        protected void writeStreamHeader() {
+
+            // The stream header is replaced by the header of the serializer.
+        }
+
+        @Override
+        protected void writeClassDescriptor(ObjectStreamClass descriptor) throws IOException {
+
+            // The class name is the first string written for a class descriptor, which is replaced in writeUTF.
+            pendingDescriptor = descriptor;
+            try {
+                super.writeClassDescriptor(descriptor);
+            } finally {
+                pendingDescriptor = null;
+            }
+        }
+
+        @Override
+        public void writeUTF(String value) throws IOException {
+
+            if (pendingDescriptor == null) {
+                super.writeUTF(value);
+                return;
+            }
+            Integer classId = REGISTERED_CLASS_IDS.get(pendingDescriptor.forClass());
+            pendingDescriptor = null;
+            if (classId != null) {
+                writeByte(TAG_REGISTERED_CLASS);
+                writeShort(classId);
+            } else {
+                writeByte(TAG_NAMED_CLASS);
+                super.writeUTF(value);
+            }
+        }
+    }
+
+    /**
+     * Object input stream which resolves the class references written by the {@link CompactObjectOutputStream}
+     * to the local classes.
+     */
+    private static final class CompactObjectInputStream extends ObjectInputStream {
+
+        private final Map<String, Class<?>> resolvedClasses = new HashMap<>();
+        private final int version;
+        private boolean readingClassName;
+
+        private CompactObjectInputStream(InputStream in, int version) throws IOException {
+
+            super(in);
+            this.version = version;
+        }
+
+        @Override
+        protected void readStreamHeader() {
+
+            // The stream header is replaced by the header of the serializer.
+        }
+
+        @Override
+        protected ObjectStreamClass readClassDescriptor() throws IOException, ClassNotFoundException {
+
+            if (version == VERSION_FIELDS_FINGERPRINT) {
+                return readFieldsFingerprintClassDescriptor();
+            }
+            // The class name is the first string read for a class descriptor, which is resolved in readUTF.
+            readingClassName = true;
+            try {
+                return super.readClassDescriptor();
+            } finally {
+                readingClassName = false;
+            }
+        }
+
+        @Override
+        public String readUTF() throws IOException {
+
+            if (!readingClassName) {
+                return super.readUTF();
+            }
+            readingClassName = false;
+            int tag = readByte();
+            if (tag == TAG_NAMED_CLASS) {
+                return super.readUTF();
+            }
+            if (tag != TAG_REGISTERED_CLASS) {
+                throw new InvalidClassException("Unknown class descriptor tag: " + tag);
+            }
+            Class<?> clazz = getRegisteredClass(readUnsignedShort());
+            resolvedClasses.put(clazz.getName(), clazz);
+            return clazz.getName();
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass descriptor) throws IOException, ClassNotFoundException {
+
+            Class<?> clazz = resolvedClasses.get(descriptor.getName());
+            if (clazz != null) {
+                return clazz;
+            }
+            try {
+                return super.resolveClass(descriptor);
+            } catch (ClassNotFoundException e) {
+                return loadClass(descriptor.getName());
+            }
+        }
+
+        /**
+         * Read a class descriptor of the first format version, which only has the serialVersionUID and a
+         * fingerprint of the serializable fields. The descriptor of the local class is used, hence the blob can only
+         * be read if the serializable fields are unchanged.
+         */
+        private ObjectStreamClass readFieldsFingerprintClassDescriptor() throws IOException, ClassNotFoundException {
+
+            int tag = readByte();
+            Class<?> clazz;
+            if (tag == TAG_REGISTERED_CLASS) {
+                clazz = getRegisteredClass(readUnsignedShort());
+            } else if (tag == TAG_NAMED_CLASS) {
+                clazz = loadClass(super.readUTF());
+            } else {
+                throw new InvalidClassException("Unknown class descriptor tag: " + tag);
+            }
+
+            long serialVersionUID = readLong();
+            int fieldsFingerprint = readInt();
+            ObjectStreamClass descriptor = ObjectStreamClass.lookupAny(clazz);
+            if (descriptor.getSerialVersionUID() != serialVersionUID ||
+                    getFieldsFingerprint(descriptor) != fieldsFingerprint) {
+                throw new InvalidClassException(clazz.getName(), "Serializable fields of the local class do not " +
+                        "match the serialized class");
+            }
+            resolvedClasses.put(clazz.getName(), clazz);
+            return descriptor;
+        }
+
+        private Class<?> getRegisteredClass(int classId) throws InvalidClassException {
+
+            Class<?> clazz = REGISTERED_CLASSES.get(classId);
+            if (clazz == null) {
+                throw new InvalidClassException("Unknown registered class id: " + classId);
+            }
+            return clazz;
+        }
+
+        private Class<?> loadClass(String className) throws ClassNotFoundException {
+
+            try {
+                return Class.forName(className, false, CompactSessionSerializer.class.getClassLoader());
+            } catch (ClassNotFoundException e) {
+                ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+                if (contextClassLoader == null) {
+                    throw e;
+                }
+                return Class.forName(className, false, contextClassLoader);
+            }
+        }
+    }
+}
@@ -0,0 +1,329 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.metrics.LatencyHistogram;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Persists the session data operations queued by the {@link SessionDataStore} in JDBC batches.
+ * Operations are coalesced per session key and type while they are waiting in the queue, hence only the latest
+ * STORE or DELETE operation of a session is written to the database. The queue is bounded and the callers are
+ * blocked for a configured time when it is full, after which the operation is persisted in the caller thread.
+ */
+public class SessionDataBatchPersister {
+
+    private static final Log log = LogFactory.getLog(SessionDataBatchPersister.class);
+
+    private final Map<OperationKey, SessionContextDO> pendingOperations = new ConcurrentHashMap<>();
+    private final BlockingQueue<OperationKey> operationQueue;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long enqueueTimeoutMillis;
+    private final Consumer<List<SessionContextDO>> batchWriter;
+    private final Consumer<SessionContextDO> operationWriter;
+    private ExecutorService flusherPool;
+    private volatile boolean running;
+
+    private final LongAdder enqueuedCount = new LongAdder();
+    private final LongAdder coalescedCount = new LongAdder();
+    private final LongAdder flushedCount = new LongAdder();
+    private final LongAdder callerPersistedCount = new LongAdder();
+    private final LatencyHistogram flushLatency = new LatencyHistogram();
+
+    /**
+     * Create a batch persister.
+     *
+     * @param queueCapacity        Maximum number of distinct session operations waiting to be persisted.
+     * @param batchSize            Maximum number of operations written in a single batch.
+     * @param flushIntervalMillis  Maximum time an incomplete batch waits for more operations, in milliseconds.
+     * @param enqueueTimeoutMillis Time a caller is blocked when the queue is full, in milliseconds.
+     * @param batchWriter          Writer which persists a batch of operations.
+     * @param operationWriter      Writer which persists a single operation in the caller thread.
+     */
+    public SessionDataBatchPersister(int queueCapacity, int batchSize, long flushIntervalMillis,
+                                     long enqueueTimeoutMillis, Consumer<List<SessionContextDO>> batchWriter,
+                                     Consumer<SessionContextDO> operationWriter) {
+
+        this.operationQueue = new LinkedBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        this.enqueueTimeoutMillis = enqueueTimeoutMillis;
+        this.batchWriter = batchWriter;
+        this.operationWriter = operationWriter;
+    }
+
+    /**
+     * Start the flusher threads.
+     *
+     * @param flusherCount Number of flusher threads.
+     */
+    public synchronized void start(int flusherCount) {
+
+        if (running) {
+            return;
+        }
+        running = true;
+        flusherPool = Executors.newFixedThreadPool(flusherCount);
+        for (int i = 0; i < flusherCount; i++) {
+            flusherPool.execute(this::flush);
+        }
+        log.info("Started " + flusherCount + " session data batch persist flushers with batch size: " + batchSize);
+    }
+
+    /**
+     * Stop accepting operations and flush the operations which are already queued.
+     */
+    public synchronized void shutdown() {
+
+        if (!running) {
+            return;
+        }
+        running = false;
+        flusherPool.shutdown();
+        try {
+            if (!flusherPool.awaitTermination(30, TimeUnit.SECONDS)) {
+                log.warn("Session data batch persist flushers did not complete within the shutdown timeout. " +
+                        operationQueue.size() + " session operations were not persisted.");
+                flusherPool.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            flusherPool.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Queue a session data operation. If an operation of the same session key and type is already waiting in the
+     * queue, it is replaced by the latest of the two operations.
+     *
+     * @param operation Session data operation. A null entry represents a DELETE operation.
+     */
+    public void addOperation(SessionContextDO operation) {
+
+        if (!running) {
+            operationWriter.accept(operation);
+            return;
+        }
+
+        OperationKey operationKey = new OperationKey(operation.getKey(), operation.getType());
+        boolean[] isNewOperation = {false};
+        pendingOperations.compute(operationKey, (key, existing) -> {
+            if (existing == null) {
+                isNewOperation[0] = true;
+                return operation;
+            }
+            coalescedCount.increment();
+            return existing.getNanoTime() > operation.getNanoTime() ? existing : operation;
+        });
+        if (!isNewOperation[0]) {
+            return;
+        }
+
+        enqueuedCount.increment();
+        boolean isQueued;
+        try {
+            isQueued = operationQueue.offer(operationKey, enqueueTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            isQueued = false;
+        }
+        if (!isQueued) {
+            // The queue is full. Persist the latest operation of the session in the caller thread.
+            SessionContextDO latestOperation = pendingOperations.remove(operationKey);
+            if (latestOperation != null) {
+                callerPersistedCount.increment();
+                operationWriter.accept(latestOperation);
+            }
+        }
+    }
+
+    private void flush() {
+
+        List<OperationKey> operationKeys = new ArrayList<>(batchSize);
+        List<SessionContextDO> operations = new ArrayList<>(batchSize);
+        while (running || !operationQueue.isEmpty()) {
+            try {
+                collectBatch(operationKeys);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+            if (operationKeys.isEmpty()) {
+                continue;
+            }
+            for (OperationKey operationKey : operationKeys) {
+                SessionContextDO operation = pendingOperations.remove(operationKey);
+                if (operation != null) {
+                    operations.add(operation);
+                }
+            }
+            if (!operations.isEmpty()) {
+                long startTime = System.nanoTime();
+                try {
+                    batchWriter.accept(operations);
+                    flushedCount.add(operations.size());
+                } catch (RuntimeException e) {
+                    log.error("Error while persisting a batch of " + operations.size() + " session operations.", e);
+                }
+                long elapsedTime = System.nanoTime() - startTime;
+                flushLatency.record(elapsedTime);
+                if (log.isDebugEnabled()) {
+                    log.debug("Persisted " + operations.size() + " session operations in " +
+                            TimeUnit.NANOSECONDS.toMillis(elapsedTime) + " ms. Queue depth: " + getQueueDepth());
+                }
+            }
+            operationKeys.clear();
+            operations.clear();
+        }
+    }
+
+    /**
+     * Collect operation keys until the batch is full or the flush interval elapses after the first key.
+     */
+    private void collectBatch(List<OperationKey> operationKeys) throws InterruptedException {
+
+        OperationKey first = operationQueue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+        if (first == null) {
+            return;
+        }
+        operationKeys.add(first);
+        long deadline = System.nanoTime() + flushIntervalNanos;
+        while (operationKeys.size() < batchSize) {
+            operationQueue.drainTo(operationKeys, batchSize - operationKeys.size());
+            long remaining = deadline - System.nanoTime();
+            if (operationKeys.size() >= batchSize || remaining <= 0 || !running) {
+                return;
+            }
+            OperationKey next = operationQueue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            operationKeys.add(next);
+        }
+    }
+
+    /**
+     * Get the number of distinct session operations waiting to be persisted.
+     *
+     * @return Queue depth.
+     */
+    public int getQueueDepth() {
+
+        return operationQueue.size();
+    }
+
+    /**
+     * Get the number of operations added to the queue, excluding the ones coalesced with a queued operation.
+     *
+     * @return Number of enqueued operations.
+     */
+    public long getEnqueuedCount() {
+
+        return enqueuedCount.sum();
+    }
+
+    /**
+     * Get the number of operations which replaced or were replaced by a queued operation of the same session.
+     *
+     * @return Number of coalesced operations.
+     */
+    public long getCoalescedCount() {
+
+        return coalescedCount.sum();
+    }
+
+    /**
+     * Get the number of operations persisted by the flushers.
+     *
+     * @return Number of flushed operations.
+     */
+    public long getFlushedCount() {
+
+        return flushedCount.sum();
+    }
+
+    /**
+     * Get the number of operations persisted in the caller thread since the queue was full.
+     *
+     * @return Number of operations persisted in the caller thread.
+     */
+    public long getCallerPersistedCount() {
+
+        return callerPersistedCount.sum();
+    }
+
+    /**
+     * Get the latency histogram of the batch writes.
+     *
+     * @return Flush latency histogram.
+     */
+    public LatencyHistogram getFlushLatency() {
+
+        return flushLatency;
+    }
+
+    /**
+     * Identifies the session data a queued operation belongs to.
+     */
+    private static final class OperationKey {
+
+        private final String key;
+        private final String type;
+
+        private OperationKey(String key, String type) {
+
+            this.key = key;
+            this.type = type;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            OperationKey that = (OperationKey) o;
+            return Objects.equals(key, that.key) && Objects.equals(type, that.type);
+        }
+
+        @Override
+        public int hashCode() {
+
+            return Objects.hash(key, type);
+        }
+    }
+}
@@ -42,6 +42,10 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.BlockingDeque;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -157,6 +161,11 @@ public class SessionDataStore {
     private static final String INFORMIX_DATABASE = "Informix";
 
     private static final int DEFAULT_DELETE_LIMIT = 50000;
+    private static final int DEFAULT_BATCH_SIZE = 100;
+    private static final int DEFAULT_BATCH_FLUSH_INTERVAL = 100;
+    private static final int DEFAULT_BATCH_QUEUE_CAPACITY = 10000;
+    private static final int DEFAULT_BATCH_ENQUEUE_TIMEOUT = 50;
+    private static final int DEFAULT_BATCH_FLUSHER_COUNT = 2;
     public static final String DEFAULT_SESSION_STORE_TABLE_NAME = "IDN_AUTH_SESSION_STORE";
     private static final String CACHE_MANAGER_NAME = "IdentityApplicationManagementCacheManager";
     public static final String DEFAULT_TEMP_SESSION_STORE_TABLE_NAME = "IDN_AUTH_TEMP_SESSION_STORE";
@@ -164,6 +173,7 @@ public class SessionDataStore {
     private static int maxTempDataPoolSize = 50;
     private static BlockingDeque<SessionContextDO> sessionContextQueue = new LinkedBlockingDeque();
     private static BlockingDeque<SessionContextDO> tempAuthnContextDataDeleteQueue = new LinkedBlockingDeque();
+    private static SessionDataBatchPersister sessionDataBatchPersister;
     private static volatile SessionDataStore instance;
     private boolean enablePersist;
     private String sqlInsertSTORE;
@@ -222,7 +232,10 @@ public class SessionDataStore {
             }
             log.warn("One or more pool size configurations cause NumberFormatException. Default values would be used");
         }
-        if (maxSessionDataPoolSize > 0) {
+        if (maxSessionDataPoolSize > 0 && Boolean.parseBoolean(
+                IdentityUtil.getProperty("JDBCPersistenceManager.SessionDataPersist.Batch.Enable"))) {
+            initBatchPersister();
+        } else if (maxSessionDataPoolSize > 0) {
             log.info("Thread pool size for session persistent consumer : " + maxSessionDataPoolSize);
             ExecutorService threadPool = Executors.newFixedThreadPool(maxSessionDataPoolSize);
             for (int i = 0; i < maxSessionDataPoolSize; i++) {
@@ -238,6 +251,49 @@ public class SessionDataStore {
         }
     }
 
+    /**
+     * Initialize the batch persister which coalesces the queued session data operations and writes them in JDBC
+     * batches, instead of persisting each operation with a separate transaction.
+     */
+    private static void initBatchPersister() {
+
+        int batchSize = getPositiveIntProperty("JDBCPersistenceManager.SessionDataPersist.Batch.Size",
+                DEFAULT_BATCH_SIZE);
+        int flushInterval = getPositiveIntProperty("JDBCPersistenceManager.SessionDataPersist.Batch.FlushInterval",
+                DEFAULT_BATCH_FLUSH_INTERVAL);
+        int queueCapacity = getPositiveIntProperty("JDBCPersistenceManager.SessionDataPersist.Batch.QueueCapacity",
+                DEFAULT_BATCH_QUEUE_CAPACITY);
+        int enqueueTimeout = getPositiveIntProperty("JDBCPersistenceManager.SessionDataPersist.Batch.EnqueueTimeout",
+                DEFAULT_BATCH_ENQUEUE_TIMEOUT);
+        int flusherCount = getPositiveIntProperty("JDBCPersistenceManager.SessionDataPersist.Batch.FlusherCount",
+                DEFAULT_BATCH_FLUSHER_COUNT);
+
+        sessionDataBatchPersister = new SessionDataBatchPersister(queueCapacity, batchSize, flushInterval,
+                enqueueTimeout, operations -> getInstance().persistSessionDataBatch(operations, batchSize),
+                operation -> getInstance().persistSessionOperation(operation));
+        sessionDataBatchPersister.start(flusherCount);
+    }
+
+    private static int getPositiveIntProperty(String property, int defaultValue) {
+
+        String value = IdentityUtil.getProperty(property);
+        if (StringUtils.isNotBlank(value)) {
+            try {
+                int intValue = Integer.parseInt(value.trim());
+                if (intValue > 0) {
+                    return intValue;
+                }
+            } catch (NumberFormatException e) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Exception ignored : ", e);
+                }
+            }
+            log.warn("Invalid value: " + value + " configured for: " + property + ". Default value: " + defaultValue +
+                    " would be used.");
+        }
+        return defaultValue;
+    }
+
     private SessionDataStore() {
         String enablePersistVal = IdentityUtil.getProperty("JDBCPersistenceManager.SessionDataPersist.Enable");
         enablePersist = true;
@@ -488,7 +544,12 @@ public class SessionDataStore {
         }
         long nanoTime = FrameworkUtils.getCurrentStandardNano();
         if (maxSessionDataPoolSize > 0 && !isTempCache(type)) {
-            sessionContextQueue.push(new SessionContextDO(key, type, entry, nanoTime, tenantId));
+            SessionContextDO sessionContextDO = new SessionContextDO(key, type, entry, nanoTime, tenantId);
+            if (sessionDataBatchPersister != null) {
+                sessionDataBatchPersister.addOperation(sessionContextDO);
+            } else {
+                sessionContextQueue.push(sessionContextDO);
+            }
         } else {
             persistSessionData(key, type, entry, nanoTime, tenantId);
         }
@@ -500,7 +561,12 @@ public class SessionDataStore {
         }
         long nanoTime = FrameworkUtils.getCurrentStandardNano();
         if (maxSessionDataPoolSize > 0 && !isTempCache(type)) {
-            sessionContextQueue.push(new SessionContextDO(key, type, null, nanoTime));
+            SessionContextDO sessionContextDO = new SessionContextDO(key, type, null, nanoTime);
+            if (sessionDataBatchPersister != null) {
+                sessionDataBatchPersister.addOperation(sessionContextDO);
+            } else {
+                sessionContextQueue.push(sessionContextDO);
+            }
         } else {
             removeSessionData(key, type, nanoTime);
         }
@@ -513,6 +579,19 @@ public class SessionDataStore {
 
         TempAuthContextDataDeleteTask.shutdown();
         SessionDataPersistTask.shutdown();
+        if (sessionDataBatchPersister != null) {
+            sessionDataBatchPersister.shutdown();
+        }
+    }
+
+    /**
+     * Get the batch persister of the session data operations.
+     *
+     * @return Batch persister or null if batch persistence is not enabled.
+     */
+    public SessionDataBatchPersister getSessionDataBatchPersister() {
+
+        return sessionDataBatchPersister;
     }
 
     /**
@@ -631,15 +710,7 @@ public class SessionDataStore {
             return;
         }
 
-        long validityPeriodNano = 0L;
-
-        if (entry instanceof CacheEntry) {
-            validityPeriodNano = ((CacheEntry) entry).getValidityPeriod();
-        }
-
-        if (validityPeriodNano == 0L) {
-            validityPeriodNano = getCleanupTimeout(type, tenantId);
-        }
+        long validityPeriodNano = getValidityPeriod(type, entry, tenantId);
 
         PreparedStatement preparedStatement = null;
         try {
@@ -711,6 +782,131 @@ public class SessionDataStore {
         }
     }
 
+    /**
+     * Persists a queued session data operation. A null entry represents a DELETE operation.
+     *
+     * @param sessionContextDO Session data operation.
+     */
+    void persistSessionOperation(SessionContextDO sessionContextDO) {
+
+        if (sessionContextDO.getEntry() == null) {
+            removeSessionData(sessionContextDO.getKey(), sessionContextDO.getType(), sessionContextDO.getNanoTime());
+        } else {
+            persistSessionData(sessionContextDO.getKey(), sessionContextDO.getType(), sessionContextDO.getEntry(),
+                    sessionContextDO.getNanoTime(), sessionContextDO.getTenantId());
+        }
+    }
+
+    /**
+     * Persists a batch of session data operations using a single connection and transaction. Operations are grouped
+     * by the insert query, and each group is written with JDBC batches of the given size. If the batch fails, the
+     * operations are persisted one by one, hence a single failing operation does not discard the whole batch.
+     *
+     * @param operations Session data operations. A null entry represents a DELETE operation.
+     * @param batchSize  Maximum number of statements in a JDBC batch.
+     */
+    void persistSessionDataBatch(List<SessionContextDO> operations, int batchSize) {
+
+        if (!enablePersist) {
+            return;
+        }
+        Map<String, List<SessionContextDO>> operationsByQuery = new LinkedHashMap<>();
+        for (SessionContextDO operation : operations) {
+            if (operation.getEntry() == null && checkExistingEntryForDeleteOperationInsert) {
+                // Requires a lookup of the last operation, hence not batched.
+                removeSessionData(operation.getKey(), operation.getType(), operation.getNanoTime());
+                continue;
+            }
+            String query = getSessionStoreDBQuery(operation.getEntry() == null ? sqlInsertDELETE : sqlInsertSTORE,
+                    operation.getType());
+            operationsByQuery.computeIfAbsent(query, k -> new ArrayList<>()).add(operation);
+        }
+        if (operationsByQuery.isEmpty()) {
+            return;
+        }
+
+        Connection connection;
+        try {
+            connection = IdentityDatabaseUtil.getSessionDBConnection(true);
+        } catch (IdentityRuntimeException e) {
+            log.error(e.getMessage(), e);
+            return;
+        }
+        try {
+            for (Map.Entry<String, List<SessionContextDO>> queryOperations : operationsByQuery.entrySet()) {
+                try (PreparedStatement preparedStatement = connection.prepareStatement(queryOperations.getKey())) {
+                    int batchedCount = 0;
+                    for (SessionContextDO operation : queryOperations.getValue()) {
+                        if (!addToBatch(preparedStatement, operation)) {
+                            continue;
+                        }
+                        if (++batchedCount % batchSize == 0) {
+                            preparedStatement.executeBatch();
+                        }
+                    }
+                    if (batchedCount % batchSize != 0) {
+                        preparedStatement.executeBatch();
+                    }
+                }
+            }
+            IdentityDatabaseUtil.commitTransaction(connection);
+            if (log.isDebugEnabled()) {
+                log.debug("Persisted a batch of " + operations.size() + " session data operations to DB.");
+            }
+        } catch (SQLException e) {
+            IdentityDatabaseUtil.rollbackTransaction(connection);
+            log.error("Error while persisting a batch of session data operations. Retrying the operations " +
+                    "individually.", e);
+            for (List<SessionContextDO> queryOperations : operationsByQuery.values()) {
+                for (SessionContextDO operation : queryOperations) {
+                    persistSessionOperation(operation);
+                }
+            }
+        } finally {
+            IdentityDatabaseUtil.closeAllConnections(connection, null, null);
+        }
+    }
+
+    private boolean addToBatch(PreparedStatement preparedStatement, SessionContextDO operation) throws SQLException {
+
+        String key = operation.getKey();
+        String type = operation.getType();
+        long nanoTime = operation.getNanoTime();
+        preparedStatement.setString(1, key);
+        preparedStatement.setString(2, type);
+        if (operation.getEntry() == null) {
+            preparedStatement.setString(3, OPERATION_DELETE);
+            preparedStatement.setLong(4, nanoTime);
+            preparedStatement.setLong(5, nanoTime + getCleanupTimeout(type, MultitenantConstants.INVALID_TENANT_ID));
+        } else {
+            try {
+                preparedStatement.setString(3, OPERATION_STORE);
+                setBlobObject(preparedStatement, operation.getEntry(), 4);
+            } catch (IOException | SessionSerializerException e) {
+                log.error("Error while storing session data of key : " + key + " type : " + type, e);
+                return false;
+            }
+            preparedStatement.setLong(5, nanoTime);
+            preparedStatement.setLong(6, nanoTime + getValidityPeriod(type, operation.getEntry(),
+                    operation.getTenantId()));
+            preparedStatement.setInt(7, operation.getTenantId());
+        }
+        preparedStatement.addBatch();
+        return true;
+    }
+
+    private long getValidityPeriod(String type, Object entry, int tenantId) {
+
+        long validityPeriodNano = 0L;
+        if (entry instanceof CacheEntry) {
+            validityPeriodNano = ((CacheEntry) entry).getValidityPeriod();
+        }
+        if (validityPeriodNano == 0L) {
+            validityPeriodNano = getCleanupTimeout(type, tenantId);
+        }
+        return validityPeriodNano;
+    }
+
     /**
      * Removes temporary authn context data from the table if temporary data cleanup is enabled.
      *
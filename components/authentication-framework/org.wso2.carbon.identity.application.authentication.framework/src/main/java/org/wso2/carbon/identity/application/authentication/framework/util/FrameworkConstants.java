@@ -283,6 +283,14 @@ public abstract class FrameworkConstants {
      */
     public static class Config {
 
+        // Configurations of the compact session serializer.
+        public static final String COMPACT_SESSION_SERIALIZER_ENABLE =
+                "JDBCPersistenceManager.SessionDataPersist.CompactSerializer.Enable";
+        public static final String COMPACT_SESSION_SERIALIZER_COMPRESSION_ENABLE =
+                "JDBCPersistenceManager.SessionDataPersist.CompactSerializer.Compression.Enable";
+        public static final String COMPACT_SESSION_SERIALIZER_COMPRESSION_THRESHOLD =
+                "JDBCPersistenceManager.SessionDataPersist.CompactSerializer.Compression.Threshold";
+
         // Constant definitions for Elements
         public static final String ELEM_SEQUENCE = "Sequence";
         public static final String ELEM_STEP = "Step";
@@ -699,6 +707,8 @@ public abstract class FrameworkConstants {
         public static final String GRAALJS_SCRIPT_STATEMENTS_LIMIT
                 = "AdaptiveAuth.GraalJS.ScriptStatementsLimit";
         public static final int DEFAULT_GRAALJS_SCRIPT_STATEMENTS_LIMIT = 0;
+        public static final String GRAALJS_SHARED_ENGINE_ENABLE = "AdaptiveAuth.GraalJS.SharedEngine.Enable";
+        public static final String GRAALJS_SOURCE_CACHE_SIZE = "AdaptiveAuth.GraalJS.SourceCacheSize";
     }
 
     /**
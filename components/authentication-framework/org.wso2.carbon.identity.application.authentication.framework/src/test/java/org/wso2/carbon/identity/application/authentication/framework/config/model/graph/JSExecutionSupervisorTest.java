@@ -88,6 +88,45 @@ public class JSExecutionSupervisorTest {
         }
     }
 
+    @Test
+    public void testTenantStatisticsOfTerminatedExecutions() throws InterruptedException {
+
+        final JSExecutionSupervisor supervisor = new JSExecutionSupervisor(1, 100L);
+        try {
+            Runnable script = () -> {
+                try {
+                    supervisor.monitor(UUID.randomUUID().toString(), "dummySP", "statTenant", 0L);
+                    Thread.sleep(2000L);
+                } catch (InterruptedException ignored) {
+                    // We are expecting that a exception will be thrown as the monitor will kill the thread.
+                }
+            };
+            Thread firstExecutionThread = new Thread(script);
+            Thread secondExecutionThread = new Thread(script);
+            firstExecutionThread.start();
+            secondExecutionThread.start();
+
+            String identifier = UUID.randomUUID().toString();
+            supervisor.monitor(identifier, "dummySP", "otherTenant", 0L);
+            supervisor.completed(identifier);
+
+            // Sleeping until the monitor kills the executions.
+            Thread.sleep(500L);
+
+            Assert.assertFalse(firstExecutionThread.isAlive());
+            Assert.assertFalse(secondExecutionThread.isAlive());
+            Assert.assertEquals(0, supervisor.getActiveExecutionCount());
+            JSExecutionTenantStatistics statistics = supervisor.getTenantStatistics("statTenant");
+            Assert.assertNotNull(statistics);
+            Assert.assertEquals(2, statistics.getMonitoredExecutionCount());
+            Assert.assertEquals(2, statistics.getTimeLimitTerminationCount());
+            Assert.assertEquals(0, statistics.getMemoryLimitTerminationCount());
+            Assert.assertEquals(0, supervisor.getTenantStatistics("otherTenant").getTimeLimitTerminationCount());
+        } finally {
+            supervisor.shutdown();
+        }
+    }
+
     @Test
     public void testTimeBasedMonitorWithAlreadyElapsedTime() {
 
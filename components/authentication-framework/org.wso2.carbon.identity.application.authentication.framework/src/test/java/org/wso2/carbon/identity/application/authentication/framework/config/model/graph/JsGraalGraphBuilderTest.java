@@ -28,6 +28,7 @@ import org.wso2.carbon.identity.application.authentication.framework.FederatedAp
 import org.wso2.carbon.identity.application.authentication.framework.LocalApplicationAuthenticator;
 import org.wso2.carbon.identity.application.authentication.framework.config.model.AuthenticatorConfig;
 import org.wso2.carbon.identity.application.authentication.framework.config.model.StepConfig;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.graaljs.GraalScriptSourceCache;
 import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.graaljs.JsGraalGraphBuilder;
 import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.graaljs.JsGraalGraphBuilderFactory;
 import org.wso2.carbon.identity.application.authentication.framework.context.AuthenticationContext;
@@ -142,6 +143,32 @@ public class JsGraalGraphBuilderTest extends AbstractFrameworkTest {
         assertTrue(firstStep.getNext() instanceof DynamicDecisionNode);
     }
 
+    @Test
+    public void testScriptSourceIsCached() throws Exception {
+
+        String script = "var onLoginRequest = function(context) { executeStep(1, { onSuccess : function(context) {" +
+                "executeStep(2);}})}; // cached";
+
+        ServiceProvider sp1 = getTestServiceProvider("js-sp-1.xml");
+        Map<Integer, StepConfig> stepConfigMap = new HashMap<>();
+        stepConfigMap.put(1, new StepConfig());
+        stepConfigMap.put(2, new StepConfig());
+
+        GraalScriptSourceCache sourceCache = GraalScriptSourceCache.getInstance();
+        jsGraphBuilderFactory.createBuilder(getAuthenticationContext(sp1), stepConfigMap).createWith(script);
+        long hitsAfterFirstBuild = sourceCache.getHitCount();
+        jsGraphBuilderFactory.createBuilder(getAuthenticationContext(sp1), stepConfigMap).createWith(script);
+
+        assertTrue(sourceCache.getHitCount() > hitsAfterFirstBuild);
+        GraalScriptSourceCache.CachedSource cachedScript = sourceCache.getCachedSources().stream()
+                .filter(cachedSource -> script.equals(cachedSource.getSource().getCharacters().toString()))
+                .findFirst()
+                .orElse(null);
+        assertNotNull(cachedScript);
+        assertEquals(cachedScript.getHitCount(), 1);
+        assertEquals(cachedScript.getEvaluationLatency().getCount(), 2);
+    }
+
     @Test(dataProvider = "filterOptionsDataProvider")
     public void testFilterOptions(Map<String, Map<String, String>> options, StepConfig stepConfig,
                                   int expectedStepsAfterFilter) throws Exception {
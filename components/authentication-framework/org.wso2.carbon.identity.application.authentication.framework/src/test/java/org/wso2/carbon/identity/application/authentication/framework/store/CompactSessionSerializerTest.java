@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import org.apache.commons.io.IOUtils;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.SequenceConfig;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.StepConfig;
+import org.wso2.carbon.identity.application.authentication.framework.context.AuthenticationContext;
+import org.wso2.carbon.identity.application.authentication.framework.exception.SessionSerializerException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test class for the compact session serializer.
+ */
+public class CompactSessionSerializerTest {
+
+    @DataProvider(name = "serializerProvider")
+    public Object[][] serializerProvider() {
+
+        return new Object[][]{
+                {new CompactSessionSerializer(false, CompactSessionSerializer.DEFAULT_COMPRESSION_THRESHOLD)},
+                {new CompactSessionSerializer(true, 0)}
+        };
+    }
+
+    @Test(dataProvider = "serializerProvider")
+    public void testAuthenticationContextRoundTrip(CompactSessionSerializer serializer) throws Exception {
+
+        AuthenticationContext context = buildContext(5);
+
+        AuthenticationContext restored = (AuthenticationContext) serializer.deSerializeSessionObject(
+                new ByteArrayInputStream(toBytes(serializer, context)));
+
+        assertEquals(restored.getContextIdentifier(), context.getContextIdentifier());
+        assertEquals(restored.getServiceProviderName(), context.getServiceProviderName());
+        assertEquals(restored.getCurrentStep(), context.getCurrentStep());
+        assertEquals(restored.getProperty("counter"), 42);
+        Map<Integer, StepConfig> stepMap = restored.getSequenceConfig().getStepMap();
+        assertEquals(stepMap.size(), 5);
+        for (int order = 1; order <= 5; order++) {
+            assertEquals(stepMap.get(order).getOrder(), order);
+            assertEquals(stepMap.get(order).getAuthenticatedIdP(), "idp" + order);
+            assertEquals(stepMap.get(order).getAuthenticatedAuthenticatorName(), "Authenticator" + order);
+        }
+    }
+
+    @Test
+    public void testCompactFormIsSmallerThanJavaSerialization() throws Exception {
+
+        AuthenticationContext context = buildContext(5);
+        byte[] javaBytes = toBytes(new JavaSessionSerializer(), context);
+        byte[] compactBytes = toBytes(new CompactSessionSerializer(false, 0), context);
+        byte[] compressedBytes = toBytes(new CompactSessionSerializer(true, 0), context);
+
+        assertTrue(compactBytes.length < javaBytes.length,
+                "Compact form " + compactBytes.length + " is not smaller than " + javaBytes.length);
+        assertTrue(compressedBytes.length < compactBytes.length,
+                "Compressed form " + compressedBytes.length + " is not smaller than " + compactBytes.length);
+    }
+
+    @Test
+    public void testLegacyJavaSerializedDataIsReadable() throws Exception {
+
+        AuthenticationContext context = buildContext(2);
+        byte[] javaBytes = toBytes(new JavaSessionSerializer(), context);
+
+        AuthenticationContext restored = (AuthenticationContext) new CompactSessionSerializer()
+                .deSerializeSessionObject(new ByteArrayInputStream(javaBytes));
+
+        assertEquals(restored.getContextIdentifier(), context.getContextIdentifier());
+        assertEquals(restored.getSequenceConfig().getStepMap().size(), 2);
+    }
+
+    @Test
+    public void testUnregisteredClassRoundTrip() throws Exception {
+
+        CompactSessionSerializer serializer = new CompactSessionSerializer();
+        SessionContextDO value = new SessionContextDO("key", "type", "entry", 1L);
+
+        SessionContextDO restored = (SessionContextDO) serializer.deSerializeSessionObject(
+                new ByteArrayInputStream(toBytes(serializer, value)));
+
+        assertEquals(restored.getKey(), "key");
+        assertEquals(restored.getEntry(), "entry");
+    }
+
+    @Test
+    public void testBlobIsWrittenWithCurrentVersion() throws Exception {
+
+        byte[] compactBytes = toBytes(new CompactSessionSerializer(false, 0), buildContext(1));
+
+        assertEquals(((compactBytes[0] & 0xFF) << 8) | (compactBytes[1] & 0xFF), CompactSessionSerializer.MAGIC);
+        assertEquals(compactBytes[2], CompactSessionSerializer.VERSION);
+    }
+
+    @Test
+    public void testFieldsFingerprintVersionIsReadable() throws Exception {
+
+        // A HashMap of key to value, written with the fields fingerprint version of the format.
+        byte[] fieldsFingerprintBytes = {
+                0x1D, 0x5E, 0x01, 0x00, 0x73, 0x72, 0x00, 0x00, 0x1B, 0x05, 0x07, (byte) 0xDA, (byte) 0xC1,
+                (byte) 0xC3, 0x16, 0x60, (byte) 0xD1, 0x05, (byte) 0xB8, (byte) 0x9E, 0x54, 0x78, 0x70, 0x3F, 0x40,
+                0x00, 0x00, 0x00, 0x00, 0x00, 0x0C, 0x77, 0x08, 0x00, 0x00, 0x00, 0x10, 0x00, 0x00, 0x00, 0x01,
+                0x74, 0x00, 0x03, 0x6B, 0x65, 0x79, 0x74, 0x00, 0x05, 0x76, 0x61, 0x6C, 0x75, 0x65, 0x78
+        };
+
+        Object restored = new CompactSessionSerializer().deSerializeSessionObject(
+                new ByteArrayInputStream(fieldsFingerprintBytes));
+
+        assertEquals(restored, Collections.singletonMap("key", "value"));
+    }
+
+    @Test(expectedExceptions = SessionSerializerException.class)
+    public void testCorruptedDataIsRejected() throws Exception {
+
+        new CompactSessionSerializer().deSerializeSessionObject(
+                new ByteArrayInputStream(new byte[]{0x1D, 0x5E, 0x01, 0x00, 0x12, 0x34}));
+    }
+
+    private AuthenticationContext buildContext(int steps) {
+
+        Map<Integer, StepConfig> stepMap = new HashMap<>();
+        for (int order = 1; order <= steps; order++) {
+            StepConfig stepConfig = new StepConfig();
+            stepConfig.setOrder(order);
+            stepConfig.setAuthenticatedIdP("idp" + order);
+            stepConfig.setAuthenticatedAuthenticatorName("Authenticator" + order);
+            stepConfig.setCompleted(true);
+            stepMap.put(order, stepConfig);
+        }
+        SequenceConfig sequenceConfig = new SequenceConfig();
+        sequenceConfig.setName("default");
+        sequenceConfig.setApplicationId("travelocity");
+        sequenceConfig.setStepMap(stepMap);
+
+        AuthenticationContext context = new AuthenticationContext();
+        context.setContextIdentifier("3b2a6a58-7f1c-4a0e-9b7d-2f1f2c6a4d11");
+        context.setServiceProviderName("travelocity");
+        context.setCurrentStep(steps);
+        context.setSequenceConfig(sequenceConfig);
+        context.setProperty("counter", 42);
+        return context;
+    }
+
+    private byte[] toBytes(SessionSerializer serializer, Object value) throws SessionSerializerException,
+            IOException {
+
+        return IOUtils.toByteArray(serializer.serializeSessionObject(value));
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.application.authentication.framework.internal.FrameworkServiceDataHolder;
+import org.wso2.carbon.identity.common.testng.WithCarbonHome;
+import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.idp.mgt.util.IdPManagementUtil;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+/**
+ * Test class for the session data batch persister.
+ */
+@WithCarbonHome
+public class SessionDataBatchPersisterTest extends DataStoreBaseTest {
+
+    private static final String DB_NAME = "SESSION_DATA_BATCH_STORE";
+    private static final String SESSION_TYPE = "sessionType";
+    private static final int TENANT_ID = 1;
+
+    @BeforeClass
+    public void setUp() throws Exception {
+
+        initH2DB(DB_NAME, getDatabaseScriptFilePath("session_data_store_h2.sql"));
+    }
+
+    @AfterClass
+    public void tearDown() throws Exception {
+
+        closeH2DB(DB_NAME);
+    }
+
+    @Test
+    public void testOperationsAreCoalescedPerSession() {
+
+        List<SessionContextDO> persisted = Collections.synchronizedList(new ArrayList<>());
+        SessionDataBatchPersister persister = new SessionDataBatchPersister(100, 10, 500, 10,
+                persisted::addAll, persisted::add);
+        persister.start(1);
+
+        persister.addOperation(new SessionContextDO("session1", "type", "value1", 1));
+        persister.addOperation(new SessionContextDO("session1", "type", "value2", 3));
+        // An older operation must not replace the latest one.
+        persister.addOperation(new SessionContextDO("session1", "type", "value0", 2));
+        persister.addOperation(new SessionContextDO("session1", "otherType", "value", 4));
+        persister.addOperation(new SessionContextDO("session2", "type", null, 5));
+        persister.shutdown();
+
+        assertEquals(persisted.size(), 3);
+        assertEquals(persister.getCoalescedCount(), 2);
+        assertEquals(persister.getFlushedCount(), 3);
+        for (SessionContextDO operation : persisted) {
+            if ("session1".equals(operation.getKey()) && "type".equals(operation.getType())) {
+                assertEquals(operation.getEntry(), "value2");
+            } else if ("session2".equals(operation.getKey())) {
+                assertNull(operation.getEntry());
+            }
+        }
+    }
+
+    @Test
+    public void testOperationsPersistedInCallerThreadWhenNotStarted() {
+
+        List<SessionContextDO> batched = Collections.synchronizedList(new ArrayList<>());
+        List<SessionContextDO> persistedInCaller = new ArrayList<>();
+        SessionDataBatchPersister persister = new SessionDataBatchPersister(1, 10, 50, 1,
+                batched::addAll, persistedInCaller::add);
+
+        // Flushers are not started yet, hence operations are persisted in the caller thread.
+        persister.addOperation(new SessionContextDO("session1", "type", "value", 1));
+        assertEquals(persistedInCaller.size(), 1);
+        assertEquals(persister.getQueueDepth(), 0);
+        assertEquals(batched.size(), 0);
+    }
+
+    @Test
+    public void testPersistSessionDataBatch() throws Exception {
+
+        List<SessionContextDO> operations = Arrays.asList(
+                new SessionContextDO("batchKey1", SESSION_TYPE, "value1", 1001, TENANT_ID),
+                new SessionContextDO("batchKey2", SESSION_TYPE, "value2", 1002, TENANT_ID),
+                new SessionContextDO("batchKey3", SESSION_TYPE, "value3", 1003, TENANT_ID),
+                new SessionContextDO("batchKey1", SESSION_TYPE, null, 1004, TENANT_ID));
+        persistSessionDataBatch(operations, 2);
+
+        assertEquals(getOperations("batchKey1"), Arrays.asList("STORE", "DELETE"));
+        assertEquals(getOperations("batchKey2"), Collections.singletonList("STORE"));
+        assertEquals(getOperations("batchKey3"), Collections.singletonList("STORE"));
+    }
+
+    @Test
+    public void testFailedBatchIsPersistedOneByOne() throws Exception {
+
+        persistSessionDataBatch(Collections.singletonList(
+                new SessionContextDO("batchKey4", SESSION_TYPE, "value4", 2001, TENANT_ID)), 10);
+
+        // The duplicate operation fails the batch, hence the operations are persisted one by one.
+        persistSessionDataBatch(Arrays.asList(
+                new SessionContextDO("batchKey5", SESSION_TYPE, "value5", 2002, TENANT_ID),
+                new SessionContextDO("batchKey4", SESSION_TYPE, "value4", 2001, TENANT_ID)), 10);
+
+        assertEquals(getOperations("batchKey4"), Collections.singletonList("STORE"));
+        assertEquals(getOperations("batchKey5"), Collections.singletonList("STORE"));
+    }
+
+    private void persistSessionDataBatch(List<SessionContextDO> operations, int batchSize) throws Exception {
+
+        try (Connection connection = getConnection(DB_NAME);
+             MockedStatic<IdentityTenantUtil> identityTenantUtil = mockStatic(IdentityTenantUtil.class);
+             MockedStatic<IdPManagementUtil> idPManagementUtil = mockStatic(IdPManagementUtil.class);
+             MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class);
+             MockedStatic<FrameworkServiceDataHolder> frameworkServiceDataHolder =
+                     mockStatic(FrameworkServiceDataHolder.class);
+             MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class)) {
+            identityTenantUtil.when(() -> IdentityTenantUtil.getTenantDomain(anyInt())).thenReturn("abc.com");
+            idPManagementUtil.when(() -> IdPManagementUtil.getRememberMeTimeout(any(String.class)))
+                    .thenReturn(11111111);
+            FrameworkServiceDataHolder dataHolder = mock(FrameworkServiceDataHolder.class);
+            frameworkServiceDataHolder.when(FrameworkServiceDataHolder::getInstance).thenReturn(dataHolder);
+            when(dataHolder.getSessionSerializer()).thenReturn(new JavaSessionSerializer());
+
+            connection.setAutoCommit(false);
+            Connection transactionalConnection = spy(connection);
+            doNothing().when(transactionalConnection).close();
+            identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getSessionDBConnection(anyBoolean()))
+                    .thenReturn(transactionalConnection);
+            identityDatabaseUtil.when(() -> IdentityDatabaseUtil.commitTransaction(any(Connection.class)))
+                    .thenAnswer(invocation -> {
+                        connection.commit();
+                        return null;
+                    });
+            identityDatabaseUtil.when(() -> IdentityDatabaseUtil.rollbackTransaction(any(Connection.class)))
+                    .thenAnswer(invocation -> {
+                        connection.rollback();
+                        return null;
+                    });
+            SessionDataStore.getInstance().persistSessionDataBatch(operations, batchSize);
+        }
+    }
+
+    private List<String> getOperations(String key) throws SQLException {
+
+        List<String> operations = new ArrayList<>();
+        try (Connection connection = getConnection(DB_NAME);
+             PreparedStatement preparedStatement = connection.prepareStatement("SELECT OPERATION FROM " +
+                     "IDN_AUTH_SESSION_STORE WHERE SESSION_ID = ? ORDER BY TIME_CREATED")) {
+            preparedStatement.setString(1, key);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    operations.add(resultSet.getString(1));
+                }
+            }
+        }
+        return operations;
+    }
+}
@@ -18,6 +18,7 @@
 
 package org.wso2.carbon.identity.central.log.mgt.internal;
 
+import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.osgi.framework.BundleContext;
@@ -30,10 +31,18 @@ import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
 import org.wso2.carbon.identity.central.log.mgt.hanlder.CentralLogger;
+import org.wso2.carbon.identity.central.log.mgt.publisher.AsyncLogEventPublisher;
 import org.wso2.carbon.identity.central.log.mgt.utils.LoggerUtils;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
 import org.wso2.carbon.identity.event.services.IdentityEventService;
 
+import static org.wso2.carbon.identity.central.log.mgt.utils.LogConstants.ASYNC_PUBLISHING_BATCH_SIZE;
+import static org.wso2.carbon.identity.central.log.mgt.utils.LogConstants.ASYNC_PUBLISHING_BLOCK_TIMEOUT;
+import static org.wso2.carbon.identity.central.log.mgt.utils.LogConstants.ASYNC_PUBLISHING_BUFFER_SIZE;
+import static org.wso2.carbon.identity.central.log.mgt.utils.LogConstants.ASYNC_PUBLISHING_ENABLED;
+import static org.wso2.carbon.identity.central.log.mgt.utils.LogConstants.ASYNC_PUBLISHING_OVERFLOW_POLICY;
+
 /**
  * OSGi declarative services component which handled activation and deactivation of central logger event handler.
  */
@@ -44,6 +53,9 @@ import org.wso2.carbon.identity.event.services.IdentityEventService;
 public class CentralLogMgtServiceComponent {
 
     private static final Log log = LogFactory.getLog(CentralLogMgtServiceComponent.class);
+    private static final int DEFAULT_BUFFER_SIZE = 10000;
+    private static final int DEFAULT_BATCH_SIZE = 100;
+    private static final int DEFAULT_BLOCK_TIMEOUT_IN_MILLIS = 100;
     private ServiceRegistration serviceRegistration = null;
 
     @Activate
@@ -57,6 +69,7 @@ public class CentralLogMgtServiceComponent {
             log.debug("Central logger event handler is activated.");
         }
         LoggerUtils.getLogMaskingConfigValue();
+        startAsyncLogEventPublisher();
     }
 
     @Deactivate
@@ -65,6 +78,13 @@ public class CentralLogMgtServiceComponent {
         if (log.isDebugEnabled()) {
             log.debug("Central logger event handler is deactivated.");
         }
+        // Publish the buffered log events before unregistering the central logger event handler.
+        AsyncLogEventPublisher asyncLogEventPublisher =
+                CentralLogMgtServiceComponentHolder.getInstance().getAsyncLogEventPublisher();
+        if (asyncLogEventPublisher != null) {
+            CentralLogMgtServiceComponentHolder.getInstance().setAsyncLogEventPublisher(null);
+            asyncLogEventPublisher.shutdown();
+        }
         // Unregistering Central logger event handler.
         if (serviceRegistration != null) {
             serviceRegistration.unregister();
@@ -90,4 +110,44 @@ public class CentralLogMgtServiceComponent {
 
         CentralLogMgtServiceComponentHolder.getInstance().setIdentityEventService(null);
     }
+
+    private void startAsyncLogEventPublisher() {
+
+        if (!Boolean.parseBoolean(IdentityUtil.getProperty(ASYNC_PUBLISHING_ENABLED))) {
+            return;
+        }
+        AsyncLogEventPublisher.OverflowPolicy overflowPolicy = AsyncLogEventPublisher.OverflowPolicy.DROP;
+        String overflowPolicyValue = IdentityUtil.getProperty(ASYNC_PUBLISHING_OVERFLOW_POLICY);
+        if (StringUtils.isNotBlank(overflowPolicyValue)) {
+            try {
+                overflowPolicy = AsyncLogEventPublisher.OverflowPolicy.valueOf(
+                        overflowPolicyValue.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                log.warn("Invalid value: " + overflowPolicyValue + " for " + ASYNC_PUBLISHING_OVERFLOW_POLICY +
+                        ". Using the default: " + overflowPolicy);
+            }
+        }
+        AsyncLogEventPublisher asyncLogEventPublisher = new AsyncLogEventPublisher(
+                readIntProperty(ASYNC_PUBLISHING_BUFFER_SIZE, DEFAULT_BUFFER_SIZE),
+                readIntProperty(ASYNC_PUBLISHING_BATCH_SIZE, DEFAULT_BATCH_SIZE), overflowPolicy,
+                readIntProperty(ASYNC_PUBLISHING_BLOCK_TIMEOUT, DEFAULT_BLOCK_TIMEOUT_IN_MILLIS));
+        asyncLogEventPublisher.start();
+        CentralLogMgtServiceComponentHolder.getInstance().setAsyncLogEventPublisher(asyncLogEventPublisher);
+        if (log.isDebugEnabled()) {
+            log.debug("Asynchronous publishing of audit and diagnostic logs is enabled.");
+        }
+    }
+
+    private int readIntProperty(String property, int defaultValue) {
+
+        String value = IdentityUtil.getProperty(property);
+        if (StringUtils.isNotBlank(value)) {
+            try {
+                return Integer.parseInt(value.trim());
+            } catch (NumberFormatException e) {
+                log.warn("Invalid value: " + value + " for " + property + ". Using the default: " + defaultValue);
+            }
+        }
+        return defaultValue;
+    }
 }
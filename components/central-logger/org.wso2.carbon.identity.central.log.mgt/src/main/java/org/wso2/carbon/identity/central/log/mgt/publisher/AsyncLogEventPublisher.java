@@ -0,0 +1,314 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.central.log.mgt.publisher;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.slf4j.MDC;
+import org.wso2.carbon.context.CarbonContext;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.central.log.mgt.internal.CentralLogMgtServiceComponentHolder;
+import org.wso2.carbon.identity.event.IdentityEventException;
+import org.wso2.carbon.identity.event.event.Event;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Publishes the audit and diagnostic log events off the request thread. The events are buffered in a bounded
+ * buffer, and a single worker publishes them in batches through the identity event service, in the order they were
+ * buffered. The tenant and the MDC of the request thread are restored when an event is published, so that the
+ * published logs are the same as the logs published on the request thread.
+ * When the buffer is full, an event is either dropped or the request thread waits for a free slot up to the block
+ * timeout, based on the overflow policy.
+ */
+public class AsyncLogEventPublisher {
+
+    private static final Log log = LogFactory.getLog(AsyncLogEventPublisher.class);
+
+    private static final long POLL_TIMEOUT_IN_MILLIS = 500;
+    private static final long SHUTDOWN_TIMEOUT_IN_MILLIS = 10000;
+
+    /**
+     * Defines how an event is handled when the buffer is full.
+     */
+    public enum OverflowPolicy {
+        DROP, BLOCK
+    }
+
+    private final BlockingQueue<BufferedEvent> buffer;
+    private final int batchSize;
+    private final OverflowPolicy overflowPolicy;
+    private final long blockTimeoutInMillis;
+    private final EventPublisher eventPublisher;
+    private final Metrics metrics = new Metrics();
+    private final Thread worker;
+    private volatile boolean running;
+
+    public AsyncLogEventPublisher(int bufferSize, int batchSize, OverflowPolicy overflowPolicy,
+                                  long blockTimeoutInMillis) {
+
+        this(bufferSize, batchSize, overflowPolicy, blockTimeoutInMillis,
+                event -> CentralLogMgtServiceComponentHolder.getInstance().getIdentityEventService()
+                        .handleEvent(event));
+    }
+
+    AsyncLogEventPublisher(int bufferSize, int batchSize, OverflowPolicy overflowPolicy, long blockTimeoutInMillis,
+                           EventPublisher eventPublisher) {
+
+        this.buffer = new ArrayBlockingQueue<>(Math.max(1, bufferSize));
+        this.batchSize = Math.max(1, batchSize);
+        this.overflowPolicy = overflowPolicy;
+        this.blockTimeoutInMillis = Math.max(0, blockTimeoutInMillis);
+        this.eventPublisher = eventPublisher;
+        this.worker = new Thread(this::publishBufferedEvents, "CentralLoggerAsyncPublisher");
+        this.worker.setDaemon(true);
+    }
+
+    /**
+     * Start publishing the buffered events.
+     */
+    public void start() {
+
+        running = true;
+        worker.start();
+    }
+
+    /**
+     * Stop accepting events, and wait for the worker to publish the buffered events.
+     */
+    public void shutdown() {
+
+        running = false;
+        try {
+            worker.join(SHUTDOWN_TIMEOUT_IN_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!buffer.isEmpty()) {
+            log.warn(buffer.size() + " log events were not published before the central logger was shut down.");
+        }
+    }
+
+    /**
+     * Buffer an event to be published. The event is published on the calling thread if the publisher isn't running.
+     *
+     * @param event Audit or diagnostic log event.
+     * @throws IdentityEventException If the event is published on the calling thread, and it fails.
+     */
+    public void publish(Event event) throws IdentityEventException {
+
+        if (!running) {
+            eventPublisher.publish(event);
+            return;
+        }
+
+        CarbonContext carbonContext = CarbonContext.getThreadLocalCarbonContext();
+        BufferedEvent bufferedEvent = new BufferedEvent(event, carbonContext.getTenantId(),
+                carbonContext.getTenantDomain(), MDC.getCopyOfContextMap());
+        boolean buffered;
+        if (overflowPolicy == OverflowPolicy.BLOCK) {
+            try {
+                buffered = buffer.offer(bufferedEvent, blockTimeoutInMillis, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                buffered = false;
+            }
+        } else {
+            buffered = buffer.offer(bufferedEvent);
+        }
+
+        if (buffered) {
+            metrics.enqueuedCount.increment();
+        } else {
+            metrics.droppedCount.increment();
+            if (log.isDebugEnabled()) {
+                log.debug("Log event buffer is full. Dropped the event: " + event.getEventName());
+            }
+        }
+    }
+
+    /**
+     * Get the metrics of the publisher.
+     *
+     * @return Metrics of the publisher.
+     */
+    public Metrics getMetrics() {
+
+        return metrics;
+    }
+
+    /**
+     * Get the number of events waiting to be published.
+     *
+     * @return Number of buffered events.
+     */
+    public int getBufferedCount() {
+
+        return buffer.size();
+    }
+
+    private void publishBufferedEvents() {
+
+        List<BufferedEvent> batch = new ArrayList<>(batchSize);
+        // The buffered events are published before the worker stops.
+        while (running || !buffer.isEmpty()) {
+            try {
+                BufferedEvent bufferedEvent = buffer.poll(POLL_TIMEOUT_IN_MILLIS, TimeUnit.MILLISECONDS);
+                if (bufferedEvent == null) {
+                    continue;
+                }
+                batch.add(bufferedEvent);
+                buffer.drainTo(batch, batchSize - 1);
+                publishBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void publishBatch(List<BufferedEvent> batch) {
+
+        long startTime = System.nanoTime();
+        for (BufferedEvent bufferedEvent : batch) {
+            try {
+                PrivilegedCarbonContext.startTenantFlow();
+                PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+                carbonContext.setTenantId(bufferedEvent.tenantId);
+                carbonContext.setTenantDomain(bufferedEvent.tenantDomain);
+                if (bufferedEvent.mdcContext != null) {
+                    MDC.setContextMap(bufferedEvent.mdcContext);
+                }
+                eventPublisher.publish(bufferedEvent.event);
+                metrics.publishedCount.increment();
+            } catch (IdentityEventException | RuntimeException e) {
+                metrics.failedCount.increment();
+                log.error("Error occurred when publishing the log event: " + bufferedEvent.event.getEventName(), e);
+            } finally {
+                MDC.clear();
+                PrivilegedCarbonContext.endTenantFlow();
+            }
+        }
+        metrics.recordBatch(System.nanoTime() - startTime);
+    }
+
+    /**
+     * Publishes a log event.
+     */
+    @FunctionalInterface
+    interface EventPublisher {
+
+        void publish(Event event) throws IdentityEventException;
+    }
+
+    /**
+     * Log event along with the context of the request thread.
+     */
+    private static class BufferedEvent {
+
+        private final Event event;
+        private final int tenantId;
+        private final String tenantDomain;
+        private final Map<String, String> mdcContext;
+
+        private BufferedEvent(Event event, int tenantId, String tenantDomain, Map<String, String> mdcContext) {
+
+            this.event = event;
+            this.tenantId = tenantId;
+            this.tenantDomain = tenantDomain;
+            this.mdcContext = mdcContext;
+        }
+    }
+
+    /**
+     * Metrics of the asynchronous log event publisher.
+     */
+    public static class Metrics {
+
+        private final LongAdder enqueuedCount = new LongAdder();
+        private final LongAdder droppedCount = new LongAdder();
+        private final LongAdder publishedCount = new LongAdder();
+        private final LongAdder failedCount = new LongAdder();
+        private final LongAdder batchCount = new LongAdder();
+        private final LongAdder totalPublishTimeInNanos = new LongAdder();
+        private final AtomicLong maxPublishTimeInNanos = new AtomicLong();
+
+        private void recordBatch(long publishTimeInNanos) {
+
+            batchCount.increment();
+            totalPublishTimeInNanos.add(publishTimeInNanos);
+            maxPublishTimeInNanos.accumulateAndGet(publishTimeInNanos, Math::max);
+        }
+
+        public long getEnqueuedCount() {
+
+            return enqueuedCount.sum();
+        }
+
+        public long getDroppedCount() {
+
+            return droppedCount.sum();
+        }
+
+        public long getPublishedCount() {
+
+            return publishedCount.sum();
+        }
+
+        public long getFailedCount() {
+
+            return failedCount.sum();
+        }
+
+        public long getBatchCount() {
+
+            return batchCount.sum();
+        }
+
+        /**
+         * Get the average time taken to publish a batch of events.
+         *
+         * @return Average publish latency of a batch in milliseconds.
+         */
+        public double getAveragePublishLatency() {
+
+            long batches = batchCount.sum();
+            return batches == 0 ? 0 : totalPublishTimeInNanos.sum() / (batches * 1_000_000.0);
+        }
+
+        /**
+         * Get the maximum time taken to publish a batch of events.
+         *
+         * @return Maximum publish latency of a batch in milliseconds.
+         */
+        public double getMaxPublishLatency() {
+
+            return maxPublishTimeInNanos.get() / 1_000_000.0;
+        }
+    }
+}
@@ -37,6 +37,14 @@ public class LogConstants {
     public static final Pattern LOG_MASKING_PATTERN = Pattern.compile("(?<=.).(?=.)");
     public static final String LOGGABLE_USER_CLAIMS = "LoggableUserClaims.LoggableUserClaim";
 
+    /**
+     * Constants related to the asynchronous publishing of audit and diagnostic logs.
+     */
+    public static final String ASYNC_PUBLISHING_ENABLED = "CentralLogger.AsyncPublishing.Enable";
+    public static final String ASYNC_PUBLISHING_BUFFER_SIZE = "CentralLogger.AsyncPublishing.BufferSize";
+    public static final String ASYNC_PUBLISHING_BATCH_SIZE = "CentralLogger.AsyncPublishing.BatchSize";
+    public static final String ASYNC_PUBLISHING_OVERFLOW_POLICY = "CentralLogger.AsyncPublishing.OverflowPolicy";
+    public static final String ASYNC_PUBLISHING_BLOCK_TIMEOUT = "CentralLogger.AsyncPublishing.BlockTimeout";
 
     /**
      * Define common and reusable Input keys for diagnostic logs.
@@ -30,6 +30,7 @@ import org.slf4j.MDC;
 import org.wso2.carbon.CarbonConstants;
 import org.wso2.carbon.context.CarbonContext;
 import org.wso2.carbon.identity.central.log.mgt.internal.CentralLogMgtServiceComponentHolder;
+import org.wso2.carbon.identity.central.log.mgt.publisher.AsyncLogEventPublisher;
 import org.wso2.carbon.identity.core.util.IdentityConfigParser;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
@@ -106,11 +107,9 @@ public class LoggerUtils {
             }
             AuditLog auditLog = auditLogBuilder.build();
             if (isEnableV2AuditLogs()) {
-                IdentityEventService eventMgtService =
-                        CentralLogMgtServiceComponentHolder.getInstance().getIdentityEventService();
                 Event auditEvent =
                         new Event(PUBLISH_AUDIT_LOG, Map.of(CarbonConstants.LogEventConstants.AUDIT_LOG, auditLog));
-                eventMgtService.handleEvent(auditEvent);
+                publishLogEvent(auditEvent);
             } else {
                 CarbonConstants.AUDIT_LOG.info(
                         String.format(CarbonConstants.AUDIT_MESSAGE, auditLog.getInitiatorId(), auditLog.getAction(),
@@ -157,14 +156,12 @@ public class LoggerUtils {
             String flowId = MDC.get(FLOW_ID_MDC);
             DiagnosticLog diagnosticLog = new DiagnosticLog(id, recordedAt, requestId, flowId, resultStatus,
                     resultMessage, actionId, componentId, input, configurations);
-            IdentityEventService eventMgtService =
-                    CentralLogMgtServiceComponentHolder.getInstance().getIdentityEventService();
             diagnosticLogProperties.put(CarbonConstants.LogEventConstants.DIAGNOSTIC_LOG, diagnosticLog);
             int tenantId =
                     IdentityTenantUtil.getTenantId(CarbonContext.getThreadLocalCarbonContext().getTenantDomain());
             diagnosticLogProperties.put(CarbonConstants.LogEventConstants.TENANT_ID, tenantId);
             Event diagnosticLogEvent = new Event(PUBLISH_DIAGNOSTIC_LOG, diagnosticLogProperties);
-            eventMgtService.handleEvent(diagnosticLogEvent);
+            publishLogEvent(diagnosticLogEvent);
         } catch (IdentityEventException e) {
             String errorLog = "Error occurred when firing the diagnostic log event.";
             log.error(errorLog, e);
@@ -186,12 +183,10 @@ public class LoggerUtils {
             if (isConsoleApp(diagnosticLog)) {
                 return;
             }
-            IdentityEventService eventMgtService =
-                    CentralLogMgtServiceComponentHolder.getInstance().getIdentityEventService();
             diagnosticLogProperties.put(CarbonConstants.LogEventConstants.DIAGNOSTIC_LOG, diagnosticLog);
             diagnosticLogProperties.put(CarbonConstants.LogEventConstants.TENANT_ID, resolveTenantId());
             Event diagnosticLogEvent = new Event(PUBLISH_DIAGNOSTIC_LOG, diagnosticLogProperties);
-            eventMgtService.handleEvent(diagnosticLogEvent);
+            publishLogEvent(diagnosticLogEvent);
         } catch (IdentityEventException e) {
             String errorLog = "Error occurred when firing the diagnostic log event.";
             log.error(errorLog, e);
@@ -400,6 +395,23 @@ public class LoggerUtils {
         return new ArrayList<>();
     }
 
+    /**
+     * Publish a log event through the asynchronous log event publisher if it is enabled, and through the identity
+     * event service otherwise.
+     */
+    private static void publishLogEvent(Event event) throws IdentityEventException {
+
+        AsyncLogEventPublisher asyncLogEventPublisher =
+                CentralLogMgtServiceComponentHolder.getInstance().getAsyncLogEventPublisher();
+        if (asyncLogEventPublisher != null) {
+            asyncLogEventPublisher.publish(event);
+            return;
+        }
+        IdentityEventService eventMgtService =
+                CentralLogMgtServiceComponentHolder.getInstance().getIdentityEventService();
+        eventMgtService.handleEvent(event);
+    }
+
     private static boolean isConsoleApp(DiagnosticLog diagnosticLog) {
 
         if (diagnosticLog.getInput() == null) {
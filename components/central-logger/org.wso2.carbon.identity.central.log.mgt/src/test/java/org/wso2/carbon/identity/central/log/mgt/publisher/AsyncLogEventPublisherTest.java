@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.central.log.mgt.publisher;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.event.event.Event;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for AsyncLogEventPublisher.
+ */
+public class AsyncLogEventPublisherTest {
+
+    private static final String EVENT_NAME = "PUBLISH_AUDIT_LOG";
+
+    @Test
+    public void testEventsArePublishedInOrder() throws Exception {
+
+        List<Event> publishedEvents = Collections.synchronizedList(new ArrayList<>());
+        AsyncLogEventPublisher publisher = new AsyncLogEventPublisher(100, 10,
+                AsyncLogEventPublisher.OverflowPolicy.DROP, 0, publishedEvents::add);
+        publisher.start();
+
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            Event event = new Event(EVENT_NAME);
+            events.add(event);
+            publisher.publish(event);
+        }
+        // The buffered events are published before the publisher shuts down.
+        publisher.shutdown();
+
+        assertEquals(publishedEvents, events);
+        AsyncLogEventPublisher.Metrics metrics = publisher.getMetrics();
+        assertEquals(metrics.getEnqueuedCount(), 50);
+        assertEquals(metrics.getPublishedCount(), 50);
+        assertEquals(metrics.getDroppedCount(), 0);
+        assertTrue(metrics.getBatchCount() >= 5);
+    }
+
+    @Test
+    public void testEventIsDroppedWhenBufferIsFull() throws Exception {
+
+        CountDownLatch publishingLatch = new CountDownLatch(1);
+        CountDownLatch blockingLatch = new CountDownLatch(1);
+        AsyncLogEventPublisher publisher = new AsyncLogEventPublisher(1, 1,
+                AsyncLogEventPublisher.OverflowPolicy.DROP, 0, event -> {
+                    publishingLatch.countDown();
+                    try {
+                        blockingLatch.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+        publisher.start();
+
+        publisher.publish(new Event(EVENT_NAME));
+        assertTrue(publishingLatch.await(5, TimeUnit.SECONDS));
+        // The worker is blocked on the first event, hence the second event fills the buffer.
+        publisher.publish(new Event(EVENT_NAME));
+        publisher.publish(new Event(EVENT_NAME));
+        blockingLatch.countDown();
+        publisher.shutdown();
+
+        AsyncLogEventPublisher.Metrics metrics = publisher.getMetrics();
+        assertEquals(metrics.getEnqueuedCount(), 2);
+        assertEquals(metrics.getDroppedCount(), 1);
+        assertEquals(metrics.getPublishedCount(), 2);
+    }
+
+    @Test
+    public void testEventIsPublishedOnCallerWhenNotRunning() throws Exception {
+
+        List<Event> publishedEvents = new ArrayList<>();
+        AsyncLogEventPublisher publisher = new AsyncLogEventPublisher(10, 10,
+                AsyncLogEventPublisher.OverflowPolicy.BLOCK, 100, publishedEvents::add);
+
+        Event event = new Event(EVENT_NAME);
+        publisher.publish(event);
+
+        assertEquals(publishedEvents, Collections.singletonList(event));
+        assertEquals(publisher.getMetrics().getEnqueuedCount(), 0);
+    }
+}
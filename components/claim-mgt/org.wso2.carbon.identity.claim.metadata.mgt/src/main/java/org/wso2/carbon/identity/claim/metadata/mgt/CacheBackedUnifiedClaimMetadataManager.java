@@ -21,14 +21,18 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.claim.metadata.mgt.cache.AssociatedClaimCache;
 import org.wso2.carbon.identity.claim.metadata.mgt.cache.ClaimDialectCache;
-import org.wso2.carbon.identity.claim.metadata.mgt.cache.ExternalClaimCache;
+import org.wso2.carbon.identity.claim.metadata.mgt.cache.ClaimDialectMappingCache;
 import org.wso2.carbon.identity.claim.metadata.mgt.cache.ExternalClaimCacheKey;
-import org.wso2.carbon.identity.claim.metadata.mgt.cache.LocalClaimCache;
+import org.wso2.carbon.identity.claim.metadata.mgt.cache.ExternalClaimCatalogue;
+import org.wso2.carbon.identity.claim.metadata.mgt.cache.ExternalClaimCatalogueCache;
+import org.wso2.carbon.identity.claim.metadata.mgt.cache.LocalClaimCatalogue;
+import org.wso2.carbon.identity.claim.metadata.mgt.cache.LocalClaimCatalogueCache;
 import org.wso2.carbon.identity.claim.metadata.mgt.exception.ClaimMetadataException;
 import org.wso2.carbon.identity.claim.metadata.mgt.model.Claim;
 import org.wso2.carbon.identity.claim.metadata.mgt.model.ClaimDialect;
 import org.wso2.carbon.identity.claim.metadata.mgt.model.ExternalClaim;
 import org.wso2.carbon.identity.claim.metadata.mgt.model.LocalClaim;
+import org.wso2.carbon.identity.claim.metadata.mgt.util.ClaimConstants;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -37,11 +41,14 @@ import java.util.Optional;
 public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadataManager {
 
     private static final Log log = LogFactory.getLog(CacheBackedUnifiedClaimMetadataManager.class);
+    private static final ExternalClaimCacheKey LOCAL_CLAIM_DIALECT_CACHE_KEY =
+            new ExternalClaimCacheKey(ClaimConstants.LOCAL_CLAIM_DIALECT_URI);
 
     ClaimDialectCache claimDialectCache = ClaimDialectCache.getInstance();
-    LocalClaimCache localClaimCache = LocalClaimCache.getInstance();
-    ExternalClaimCache externalClaimCache = ExternalClaimCache.getInstance();
+    LocalClaimCatalogueCache localClaimCatalogueCache = LocalClaimCatalogueCache.getInstance();
+    ExternalClaimCatalogueCache externalClaimCatalogueCache = ExternalClaimCatalogueCache.getInstance();
     AssociatedClaimCache associatedClaimCache = AssociatedClaimCache.getInstance();
+    ClaimDialectMappingCache claimDialectMappingCache = ClaimDialectMappingCache.getInstance();
 
     @Override
     public List<ClaimDialect> getClaimDialects(int tenantId) throws ClaimMetadataException {
@@ -114,39 +121,24 @@ public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadata
     @Override
     public List<LocalClaim> getLocalClaims(int tenantId) throws ClaimMetadataException {
 
-        List<LocalClaim> localClaimList = localClaimCache.getValueFromCache(tenantId, tenantId);
-
-        if (localClaimList == null) {
-            if (log.isDebugEnabled()) {
-                log.debug("Cache miss for local claim list for tenant: " + tenantId);
-            }
-            localClaimList = super.getLocalClaims(tenantId);
-            localClaimCache.addToCache(tenantId, new ArrayList<>(localClaimList), tenantId);
-        } else {
-            if (log.isDebugEnabled()) {
-                log.debug("Cache hit for local claim list for tenant: " + tenantId);
-            }
-        }
-
-        return localClaimList;
+        return getLocalClaimCatalogue(tenantId).getLocalClaims();
     }
 
     @Override
     public Optional<LocalClaim> getLocalClaim(String localClaimURI, int tenantId) throws ClaimMetadataException {
 
-        return getLocalClaims(tenantId).stream()
-                .filter(localClaim -> localClaimURI.equals(localClaim.getClaimURI()))
-                .findFirst();
+        return Optional.ofNullable(getLocalClaimCatalogue(tenantId).getLocalClaim(localClaimURI));
     }
 
     @Override
     public void addLocalClaim(LocalClaim localClaim, int tenantId) throws ClaimMetadataException {
 
         super.addLocalClaim(localClaim, tenantId);
-        localClaimCache.clearCacheEntry(tenantId, tenantId);
+        localClaimCatalogueCache.clearCacheEntry(tenantId, tenantId);
+        claimDialectMappingCache.clearCacheEntry(LOCAL_CLAIM_DIALECT_CACHE_KEY, tenantId);
         if (log.isDebugEnabled()) {
             log.debug("Local claim: " + localClaim.getClaimURI() + " is added for tenant: " + tenantId +
-                    ". Invalidated LocalClaimCache.");
+                    ". Invalidated LocalClaimCatalogueCache.");
         }
     }
 
@@ -154,11 +146,12 @@ public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadata
     public void updateLocalClaim(LocalClaim localClaim, int tenantId) throws ClaimMetadataException {
 
         super.updateLocalClaim(localClaim, tenantId);
-        localClaimCache.clearCacheEntry(tenantId, tenantId);
+        localClaimCatalogueCache.clearCacheEntry(tenantId, tenantId);
+        claimDialectMappingCache.clearCacheEntry(LOCAL_CLAIM_DIALECT_CACHE_KEY, tenantId);
         associatedClaimCache.clearCacheEntry(localClaim.getClaimURI(), tenantId);
         if (log.isDebugEnabled()) {
             log.debug("Local claim: " + localClaim.getClaimURI() + " is updated in tenant: " + tenantId +
-                    ". Invalidated LocalClaimCache.");
+                    ". Invalidated LocalClaimCatalogueCache.");
         }
     }
 
@@ -167,10 +160,11 @@ public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadata
             throws ClaimMetadataException {
 
         super.updateLocalClaimMappings(localClaimList, tenantId, userStoreDomain);
-        localClaimCache.clearCacheEntry(tenantId, tenantId);
+        localClaimCatalogueCache.clearCacheEntry(tenantId, tenantId);
+        claimDialectMappingCache.clearCacheEntry(LOCAL_CLAIM_DIALECT_CACHE_KEY, tenantId);
         if (log.isDebugEnabled()) {
             log.debug("Claim mappings for user-store domain: " + userStoreDomain + " is updated in tenant: " +
-                    tenantId + ". Invalidated LocalClaimCache.");
+                    tenantId + ". Invalidated LocalClaimCatalogueCache.");
         }
     }
 
@@ -178,11 +172,12 @@ public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadata
     public void removeLocalClaim(String localClaimURI, int tenantId) throws ClaimMetadataException {
 
         super.removeLocalClaim(localClaimURI, tenantId);
-        localClaimCache.clearCacheEntry(tenantId, tenantId);
+        localClaimCatalogueCache.clearCacheEntry(tenantId, tenantId);
+        claimDialectMappingCache.clearCacheEntry(LOCAL_CLAIM_DIALECT_CACHE_KEY, tenantId);
         associatedClaimCache.clearCacheEntry(localClaimURI, tenantId);
         if (log.isDebugEnabled()) {
             log.debug("Local claim: " + localClaimURI + " is deleted in tenant: " + tenantId +
-                    ". Invalidated LocalClaimCache.");
+                    ". Invalidated LocalClaimCatalogueCache.");
         }
     }
 
@@ -190,33 +185,15 @@ public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadata
     public List<ExternalClaim> getExternalClaims(String externalClaimDialectURI, int tenantId)
             throws ClaimMetadataException {
 
-        ExternalClaimCacheKey cacheKey = new ExternalClaimCacheKey(externalClaimDialectURI);
-        List<ExternalClaim> externalClaimList = externalClaimCache.getValueFromCache(cacheKey, tenantId);
-
-        if (externalClaimList == null) {
-            if (log.isDebugEnabled()) {
-                log.debug("Cache miss for external claim list for dialect: " + externalClaimDialectURI + " in tenant: " +
-                        tenantId);
-            }
-            externalClaimList = super.getExternalClaims(externalClaimDialectURI, tenantId);
-            externalClaimCache.addToCache(cacheKey, new ArrayList<>(externalClaimList), tenantId);
-        } else {
-            if (log.isDebugEnabled()) {
-                log.debug("Cache hit for external claim list for dialect: " + externalClaimDialectURI + " in tenant: " +
-                        tenantId);
-            }
-        }
-
-        return externalClaimList;
+        return getExternalClaimCatalogue(externalClaimDialectURI, tenantId).getExternalClaims();
     }
 
     @Override
     public Optional<ExternalClaim> getExternalClaim(String externalClaimDialectURI, String externalClaimURI,
                                                     int tenantId) throws ClaimMetadataException {
 
-        return getExternalClaims(externalClaimDialectURI, tenantId).stream()
-                .filter(externalClaim -> externalClaimURI.equals(externalClaim.getClaimURI()))
-                .findFirst();
+        return Optional.ofNullable(getExternalClaimCatalogue(externalClaimDialectURI, tenantId)
+                .getExternalClaim(externalClaimURI));
     }
 
     @Override
@@ -225,11 +202,12 @@ public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadata
 
         super.addExternalClaim(externalClaim, tenantId);
         ExternalClaimCacheKey cacheKey = new ExternalClaimCacheKey(externalClaim.getClaimDialectURI());
-        externalClaimCache.clearCacheEntry(cacheKey, tenantId);
+        externalClaimCatalogueCache.clearCacheEntry(cacheKey, tenantId);
+        claimDialectMappingCache.clearCacheEntry(cacheKey, tenantId);
         associatedClaimCache.clearCacheEntry(externalClaim.getMappedLocalClaim(), tenantId);
         if (log.isDebugEnabled()) {
             log.debug("External claim: " + externalClaim.getClaimDialectURI() + ":" + externalClaim.getClaimURI() +
-                    " is added for tenant: " + tenantId + ". Invalidated ExternalClaimCache.");
+                    " is added for tenant: " + tenantId + ". Invalidated ExternalClaimCatalogueCache.");
         }
     }
 
@@ -239,11 +217,12 @@ public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadata
 
         super.updateExternalClaim(externalClaim, tenantId);
         ExternalClaimCacheKey cacheKey = new ExternalClaimCacheKey(externalClaim.getClaimDialectURI());
-        externalClaimCache.clearCacheEntry(cacheKey, tenantId);
+        externalClaimCatalogueCache.clearCacheEntry(cacheKey, tenantId);
+        claimDialectMappingCache.clearCacheEntry(cacheKey, tenantId);
         associatedClaimCache.clearCacheEntry(externalClaim.getMappedLocalClaim(), tenantId);
         if (log.isDebugEnabled()) {
             log.debug("External claim: " + externalClaim.getClaimDialectURI() + ":" + externalClaim.getClaimURI() +
-                    " is updated in tenant: " + tenantId + ". Invalidated ExternalClaimCache.");
+                    " is updated in tenant: " + tenantId + ". Invalidated ExternalClaimCatalogueCache.");
         }
     }
 
@@ -262,13 +241,14 @@ public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadata
         }
         super.removeExternalClaim(externalClaimDialectURI, externalClaimURI, tenantId);
         ExternalClaimCacheKey cacheKey = new ExternalClaimCacheKey(externalClaimDialectURI);
-        externalClaimCache.clearCacheEntry(cacheKey, tenantId);
+        externalClaimCatalogueCache.clearCacheEntry(cacheKey, tenantId);
+        claimDialectMappingCache.clearCacheEntry(cacheKey, tenantId);
         if (StringUtils.isNotBlank(mappedLocalClaim)) {
             associatedClaimCache.clearCacheEntry(mappedLocalClaim, tenantId);
         }
         if (log.isDebugEnabled()) {
             log.debug("External claim: " + externalClaimDialectURI + ":" + externalClaimURI +
-                    " is deleted in tenant: " + tenantId + ". Invalidated ExternalClaimCache.");
+                    " is deleted in tenant: " + tenantId + ". Invalidated ExternalClaimCatalogueCache.");
         }
     }
 
@@ -276,10 +256,11 @@ public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadata
     public void removeClaimMappingAttributes(int tenantId, String userstoreDomain) throws ClaimMetadataException {
 
         super.removeClaimMappingAttributes(tenantId, userstoreDomain);
-        localClaimCache.clearCacheEntry(tenantId, tenantId);
+        localClaimCatalogueCache.clearCacheEntry(tenantId, tenantId);
+        claimDialectMappingCache.clearCacheEntry(LOCAL_CLAIM_DIALECT_CACHE_KEY, tenantId);
         if (log.isDebugEnabled()) {
             log.debug("Claim mappings for user-store domain: " + userstoreDomain + " is removed in tenant: " +
-                    tenantId + ". Invalidated LocalClaimCache.");
+                    tenantId + ". Invalidated LocalClaimCatalogueCache.");
         }
     }
 
@@ -288,12 +269,14 @@ public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadata
 
         super.removeAllClaimDialects(tenantId);
         claimDialectCache.clearClaimDialects(tenantId);
-        localClaimCache.clear(tenantId);
-        externalClaimCache.clear(tenantId);
+        localClaimCatalogueCache.clear(tenantId);
+        externalClaimCatalogueCache.clear(tenantId);
+        claimDialectMappingCache.clear(tenantId);
         associatedClaimCache.clear(tenantId);
         if (log.isDebugEnabled()) {
             log.debug("All claim dialects are removed for tenant: " + tenantId +
-                    ". Invalidated ClaimDialectCache, LocalClaimCache and ExternalClaimCache.");
+                    ". Invalidated ClaimDialectCache, LocalClaimCatalogueCache and " +
+                    "ExternalClaimCatalogueCache.");
         }
     }
 
@@ -317,6 +300,59 @@ public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadata
         return associatedLocalClaims;
     }
 
+    @Override
+    public boolean isMappedLocalClaim(String localClaimURI, int tenantId) throws ClaimMetadataException {
+
+        return !getMappedExternalClaims(localClaimURI, tenantId).isEmpty();
+    }
+
+    @Override
+    public boolean isLocalClaimMappedWithinDialect(String mappedLocalClaim, String externalClaimDialectURI,
+                                                   int tenantId) throws ClaimMetadataException {
+
+        return getExternalClaimCatalogue(externalClaimDialectURI, tenantId).isLocalClaimMapped(mappedLocalClaim);
+    }
+
+    private LocalClaimCatalogue getLocalClaimCatalogue(int tenantId) throws ClaimMetadataException {
+
+        LocalClaimCatalogue localClaimCatalogue = localClaimCatalogueCache.getValueFromCache(tenantId, tenantId);
+        if (localClaimCatalogue == null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Cache miss for local claim catalogue for tenant: " + tenantId);
+            }
+            localClaimCatalogue = new LocalClaimCatalogue(super.getLocalClaims(tenantId));
+            localClaimCatalogueCache.addToCache(tenantId, localClaimCatalogue, tenantId);
+        } else {
+            if (log.isDebugEnabled()) {
+                log.debug("Cache hit for local claim catalogue for tenant: " + tenantId);
+            }
+        }
+        return localClaimCatalogue;
+    }
+
+    private ExternalClaimCatalogue getExternalClaimCatalogue(String externalClaimDialectURI, int tenantId)
+            throws ClaimMetadataException {
+
+        ExternalClaimCacheKey cacheKey = new ExternalClaimCacheKey(externalClaimDialectURI);
+        ExternalClaimCatalogue externalClaimCatalogue = externalClaimCatalogueCache.getValueFromCache(cacheKey,
+                tenantId);
+        if (externalClaimCatalogue == null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Cache miss for external claim catalogue for dialect: " + externalClaimDialectURI +
+                        " in tenant: " + tenantId);
+            }
+            externalClaimCatalogue = new ExternalClaimCatalogue(super.getExternalClaims(externalClaimDialectURI,
+                    tenantId));
+            externalClaimCatalogueCache.addToCache(cacheKey, externalClaimCatalogue, tenantId);
+        } else {
+            if (log.isDebugEnabled()) {
+                log.debug("Cache hit for external claim catalogue for dialect: " + externalClaimDialectURI +
+                        " in tenant: " + tenantId);
+            }
+        }
+        return externalClaimCatalogue;
+    }
+
     private void removeExternalClaimCache(String externalClaimDialectURI, int tenantId) throws ClaimMetadataException {
 
         List<ExternalClaim> externalClaimsList;
@@ -328,7 +364,8 @@ public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadata
             }
         }
         ExternalClaimCacheKey cacheKey = new ExternalClaimCacheKey(externalClaimDialectURI);
-        externalClaimCache.clearCacheEntry(cacheKey, tenantId);
+        externalClaimCatalogueCache.clearCacheEntry(cacheKey, tenantId);
+        claimDialectMappingCache.clearCacheEntry(cacheKey, tenantId);
         for (String localClaim : mappedLocalClaim) {
             associatedClaimCache.clearCacheEntry(localClaim, tenantId);
         }
@@ -18,6 +18,9 @@ package org.wso2.carbon.identity.claim.metadata.mgt;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.claim.metadata.mgt.cache.ClaimDialectMapping;
+import org.wso2.carbon.identity.claim.metadata.mgt.cache.ClaimDialectMappingCache;
+import org.wso2.carbon.identity.claim.metadata.mgt.cache.ExternalClaimCacheKey;
 import org.wso2.carbon.identity.claim.metadata.mgt.exception.ClaimMetadataException;
 import org.wso2.carbon.identity.claim.metadata.mgt.model.ExternalClaim;
 import org.wso2.carbon.identity.claim.metadata.mgt.model.LocalClaim;
@@ -37,6 +40,8 @@ public class ClaimMetadataHandler {
     private static final Log log = LogFactory.getLog(ClaimMetadataHandler.class);
     private static final ClaimMetadataHandler INSTANCE = new ClaimMetadataHandler();
 
+    private final ClaimDialectMappingCache claimDialectMappingCache = ClaimDialectMappingCache.getInstance();
+
     public static ClaimMetadataHandler getInstance() {
         return INSTANCE;
     }
@@ -54,11 +59,7 @@ public class ClaimMetadataHandler {
 
         Set<ExternalClaim> returnSet = new HashSet<ExternalClaim>();
 
-        if (otherDialectURI == null) {
-            String message = "Invalid argument: \'otherDialectURI\' is \'NULL\'";
-            log.error(message);
-            throw new ClaimMetadataException(message);
-        }
+        validateOtherDialectURI(otherDialectURI);
 
 
         try {
@@ -135,16 +136,38 @@ public class ClaimMetadataHandler {
     public Map<String, String> getMappingsMapFromOtherDialectToCarbon(String otherDialectURI, Set<String>
             otherClaimURIs, String tenantDomain, boolean useCarbonDialectAsKey) throws ClaimMetadataException {
 
-        Map<String, String> returnMap = new HashMap<>();
-        Set<ExternalClaim> mappings = getMappingsFromOtherDialectToCarbon(
-                otherDialectURI, otherClaimURIs, tenantDomain);
-        for (ExternalClaim externalClaim : mappings) {
-            if (useCarbonDialectAsKey) {
-                returnMap.put(externalClaim.getMappedLocalClaim(), externalClaim.getClaimURI());
-            } else {
-                returnMap.put(externalClaim.getClaimURI(), externalClaim.getMappedLocalClaim());
-            }
+        return getClaimDialectMapping(otherDialectURI, tenantDomain).getMappings(otherClaimURIs,
+                useCarbonDialectAsKey);
+    }
+
+    private ClaimDialectMapping getClaimDialectMapping(String otherDialectURI, String tenantDomain)
+            throws ClaimMetadataException {
+
+        validateOtherDialectURI(otherDialectURI);
+        ExternalClaimCacheKey cacheKey = new ExternalClaimCacheKey(otherDialectURI);
+        ClaimDialectMapping claimDialectMapping = claimDialectMappingCache.getValueFromCache(cacheKey, tenantDomain);
+        if (claimDialectMapping != null) {
+            return claimDialectMapping;
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Cache miss for claim mappings of dialect: " + otherDialectURI + " in tenant: " + tenantDomain);
+        }
+        Map<String, String> localClaimURIsByClaimURI = new HashMap<>();
+        for (ExternalClaim externalClaim : getMappingsFromOtherDialectToCarbon(otherDialectURI, null, tenantDomain)) {
+            localClaimURIsByClaimURI.put(externalClaim.getClaimURI(), externalClaim.getMappedLocalClaim());
+        }
+        claimDialectMapping = new ClaimDialectMapping(localClaimURIsByClaimURI);
+        claimDialectMappingCache.addToCache(cacheKey, claimDialectMapping, tenantDomain);
+        return claimDialectMapping;
+    }
+
+    private void validateOtherDialectURI(String otherDialectURI) throws ClaimMetadataException {
+
+        if (otherDialectURI == null) {
+            String message = "Invalid argument: \'otherDialectURI\' is \'NULL\'";
+            log.error(message);
+            throw new ClaimMetadataException(message);
         }
-        return returnMap;
     }
 }
@@ -461,7 +461,8 @@ public class ClaimMetadataManagementServiceImpl implements ClaimMetadataManageme
 
         // Add listener
 
-        return externalClaims;
+        // The cached external claims are shared, hence a copy is returned to the callers.
+        return new ArrayList<>(externalClaims);
     }
 
     @Override
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.claim.metadata.mgt.cache;
+
+import org.apache.commons.collections.CollectionUtils;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Claim mapping table between a claim dialect and the local claim dialect of a tenant, in both directions.
+ * The table is built once per dialect and replaced as a whole when the claims of the dialect are changed, hence the
+ * claim mappings of a request are resolved by lookups instead of rebuilding the mappings of the dialect.
+ */
+public class ClaimDialectMapping implements Serializable {
+
+    private static final long serialVersionUID = 2538463069183947281L;
+
+    private final Map<String, String> localClaimURIsByClaimURI;
+    private final Map<String, String> claimURIsByLocalClaimURI;
+
+    public ClaimDialectMapping(Map<String, String> localClaimURIsByClaimURI) {
+
+        Map<String, String> claimURIsByLocalClaimURI = new HashMap<>(localClaimURIsByClaimURI.size() * 2);
+        for (Map.Entry<String, String> mapping : localClaimURIsByClaimURI.entrySet()) {
+            claimURIsByLocalClaimURI.put(mapping.getValue(), mapping.getKey());
+        }
+        this.localClaimURIsByClaimURI = Collections.unmodifiableMap(new HashMap<>(localClaimURIsByClaimURI));
+        this.claimURIsByLocalClaimURI = Collections.unmodifiableMap(claimURIsByLocalClaimURI);
+    }
+
+    /**
+     * Get the claim mappings of the dialect.
+     *
+     * @param claimURIs           Claim URIs of the dialect to get the mappings of. All the mappings are returned if
+     *                            null or empty.
+     * @param useLocalClaimAsKey  Whether the local claim URI is the key of the mappings.
+     * @return Modifiable map of the claim mappings.
+     */
+    public Map<String, String> getMappings(Set<String> claimURIs, boolean useLocalClaimAsKey) {
+
+        if (CollectionUtils.isEmpty(claimURIs)) {
+            return new HashMap<>(useLocalClaimAsKey ? claimURIsByLocalClaimURI : localClaimURIsByClaimURI);
+        }
+
+        Map<String, String> mappings = new HashMap<>(claimURIs.size() * 2);
+        for (String claimURI : claimURIs) {
+            String localClaimURI = localClaimURIsByClaimURI.get(claimURI);
+            if (localClaimURI == null) {
+                continue;
+            }
+            if (useLocalClaimAsKey) {
+                mappings.put(localClaimURI, claimURI);
+            } else {
+                mappings.put(claimURI, localClaimURI);
+            }
+        }
+        return mappings;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.claim.metadata.mgt.cache;
+
+import org.wso2.carbon.identity.claim.metadata.mgt.model.ExternalClaim;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Merged view of the external claims of a claim dialect of a tenant, indexed by the claim URI and by the mapped local
+ * claim URI.
+ * The catalogue is built once per dialect and replaced as a whole when the external claims of the dialect are changed.
+ */
+public class ExternalClaimCatalogue implements Serializable {
+
+    private static final long serialVersionUID = -3021907431542763208L;
+
+    private final List<ExternalClaim> externalClaims;
+    private final Map<String, ExternalClaim> externalClaimsByURI;
+    private final Set<String> mappedLocalClaimURIs;
+
+    public ExternalClaimCatalogue(List<ExternalClaim> externalClaims) {
+
+        Map<String, ExternalClaim> externalClaimsByURI = new HashMap<>(externalClaims.size() * 2);
+        Set<String> mappedLocalClaimURIs = new HashSet<>(externalClaims.size() * 2);
+        for (ExternalClaim externalClaim : externalClaims) {
+            externalClaimsByURI.put(externalClaim.getClaimURI(), externalClaim);
+            mappedLocalClaimURIs.add(externalClaim.getMappedLocalClaim());
+        }
+        this.externalClaims = Collections.unmodifiableList(new ArrayList<>(externalClaims));
+        this.externalClaimsByURI = Collections.unmodifiableMap(externalClaimsByURI);
+        this.mappedLocalClaimURIs = Collections.unmodifiableSet(mappedLocalClaimURIs);
+    }
+
+    /**
+     * Get the external claims of the dialect.
+     *
+     * @return Unmodifiable list of the external claims.
+     */
+    public List<ExternalClaim> getExternalClaims() {
+
+        return externalClaims;
+    }
+
+    /**
+     * Get an external claim by the claim URI.
+     *
+     * @param externalClaimURI External claim URI.
+     * @return External claim, or null if there is no external claim with the URI in the dialect.
+     */
+    public ExternalClaim getExternalClaim(String externalClaimURI) {
+
+        return externalClaimsByURI.get(externalClaimURI);
+    }
+
+    /**
+     * Check whether an external claim of the dialect is mapped to a local claim.
+     *
+     * @param localClaimURI Local claim URI.
+     * @return True if the local claim is mapped within the dialect.
+     */
+    public boolean isLocalClaimMapped(String localClaimURI) {
+
+        return mappedLocalClaimURIs.contains(localClaimURI);
+    }
+}
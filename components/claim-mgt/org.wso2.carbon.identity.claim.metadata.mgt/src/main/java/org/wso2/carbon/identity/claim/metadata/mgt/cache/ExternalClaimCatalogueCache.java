@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.claim.metadata.mgt.cache;
+
+import org.wso2.carbon.identity.core.cache.BaseCache;
+
+/**
+ * Cache implementation for the merged external claims of a claim dialect.
+ */
+public class ExternalClaimCatalogueCache extends BaseCache<ExternalClaimCacheKey, ExternalClaimCatalogue> {
+
+    private static final String CACHE_NAME = "ExternalClaimCatalogueCache";
+    private static final ExternalClaimCatalogueCache instance = new ExternalClaimCatalogueCache();
+
+    private ExternalClaimCatalogueCache() {
+
+        super(CACHE_NAME);
+    }
+
+    public static ExternalClaimCatalogueCache getInstance() {
+
+        return instance;
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.claim.metadata.mgt.cache;
+
+import org.wso2.carbon.identity.claim.metadata.mgt.model.LocalClaim;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Merged view of the local claims of a tenant, i.e. the system default local claims merged with the local claims in
+ * the database, indexed by the claim URI.
+ * The catalogue is built once per tenant and replaced as a whole when the local claims of the tenant are changed.
+ */
+public class LocalClaimCatalogue implements Serializable {
+
+    private static final long serialVersionUID = 4861208271468524707L;
+
+    private final List<LocalClaim> localClaims;
+    private final Map<String, LocalClaim> localClaimsByURI;
+
+    public LocalClaimCatalogue(List<LocalClaim> localClaims) {
+
+        Map<String, LocalClaim> localClaimsByURI = new HashMap<>(localClaims.size() * 2);
+        for (LocalClaim localClaim : localClaims) {
+            localClaimsByURI.put(localClaim.getClaimURI(), localClaim);
+        }
+        this.localClaims = Collections.unmodifiableList(new ArrayList<>(localClaims));
+        this.localClaimsByURI = Collections.unmodifiableMap(localClaimsByURI);
+    }
+
+    /**
+     * Get the local claims.
+     *
+     * @return Unmodifiable list of the local claims.
+     */
+    public List<LocalClaim> getLocalClaims() {
+
+        return localClaims;
+    }
+
+    /**
+     * Get a local claim by the claim URI.
+     *
+     * @param localClaimURI Local claim URI.
+     * @return Local claim, or null if there is no local claim with the URI.
+     */
+    public LocalClaim getLocalClaim(String localClaimURI) {
+
+        return localClaimsByURI.get(localClaimURI);
+    }
+}
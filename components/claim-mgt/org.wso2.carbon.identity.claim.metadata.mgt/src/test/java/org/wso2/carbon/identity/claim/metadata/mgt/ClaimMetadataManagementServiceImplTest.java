@@ -619,6 +619,32 @@ public class ClaimMetadataManagementServiceImplTest {
         });
     }
 
+    @Test
+    public void testGetExternalClaimsReturnsModifiableCopy() throws ClaimMetadataException {
+
+        List<ExternalClaim> cachedExternalClaims = Collections.unmodifiableList(Collections.singletonList(
+                new ExternalClaim(EXTERNAL_CLAIM_DIALECT_URI, EXTERNAL_CLAIM_URI, LOCAL_CLAIM_1)));
+        when(unifiedClaimMetadataManager.getExternalClaims(EXTERNAL_CLAIM_DIALECT_URI, SUPER_TENANT_ID))
+                .thenReturn(cachedExternalClaims);
+
+        List<ExternalClaim> externalClaims = service.getExternalClaims(EXTERNAL_CLAIM_DIALECT_URI,
+                SUPER_TENANT_DOMAIN_NAME);
+        externalClaims.clear();
+        assertEquals(cachedExternalClaims.size(), 1);
+    }
+
+    @Test
+    public void testGetLocalClaimsReturnsModifiableCopy() throws ClaimMetadataException {
+
+        List<LocalClaim> cachedLocalClaims = Collections.unmodifiableList(Collections.singletonList(
+                new LocalClaim(LOCAL_CLAIM_1, new ArrayList<>(), new HashMap<>())));
+        when(unifiedClaimMetadataManager.getLocalClaims(SUPER_TENANT_ID)).thenReturn(cachedLocalClaims);
+
+        List<LocalClaim> localClaims = service.getLocalClaims(SUPER_TENANT_DOMAIN_NAME);
+        localClaims.clear();
+        assertEquals(cachedLocalClaims.size(), 1);
+    }
+
     @Test
     public void testUpdateExternalClaim() throws ClaimMetadataException {
 
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.claim.metadata.mgt.cache;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.ExternalClaim;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.LocalClaim;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit test class for LocalClaimCatalogue and ExternalClaimCatalogue.
+ */
+public class ClaimCatalogueTest {
+
+    private static final String LOCAL_CLAIM_1 = "http://wso2.org/claims/username";
+    private static final String LOCAL_CLAIM_2 = "http://wso2.org/claims/email";
+    private static final String EXT_CLAIM_DIALECT = "urn:ietf:params:scim:schemas:core:2.0:User";
+    private static final String EXT_CLAIM_1 = "urn:ietf:params:scim:schemas:core:2.0:User:userName";
+    private static final String EXT_CLAIM_2 = "urn:ietf:params:scim:schemas:core:2.0:User:emails";
+
+    @Test
+    public void testLocalClaimCatalogue() {
+
+        LocalClaim localClaim1 = new LocalClaim(LOCAL_CLAIM_1);
+        LocalClaim localClaim2 = new LocalClaim(LOCAL_CLAIM_2);
+        List<LocalClaim> localClaims = new ArrayList<>(Arrays.asList(localClaim1, localClaim2));
+        LocalClaimCatalogue catalogue = new LocalClaimCatalogue(localClaims);
+
+        // The catalogue doesn't change with the list it was built from.
+        localClaims.clear();
+
+        assertEquals(catalogue.getLocalClaims(), Arrays.asList(localClaim1, localClaim2));
+        assertSame(catalogue.getLocalClaim(LOCAL_CLAIM_2), localClaim2);
+        assertNull(catalogue.getLocalClaim("http://wso2.org/claims/nonExisting"));
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void testLocalClaimCatalogueIsUnmodifiable() {
+
+        LocalClaimCatalogue catalogue = new LocalClaimCatalogue(Arrays.asList(new LocalClaim(LOCAL_CLAIM_1)));
+        catalogue.getLocalClaims().add(new LocalClaim(LOCAL_CLAIM_2));
+    }
+
+    @Test
+    public void testExternalClaimCatalogue() {
+
+        ExternalClaim externalClaim1 = new ExternalClaim(EXT_CLAIM_DIALECT, EXT_CLAIM_1, LOCAL_CLAIM_1);
+        ExternalClaim externalClaim2 = new ExternalClaim(EXT_CLAIM_DIALECT, EXT_CLAIM_2, LOCAL_CLAIM_2);
+        ExternalClaimCatalogue catalogue = new ExternalClaimCatalogue(Arrays.asList(externalClaim1,
+                externalClaim2));
+
+        assertEquals(catalogue.getExternalClaims(), Arrays.asList(externalClaim1, externalClaim2));
+        assertSame(catalogue.getExternalClaim(EXT_CLAIM_1), externalClaim1);
+        assertNull(catalogue.getExternalClaim(LOCAL_CLAIM_1));
+        assertTrue(catalogue.isLocalClaimMapped(LOCAL_CLAIM_2));
+        assertFalse(catalogue.isLocalClaimMapped("http://wso2.org/claims/nonExisting"));
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.claim.metadata.mgt.cache;
+
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit test class for ClaimDialectMapping.
+ */
+public class ClaimDialectMappingTest {
+
+    private static final String LOCAL_CLAIM_1 = "http://wso2.org/claims/username";
+    private static final String LOCAL_CLAIM_2 = "http://wso2.org/claims/emailaddress";
+    private static final String EXT_CLAIM_1 = "sub";
+    private static final String EXT_CLAIM_2 = "email";
+
+    @Test
+    public void testGetAllMappings() {
+
+        ClaimDialectMapping claimDialectMapping = new ClaimDialectMapping(getMappings());
+
+        assertEquals(claimDialectMapping.getMappings(null, false), getMappings());
+
+        Map<String, String> localToExternalMappings = claimDialectMapping.getMappings(Collections.emptySet(), true);
+        assertEquals(localToExternalMappings.size(), 2);
+        assertEquals(localToExternalMappings.get(LOCAL_CLAIM_1), EXT_CLAIM_1);
+        assertEquals(localToExternalMappings.get(LOCAL_CLAIM_2), EXT_CLAIM_2);
+    }
+
+    @Test
+    public void testGetMappingsOfClaims() {
+
+        ClaimDialectMapping claimDialectMapping = new ClaimDialectMapping(getMappings());
+        HashSet<String> claimURIs = new HashSet<>();
+        claimURIs.add(EXT_CLAIM_2);
+        claimURIs.add("nonExisting");
+
+        assertEquals(claimDialectMapping.getMappings(claimURIs, false),
+                Collections.singletonMap(EXT_CLAIM_2, LOCAL_CLAIM_2));
+        assertEquals(claimDialectMapping.getMappings(claimURIs, true),
+                Collections.singletonMap(LOCAL_CLAIM_2, EXT_CLAIM_2));
+    }
+
+    @Test
+    public void testReturnedMappingsAreModifiable() {
+
+        ClaimDialectMapping claimDialectMapping = new ClaimDialectMapping(getMappings());
+
+        // Callers merge other mappings into the returned mappings, which must not change the table.
+        claimDialectMapping.getMappings(null, true).put("http://wso2.org/claims/country", "country");
+        claimDialectMapping.getMappings(null, true).clear();
+        assertEquals(claimDialectMapping.getMappings(null, true).size(), 2);
+        assertTrue(claimDialectMapping.getMappings(null, false).containsKey(EXT_CLAIM_1));
+    }
+
+    private Map<String, String> getMappings() {
+
+        Map<String, String> mappings = new HashMap<>();
+        mappings.put(EXT_CLAIM_1, LOCAL_CLAIM_1);
+        mappings.put(EXT_CLAIM_2, LOCAL_CLAIM_2);
+        return mappings;
+    }
+}
@@ -0,0 +1,431 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.configuration.mgt.core.cache;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Represents the cache that holds the content of the configuration resource files.
+ * The content is stored off-heap and addressed by its SHA-256 digest, hence a file shared by many resources or
+ * tenants, e.g. a default branding asset, is stored only once. The total size of the stored content is bounded and
+ * the least recently used files are evicted once the bound is reached. Files larger than the maximum file size are
+ * not cached and streamed from the database as is.
+ * File ids are never reused for a different content, hence a cached file is only invalidated once the file or its
+ * resource is deleted or replaced. The invalidation is local to the node, hence the cache is disabled by default and
+ * should only be enabled on single node deployments, or with a timeout short enough to tolerate serving the files
+ * deleted from the other nodes of a cluster until the entries expire.
+ */
+public class ResourceFileContentCache {
+
+    private static final Log LOG = LogFactory.getLog(ResourceFileContentCache.class);
+
+    private static final String ENABLE_PROPERTY = "ConfigurationStore.FileContentCache.Enable";
+    private static final String MAX_SIZE_PROPERTY = "ConfigurationStore.FileContentCache.MaxSizeInBytes";
+    private static final String MAX_FILE_SIZE_PROPERTY = "ConfigurationStore.FileContentCache.MaxFileSizeInBytes";
+    private static final String TIMEOUT_PROPERTY = "ConfigurationStore.FileContentCache.TimeoutInSeconds";
+    private static final long DEFAULT_MAX_SIZE = 32L * 1024 * 1024;
+    private static final long DEFAULT_MAX_FILE_SIZE = 1024L * 1024;
+    private static final long DEFAULT_TIMEOUT_IN_SECONDS = 900;
+    private static final int READ_BUFFER_SIZE = 8192;
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private static volatile ResourceFileContentCache instance;
+
+    private final boolean enabled;
+    private final long maxSize;
+    private final long maxFileSize;
+    private final long timeoutInMillis;
+
+    // Files in the access order, hence the eldest entry is the least recently used one.
+    private final LinkedHashMap<FileKey, FileEntry> files = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, ContentBlock> contentBlocks = new HashMap<>();
+    private long size;
+
+    private ResourceFileContentCache() {
+
+        this(Boolean.parseBoolean(StringUtils.defaultIfBlank(IdentityUtil.getProperty(ENABLE_PROPERTY), "false")),
+                readLongProperty(MAX_SIZE_PROPERTY, DEFAULT_MAX_SIZE),
+                readLongProperty(MAX_FILE_SIZE_PROPERTY, DEFAULT_MAX_FILE_SIZE),
+                readLongProperty(TIMEOUT_PROPERTY, DEFAULT_TIMEOUT_IN_SECONDS) * 1000);
+    }
+
+    public ResourceFileContentCache(boolean enabled, long maxSize, long maxFileSize, long timeoutInMillis) {
+
+        this.enabled = enabled && maxSize > 0;
+        this.maxSize = maxSize;
+        this.maxFileSize = Math.min(maxFileSize, maxSize);
+        this.timeoutInMillis = timeoutInMillis;
+    }
+
+    public static ResourceFileContentCache getInstance() {
+
+        if (instance == null) {
+            synchronized (ResourceFileContentCache.class) {
+                if (instance == null) {
+                    instance = new ResourceFileContentCache();
+                }
+            }
+        }
+        return instance;
+    }
+
+    public boolean isEnabled() {
+
+        return enabled;
+    }
+
+    /**
+     * Get a file from the cache.
+     *
+     * @param tenantDomain Tenant domain.
+     * @param resourceType Resource type name.
+     * @param resourceName Resource name.
+     * @param fileId       File id.
+     * @return Stream of the cached file content, or null if the file is not cached.
+     */
+    public ResourceFileInputStream getFile(String tenantDomain, String resourceType, String resourceName,
+                                           String fileId) {
+
+        if (!enabled) {
+            return null;
+        }
+        FileEntry fileEntry;
+        synchronized (this) {
+            FileKey fileKey = new FileKey(tenantDomain, fileId);
+            fileEntry = files.get(fileKey);
+            if (fileEntry == null) {
+                return null;
+            }
+            if (isExpired(fileEntry)) {
+                removeFile(fileKey);
+                return null;
+            }
+        }
+        // The file is looked up by the resource, hence the file is not served for a different resource.
+        if (!fileEntry.resourceType.equals(resourceType) || !fileEntry.resourceName.equals(resourceName)) {
+            return null;
+        }
+        return fileEntry.openStream();
+    }
+
+    /**
+     * Add a file to the cache.
+     * The given stream is consumed and closed if the file is cached. Otherwise, the content read while checking the
+     * file size is streamed before the rest of the given stream.
+     *
+     * @param tenantDomain Tenant domain.
+     * @param resourceType Resource type name.
+     * @param resourceName Resource name.
+     * @param fileId       File id.
+     * @param lastModified Last modified time of the resource of the file, in milliseconds.
+     * @param fileStream   Stream of the file content.
+     * @return Stream of the file content.
+     * @throws IOException If an error occurred while reading the file content.
+     */
+    public InputStream addFile(String tenantDomain, String resourceType, String resourceName, String fileId,
+                               long lastModified, InputStream fileStream) throws IOException {
+
+        if (!enabled) {
+            return fileStream;
+        }
+
+        MessageDigest messageDigest = getMessageDigest();
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        byte[] buffer = new byte[READ_BUFFER_SIZE];
+        int count;
+        while ((count = fileStream.read(buffer)) != -1) {
+            content.write(buffer, 0, count);
+            if (content.size() > maxFileSize) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Resource file: " + fileId + " exceeds the maximum cacheable file size of " +
+                            maxFileSize + " bytes. Hence not cached.");
+                }
+                return new SequenceInputStream(new ByteArrayInputStream(content.toByteArray()), fileStream);
+            }
+            messageDigest.update(buffer, 0, count);
+        }
+        fileStream.close();
+
+        String digest = toHex(messageDigest.digest());
+        byte[] bytes = content.toByteArray();
+        FileEntry fileEntry;
+        synchronized (this) {
+            FileKey fileKey = new FileKey(tenantDomain, fileId);
+            removeFile(fileKey);
+            ContentBlock contentBlock = contentBlocks.get(digest);
+            if (contentBlock == null) {
+                contentBlock = new ContentBlock(digest, bytes);
+                contentBlocks.put(digest, contentBlock);
+                size += bytes.length;
+            }
+            contentBlock.references++;
+            fileEntry = new FileEntry(resourceType, resourceName, contentBlock, lastModified,
+                    System.currentTimeMillis());
+            files.put(fileKey, fileEntry);
+            evictLeastRecentlyUsedFiles();
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Resource file: " + fileId + " of " + bytes.length + " bytes added to the cache. Tenant domain: "
+                    + tenantDomain);
+        }
+        return fileEntry.openStream();
+    }
+
+    /**
+     * Remove a file from the cache.
+     *
+     * @param tenantDomain Tenant domain.
+     * @param fileId       File id.
+     */
+    public synchronized void clearFile(String tenantDomain, String fileId) {
+
+        removeFile(new FileKey(tenantDomain, fileId));
+    }
+
+    /**
+     * Remove the files of a resource from the cache.
+     *
+     * @param tenantDomain Tenant domain.
+     * @param resourceName Resource name.
+     */
+    public synchronized void clearResourceFiles(String tenantDomain, String resourceName) {
+
+        removeFiles(entry -> entry.getKey().tenantDomain.equals(tenantDomain) &&
+                entry.getValue().resourceName.equals(resourceName));
+    }
+
+    /**
+     * Remove the files of a tenant from the cache.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    public synchronized void clearTenantFiles(String tenantDomain) {
+
+        removeFiles(entry -> entry.getKey().tenantDomain.equals(tenantDomain));
+    }
+
+    /**
+     * Remove all the files from the cache.
+     */
+    public synchronized void clear() {
+
+        files.clear();
+        contentBlocks.clear();
+        size = 0;
+    }
+
+    /**
+     * Get the number of cached files.
+     *
+     * @return Number of cached files.
+     */
+    public synchronized int getFileCount() {
+
+        return files.size();
+    }
+
+    /**
+     * Get the total size of the cached content in bytes. Content shared by many files is counted once.
+     *
+     * @return Size of the cached content.
+     */
+    public synchronized long getSize() {
+
+        return size;
+    }
+
+    private boolean isExpired(FileEntry fileEntry) {
+
+        return timeoutInMillis > 0 && System.currentTimeMillis() - fileEntry.cachedTime > timeoutInMillis;
+    }
+
+    private void evictLeastRecentlyUsedFiles() {
+
+        Iterator<Map.Entry<FileKey, FileEntry>> iterator = files.entrySet().iterator();
+        while (size > maxSize && iterator.hasNext()) {
+            Map.Entry<FileKey, FileEntry> eldest = iterator.next();
+            iterator.remove();
+            release(eldest.getValue().contentBlock);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Resource file: " + eldest.getKey().fileId + " evicted from the cache.");
+            }
+        }
+    }
+
+    private void removeFiles(Predicate<Map.Entry<FileKey, FileEntry>> filter) {
+
+        Iterator<Map.Entry<FileKey, FileEntry>> iterator = files.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<FileKey, FileEntry> entry = iterator.next();
+            if (filter.test(entry)) {
+                iterator.remove();
+                release(entry.getValue().contentBlock);
+            }
+        }
+    }
+
+    private void removeFile(FileKey fileKey) {
+
+        FileEntry fileEntry = files.remove(fileKey);
+        if (fileEntry != null) {
+            release(fileEntry.contentBlock);
+        }
+    }
+
+    private void release(ContentBlock contentBlock) {
+
+        contentBlock.references--;
+        if (contentBlock.references == 0) {
+            contentBlocks.remove(contentBlock.digest);
+            size -= contentBlock.content.capacity();
+        }
+    }
+
+    private static MessageDigest getMessageDigest() {
+
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm is not available.", e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+
+        char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[i * 2] = HEX_DIGITS[(bytes[i] >> 4) & 0x0F];
+            chars[i * 2 + 1] = HEX_DIGITS[bytes[i] & 0x0F];
+        }
+        return new String(chars);
+    }
+
+    private static long readLongProperty(String property, long defaultValue) {
+
+        String value = IdentityUtil.getProperty(property);
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            LOG.warn("Invalid value: " + value + " configured for the property: " + property +
+                    ". Using the default value: " + defaultValue);
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Key of a cached file. File ids are unique, hence the resource is not part of the key.
+     */
+    private static final class FileKey {
+
+        private final String tenantDomain;
+        private final String fileId;
+
+        private FileKey(String tenantDomain, String fileId) {
+
+            this.tenantDomain = tenantDomain;
+            this.fileId = fileId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            FileKey that = (FileKey) o;
+            return Objects.equals(tenantDomain, that.tenantDomain) && Objects.equals(fileId, that.fileId);
+        }
+
+        @Override
+        public int hashCode() {
+
+            return Objects.hash(tenantDomain, fileId);
+        }
+    }
+
+    /**
+     * Cached file, referring to the content block of the file.
+     */
+    private static final class FileEntry {
+
+        private final String resourceType;
+        private final String resourceName;
+        private final ContentBlock contentBlock;
+        private final long lastModified;
+        private final long cachedTime;
+
+        private FileEntry(String resourceType, String resourceName, ContentBlock contentBlock, long lastModified,
+                          long cachedTime) {
+
+            this.resourceType = resourceType;
+            this.resourceName = resourceName;
+            this.contentBlock = contentBlock;
+            this.lastModified = lastModified;
+            this.cachedTime = cachedTime;
+        }
+
+        private ResourceFileInputStream openStream() {
+
+            return new ResourceFileInputStream(contentBlock.content, "\"" + contentBlock.digest + "\"", lastModified);
+        }
+    }
+
+    /**
+     * Off-heap content shared by the files with the same digest.
+     */
+    private static final class ContentBlock {
+
+        private final String digest;
+        private final ByteBuffer content;
+        private int references;
+
+        private ContentBlock(String digest, byte[] bytes) {
+
+            this.digest = digest;
+            ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+            buffer.put(bytes);
+            buffer.flip();
+            this.content = buffer.asReadOnlyBuffer();
+        }
+    }
+}
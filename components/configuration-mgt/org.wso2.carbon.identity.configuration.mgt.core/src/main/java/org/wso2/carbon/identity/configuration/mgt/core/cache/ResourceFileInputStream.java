@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.configuration.mgt.core.cache;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Input stream of a resource file served from the {@link ResourceFileContentCache}.
+ * The stream reads directly from the cached content, hence the content is not copied per request. The stream also
+ * carries the ETag and the last modified time of the content, which can be used for conditional requests.
+ */
+public class ResourceFileInputStream extends InputStream {
+
+    private final ByteBuffer content;
+    private final String eTag;
+    private final long lastModified;
+
+    ResourceFileInputStream(ByteBuffer content, String eTag, long lastModified) {
+
+        // A duplicate keeps the position of this stream independent of the other readers of the content.
+        this.content = content.duplicate();
+        this.content.mark();
+        this.eTag = eTag;
+        this.lastModified = lastModified;
+    }
+
+    /**
+     * Get the ETag of the file content.
+     *
+     * @return Quoted SHA-256 digest of the file content.
+     */
+    public String getETag() {
+
+        return eTag;
+    }
+
+    /**
+     * Get the time the file content was last modified, in milliseconds.
+     *
+     * @return Last modified time.
+     */
+    public long getLastModified() {
+
+        return lastModified;
+    }
+
+    /**
+     * Get the length of the file content in bytes.
+     *
+     * @return Content length.
+     */
+    public long getLength() {
+
+        return content.limit();
+    }
+
+    @Override
+    public int read() {
+
+        return content.hasRemaining() ? content.get() & 0xFF : -1;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) {
+
+        if (length == 0) {
+            return 0;
+        }
+        if (!content.hasRemaining()) {
+            return -1;
+        }
+        int count = Math.min(length, content.remaining());
+        content.get(bytes, offset, count);
+        return count;
+    }
+
+    @Override
+    public long skip(long count) {
+
+        if (count <= 0) {
+            return 0;
+        }
+        int skipped = (int) Math.min(count, content.remaining());
+        content.position(content.position() + skipped);
+        return skipped;
+    }
+
+    @Override
+    public int available() {
+
+        return content.remaining();
+    }
+
+    @Override
+    public boolean markSupported() {
+
+        return true;
+    }
+
+    @Override
+    public synchronized void mark(int readLimit) {
+
+        content.mark();
+    }
+
+    @Override
+    public synchronized void reset() {
+
+        content.reset();
+    }
+}
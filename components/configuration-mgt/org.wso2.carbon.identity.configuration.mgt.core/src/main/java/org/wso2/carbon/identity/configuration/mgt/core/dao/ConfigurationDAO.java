@@ -26,6 +26,7 @@ import org.wso2.carbon.identity.configuration.mgt.core.model.Resources;
 import org.wso2.carbon.identity.configuration.mgt.core.search.Condition;
 
 import java.io.InputStream;
+import java.sql.Timestamp;
 import java.util.List;
 
 /**
@@ -240,6 +241,22 @@ public interface ConfigurationDAO {
     InputStream getFileById(String resourceType, String resourceName, String fileId) throws
             ConfigurationManagementException;
 
+    /**
+     * Get the last modified time of the file. Files are never modified in place, hence this is the last modified
+     * time of the {@link Resource} of the file.
+     *
+     * @param resourceType resource type name.
+     * @param resourceName resource name.
+     * @param fileId       Id of the file.
+     * @return Last modified time of the file, or null if the file or its last modified time is not available.
+     * @throws ConfigurationManagementException Configuration Management Exception.
+     */
+    default Timestamp getFileLastModified(String resourceType, String resourceName, String fileId)
+            throws ConfigurationManagementException {
+
+        return null;
+    }
+
     /**
      * Get files for the {@link Resource}.
      *
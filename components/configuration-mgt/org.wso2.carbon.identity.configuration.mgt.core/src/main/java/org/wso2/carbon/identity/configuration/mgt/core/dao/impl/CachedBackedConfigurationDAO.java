@@ -24,6 +24,8 @@ import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceByNameCache
 import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceByNameCacheKey;
 import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceCacheEntry;
 import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceByIdCacheKey;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceFileContentCache;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceFileInputStream;
 import org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants;
 import org.wso2.carbon.identity.configuration.mgt.core.dao.ConfigurationDAO;
 import org.wso2.carbon.identity.configuration.mgt.core.exception.ConfigurationManagementException;
@@ -37,10 +39,14 @@ import org.wso2.carbon.identity.configuration.mgt.core.search.Condition;
 import org.wso2.carbon.user.api.UserStoreException;
 import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.sql.Timestamp;
 import java.util.List;
 
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants.ErrorMessages.ERROR_CODE_GET_FILE;
 import static org.wso2.carbon.identity.configuration.mgt.core.util.ConfigurationUtils.handleClientException;
+import static org.wso2.carbon.identity.configuration.mgt.core.util.ConfigurationUtils.handleServerException;
 
 /**
  * This is a wrapper data access object to the default data access object to provide caching functionalities.
@@ -51,12 +57,20 @@ public class CachedBackedConfigurationDAO implements ConfigurationDAO {
     private final ConfigurationDAO configurationDAO;
     private final ResourceByIdCache resourceByIdCache;
     private final ResourceByNameCache resourceByNameCache;
+    private final ResourceFileContentCache resourceFileContentCache;
 
     public CachedBackedConfigurationDAO(ConfigurationDAO configurationDAO) {
     
+        this(configurationDAO, ResourceFileContentCache.getInstance());
+    }
+
+    public CachedBackedConfigurationDAO(ConfigurationDAO configurationDAO,
+                                        ResourceFileContentCache resourceFileContentCache) {
+
         this.configurationDAO = configurationDAO;
         this.resourceByIdCache = ResourceByIdCache.getInstance();
         this.resourceByNameCache = ResourceByNameCache.getInstance();
+        this.resourceFileContentCache = resourceFileContentCache;
     }
 
     @Override
@@ -126,6 +140,7 @@ public class CachedBackedConfigurationDAO implements ConfigurationDAO {
     public void deleteResourceById(int tenantId, String resourceId) throws ConfigurationManagementException {
 
         configurationDAO.deleteResourceById(tenantId, resourceId);
+        deleteFilesFromCacheByResourceId(resourceId, getTenantDomain(tenantId));
         deleteCacheByResourceId(resourceId, tenantId);
     }
 
@@ -134,6 +149,7 @@ public class CachedBackedConfigurationDAO implements ConfigurationDAO {
 
         configurationDAO.replaceResourceWithFiles(resource);
         deleteResourceFromCache(resource);
+        deleteFilesFromCache(resource);
     }
 
     @Override
@@ -141,6 +157,7 @@ public class CachedBackedConfigurationDAO implements ConfigurationDAO {
             throws ConfigurationManagementException {
 
         configurationDAO.deleteResourceByName(tenantId, resourceTypeId, name);
+        resourceFileContentCache.clearResourceFiles(getTenantDomain(tenantId), name);
         deleteCacheByResourceByName(name, tenantId);
     }
 
@@ -156,6 +173,7 @@ public class CachedBackedConfigurationDAO implements ConfigurationDAO {
 
         configurationDAO.replaceResource(resource);
         deleteResourceFromCache(resource);
+        deleteFilesFromCache(resource);
     }
 
     @Override
@@ -227,13 +245,51 @@ public class CachedBackedConfigurationDAO implements ConfigurationDAO {
             throws ConfigurationManagementException {
 
         configurationDAO.addFile(fileId, resourceId, fileName, fileStream);
+        resourceFileContentCache.clearFile(getTenantDomain(), fileId);
     }
 
     @Override
     public InputStream getFileById(String resourceType, String resourceName, String fileId)
             throws ConfigurationManagementException {
 
-        return configurationDAO.getFileById(resourceType, resourceName, fileId);
+        String tenantDomain = getTenantDomain();
+        ResourceFileInputStream cachedFileStream =
+                resourceFileContentCache.getFile(tenantDomain, resourceType, resourceName, fileId);
+        if (cachedFileStream != null) {
+            if (log.isDebugEnabled()) {
+                String message = String.format("Cache hit for resource file by it's id. File id: %s, Tenant " +
+                        "domain: %s", fileId, tenantDomain);
+                log.debug(message);
+            }
+            return cachedFileStream;
+        }
+        if (log.isDebugEnabled()) {
+            String message = String.format("Cache miss for resource file by it's id. File id: %s, Tenant domain: %s",
+                    fileId, tenantDomain);
+            log.debug(message);
+        }
+        if (!resourceFileContentCache.isEnabled()) {
+            return configurationDAO.getFileById(resourceType, resourceName, fileId);
+        }
+        // Read before the content, hence a concurrent change can only make the served time older than the content.
+        Timestamp lastModified = configurationDAO.getFileLastModified(resourceType, resourceName, fileId);
+        InputStream fileStream = configurationDAO.getFileById(resourceType, resourceName, fileId);
+        if (fileStream == null || lastModified == null) {
+            return fileStream;
+        }
+        try {
+            return resourceFileContentCache.addFile(tenantDomain, resourceType, resourceName, fileId,
+                    lastModified.getTime(), fileStream);
+        } catch (IOException e) {
+            throw handleServerException(ERROR_CODE_GET_FILE, fileId, e);
+        }
+    }
+
+    @Override
+    public Timestamp getFileLastModified(String resourceType, String resourceName, String fileId)
+            throws ConfigurationManagementException {
+
+        return configurationDAO.getFileLastModified(resourceType, resourceName, fileId);
     }
 
     @Override
@@ -255,12 +311,14 @@ public class CachedBackedConfigurationDAO implements ConfigurationDAO {
             throws ConfigurationManagementException {
 
         configurationDAO.deleteFileById(resourceType, resourceName, fileId);
+        resourceFileContentCache.clearFile(getTenantDomain(), fileId);
     }
 
     @Override
     public void deleteFiles(String resourceId) throws ConfigurationManagementException {
 
         configurationDAO.deleteFiles(resourceId);
+        deleteFilesFromCacheByResourceId(resourceId, getTenantDomain());
     }
 
     @Override
@@ -288,6 +346,7 @@ public class CachedBackedConfigurationDAO implements ConfigurationDAO {
         configurationDAO.deleteResourcesByType(tenantId, resourceTypeId);
         for (Resource resource : resourceList) {
             deleteResourceFromCache(resource);
+            deleteFilesFromCache(resource);
         }
     }
 
@@ -390,6 +449,42 @@ public class CachedBackedConfigurationDAO implements ConfigurationDAO {
         resourceByNameCache.clearCacheEntry(resourceByNameCacheKey);
     }
 
+    private void deleteFilesFromCache(Resource resource) {
+
+        if (resource == null) {
+            return;
+        }
+        resourceFileContentCache.clearResourceFiles(resource.getTenantDomain(), resource.getResourceName());
+    }
+
+    private void deleteFilesFromCacheByResourceId(String resourceId, String tenantDomain)
+            throws ConfigurationManagementException {
+
+        Resource resource = getResourceFromCacheById(resourceId, tenantDomain);
+        if (resource != null) {
+            resourceFileContentCache.clearResourceFiles(tenantDomain, resource.getResourceName());
+        } else {
+            // Files are cached by the resource name, hence the files of the tenant are cleared.
+            resourceFileContentCache.clearTenantFiles(tenantDomain);
+        }
+    }
+
+    private String getTenantDomain() {
+
+        return PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+    }
+
+    private String getTenantDomain(int tenantId) throws ConfigurationManagementException {
+
+        try {
+            return ConfigurationManagerComponentDataHolder.getInstance().getRealmService().getTenantManager()
+                    .getDomain(tenantId);
+        } catch (UserStoreException e) {
+            throw new ConfigurationManagementException("Error when setting tenant domain. ",
+                    ConfigurationConstants.ErrorMessages.ERROR_CODE_UNEXPECTED.getCode(), e);
+        }
+    }
+
     private void deleteCacheByResourceId(String resourceId, int tenantId) throws ConfigurationManagementException {
 
         Resource resource = getResourceFromCacheById(resourceId, tenantId);
@@ -1459,6 +1459,21 @@ public class ConfigurationDAOImpl implements ConfigurationDAO {
         }
     }
 
+    @Override
+    public Timestamp getFileLastModified(String resourceType, String resourceName, String fileId)
+            throws ConfigurationManagementException {
+
+        JdbcTemplate jdbcTemplate = JdbcUtils.getNewTemplate();
+        try {
+            return jdbcTemplate.fetchSingleRecord(SQLConstants.GET_FILE_LAST_MODIFIED_SQL,
+                    (resultSet, rowNumber) -> resultSet.getTimestamp(DB_SCHEMA_COLUMN_NAME_LAST_MODIFIED, calendar),
+                    preparedStatement -> setPreparedStatementForFileGetById(resourceType, resourceName, fileId,
+                            preparedStatement));
+        } catch (DataAccessException e) {
+            throw handleServerException(ERROR_CODE_GET_FILE, fileId, e);
+        }
+    }
+
     @Override
     public void deleteFileById(String resourceType, String resourceName, String fileId) throws ConfigurationManagementException {
 
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.configuration.mgt.core.cache;
+
+import org.apache.commons.io.IOUtils;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class ResourceFileContentCacheTest {
+
+    private static final String TENANT_DOMAIN = "carbon.super";
+    private static final String RESOURCE_TYPE = "branding";
+    private static final String RESOURCE_NAME = "logo";
+    private static final long LAST_MODIFIED = 1700000000000L;
+
+    private ResourceFileContentCache cache;
+
+    @BeforeMethod
+    public void setUp() {
+
+        cache = new ResourceFileContentCache(true, 64, 32, 0);
+    }
+
+    @Test
+    public void testAddAndGetFile() throws Exception {
+
+        InputStream fileStream = cache.addFile(TENANT_DOMAIN, RESOURCE_TYPE, RESOURCE_NAME, "file-1", LAST_MODIFIED,
+                stream("sample-content"));
+        assertTrue(fileStream instanceof ResourceFileInputStream);
+        assertEquals(IOUtils.toString(fileStream, StandardCharsets.UTF_8), "sample-content");
+
+        ResourceFileInputStream cachedFileStream = cache.getFile(TENANT_DOMAIN, RESOURCE_TYPE, RESOURCE_NAME,
+                "file-1");
+        assertNotNull(cachedFileStream);
+        assertEquals(cachedFileStream.getLength(), 14);
+        assertEquals(cachedFileStream.getLastModified(), LAST_MODIFIED);
+        assertEquals(cachedFileStream.getETag(), ((ResourceFileInputStream) fileStream).getETag());
+        assertTrue(cachedFileStream.getETag().startsWith("\""));
+        assertEquals(IOUtils.toString(cachedFileStream, StandardCharsets.UTF_8), "sample-content");
+    }
+
+    @Test
+    public void testFileIsNotServedForOtherResources() throws Exception {
+
+        cache.addFile(TENANT_DOMAIN, RESOURCE_TYPE, RESOURCE_NAME, "file-1", LAST_MODIFIED, stream("sample-content"));
+
+        assertNull(cache.getFile(TENANT_DOMAIN, RESOURCE_TYPE, "other-resource", "file-1"));
+        assertNull(cache.getFile("other-tenant", RESOURCE_TYPE, RESOURCE_NAME, "file-1"));
+    }
+
+    @Test
+    public void testSameContentIsStoredOnce() throws Exception {
+
+        cache.addFile(TENANT_DOMAIN, RESOURCE_TYPE, RESOURCE_NAME, "file-1", LAST_MODIFIED, stream("sample-content"));
+        cache.addFile("other-tenant", RESOURCE_TYPE, RESOURCE_NAME, "file-2", LAST_MODIFIED, stream("sample-content"));
+
+        assertEquals(cache.getFileCount(), 2);
+        assertEquals(cache.getSize(), 14);
+
+        cache.clearFile(TENANT_DOMAIN, "file-1");
+        assertEquals(cache.getSize(), 14);
+        cache.clearFile("other-tenant", "file-2");
+        assertEquals(cache.getSize(), 0);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedFileIsEvicted() throws Exception {
+
+        cache.addFile(TENANT_DOMAIN, RESOURCE_TYPE, RESOURCE_NAME, "file-1", LAST_MODIFIED, stream(repeat('a', 30)));
+        cache.addFile(TENANT_DOMAIN, RESOURCE_TYPE, RESOURCE_NAME, "file-2", LAST_MODIFIED, stream(repeat('b', 30)));
+        assertNotNull(cache.getFile(TENANT_DOMAIN, RESOURCE_TYPE, RESOURCE_NAME, "file-1"));
+
+        cache.addFile(TENANT_DOMAIN, RESOURCE_TYPE, RESOURCE_NAME, "file-3", LAST_MODIFIED, stream(repeat('c', 30)));
+
+        assertNotNull(cache.getFile(TENANT_DOMAIN, RESOURCE_TYPE, RESOURCE_NAME, "file-1"));
+        assertNull(cache.getFile(TENANT_DOMAIN, RESOURCE_TYPE, RESOURCE_NAME, "file-2"));
+        assertNotNull(cache.getFile(TENANT_DOMAIN, RESOURCE_TYPE, RESOURCE_NAME, "file-3"));
+        assertEquals(cache.getSize(), 60);
+    }
+
+    @Test
+    public void testLargeFileIsStreamedWithoutCaching() throws Exception {
+
+        String content = repeat('a', 20000);
+        InputStream fileStream = cache.addFile(TENANT_DOMAIN, RESOURCE_TYPE, RESOURCE_NAME, "file-1", LAST_MODIFIED,
+                stream(content));
+
+        assertFalse(fileStream instanceof ResourceFileInputStream);
+        assertEquals(IOUtils.toString(fileStream, StandardCharsets.UTF_8), content);
+        assertNull(cache.getFile(TENANT_DOMAIN, RESOURCE_TYPE, RESOURCE_NAME, "file-1"));
+        assertEquals(cache.getSize(), 0);
+    }
+
+    @Test
+    public void testClearResourceAndTenantFiles() throws Exception {
+
+        cache.addFile(TENANT_DOMAIN, RESOURCE_TYPE, RESOURCE_NAME, "file-1", LAST_MODIFIED, stream("content-1"));
+        cache.addFile(TENANT_DOMAIN, RESOURCE_TYPE, "other-resource", "file-2", LAST_MODIFIED, stream("content-2"));
+        cache.addFile("other-tenant", RESOURCE_TYPE, RESOURCE_NAME, "file-3", LAST_MODIFIED, stream("content-3"));
+
+        cache.clearResourceFiles(TENANT_DOMAIN, RESOURCE_NAME);
+        assertNull(cache.getFile(TENANT_DOMAIN, RESOURCE_TYPE, RESOURCE_NAME, "file-1"));
+        assertNotNull(cache.getFile(TENANT_DOMAIN, RESOURCE_TYPE, "other-resource", "file-2"));
+
+        cache.clearTenantFiles(TENANT_DOMAIN);
+        assertNull(cache.getFile(TENANT_DOMAIN, RESOURCE_TYPE, "other-resource", "file-2"));
+        assertNotNull(cache.getFile("other-tenant", RESOURCE_TYPE, RESOURCE_NAME, "file-3"));
+        assertEquals(cache.getFileCount(), 1);
+    }
+
+    @Test
+    public void testDisabledCache() throws Exception {
+
+        ResourceFileContentCache disabledCache = new ResourceFileContentCache(false, 64, 32, 0);
+        InputStream fileStream = stream("sample-content");
+
+        assertEquals(disabledCache.addFile(TENANT_DOMAIN, RESOURCE_TYPE, RESOURCE_NAME, "file-1", LAST_MODIFIED,
+                fileStream), fileStream);
+        assertNull(disabledCache.getFile(TENANT_DOMAIN, RESOURCE_TYPE, RESOURCE_NAME, "file-1"));
+    }
+
+    private InputStream stream(String content) {
+
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String repeat(char character, int count) {
+
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            builder.append(character);
+        }
+        return builder.toString();
+    }
+}
@@ -46,6 +46,7 @@ import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.sql.Blob;
 import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -60,6 +61,7 @@ import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertThrows;
 import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertNotNull;
 import static org.testng.AssertJUnit.assertNull;
 
 /**
@@ -172,6 +174,17 @@ public class ConfigurationDAOImplTest {
         }
     }
 
+    @Test(description = "Test for getFileLastModified method", dependsOnMethods = "testAddResource")
+    public void testGetFileLastModified() throws Exception {
+
+        Resource dbResource = configurationDAO.getResourceById(RESOURCE_ID);
+        Timestamp lastModified = configurationDAO.getFileLastModified(RESOURCE_TYPE_NAME, RESOURCE_NAME, FILE_ID);
+        assertNotNull(lastModified);
+        assertEquals(dbResource.getLastModified(), lastModified.toInstant().toString());
+
+        assertNull(configurationDAO.getFileLastModified(RESOURCE_TYPE_NAME, RESOURCE_NAME, "wrong-id"));
+    }
+
     @Test(description = "Test for getFiles method", dependsOnMethods = "testAddResource")
     public void testGetFiles() throws Exception {
 
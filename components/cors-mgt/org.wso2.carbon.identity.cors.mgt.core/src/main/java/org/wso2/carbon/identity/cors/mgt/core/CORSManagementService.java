@@ -18,6 +18,7 @@
 
 package org.wso2.carbon.identity.cors.mgt.core;
 
+import org.apache.commons.lang.NotImplementedException;
 import org.wso2.carbon.identity.cors.mgt.core.exception.CORSManagementServiceException;
 import org.wso2.carbon.identity.cors.mgt.core.model.CORSApplication;
 import org.wso2.carbon.identity.cors.mgt.core.model.CORSConfiguration;
@@ -83,6 +84,23 @@ public interface CORSManagementService {
     void deleteCORSOrigins(String applicationId, List<String> originIds, String tenantDomain)
             throws CORSManagementServiceException;
 
+    /**
+     * Check whether an origin is allowed by the CORS origins of a tenant or an application.
+     * The origin is matched against an index of the CORS origins, hence the lookup doesn't depend on the number of
+     * CORS origins.
+     *
+     * @param tenantDomain  The tenant domain.
+     * @param applicationId The application ID. If blank, the origin is matched against the CORS origins of the tenant.
+     * @param origin        The origin of the request.
+     * @return True if the origin is allowed.
+     * @throws CORSManagementServiceException
+     */
+    default boolean isAllowedOrigin(String tenantDomain, String applicationId, String origin)
+            throws CORSManagementServiceException {
+
+        throw new NotImplementedException();
+    }
+
     /**
      * Returns a list of the applications associated with a particular CORS origin.
      *
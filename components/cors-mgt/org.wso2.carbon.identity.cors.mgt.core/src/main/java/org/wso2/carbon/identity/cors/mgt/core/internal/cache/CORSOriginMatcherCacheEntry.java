@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.cors.mgt.core.internal.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheEntry;
+import org.wso2.carbon.identity.cors.mgt.core.internal.impl.CORSOriginMatcher;
+
+/**
+ * CORS origin matcher cache entry.
+ */
+public class CORSOriginMatcherCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = 4406437329536129374L;
+
+    private final CORSOriginMatcher corsOriginMatcher;
+
+    public CORSOriginMatcherCacheEntry(CORSOriginMatcher corsOriginMatcher) {
+
+        this.corsOriginMatcher = corsOriginMatcher;
+    }
+
+    public CORSOriginMatcher getCORSOriginMatcher() {
+
+        return corsOriginMatcher;
+    }
+}
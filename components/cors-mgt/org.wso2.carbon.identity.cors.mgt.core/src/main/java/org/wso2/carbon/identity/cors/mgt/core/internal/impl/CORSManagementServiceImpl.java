@@ -34,6 +34,9 @@ import org.wso2.carbon.identity.cors.mgt.core.exception.CORSManagementServiceCli
 import org.wso2.carbon.identity.cors.mgt.core.exception.CORSManagementServiceException;
 import org.wso2.carbon.identity.cors.mgt.core.exception.CORSManagementServiceServerException;
 import org.wso2.carbon.identity.cors.mgt.core.internal.CORSManagementServiceHolder;
+import org.wso2.carbon.identity.cors.mgt.core.internal.cache.CORSOriginMatcherCache;
+import org.wso2.carbon.identity.cors.mgt.core.internal.cache.CORSOriginMatcherCacheEntry;
+import org.wso2.carbon.identity.cors.mgt.core.internal.cache.CORSOriginMatcherCacheKey;
 import org.wso2.carbon.identity.cors.mgt.core.internal.util.CORSConfigurationUtils;
 import org.wso2.carbon.identity.cors.mgt.core.model.CORSApplication;
 import org.wso2.carbon.identity.cors.mgt.core.model.CORSConfiguration;
@@ -51,6 +54,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import static org.wso2.carbon.identity.cors.mgt.core.constant.ErrorMessages.ERROR_CODE_CORS_CONFIG_RETRIEVE;
@@ -132,6 +136,7 @@ public class CORSManagementServiceImpl implements CORSManagementService {
                     corsOrigin.setOrigin(origin.getValue());
                     return corsOrigin;
                 }).collect(Collectors.toList()), tenantId);
+        clearCORSOriginMatchers(applicationId, tenantDomain);
     }
 
     /**
@@ -163,14 +168,17 @@ public class CORSManagementServiceImpl implements CORSManagementService {
         }
 
         // Add the CORS origins.
-        getCORSOriginDAO().addCORSOrigins(applicationBasicInfo.getApplicationId(),
-                originList.stream().map(origin -> {
-                    // Create the CORS origin.
-                    CORSOrigin corsOrigin = new CORSOrigin();
-                    corsOrigin.setOrigin(origin.getValue());
-                    return corsOrigin;
-                }).collect(Collectors.toList()), tenantId
-        );
+        List<CORSOrigin> corsOrigins = originList.stream().map(origin -> {
+            // Create the CORS origin.
+            CORSOrigin corsOrigin = new CORSOrigin();
+            corsOrigin.setOrigin(origin.getValue());
+            return corsOrigin;
+        }).collect(Collectors.toList());
+        getCORSOriginDAO().addCORSOrigins(applicationBasicInfo.getApplicationId(), corsOrigins, tenantId);
+
+        // Add the CORS origins to the matchers of the application and the tenant.
+        updateCORSOriginMatcher(applicationId, tenantDomain, matcher -> matcher.addOrigins(corsOrigins));
+        updateCORSOriginMatcher(null, tenantDomain, matcher -> matcher.addOrigins(corsOrigins));
     }
 
     /**
@@ -199,6 +207,40 @@ public class CORSManagementServiceImpl implements CORSManagementService {
 
         // Delete the CORS origin application associations.
         getCORSOriginDAO().deleteCORSOrigins(applicationBasicInfo.getApplicationId(), originIds, tenantId);
+
+        // Remove the CORS origins from the matcher of the application. The matcher of the tenant is cleared, as the
+        // CORS origins may still be associated with other applications of the tenant.
+        List<CORSOrigin> deletedCORSOrigins = existingCORSOrigins.stream()
+                .filter(corsOrigin -> originIds.contains(corsOrigin.getId()))
+                .collect(Collectors.toList());
+        updateCORSOriginMatcher(applicationId, tenantDomain, matcher -> matcher.removeOrigins(deletedCORSOrigins));
+        clearCORSOriginMatcher(null, tenantDomain);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isAllowedOrigin(String tenantDomain, String applicationId, String origin)
+            throws CORSManagementServiceException {
+
+        Origin requestOrigin;
+        try {
+            requestOrigin = new Origin(origin);
+        } catch (CORSManagementServiceClientException e) {
+            if (log.isDebugEnabled()) {
+                log.debug(String.format("Invalid origin: %s received for the tenant domain: %s", origin,
+                        tenantDomain));
+            }
+            return false;
+        }
+
+        CORSConfiguration corsConfiguration = getCORSConfiguration(tenantDomain);
+        if (corsConfiguration.isAllowAnyOrigin()) {
+            return true;
+        }
+        return getCORSOriginMatcher(applicationId, tenantDomain)
+                .matches(requestOrigin, corsConfiguration.isAllowSubdomains());
     }
 
     /**
@@ -236,6 +278,82 @@ public class CORSManagementServiceImpl implements CORSManagementService {
         getCORSConfigurationDAO().setCORSConfigurationByTenantDomain(corsConfiguration, tenantDomain);
     }
 
+    /**
+     * Returns the CORS origin matcher of an application, or of the tenant if the application ID is blank.
+     * The matcher of the tenant is built from the CORS origins of the tenant and its parent organizations.
+     *
+     * @param applicationId The application ID.
+     * @param tenantDomain  The tenant domain.
+     * @return The CORS origin matcher.
+     * @throws CORSManagementServiceException
+     */
+    private CORSOriginMatcher getCORSOriginMatcher(String applicationId, String tenantDomain)
+            throws CORSManagementServiceException {
+
+        CORSOriginMatcherCacheKey cacheKey = getCORSOriginMatcherCacheKey(applicationId);
+        CORSOriginMatcherCacheEntry cacheEntry =
+                CORSOriginMatcherCache.getInstance().getValueFromCache(cacheKey, tenantDomain);
+        if (cacheEntry != null) {
+            return cacheEntry.getCORSOriginMatcher();
+        }
+
+        List<CORSOrigin> corsOrigins = cacheKey.getApplicationId() == null ? getTenantCORSOrigins(tenantDomain) :
+                getApplicationCORSOrigins(applicationId, tenantDomain);
+        CORSOriginMatcher corsOriginMatcher = new CORSOriginMatcher(corsOrigins);
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Adding CORS origin matcher to cache for the application id: %s, tenant " +
+                    "domain: %s", applicationId, tenantDomain));
+        }
+        CORSOriginMatcherCache.getInstance().addToCache(cacheKey, new CORSOriginMatcherCacheEntry(corsOriginMatcher),
+                tenantDomain);
+        return corsOriginMatcher;
+    }
+
+    /**
+     * Update the cached CORS origin matcher of an application, or of the tenant if the application ID is null.
+     * The matcher is re-added to the cache, so that the matcher is invalidated in the other nodes of the cluster.
+     *
+     * @param applicationId The application ID.
+     * @param tenantDomain  The tenant domain.
+     * @param update        The update of the matcher.
+     */
+    private void updateCORSOriginMatcher(String applicationId, String tenantDomain,
+                                         Consumer<CORSOriginMatcher> update) {
+
+        CORSOriginMatcherCacheKey cacheKey = getCORSOriginMatcherCacheKey(applicationId);
+        CORSOriginMatcherCacheEntry cacheEntry =
+                CORSOriginMatcherCache.getInstance().getValueFromCache(cacheKey, tenantDomain);
+        if (cacheEntry == null) {
+            // The matcher is built with the next lookup.
+            return;
+        }
+        update.accept(cacheEntry.getCORSOriginMatcher());
+        CORSOriginMatcherCache.getInstance().addToCache(cacheKey, cacheEntry, tenantDomain);
+    }
+
+    /**
+     * Clear the cached CORS origin matchers of an application and the tenant.
+     *
+     * @param applicationId The application ID.
+     * @param tenantDomain  The tenant domain.
+     */
+    private void clearCORSOriginMatchers(String applicationId, String tenantDomain) {
+
+        clearCORSOriginMatcher(applicationId, tenantDomain);
+        clearCORSOriginMatcher(null, tenantDomain);
+    }
+
+    private void clearCORSOriginMatcher(String applicationId, String tenantDomain) {
+
+        CORSOriginMatcherCache.getInstance().clearCacheEntry(getCORSOriginMatcherCacheKey(applicationId),
+                tenantDomain);
+    }
+
+    private CORSOriginMatcherCacheKey getCORSOriginMatcherCacheKey(String applicationId) {
+
+        return new CORSOriginMatcherCacheKey(StringUtils.isBlank(applicationId) ? null : applicationId);
+    }
+
     /**
      * Returns a CORSOriginDAO instance.
      *
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.cors.mgt.core.internal.impl;
+
+import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.identity.cors.mgt.core.exception.CORSManagementServiceClientException;
+import org.wso2.carbon.identity.cors.mgt.core.model.CORSOrigin;
+import org.wso2.carbon.identity.cors.mgt.core.model.Origin;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index of the CORS origins of a tenant or an application, for matching the origin of a request.
+ * Registered origins are kept in a hashed set by their canonical form, i.e. {@code scheme://host[:port]}, and the
+ * wildcard origins, e.g. {@code https://*.example.com}, are kept in a hashed set by their parent domain. Hence an
+ * origin is matched by a lookup of the origin and a lookup per parent domain of the origin host, instead of a scan
+ * of the registered origins.
+ * The index is updated in place as the origins are added or removed.
+ */
+public class CORSOriginMatcher implements Serializable {
+
+    private static final long serialVersionUID = -2317085934624815120L;
+
+    private static final String SCHEME_SEPARATOR = "://";
+    private static final String WILDCARD_PREFIX = "*.";
+
+    private final Set<String> exactOrigins = ConcurrentHashMap.newKeySet();
+    private final Set<String> wildcardOrigins = ConcurrentHashMap.newKeySet();
+
+    public CORSOriginMatcher(Collection<CORSOrigin> corsOrigins) {
+
+        addOrigins(corsOrigins);
+    }
+
+    /**
+     * Add origins to the index.
+     *
+     * @param corsOrigins CORS origins.
+     */
+    public void addOrigins(Collection<CORSOrigin> corsOrigins) {
+
+        for (CORSOrigin corsOrigin : corsOrigins) {
+            addOrigin(corsOrigin.getOrigin());
+        }
+    }
+
+    /**
+     * Remove origins from the index.
+     *
+     * @param corsOrigins CORS origins.
+     */
+    public void removeOrigins(Collection<CORSOrigin> corsOrigins) {
+
+        for (CORSOrigin corsOrigin : corsOrigins) {
+            removeOrigin(corsOrigin.getOrigin());
+        }
+    }
+
+    /**
+     * Check whether an origin matches an origin in the index.
+     *
+     * @param origin          Origin of the request.
+     * @param allowSubdomains Whether the subdomains of the registered origins are allowed.
+     * @return True if the origin is matched.
+     */
+    public boolean matches(Origin origin, boolean allowSubdomains) {
+
+        if (origin.getScheme() == null || origin.getHost() == null) {
+            // The "null" origin is only matched by the value.
+            return exactOrigins.contains(origin.getValue());
+        }
+
+        String portSuffix = origin.getPort() != -1 ? ":" + origin.getPort() : StringUtils.EMPTY;
+        String schemePrefix = origin.getScheme() + SCHEME_SEPARATOR;
+        if (exactOrigins.contains(schemePrefix + origin.getSuffix())) {
+            return true;
+        }
+
+        // Look up the parent domains of the host, e.g. b.example.com and example.com for a.b.example.com.
+        String host = origin.getHost();
+        int separatorIndex = host.indexOf('.');
+        while (separatorIndex != -1) {
+            String parentDomainOrigin = schemePrefix + host.substring(separatorIndex + 1) + portSuffix;
+            if (wildcardOrigins.contains(parentDomainOrigin) ||
+                    (allowSubdomains && exactOrigins.contains(parentDomainOrigin))) {
+                return true;
+            }
+            separatorIndex = host.indexOf('.', separatorIndex + 1);
+        }
+        return false;
+    }
+
+    /**
+     * Check whether the index is empty.
+     *
+     * @return True if there are no origins in the index.
+     */
+    public boolean isEmpty() {
+
+        return exactOrigins.isEmpty() && wildcardOrigins.isEmpty();
+    }
+
+    private void addOrigin(String origin) {
+
+        if (StringUtils.isBlank(origin)) {
+            return;
+        }
+        String wildcardOrigin = toWildcardKey(origin);
+        if (wildcardOrigin != null) {
+            wildcardOrigins.add(wildcardOrigin);
+        } else {
+            exactOrigins.add(toExactKey(origin));
+        }
+    }
+
+    private void removeOrigin(String origin) {
+
+        if (StringUtils.isBlank(origin)) {
+            return;
+        }
+        String wildcardOrigin = toWildcardKey(origin);
+        if (wildcardOrigin != null) {
+            wildcardOrigins.remove(wildcardOrigin);
+        } else {
+            exactOrigins.remove(toExactKey(origin));
+        }
+    }
+
+    /**
+     * Get the key of an exact origin. The key is the canonical form of the origin if the origin can be parsed,
+     * else the origin value.
+     */
+    private String toExactKey(String origin) {
+
+        try {
+            Origin parsedOrigin = new Origin(origin);
+            if (parsedOrigin.getScheme() != null && parsedOrigin.getHost() != null) {
+                return parsedOrigin.getScheme() + SCHEME_SEPARATOR + parsedOrigin.getSuffix();
+            }
+        } catch (CORSManagementServiceClientException e) {
+            // The origin is matched by the value.
+        }
+        return origin;
+    }
+
+    /**
+     * Get the key of a wildcard origin, i.e. the origin with the parent domain as the host.
+     *
+     * @return Key of the wildcard origin, or null if the origin is not a wildcard origin.
+     */
+    private String toWildcardKey(String origin) {
+
+        int schemeSeparatorIndex = origin.indexOf(SCHEME_SEPARATOR);
+        if (schemeSeparatorIndex == -1 ||
+                !origin.startsWith(WILDCARD_PREFIX, schemeSeparatorIndex + SCHEME_SEPARATOR.length())) {
+            return null;
+        }
+        return (origin.substring(0, schemeSeparatorIndex) + SCHEME_SEPARATOR +
+                origin.substring(schemeSeparatorIndex + SCHEME_SEPARATOR.length() + WILDCARD_PREFIX.length()))
+                .toLowerCase(Locale.ENGLISH);
+    }
+}
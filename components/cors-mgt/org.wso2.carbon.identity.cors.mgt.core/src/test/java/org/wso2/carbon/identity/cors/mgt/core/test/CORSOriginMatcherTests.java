@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.cors.mgt.core.test;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.cors.mgt.core.exception.CORSManagementServiceClientException;
+import org.wso2.carbon.identity.cors.mgt.core.internal.impl.CORSOriginMatcher;
+import org.wso2.carbon.identity.cors.mgt.core.model.CORSOrigin;
+import org.wso2.carbon.identity.cors.mgt.core.model.Origin;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests the CORS origin matcher.
+ */
+public class CORSOriginMatcherTests {
+
+    @Test
+    public void testExactOriginMatch() throws CORSManagementServiceClientException {
+
+        CORSOriginMatcher matcher = new CORSOriginMatcher(corsOrigins("https://example.com",
+                "http://localhost:8080"));
+
+        assertTrue(matcher.matches(new Origin("https://example.com"), false));
+        assertTrue(matcher.matches(new Origin("HTTPS://EXAMPLE.COM"), false));
+        assertTrue(matcher.matches(new Origin("http://localhost:8080"), false));
+        assertFalse(matcher.matches(new Origin("http://example.com"), false));
+        assertFalse(matcher.matches(new Origin("http://localhost:9443"), false));
+        assertFalse(matcher.matches(new Origin("https://app.example.com"), false));
+    }
+
+    @Test
+    public void testSubdomainMatch() throws CORSManagementServiceClientException {
+
+        CORSOriginMatcher matcher = new CORSOriginMatcher(corsOrigins("https://example.com",
+                "https://example.org:8443"));
+
+        assertTrue(matcher.matches(new Origin("https://app.example.com"), true));
+        assertTrue(matcher.matches(new Origin("https://a.b.example.com"), true));
+        assertTrue(matcher.matches(new Origin("https://app.example.org:8443"), true));
+        assertFalse(matcher.matches(new Origin("https://app.example.org"), true));
+        assertFalse(matcher.matches(new Origin("https://badexample.com"), true));
+        assertFalse(matcher.matches(new Origin("http://app.example.com"), true));
+    }
+
+    @Test
+    public void testWildcardOriginMatch() throws CORSManagementServiceClientException {
+
+        CORSOriginMatcher matcher = new CORSOriginMatcher(corsOrigins("https://*.example.com"));
+
+        assertTrue(matcher.matches(new Origin("https://app.example.com"), false));
+        assertTrue(matcher.matches(new Origin("https://a.b.example.com"), false));
+        assertFalse(matcher.matches(new Origin("https://example.com"), false));
+        assertFalse(matcher.matches(new Origin("https://app.example.org"), false));
+    }
+
+    @Test
+    public void testIncrementalUpdate() throws CORSManagementServiceClientException {
+
+        CORSOriginMatcher matcher = new CORSOriginMatcher(Collections.emptyList());
+        assertTrue(matcher.isEmpty());
+
+        matcher.addOrigins(corsOrigins("https://example.com", "https://*.example.org"));
+        assertTrue(matcher.matches(new Origin("https://example.com"), false));
+        assertTrue(matcher.matches(new Origin("https://app.example.org"), false));
+
+        matcher.removeOrigins(corsOrigins("https://example.com", "https://*.example.org"));
+        assertFalse(matcher.matches(new Origin("https://example.com"), false));
+        assertFalse(matcher.matches(new Origin("https://app.example.org"), false));
+        assertTrue(matcher.isEmpty());
+    }
+
+    @Test
+    public void testNullOrigin() throws CORSManagementServiceClientException {
+
+        CORSOriginMatcher matcher = new CORSOriginMatcher(corsOrigins("https://example.com"));
+
+        assertFalse(matcher.matches(new Origin("null"), true));
+    }
+
+    private List<CORSOrigin> corsOrigins(String... origins) {
+
+        return Arrays.stream(origins).map(origin -> new CORSOrigin(null, origin)).collect(Collectors.toList());
+    }
+}
@@ -261,6 +261,20 @@ public class Constants {
         public static final String SELECT_CONTEXT_SQL = "SELECT FLOW_STATE_JSON FROM IDN_FLOW_CONTEXT_STORE WHERE ID = ?" +
                 " AND TENANT_ID = ? AND EXPIRES_AT > ?";
         public static final String DELETE_CONTEXT_SQL = "DELETE FROM IDN_FLOW_CONTEXT_STORE WHERE ID = ?";
+        public static final String DELETE_EXPIRED_CONTEXTS_SQL_MYSQL = "DELETE FROM IDN_FLOW_CONTEXT_STORE WHERE " +
+                "EXPIRES_AT < ? LIMIT %d";
+        public static final String DELETE_EXPIRED_CONTEXTS_SQL_MSSQL = "DELETE TOP (%d) FROM IDN_FLOW_CONTEXT_STORE " +
+                "WHERE EXPIRES_AT < ?";
+        public static final String DELETE_EXPIRED_CONTEXTS_SQL_POSTGRESQL = "DELETE FROM IDN_FLOW_CONTEXT_STORE " +
+                "WHERE CTID IN (SELECT CTID FROM IDN_FLOW_CONTEXT_STORE WHERE EXPIRES_AT < ? LIMIT %d)";
+        public static final String DELETE_EXPIRED_CONTEXTS_SQL_DB2 = "DELETE FROM IDN_FLOW_CONTEXT_STORE WHERE ID IN " +
+                "(SELECT ID FROM IDN_FLOW_CONTEXT_STORE WHERE EXPIRES_AT < ? FETCH FIRST %d ROWS ONLY)";
+        public static final String DELETE_EXPIRED_CONTEXTS_SQL_ORACLE = "DELETE FROM IDN_FLOW_CONTEXT_STORE WHERE " +
+                "ROWID IN (SELECT ROWID FROM IDN_FLOW_CONTEXT_STORE WHERE EXPIRES_AT < ? AND ROWNUM <= %d)";
+        public static final String COUNT_LIVE_CONTEXTS_SQL = "SELECT COUNT(*) FROM IDN_FLOW_CONTEXT_STORE WHERE " +
+                "EXPIRES_AT > ?";
+        public static final String COUNT_EXPIRED_CONTEXTS_SQL = "SELECT COUNT(*) FROM IDN_FLOW_CONTEXT_STORE WHERE " +
+                "EXPIRES_AT <= ?";
     }
 
     public static class FlowExecutionConfigs {
@@ -274,5 +288,9 @@ public class Constants {
         public static final String FLOW_TYPE_TTL_CONFIG_KEY_PREFIX = "FlowTypeTTLs";
         public static final String FLOW_TYPE_TTL_CONFIG_KEY = "FlowTypeTTL";
         public static final String FLOW_TYPE_ATTRIBUTE = "type";
+        public static final String CONTEXT_CLEANUP_ENABLED_PROPERTY = "FlowExecution.ContextCleanUp.Enable";
+        public static final String CONTEXT_CLEANUP_PERIOD_PROPERTY = "FlowExecution.ContextCleanUp.CleanUpPeriod";
+        public static final String CONTEXT_CLEANUP_DELETE_CHUNK_SIZE_PROPERTY =
+                "FlowExecution.ContextCleanUp.DeleteChunkSize";
     }
 }
@@ -51,5 +51,30 @@ public interface FlowContextStoreDAO {
      * @throws FlowEngineException if an error occurs while deleting the context.
      */
     void deleteContext(String contextId) throws FlowEngineException;
+
+    /**
+     * Delete a chunk of the expired FlowExecutionContexts.
+     *
+     * @param chunkSize Maximum number of contexts to delete.
+     * @return Number of deleted contexts.
+     * @throws FlowEngineException if an error occurs while deleting the contexts.
+     */
+    int deleteExpiredContexts(int chunkSize) throws FlowEngineException;
+
+    /**
+     * Count the FlowExecutionContexts that are not expired.
+     *
+     * @return Number of live contexts.
+     * @throws FlowEngineException if an error occurs while counting the contexts.
+     */
+    int getLiveContextCount() throws FlowEngineException;
+
+    /**
+     * Count the FlowExecutionContexts that are expired but not deleted yet.
+     *
+     * @return Number of expired contexts.
+     * @throws FlowEngineException if an error occurs while counting the contexts.
+     */
+    int getExpiredContextCount() throws FlowEngineException;
 }
 
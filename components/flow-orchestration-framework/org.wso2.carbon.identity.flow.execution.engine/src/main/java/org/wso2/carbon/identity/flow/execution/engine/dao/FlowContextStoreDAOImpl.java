@@ -34,7 +34,14 @@ import java.io.IOException;
 import java.sql.Timestamp;
 import java.time.Instant;
 
+import static org.wso2.carbon.identity.flow.execution.engine.Constants.SQLConstants.COUNT_EXPIRED_CONTEXTS_SQL;
+import static org.wso2.carbon.identity.flow.execution.engine.Constants.SQLConstants.COUNT_LIVE_CONTEXTS_SQL;
 import static org.wso2.carbon.identity.flow.execution.engine.Constants.SQLConstants.DELETE_CONTEXT_SQL;
+import static org.wso2.carbon.identity.flow.execution.engine.Constants.SQLConstants.DELETE_EXPIRED_CONTEXTS_SQL_DB2;
+import static org.wso2.carbon.identity.flow.execution.engine.Constants.SQLConstants.DELETE_EXPIRED_CONTEXTS_SQL_MSSQL;
+import static org.wso2.carbon.identity.flow.execution.engine.Constants.SQLConstants.DELETE_EXPIRED_CONTEXTS_SQL_MYSQL;
+import static org.wso2.carbon.identity.flow.execution.engine.Constants.SQLConstants.DELETE_EXPIRED_CONTEXTS_SQL_ORACLE;
+import static org.wso2.carbon.identity.flow.execution.engine.Constants.SQLConstants.DELETE_EXPIRED_CONTEXTS_SQL_POSTGRESQL;
 import static org.wso2.carbon.identity.flow.execution.engine.Constants.SQLConstants.FLOW_STATE_JSON;
 import static org.wso2.carbon.identity.flow.execution.engine.Constants.SQLConstants.INSERT_CONTEXT_SQL;
 import static org.wso2.carbon.identity.flow.execution.engine.Constants.SQLConstants.SELECT_CONTEXT_SQL;
@@ -119,5 +126,59 @@ public class FlowContextStoreDAOImpl implements FlowContextStoreDAO {
                     Constants.ErrorMessages.ERROR_CODE_FLOW_CONTEXT_DELETION_FAILURE, e, contextId);
         }
     }
-}
 
+    @Override
+    public int deleteExpiredContexts(int chunkSize) throws FlowEngineException {
+
+        JdbcTemplate jdbcTemplate = JdbcUtils.getNewTemplate();
+        try {
+            return jdbcTemplate.executeUpdateWithAffectedRows(String.format(getDeleteExpiredContextsSQL(), chunkSize),
+                    preparedStatement -> preparedStatement.setTimestamp(1, Timestamp.from(Instant.now())));
+        } catch (DataAccessException e) {
+            throw FlowExecutionEngineUtils.handleServerException(
+                    Constants.ErrorMessages.ERROR_CODE_FLOW_CONTEXT_CLEANUP_FAILURE, e);
+        }
+    }
+
+    @Override
+    public int getLiveContextCount() throws FlowEngineException {
+
+        return getContextCount(COUNT_LIVE_CONTEXTS_SQL);
+    }
+
+    @Override
+    public int getExpiredContextCount() throws FlowEngineException {
+
+        return getContextCount(COUNT_EXPIRED_CONTEXTS_SQL);
+    }
+
+    private int getContextCount(String sql) throws FlowEngineException {
+
+        JdbcTemplate jdbcTemplate = JdbcUtils.getNewTemplate();
+        try {
+            Integer count = jdbcTemplate.fetchSingleRecord(sql, (resultSet, rowNumber) -> resultSet.getInt(1),
+                    preparedStatement -> preparedStatement.setTimestamp(1, Timestamp.from(Instant.now())));
+            return count == null ? 0 : count;
+        } catch (DataAccessException e) {
+            throw FlowExecutionEngineUtils.handleServerException(
+                    Constants.ErrorMessages.ERROR_CODE_FLOW_CONTEXT_CLEANUP_FAILURE, e);
+        }
+    }
+
+    /**
+     * Get the DB specific query to delete a chunk of the expired contexts, as done for the session data.
+     */
+    private String getDeleteExpiredContextsSQL() throws DataAccessException {
+
+        if (JdbcUtils.isMySQLDB() || JdbcUtils.isMariaDB() || JdbcUtils.isH2DB()) {
+            return DELETE_EXPIRED_CONTEXTS_SQL_MYSQL;
+        } else if (JdbcUtils.isDB2DB()) {
+            return DELETE_EXPIRED_CONTEXTS_SQL_DB2;
+        } else if (JdbcUtils.isMSSqlDB()) {
+            return DELETE_EXPIRED_CONTEXTS_SQL_MSSQL;
+        } else if (JdbcUtils.isPostgreSQLDB()) {
+            return DELETE_EXPIRED_CONTEXTS_SQL_POSTGRESQL;
+        }
+        return DELETE_EXPIRED_CONTEXTS_SQL_ORACLE;
+    }
+}
@@ -33,6 +33,7 @@ import org.wso2.carbon.identity.flow.execution.engine.FlowExecutionService;
 import org.wso2.carbon.identity.flow.execution.engine.graph.Executor;
 import org.wso2.carbon.identity.flow.execution.engine.graph.UserOnboardingExecutor;
 import org.wso2.carbon.identity.flow.execution.engine.listener.FlowExecutionListener;
+import org.wso2.carbon.identity.flow.execution.engine.store.FlowContextCleanUpService;
 import org.wso2.carbon.identity.flow.execution.engine.validation.InputValidationListener;
 import org.wso2.carbon.identity.flow.mgt.FlowMgtService;
 import org.wso2.carbon.identity.input.validation.mgt.services.InputValidationManagementService;
@@ -79,6 +80,7 @@ public class FlowExecutionEngineServiceComponent {
             bundleContext.registerService(Executor.class.getName(), new UserOnboardingExecutor(), null);
             bundleContext.registerService(FlowExecutionListener.class.getName(), new InputValidationListener(),
                     null);
+            FlowContextCleanUpService.getInstance().start();
             LOG.debug("Flow Engine service successfully activated.");
         } catch (Throwable e) {
             LOG.error("Error while initiating Flow Engine service", e);
@@ -91,6 +93,7 @@ public class FlowExecutionEngineServiceComponent {
         try {
             BundleContext bundleCtx = context.getBundleContext();
             bundleCtx.ungetService(bundleCtx.getServiceReference(FlowExecutionService.class));
+            FlowContextCleanUpService.getInstance().shutdown();
             LOG.debug("Flow Engine service successfully deactivated");
         } catch (Throwable e) {
             LOG.error("Error while deactivating Flow Engine service.", e);
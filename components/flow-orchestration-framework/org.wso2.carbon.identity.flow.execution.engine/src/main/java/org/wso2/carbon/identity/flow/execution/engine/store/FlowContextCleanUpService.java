@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.flow.execution.engine.store;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.flow.execution.engine.Constants.FlowExecutionConfigs;
+import org.wso2.carbon.identity.flow.execution.engine.dao.FlowContextStoreDAO;
+import org.wso2.carbon.identity.flow.execution.engine.dao.FlowContextStoreDAOImpl;
+import org.wso2.carbon.identity.flow.execution.engine.exception.FlowEngineException;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Periodically removes the expired FlowExecutionContexts from the flow context store. Expired contexts are already
+ * treated as missing when reading, hence the clean up only reclaims the storage of the abandoned flows. The expired
+ * contexts are deleted in chunks through the expiry time index, so that a clean up run doesn't hold long running
+ * locks on the store.
+ */
+public class FlowContextCleanUpService {
+
+    private static final Log LOG = LogFactory.getLog(FlowContextCleanUpService.class);
+    private static final long DEFAULT_CLEANUP_PERIOD_MINUTES = 60L;
+    private static final int DEFAULT_DELETE_CHUNK_SIZE = 10000;
+
+    private static final FlowContextCleanUpService INSTANCE = new FlowContextCleanUpService(
+            new FlowContextStoreDAOImpl(), loadCleanUpEnabled(),
+            loadPositiveProperty(FlowExecutionConfigs.CONTEXT_CLEANUP_PERIOD_PROPERTY, DEFAULT_CLEANUP_PERIOD_MINUTES),
+            (int) loadPositiveProperty(FlowExecutionConfigs.CONTEXT_CLEANUP_DELETE_CHUNK_SIZE_PROPERTY,
+                    DEFAULT_DELETE_CHUNK_SIZE));
+
+    private final FlowContextStoreDAO flowContextStoreDAO;
+    private final boolean enabled;
+    private final long cleanUpPeriodMinutes;
+    private final int deleteChunkSize;
+    private final Metrics metrics = new Metrics();
+    private ScheduledExecutorService scheduler;
+
+    FlowContextCleanUpService(FlowContextStoreDAO flowContextStoreDAO, boolean enabled, long cleanUpPeriodMinutes,
+                              int deleteChunkSize) {
+
+        this.flowContextStoreDAO = flowContextStoreDAO;
+        this.enabled = enabled;
+        this.cleanUpPeriodMinutes = cleanUpPeriodMinutes;
+        this.deleteChunkSize = deleteChunkSize;
+    }
+
+    public static FlowContextCleanUpService getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Schedule the periodic clean up of the expired contexts, if the clean up is enabled.
+     */
+    public synchronized void start() {
+
+        if (!enabled) {
+            LOG.info("Flow context clean up is disabled.");
+            return;
+        }
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "FlowContextCleanUpTask");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::removeExpiredContexts, cleanUpPeriodMinutes, cleanUpPeriodMinutes,
+                TimeUnit.MINUTES);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Scheduled the flow context clean up to run every " + cleanUpPeriodMinutes + " minutes.");
+        }
+    }
+
+    /**
+     * Stop the periodic clean up of the expired contexts.
+     */
+    public synchronized void shutdown() {
+
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    /**
+     * Remove the expired contexts in chunks, and refresh the context metrics.
+     *
+     * @return Number of removed contexts.
+     */
+    public int removeExpiredContexts() {
+
+        int totalDeletedContexts = 0;
+        try {
+            boolean deleteCompleted = false;
+            while (!deleteCompleted) {
+                int deletedContexts = flowContextStoreDAO.deleteExpiredContexts(deleteChunkSize);
+                totalDeletedContexts += deletedContexts;
+                deleteCompleted = deletedContexts < deleteChunkSize;
+            }
+            metrics.liveCount = flowContextStoreDAO.getLiveContextCount();
+            metrics.expiredCount = flowContextStoreDAO.getExpiredContextCount();
+        } catch (FlowEngineException e) {
+            LOG.error("Error while removing the expired flow contexts.", e);
+        } finally {
+            metrics.purgedCount.addAndGet(totalDeletedContexts);
+            metrics.lastCleanUpTime = System.currentTimeMillis();
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Removed " + totalDeletedContexts + " expired flow contexts. Live contexts: " +
+                    metrics.liveCount + ", expired contexts: " + metrics.expiredCount + ".");
+        }
+        return totalDeletedContexts;
+    }
+
+    /**
+     * Get the metrics of the flow context store, as of the last clean up run.
+     *
+     * @return Flow context metrics.
+     */
+    public Metrics getMetrics() {
+
+        return metrics;
+    }
+
+    private static boolean loadCleanUpEnabled() {
+
+        String value = IdentityUtil.getProperty(FlowExecutionConfigs.CONTEXT_CLEANUP_ENABLED_PROPERTY);
+        return StringUtils.isBlank(value) || Boolean.parseBoolean(value);
+    }
+
+    private static long loadPositiveProperty(String property, long defaultValue) {
+
+        String value = IdentityUtil.getProperty(property);
+        if (StringUtils.isNotBlank(value)) {
+            try {
+                long parsedValue = Long.parseLong(value.trim());
+                if (parsedValue > 0) {
+                    return parsedValue;
+                }
+            } catch (NumberFormatException e) {
+                // Falls back to the default value below.
+            }
+            LOG.warn("Invalid value for " + property + ": " + value + ". Falling back to the default: " +
+                    defaultValue + ".");
+        }
+        return defaultValue;
+    }
+
+    /**
+     * Metrics of the flow context store.
+     */
+    public static class Metrics {
+
+        private final AtomicLong purgedCount = new AtomicLong();
+        private volatile long liveCount;
+        private volatile long expiredCount;
+        private volatile long lastCleanUpTime;
+
+        /**
+         * @return Number of contexts that were not expired, as of the last clean up run.
+         */
+        public long getLiveCount() {
+
+            return liveCount;
+        }
+
+        /**
+         * @return Number of contexts that expired after the last clean up run started, and are not removed yet.
+         */
+        public long getExpiredCount() {
+
+            return expiredCount;
+        }
+
+        /**
+         * @return Total number of expired contexts removed since the server started.
+         */
+        public long getPurgedCount() {
+
+            return purgedCount.get();
+        }
+
+        /**
+         * @return Time of the last clean up run in milliseconds, or 0 if the clean up hasn't run yet.
+         */
+        public long getLastCleanUpTime() {
+
+            return lastCleanUpTime;
+        }
+    }
+}
@@ -177,6 +177,40 @@ public class FlowContextStoreDAOImplTest {
         assertThrows(FlowEngineException.class, () -> flowContextStoreDAO.deleteContext(CONTEXT_ID));
     }
 
+    @Test
+    public void testDeleteExpiredContextsInChunk() throws Exception {
+
+        jdbcUtils.when(JdbcUtils::isMySQLDB).thenReturn(true);
+        when(jdbcTemplate.executeUpdateWithAffectedRows(contains("LIMIT 100"), any())).thenReturn(100);
+
+        assertEquals(flowContextStoreDAO.deleteExpiredContexts(100), 100);
+        verify(jdbcTemplate).executeUpdateWithAffectedRows(contains("EXPIRES_AT < ?"), any());
+    }
+
+    @Test
+    public void testDeleteExpiredContextsWithDataAccessException() throws Exception {
+
+        DataAccessException dataAccessException = new DataAccessException("Database error");
+        doThrow(dataAccessException).when(jdbcTemplate).executeUpdateWithAffectedRows(contains("DELETE"), any());
+
+        FlowEngineServerException expectedException = new FlowEngineServerException("Cleanup failure");
+        flowEngineUtils.when(() -> FlowExecutionEngineUtils.handleServerException(
+                        any(Constants.ErrorMessages.class), any(Exception.class)))
+                .thenReturn(expectedException);
+
+        assertThrows(FlowEngineException.class, () -> flowContextStoreDAO.deleteExpiredContexts(100));
+    }
+
+    @Test
+    public void testGetContextCounts() throws Exception {
+
+        doReturn(5).when(jdbcTemplate).fetchSingleRecord(contains("EXPIRES_AT > ?"), any(), any());
+        doReturn(null).when(jdbcTemplate).fetchSingleRecord(contains("EXPIRES_AT <= ?"), any(), any());
+
+        assertEquals(flowContextStoreDAO.getLiveContextCount(), 5);
+        assertEquals(flowContextStoreDAO.getExpiredContextCount(), 0);
+    }
+
     private FlowExecutionContext createTestContext() {
 
         FlowExecutionContext context = new FlowExecutionContext();
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.flow.execution.engine.store;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.common.testng.WithCarbonHome;
+import org.wso2.carbon.identity.flow.execution.engine.dao.FlowContextStoreDAO;
+import org.wso2.carbon.identity.flow.execution.engine.exception.FlowEngineServerException;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for FlowContextCleanUpService.
+ */
+@WithCarbonHome
+public class FlowContextCleanUpServiceTest {
+
+    private static final int DELETE_CHUNK_SIZE = 2;
+
+    private FlowContextStoreDAO flowContextStoreDAO;
+    private FlowContextCleanUpService cleanUpService;
+
+    @BeforeMethod
+    public void setUp() {
+
+        flowContextStoreDAO = mock(FlowContextStoreDAO.class);
+        cleanUpService = new FlowContextCleanUpService(flowContextStoreDAO, true, 60, DELETE_CHUNK_SIZE);
+    }
+
+    @Test
+    public void testExpiredContextsAreRemovedInChunks() throws Exception {
+
+        when(flowContextStoreDAO.deleteExpiredContexts(DELETE_CHUNK_SIZE)).thenReturn(2, 2, 1);
+        when(flowContextStoreDAO.getLiveContextCount()).thenReturn(10);
+        when(flowContextStoreDAO.getExpiredContextCount()).thenReturn(3);
+
+        assertEquals(cleanUpService.removeExpiredContexts(), 5);
+
+        verify(flowContextStoreDAO, times(3)).deleteExpiredContexts(DELETE_CHUNK_SIZE);
+        FlowContextCleanUpService.Metrics metrics = cleanUpService.getMetrics();
+        assertEquals(metrics.getPurgedCount(), 5);
+        assertEquals(metrics.getLiveCount(), 10);
+        assertEquals(metrics.getExpiredCount(), 3);
+        assertTrue(metrics.getLastCleanUpTime() > 0);
+    }
+
+    @Test
+    public void testPurgedCountIsRecordedWhenCleanUpFails() throws Exception {
+
+        when(flowContextStoreDAO.deleteExpiredContexts(DELETE_CHUNK_SIZE)).thenReturn(2)
+                .thenThrow(new FlowEngineServerException("Cleanup failure"));
+
+        assertEquals(cleanUpService.removeExpiredContexts(), 2);
+
+        verify(flowContextStoreDAO, never()).getLiveContextCount();
+        assertEquals(cleanUpService.getMetrics().getPurgedCount(), 2);
+    }
+}
@@ -27,16 +27,24 @@ import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.identity.core.model.IdentityCacheConfig;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
 
 import java.io.Serializable;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import javax.cache.Cache;
 import javax.cache.CacheBuilder;
 import javax.cache.CacheConfiguration;
 import javax.cache.CacheManager;
 import javax.cache.Caching;
+import javax.cache.Status;
+import javax.cache.event.CacheEntryEvent;
+import javax.cache.event.CacheEntryExpiredListener;
+import javax.cache.event.CacheEntryRemovedListener;
+import javax.cache.event.CacheEntryUpdatedListener;
 
 /**
  * A base class for all cache implementations in Identity modules. This maintains  caches in the tenanted space.
@@ -53,6 +61,9 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
     private final List<AbstractCacheListener<K, V>> cacheListeners;
     private String cacheName;
     private final IdentityCacheConfig identityCacheConfig;
+    // Tenant scoped cache handles resolved once per tenant, keyed by the tenant id.
+    private final Map<Integer, TenantCache> tenantCaches = new ConcurrentHashMap<>();
+    private final boolean isMetricsEnabled;
 
     public BaseCache(String cacheName) {
 
@@ -85,6 +96,7 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
         } else {
             this.cacheListeners = Collections.emptyList();
         }
+        isMetricsEnabled = IdentityCacheMetrics.getInstance().isEnabled();
         if (log.isDebugEnabled()) {
             String tenantDomain = CarbonContext.getThreadLocalCarbonContext().getTenantDomain();
             log.debug("Cache : " + cacheName + "  is initialized for tenant domain : " + tenantDomain);
@@ -134,6 +146,58 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
         return cache;
     }
 
+    /**
+     * Returns the cache of the tenant in the current carbon context. The cache handle is resolved from the cache
+     * manager only on the first access of the tenant, or when the previously resolved cache is no longer started.
+     * Hence, this must be invoked only when the carbon context is already in the tenant flow of the required tenant.
+     *
+     * @return Cache of the tenant in the current carbon context.
+     */
+    private TenantCache getTenantCache() {
+
+        int tenantId = CarbonContext.getThreadLocalCarbonContext().getTenantId();
+        TenantCache tenantCache = tenantCaches.get(tenantId);
+        if (tenantCache != null && tenantCache.isStarted()) {
+            return tenantCache;
+        }
+        // Resolved atomically, so that a single near cache and cache entry listener is registered per tenant.
+        return tenantCaches.compute(tenantId, (id, currentTenantCache) -> {
+            if (currentTenantCache != null && currentTenantCache.isStarted()) {
+                return currentTenantCache;
+            }
+            Cache<K, V> cache = getBaseCache();
+            return cache != null ? new TenantCache(cache, id) : null;
+        });
+    }
+
+    /**
+     * Checks whether the carbon context of the current thread already belongs to the given tenant, in which case the
+     * cache can be accessed without starting a new tenant flow.
+     *
+     * @param tenantId Tenant id.
+     * @return True if the current carbon context belongs to the given tenant.
+     */
+    private boolean isInTenantFlow(int tenantId) {
+
+        CarbonContext carbonContext = CarbonContext.getThreadLocalCarbonContext();
+        return tenantId != MultitenantConstants.INVALID_TENANT_ID && carbonContext.getTenantId() == tenantId
+                && carbonContext.getTenantDomain() != null;
+    }
+
+    /**
+     * Checks whether the carbon context of the current thread already belongs to the given tenant, in which case the
+     * cache can be accessed without starting a new tenant flow.
+     *
+     * @param tenantDomain Tenant domain.
+     * @return True if the current carbon context belongs to the given tenant.
+     */
+    private boolean isInTenantFlow(String tenantDomain) {
+
+        CarbonContext carbonContext = CarbonContext.getThreadLocalCarbonContext();
+        return tenantDomain != null && tenantDomain.equals(carbonContext.getTenantDomain())
+                && carbonContext.getTenantId() != MultitenantConstants.INVALID_TENANT_ID;
+    }
+
     /**
      * Add a cache entry.
      *
@@ -147,9 +211,17 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
             return;
         }
 
+        if (isInTenantFlow(tenantDomain)) {
+            TenantCache cache = getTenantCache();
+            if (cache != null) {
+                cache.put(key, entry);
+            }
+            return;
+        }
+
         try {
             startTenantFlow(tenantDomain);
-            Cache<K, V> cache = getBaseCache();
+            TenantCache cache = getTenantCache();
             if (cache != null) {
                 cache.put(key, entry);
             }
@@ -171,9 +243,17 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
             return;
         }
 
+        if (isInTenantFlow(tenantId)) {
+            TenantCache cache = getTenantCache();
+            if (cache != null) {
+                cache.put(key, entry);
+            }
+            return;
+        }
+
         try {
             startTenantFlow(tenantId);
-            Cache<K, V> cache = getBaseCache();
+            TenantCache cache = getTenantCache();
             if (cache != null) {
                 cache.put(key, entry);
             }
@@ -194,9 +274,17 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
             return;
         }
 
+        if (isInTenantFlow(tenantDomain)) {
+            TenantCache cache = getTenantCache();
+            if (cache != null) {
+                cache.putIfNoDuplicate(key, entry);
+            }
+            return;
+        }
+
         try {
             startTenantFlow(tenantDomain);
-            Cache<K, V> cache = getBaseCache();
+            TenantCache cache = getTenantCache();
             if (cache != null) {
                 cache.putIfNoDuplicate(key, entry);
             }
@@ -217,9 +305,17 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
             return;
         }
 
+        if (isInTenantFlow(tenantId)) {
+            TenantCache cache = getTenantCache();
+            if (cache != null) {
+                cache.putIfNoDuplicate(key, entry);
+            }
+            return;
+        }
+
         try {
             startTenantFlow(tenantId);
-            Cache<K, V> cache = getBaseCache();
+            TenantCache cache = getTenantCache();
             if (cache != null) {
                 cache.putIfNoDuplicate(key, entry);
             }
@@ -245,13 +341,15 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
             return null;
         }
 
+        if (isInTenantFlow(tenantDomain)) {
+            TenantCache cache = getTenantCache();
+            return cache != null ? cache.get(key) : null;
+        }
+
         try {
             startTenantFlow(tenantDomain);
-            Cache<K, V> cache = getBaseCache();
-            if (cache != null && cache.get(key) != null) {
-                return cache.get(key);
-            }
-            return null;
+            TenantCache cache = getTenantCache();
+            return cache != null ? cache.get(key) : null;
         } finally {
             PrivilegedCarbonContext.endTenantFlow();
         }
@@ -274,13 +372,15 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
             return null;
         }
 
+        if (isInTenantFlow(tenantId)) {
+            TenantCache cache = getTenantCache();
+            return cache != null ? cache.get(key) : null;
+        }
+
         try {
             startTenantFlow(tenantId);
-            Cache<K, V> cache = getBaseCache();
-            if (cache != null && cache.get(key) != null) {
-                return cache.get(key);
-            }
-            return null;
+            TenantCache cache = getTenantCache();
+            return cache != null ? cache.get(key) : null;
         } finally {
             PrivilegedCarbonContext.endTenantFlow();
         }
@@ -298,9 +398,17 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
             return;
         }
 
+        if (isInTenantFlow(tenantDomain)) {
+            TenantCache cache = getTenantCache();
+            if (cache != null) {
+                cache.remove(key);
+            }
+            return;
+        }
+
         try {
             startTenantFlow(tenantDomain);
-            Cache<K, V> cache = getBaseCache();
+            TenantCache cache = getTenantCache();
             if (cache != null) {
                 cache.remove(key);
             }
@@ -321,9 +429,17 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
             return;
         }
 
+        if (isInTenantFlow(tenantId)) {
+            TenantCache cache = getTenantCache();
+            if (cache != null) {
+                cache.remove(key);
+            }
+            return;
+        }
+
         try {
             startTenantFlow(tenantId);
-            Cache<K, V> cache = getBaseCache();
+            TenantCache cache = getTenantCache();
             if (cache != null) {
                 cache.remove(key);
             }
@@ -343,11 +459,19 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
             return;
         }
 
+        if (isInTenantFlow(tenantDomain)) {
+            TenantCache cache = getTenantCache();
+            if (cache != null) {
+                cache.clear();
+            }
+            return;
+        }
+
         try {
             startTenantFlow(tenantDomain);
-            Cache<K, V> cache = getBaseCache();
+            TenantCache cache = getTenantCache();
             if (cache != null) {
-                cache.removeAll();
+                cache.clear();
             }
         } finally {
             PrivilegedCarbonContext.endTenantFlow();
@@ -365,11 +489,19 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
             return;
         }
 
+        if (isInTenantFlow(tenantId)) {
+            TenantCache cache = getTenantCache();
+            if (cache != null) {
+                cache.clear();
+            }
+            return;
+        }
+
         try {
             startTenantFlow(tenantId);
-            Cache<K, V> cache = getBaseCache();
+            TenantCache cache = getTenantCache();
             if (cache != null) {
-                cache.removeAll();
+                cache.clear();
             }
         } finally {
             PrivilegedCarbonContext.endTenantFlow();
@@ -407,6 +539,32 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
         }
     }
 
+    /**
+     * Get the maximum number of entries of the in JVM near cache kept in front of the cache of each tenant.
+     *
+     * @return Near cache capacity or -1 if the near cache is not enabled.
+     */
+    public int getNearCacheCapacity() {
+
+        if (identityCacheConfig != null && identityCacheConfig.getNearCacheCapacity() > 0) {
+            return identityCacheConfig.getNearCacheCapacity();
+        }
+        return -1;
+    }
+
+    /**
+     * Get the time in seconds a near cache entry is served without reaching the cache, after it is added.
+     *
+     * @return Near cache timeout in seconds.
+     */
+    public int getNearCacheTimeout() {
+
+        if (identityCacheConfig != null && identityCacheConfig.getNearCacheTimeout() > 0) {
+            return identityCacheConfig.getNearCacheTimeout();
+        }
+        return IdentityCacheConfig.DEFAULT_NEAR_CACHE_TIMEOUT;
+    }
+
     private void startTenantFlow(String tenantDomain) {
 
         PrivilegedCarbonContext.startTenantFlow();
@@ -422,4 +580,147 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
         PrivilegedCarbonContext.getThreadLocalCarbonContext()
                 .setTenantDomain(IdentityTenantUtil.getTenantDomain(tenantId));
     }
+
+    /**
+     * Holds the resolved cache of a tenant together with its near cache and statistics.
+     */
+    private final class TenantCache implements CacheEntryRemovedListener<K, V>, CacheEntryUpdatedListener<K, V>,
+            CacheEntryExpiredListener<K, V> {
+
+        private final Cache<K, V> cache;
+        private final NearCache<K, V> nearCache;
+        private final CacheStatistics statistics;
+
+        private TenantCache(Cache<K, V> cache, int tenantId) {
+
+            this.cache = cache;
+            this.statistics = isMetricsEnabled ?
+                    IdentityCacheMetrics.getInstance().getOrCreateStatistics(cacheName, tenantId) : null;
+            if (getNearCacheCapacity() > 0) {
+                Runnable evictionListener = statistics == null ? null :
+                        () -> IdentityCacheMetrics.getInstance().recordEviction(statistics);
+                this.nearCache = new NearCache<>(getNearCacheCapacity(),
+                        TimeUnit.SECONDS.toMillis(getNearCacheTimeout()), evictionListener);
+                // Entries removed or updated in the cache, including the cluster invalidations, are dropped from the
+                // near cache as well.
+                cache.registerCacheEntryListener(this);
+                if (statistics != null) {
+                    statistics.setNearCacheSizeSupplier(nearCache::size);
+                }
+            } else {
+                this.nearCache = null;
+            }
+        }
+
+        private boolean isStarted() {
+
+            return cache.getStatus() == Status.STARTED;
+        }
+
+        private V get(K key) {
+
+            long nearCacheVersion = 0;
+            if (nearCache != null) {
+                V value = nearCache.get(key);
+                if (value != null) {
+                    if (statistics != null) {
+                        IdentityCacheMetrics.getInstance().recordHit(statistics, true);
+                    }
+                    return value;
+                }
+                // An update or removal of the key while the value is loaded must not be overwritten by the
+                // loaded value.
+                nearCacheVersion = nearCache.getVersion(key);
+            }
+
+            V value;
+            if (statistics != null) {
+                long startTime = System.nanoTime();
+                value = cache.get(key);
+                IdentityCacheMetrics.getInstance().recordLoad(statistics, System.nanoTime() - startTime);
+                if (value != null) {
+                    IdentityCacheMetrics.getInstance().recordHit(statistics, false);
+                } else {
+                    IdentityCacheMetrics.getInstance().recordMiss(statistics);
+                }
+            } else {
+                value = cache.get(key);
+            }
+            if (value != null && nearCache != null) {
+                nearCache.putIfUnchanged(key, value, nearCacheVersion);
+            }
+            return value;
+        }
+
+        private void put(K key, V value) {
+
+            cache.put(key, value);
+            if (nearCache != null) {
+                // The near cache is filled on the next read, so that concurrent writes can't leave a stale value.
+                nearCache.remove(key);
+            }
+            if (statistics != null) {
+                IdentityCacheMetrics.getInstance().recordPut(statistics);
+            }
+        }
+
+        private void putIfNoDuplicate(K key, V value) {
+
+            cache.putIfNoDuplicate(key, value);
+            if (nearCache != null) {
+                // The near cache is filled on the next read, so that concurrent writes can't leave a stale value.
+                nearCache.remove(key);
+            }
+            if (statistics != null) {
+                IdentityCacheMetrics.getInstance().recordPut(statistics);
+            }
+        }
+
+        private void remove(K key) {
+
+            cache.remove(key);
+            if (nearCache != null) {
+                nearCache.remove(key);
+            }
+            if (statistics != null) {
+                IdentityCacheMetrics.getInstance().recordRemoval(statistics);
+            }
+        }
+
+        private void clear() {
+
+            cache.removeAll();
+            if (nearCache != null) {
+                nearCache.clear();
+            }
+            if (statistics != null) {
+                IdentityCacheMetrics.getInstance().recordRemoval(statistics);
+            }
+        }
+
+        @Override
+        public void entryRemoved(CacheEntryEvent<? extends K, ? extends V> event) {
+
+            invalidate(event);
+        }
+
+        @Override
+        public void entryUpdated(CacheEntryEvent<? extends K, ? extends V> event) {
+
+            invalidate(event);
+        }
+
+        @Override
+        public void entryExpired(CacheEntryEvent<? extends K, ? extends V> event) {
+
+            invalidate(event);
+        }
+
+        private void invalidate(CacheEntryEvent<? extends K, ? extends V> event) {
+
+            if (event != null && event.getKey() != null) {
+                nearCache.remove(event.getKey());
+            }
+        }
+    }
 }
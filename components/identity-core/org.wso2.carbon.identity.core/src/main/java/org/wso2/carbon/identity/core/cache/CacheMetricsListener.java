@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.cache;
+
+/**
+ * Listener which gets notified on the operations performed on the identity caches extending {@link BaseCache}.
+ * Implementations registered as OSGi services are plugged into the cache instrumentation, hence they can publish the
+ * cache metrics to an external monitoring system. Implementations are invoked on the request path and must not block.
+ */
+public interface CacheMetricsListener {
+
+    /**
+     * Invoked when a lookup returns a value.
+     *
+     * @param cacheName     Name of the cache.
+     * @param tenantId      Tenant id the cache belongs to.
+     * @param fromNearCache Whether the value was served from the in JVM near cache.
+     */
+    void onHit(String cacheName, int tenantId, boolean fromNearCache);
+
+    /**
+     * Invoked when a lookup does not return a value.
+     *
+     * @param cacheName Name of the cache.
+     * @param tenantId  Tenant id the cache belongs to.
+     */
+    void onMiss(String cacheName, int tenantId);
+
+    /**
+     * Invoked when an entry is added to the cache.
+     *
+     * @param cacheName Name of the cache.
+     * @param tenantId  Tenant id the cache belongs to.
+     */
+    void onPut(String cacheName, int tenantId);
+
+    /**
+     * Invoked when an entry or all the entries are explicitly removed from the cache.
+     *
+     * @param cacheName Name of the cache.
+     * @param tenantId  Tenant id the cache belongs to.
+     */
+    void onRemove(String cacheName, int tenantId);
+
+    /**
+     * Invoked when an entry is evicted from the near cache due to its size bound.
+     *
+     * @param cacheName Name of the cache.
+     * @param tenantId  Tenant id the cache belongs to.
+     */
+    void onEviction(String cacheName, int tenantId);
+
+    /**
+     * Invoked after a lookup is served from the javax.cache backed store.
+     *
+     * @param cacheName    Name of the cache.
+     * @param tenantId     Tenant id the cache belongs to.
+     * @param elapsedNanos Time taken for the lookup in nanoseconds.
+     */
+    void onLoad(String cacheName, int tenantId, long elapsedNanos);
+}
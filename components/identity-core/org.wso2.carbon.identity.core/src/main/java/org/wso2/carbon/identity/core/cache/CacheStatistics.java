@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.cache;
+
+import org.wso2.carbon.identity.core.metrics.LatencyHistogram;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Runtime statistics of a single identity cache, in a single tenant.
+ */
+public class CacheStatistics {
+
+    private final String cacheName;
+    private final int tenantId;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder nearCacheHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder puts = new LongAdder();
+    private final LongAdder removals = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LatencyHistogram loadTime = new LatencyHistogram();
+    private volatile LongSupplier nearCacheSizeSupplier;
+
+    public CacheStatistics(String cacheName, int tenantId) {
+
+        this.cacheName = cacheName;
+        this.tenantId = tenantId;
+    }
+
+    public String getCacheName() {
+
+        return cacheName;
+    }
+
+    public int getTenantId() {
+
+        return tenantId;
+    }
+
+    /**
+     * Get the number of lookups which returned a value, including the near cache hits.
+     *
+     * @return Number of cache hits.
+     */
+    public long getHitCount() {
+
+        return hits.sum();
+    }
+
+    /**
+     * Get the number of lookups served by the in JVM near cache without reaching the backing cache.
+     *
+     * @return Number of near cache hits.
+     */
+    public long getNearCacheHitCount() {
+
+        return nearCacheHits.sum();
+    }
+
+    public long getMissCount() {
+
+        return misses.sum();
+    }
+
+    public long getPutCount() {
+
+        return puts.sum();
+    }
+
+    public long getRemovalCount() {
+
+        return removals.sum();
+    }
+
+    /**
+     * Get the number of entries evicted from the near cache due to its size bound.
+     *
+     * @return Number of evictions.
+     */
+    public long getEvictionCount() {
+
+        return evictions.sum();
+    }
+
+    /**
+     * Get the ratio of hits to the total number of lookups.
+     *
+     * @return Hit ratio between 0 and 1.
+     */
+    public double getHitRatio() {
+
+        long hitCount = getHitCount();
+        long lookups = hitCount + getMissCount();
+        return lookups == 0 ? 0 : (double) hitCount / lookups;
+    }
+
+    /**
+     * Get the latency histogram of the lookups served from the javax.cache backed store.
+     *
+     * @return Load time histogram.
+     */
+    public LatencyHistogram getLoadTime() {
+
+        return loadTime;
+    }
+
+    /**
+     * Get the number of entries currently held in the near cache.
+     *
+     * @return Near cache size, or -1 if the near cache is not enabled.
+     */
+    public long getNearCacheSize() {
+
+        LongSupplier supplier = nearCacheSizeSupplier;
+        return supplier != null ? supplier.getAsLong() : -1;
+    }
+
+    void setNearCacheSizeSupplier(LongSupplier nearCacheSizeSupplier) {
+
+        this.nearCacheSizeSupplier = nearCacheSizeSupplier;
+    }
+
+    void recordHit(boolean fromNearCache) {
+
+        hits.increment();
+        if (fromNearCache) {
+            nearCacheHits.increment();
+        }
+    }
+
+    void recordMiss() {
+
+        misses.increment();
+    }
+
+    void recordPut() {
+
+        puts.increment();
+    }
+
+    void recordRemoval() {
+
+        removals.increment();
+    }
+
+    void recordEviction() {
+
+        evictions.increment();
+    }
+
+    void recordLoad(long elapsedNanos) {
+
+        loadTime.record(elapsedNanos);
+    }
+
+    /**
+     * Reset all the counters of the cache.
+     */
+    public void reset() {
+
+        hits.reset();
+        nearCacheHits.reset();
+        misses.reset();
+        puts.reset();
+        removals.reset();
+        evictions.reset();
+        loadTime.reset();
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.cache;
+
+/**
+ * A count-min sketch with 4 bit counters used to estimate the access frequency of the near cache entries. Counters
+ * are halved once the number of increments reaches the sample size, hence the estimation favours the recent history.
+ * This class is not thread safe and must be guarded by the owning segment of the {@link NearCache}.
+ */
+final class FrequencySketch {
+
+    private static final long[] SEEDS = {0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL,
+            0xcbf29ce484222325L};
+    private static final int MAX_FREQUENCY = 15;
+
+    private final byte[][] table;
+    private final int mask;
+    private final int sampleSize;
+    private int size;
+
+    FrequencySketch(int maximumSize) {
+
+        int width = Integer.highestOneBit(Math.max(16, maximumSize) - 1) << 1;
+        table = new byte[SEEDS.length][width];
+        mask = width - 1;
+        sampleSize = 10 * Math.max(1, maximumSize);
+    }
+
+    /**
+     * Increment the estimated frequency of the given key.
+     *
+     * @param key Key.
+     */
+    void increment(Object key) {
+
+        int hash = spread(key.hashCode());
+        boolean added = false;
+        for (int i = 0; i < SEEDS.length; i++) {
+            int index = indexOf(hash, i);
+            if (table[i][index] < MAX_FREQUENCY) {
+                table[i][index]++;
+                added = true;
+            }
+        }
+        if (added && ++size >= sampleSize) {
+            reset();
+        }
+    }
+
+    /**
+     * Get the estimated frequency of the given key.
+     *
+     * @param key Key.
+     * @return Estimated frequency between 0 and 15.
+     */
+    int frequency(Object key) {
+
+        int hash = spread(key.hashCode());
+        int frequency = MAX_FREQUENCY;
+        for (int i = 0; i < SEEDS.length; i++) {
+            frequency = Math.min(frequency, table[i][indexOf(hash, i)]);
+        }
+        return frequency;
+    }
+
+    private void reset() {
+
+        for (byte[] row : table) {
+            for (int i = 0; i < row.length; i++) {
+                row[i] = (byte) (row[i] >>> 1);
+            }
+        }
+        size = size >>> 1;
+    }
+
+    private int indexOf(int hash, int row) {
+
+        long value = (hash + SEEDS[row]) * SEEDS[row];
+        value += value >>> 32;
+        return (int) value & mask;
+    }
+
+    private static int spread(int hash) {
+
+        int value = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+        value = ((value >>> 16) ^ value) * 0x45d9f3b;
+        return (value >>> 16) ^ value;
+    }
+}
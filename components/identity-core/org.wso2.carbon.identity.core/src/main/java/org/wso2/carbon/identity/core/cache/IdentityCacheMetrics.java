@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.cache;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Collects the runtime statistics of the identity caches and notifies the registered {@link CacheMetricsListener}s.
+ * Statistics collection is disabled unless the CacheConfig.EnableMetrics property is set to true in identity.xml.
+ */
+public class IdentityCacheMetrics implements IdentityCacheMetricsService {
+
+    private static final Log log = LogFactory.getLog(IdentityCacheMetrics.class);
+    private static final String ENABLE_METRICS = "CacheConfig.EnableMetrics";
+    private static final IdentityCacheMetrics instance = new IdentityCacheMetrics();
+
+    private final Map<String, Map<Integer, CacheStatistics>> cacheStatistics = new ConcurrentHashMap<>();
+    private final List<CacheMetricsListener> listeners = new CopyOnWriteArrayList<>();
+    private volatile Boolean enabled;
+
+    private IdentityCacheMetrics() {
+
+    }
+
+    public static IdentityCacheMetrics getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Check whether the cache statistics collection is enabled. Disabled unless explicitly enabled in the config.
+     *
+     * @return True if the statistics should be recorded.
+     */
+    public boolean isEnabled() {
+
+        if (enabled == null) {
+            String enableMetrics = IdentityUtil.getProperty(ENABLE_METRICS);
+            enabled = enableMetrics != null && Boolean.parseBoolean(enableMetrics.trim());
+        }
+        return enabled;
+    }
+
+    public void addListener(CacheMetricsListener listener) {
+
+        listeners.add(listener);
+    }
+
+    public void removeListener(CacheMetricsListener listener) {
+
+        listeners.remove(listener);
+    }
+
+    @Override
+    public Set<String> getCacheNames() {
+
+        return Collections.unmodifiableSet(cacheStatistics.keySet());
+    }
+
+    @Override
+    public Map<Integer, CacheStatistics> getCacheStatistics(String cacheName) {
+
+        Map<Integer, CacheStatistics> tenantStatistics = cacheStatistics.get(cacheName);
+        if (tenantStatistics == null) {
+            return Collections.emptyMap();
+        }
+        return Collections.unmodifiableMap(tenantStatistics);
+    }
+
+    @Override
+    public CacheStatistics getCacheStatistics(String cacheName, int tenantId) {
+
+        Map<Integer, CacheStatistics> tenantStatistics = cacheStatistics.get(cacheName);
+        return tenantStatistics != null ? tenantStatistics.get(tenantId) : null;
+    }
+
+    @Override
+    public void resetCacheStatistics() {
+
+        for (Map<Integer, CacheStatistics> tenantStatistics : cacheStatistics.values()) {
+            for (CacheStatistics statistics : tenantStatistics.values()) {
+                statistics.reset();
+            }
+        }
+    }
+
+    /**
+     * Get the statistics holder of the given cache in the given tenant, creating it if not available.
+     *
+     * @param cacheName Name of the cache.
+     * @param tenantId  Tenant id.
+     * @return Statistics of the cache.
+     */
+    CacheStatistics getOrCreateStatistics(String cacheName, int tenantId) {
+
+        return cacheStatistics.computeIfAbsent(cacheName, name -> new ConcurrentHashMap<>())
+                .computeIfAbsent(tenantId, id -> new CacheStatistics(cacheName, id));
+    }
+
+    void recordHit(CacheStatistics statistics, boolean fromNearCache) {
+
+        statistics.recordHit(fromNearCache);
+        for (CacheMetricsListener listener : listeners) {
+            try {
+                listener.onHit(statistics.getCacheName(), statistics.getTenantId(), fromNearCache);
+            } catch (RuntimeException e) {
+                handleListenerError(listener, e);
+            }
+        }
+    }
+
+    void recordMiss(CacheStatistics statistics) {
+
+        statistics.recordMiss();
+        for (CacheMetricsListener listener : listeners) {
+            try {
+                listener.onMiss(statistics.getCacheName(), statistics.getTenantId());
+            } catch (RuntimeException e) {
+                handleListenerError(listener, e);
+            }
+        }
+    }
+
+    void recordPut(CacheStatistics statistics) {
+
+        statistics.recordPut();
+        for (CacheMetricsListener listener : listeners) {
+            try {
+                listener.onPut(statistics.getCacheName(), statistics.getTenantId());
+            } catch (RuntimeException e) {
+                handleListenerError(listener, e);
+            }
+        }
+    }
+
+    void recordRemoval(CacheStatistics statistics) {
+
+        statistics.recordRemoval();
+        for (CacheMetricsListener listener : listeners) {
+            try {
+                listener.onRemove(statistics.getCacheName(), statistics.getTenantId());
+            } catch (RuntimeException e) {
+                handleListenerError(listener, e);
+            }
+        }
+    }
+
+    void recordEviction(CacheStatistics statistics) {
+
+        statistics.recordEviction();
+        for (CacheMetricsListener listener : listeners) {
+            try {
+                listener.onEviction(statistics.getCacheName(), statistics.getTenantId());
+            } catch (RuntimeException e) {
+                handleListenerError(listener, e);
+            }
+        }
+    }
+
+    void recordLoad(CacheStatistics statistics, long elapsedNanos) {
+
+        statistics.recordLoad(elapsedNanos);
+        for (CacheMetricsListener listener : listeners) {
+            try {
+                listener.onLoad(statistics.getCacheName(), statistics.getTenantId(), elapsedNanos);
+            } catch (RuntimeException e) {
+                handleListenerError(listener, e);
+            }
+        }
+    }
+
+    private void handleListenerError(CacheMetricsListener listener, RuntimeException e) {
+
+        if (log.isDebugEnabled()) {
+            log.debug("Error while notifying the cache metrics listener: " + listener.getClass().getName(), e);
+        }
+    }
+}
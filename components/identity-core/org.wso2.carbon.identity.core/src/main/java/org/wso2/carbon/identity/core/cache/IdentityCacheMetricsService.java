@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.cache;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * OSGi service which exposes the runtime statistics of the identity caches extending {@link BaseCache}.
+ */
+public interface IdentityCacheMetricsService {
+
+    /**
+     * Get the names of the caches which have recorded statistics.
+     *
+     * @return Set of cache names.
+     */
+    Set<String> getCacheNames();
+
+    /**
+     * Get the statistics of the given cache for all the tenants.
+     *
+     * @param cacheName Name of the cache.
+     * @return Map of tenant id to the statistics of the cache in that tenant.
+     */
+    Map<Integer, CacheStatistics> getCacheStatistics(String cacheName);
+
+    /**
+     * Get the statistics of the given cache in the given tenant.
+     *
+     * @param cacheName Name of the cache.
+     * @param tenantId  Tenant id.
+     * @return Statistics of the cache or null if nothing is recorded for the cache in the tenant.
+     */
+    CacheStatistics getCacheStatistics(String cacheName, int tenantId);
+
+    /**
+     * Reset the statistics of all the caches.
+     */
+    void resetCacheStatistics();
+}
@@ -0,0 +1,353 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.cache;
+
+import java.util.AbstractMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A bounded in JVM cache kept in front of the javax.cache backed store of read mostly identity caches. Entries are
+ * admitted and evicted with the W-TinyLFU policy: new entries enter a small LRU window, and an entry leaving the
+ * window is admitted to the segmented LRU main region only if its estimated access frequency is higher than the one
+ * of the main region's eviction victim. Entries also expire after the configured timeout, which bounds the staleness
+ * when the backing store is updated from another node.
+ *
+ * @param <K> cache key type.
+ * @param <V> cache value type.
+ */
+final class NearCache<K, V> {
+
+    private static final int MIN_SEGMENT_CAPACITY = 64;
+    private static final int MAX_SEGMENTS = 16;
+    private static final int WINDOW_PERCENTAGE = 1;
+    private static final int PROTECTED_PERCENTAGE = 80;
+
+    private final Segment<K, V>[] segments;
+    private final int segmentMask;
+    private final long timeoutNanos;
+    private final Runnable evictionListener;
+
+    /**
+     * Create a near cache.
+     *
+     * @param capacity         Maximum number of entries.
+     * @param timeoutMillis    Time an entry is valid after it is added, in milliseconds. No expiry if not positive.
+     * @param evictionListener Listener invoked when an entry is evicted due to the size bound.
+     */
+    @SuppressWarnings("unchecked")
+    NearCache(int capacity, long timeoutMillis, Runnable evictionListener) {
+
+        int segmentCount = 1;
+        while (segmentCount < MAX_SEGMENTS && segmentCount * 2L * MIN_SEGMENT_CAPACITY <= capacity) {
+            segmentCount <<= 1;
+        }
+        int segmentCapacity = (capacity + segmentCount - 1) / segmentCount;
+        segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment<>(segmentCapacity);
+        }
+        segmentMask = segmentCount - 1;
+        timeoutNanos = timeoutMillis > 0 ? TimeUnit.MILLISECONDS.toNanos(timeoutMillis) : 0;
+        this.evictionListener = evictionListener;
+    }
+
+    V get(K key) {
+
+        return segmentFor(key).get(key, System.nanoTime());
+    }
+
+    void put(K key, V value) {
+
+        notifyEvictions(segmentFor(key).put(key, value, getExpiryTime()));
+    }
+
+    /**
+     * Get the version of the given key, which changes whenever the key is removed or the near cache is cleared. It is
+     * read before a value is loaded from the backing store, so that the loaded value is not added if the key is
+     * invalidated in the meantime.
+     *
+     * @param key Key.
+     * @return Current version of the key.
+     */
+    long getVersion(Object key) {
+
+        return segmentFor(key).getVersion();
+    }
+
+    /**
+     * Add an entry loaded from the backing store, unless the key is invalidated after the given version was read.
+     *
+     * @param key     Key.
+     * @param value   Value loaded from the backing store.
+     * @param version Version of the key read before loading the value.
+     */
+    void putIfUnchanged(K key, V value, long version) {
+
+        notifyEvictions(segmentFor(key).putIfVersion(key, value, getExpiryTime(), version));
+    }
+
+    void remove(Object key) {
+
+        segmentFor(key).remove(key);
+    }
+
+    void clear() {
+
+        for (Segment<K, V> segment : segments) {
+            segment.clear();
+        }
+    }
+
+    long size() {
+
+        long size = 0;
+        for (Segment<K, V> segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    private long getExpiryTime() {
+
+        return timeoutNanos > 0 ? System.nanoTime() + timeoutNanos : 0;
+    }
+
+    private void notifyEvictions(int evicted) {
+
+        for (int i = 0; i < evicted && evictionListener != null; i++) {
+            evictionListener.run();
+        }
+    }
+
+    private Segment<K, V> segmentFor(Object key) {
+
+        int hash = key.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & segmentMask];
+    }
+
+    private enum Region {
+        WINDOW, PROBATION, PROTECTED
+    }
+
+    private static final class Node<V> {
+
+        private V value;
+        private long expiryTime;
+        private Region region;
+
+        private Node(V value, long expiryTime) {
+
+            this.value = value;
+            this.expiryTime = expiryTime;
+            this.region = Region.WINDOW;
+        }
+
+        private boolean isExpired(long now) {
+
+            return expiryTime != 0 && now - expiryTime >= 0;
+        }
+    }
+
+    /**
+     * A W-TinyLFU bounded segment of the near cache guarded by its own monitor.
+     */
+    private static final class Segment<K, V> {
+
+        private final int windowCapacity;
+        private final int mainCapacity;
+        private final int protectedCapacity;
+        private final FrequencySketch sketch;
+        private final Map<K, Node<V>> data = new HashMap<>();
+        // Access ordered regions, hence the first entry of each is the least recently used one.
+        private final LinkedHashMap<K, Node<V>> window = new LinkedHashMap<>(16, 0.75f, true);
+        private final LinkedHashMap<K, Node<V>> probation = new LinkedHashMap<>(16, 0.75f, true);
+        private final LinkedHashMap<K, Node<V>> protectedRegion = new LinkedHashMap<>(16, 0.75f, true);
+        // Changed on each removal and clear, including the ones of absent keys, to reject stale loaded values.
+        private long version;
+
+        private Segment(int capacity) {
+
+            windowCapacity = Math.max(1, capacity * WINDOW_PERCENTAGE / 100);
+            mainCapacity = Math.max(0, capacity - windowCapacity);
+            protectedCapacity = mainCapacity * PROTECTED_PERCENTAGE / 100;
+            sketch = new FrequencySketch(capacity);
+        }
+
+        private synchronized V get(K key, long now) {
+
+            Node<V> node = data.get(key);
+            if (node == null) {
+                return null;
+            }
+            if (node.isExpired(now)) {
+                removeNode(key, node);
+                return null;
+            }
+            sketch.increment(key);
+            onAccess(key, node);
+            return node.value;
+        }
+
+        /**
+         * Add or update an entry.
+         *
+         * @return Number of entries evicted due to the size bound.
+         */
+        private synchronized int put(K key, V value, long expiryTime) {
+
+            sketch.increment(key);
+            Node<V> node = data.get(key);
+            if (node != null) {
+                node.value = value;
+                node.expiryTime = expiryTime;
+                onAccess(key, node);
+                return 0;
+            }
+            node = new Node<>(value, expiryTime);
+            data.put(key, node);
+            window.put(key, node);
+            if (window.size() <= windowCapacity) {
+                return 0;
+            }
+            Map.Entry<K, Node<V>> candidate = removeEldest(window);
+            return admit(candidate.getKey(), candidate.getValue());
+        }
+
+        /**
+         * Add or update an entry, unless the segment is invalidated after the given version.
+         *
+         * @return Number of entries evicted due to the size bound.
+         */
+        private synchronized int putIfVersion(K key, V value, long expiryTime, long expectedVersion) {
+
+            if (version != expectedVersion) {
+                return 0;
+            }
+            return put(key, value, expiryTime);
+        }
+
+        private synchronized long getVersion() {
+
+            return version;
+        }
+
+        private synchronized void remove(Object key) {
+
+            version++;
+            Node<V> node = data.get(key);
+            if (node != null) {
+                removeNode(key, node);
+            }
+        }
+
+        private synchronized void clear() {
+
+            version++;
+            data.clear();
+            window.clear();
+            probation.clear();
+            protectedRegion.clear();
+        }
+
+        private synchronized int size() {
+
+            return data.size();
+        }
+
+        private void onAccess(K key, Node<V> node) {
+
+            switch (node.region) {
+                case WINDOW:
+                    window.get(key);
+                    break;
+                case PROTECTED:
+                    protectedRegion.get(key);
+                    break;
+                default:
+                    // A re-accessed probation entry is promoted to the protected region.
+                    probation.remove(key);
+                    node.region = Region.PROTECTED;
+                    protectedRegion.put(key, node);
+                    if (protectedRegion.size() > protectedCapacity) {
+                        Map.Entry<K, Node<V>> demoted = removeEldest(protectedRegion);
+                        demoted.getValue().region = Region.PROBATION;
+                        probation.put(demoted.getKey(), demoted.getValue());
+                    }
+            }
+        }
+
+        /**
+         * Admit an entry evicted from the window to the main region, evicting either the entry itself or the victim
+         * of the main region based on their access frequencies.
+         *
+         * @return Number of evicted entries.
+         */
+        private int admit(K candidateKey, Node<V> candidate) {
+
+            if (probation.size() + protectedRegion.size() < mainCapacity) {
+                candidate.region = Region.PROBATION;
+                probation.put(candidateKey, candidate);
+                return 0;
+            }
+            LinkedHashMap<K, Node<V>> victimRegion = probation.isEmpty() ? protectedRegion : probation;
+            if (victimRegion.isEmpty()) {
+                data.remove(candidateKey);
+                return 1;
+            }
+            K victimKey = victimRegion.keySet().iterator().next();
+            if (sketch.frequency(candidateKey) > sketch.frequency(victimKey)) {
+                victimRegion.remove(victimKey);
+                data.remove(victimKey);
+                candidate.region = Region.PROBATION;
+                probation.put(candidateKey, candidate);
+            } else {
+                data.remove(candidateKey);
+            }
+            return 1;
+        }
+
+        private void removeNode(Object key, Node<V> node) {
+
+            data.remove(key);
+            switch (node.region) {
+                case WINDOW:
+                    window.remove(key);
+                    break;
+                case PROBATION:
+                    probation.remove(key);
+                    break;
+                default:
+                    protectedRegion.remove(key);
+            }
+        }
+
+        private static <K, V> Map.Entry<K, Node<V>> removeEldest(LinkedHashMap<K, Node<V>> region) {
+
+            Iterator<Map.Entry<K, Node<V>>> iterator = region.entrySet().iterator();
+            Map.Entry<K, Node<V>> eldest = iterator.next();
+            Map.Entry<K, Node<V>> entry = new AbstractMap.SimpleImmutableEntry<>(eldest);
+            iterator.remove();
+            return entry;
+        }
+    }
+}
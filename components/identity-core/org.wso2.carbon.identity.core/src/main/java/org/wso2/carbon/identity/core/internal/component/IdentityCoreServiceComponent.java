@@ -38,6 +38,9 @@ import org.wso2.carbon.identity.core.KeyProviderService;
 import org.wso2.carbon.identity.core.KeyStoreManagerExtension;
 import org.wso2.carbon.identity.core.SAMLSSOServiceProviderManager;
 import org.wso2.carbon.identity.core.ServiceURLBuilderFactory;
+import org.wso2.carbon.identity.core.cache.CacheMetricsListener;
+import org.wso2.carbon.identity.core.cache.IdentityCacheMetrics;
+import org.wso2.carbon.identity.core.cache.IdentityCacheMetricsService;
 import org.wso2.carbon.identity.core.migrate.MigrationClient;
 import org.wso2.carbon.identity.core.migrate.MigrationClientException;
 import org.wso2.carbon.identity.core.migrate.MigrationClientStartupObserver;
@@ -185,6 +188,10 @@ public class IdentityCoreServiceComponent {
             defaultKeystoreManagerServiceRef = ctxt.getBundleContext().registerService(KeyProviderService.class,
                     defaultKeyProviderService, null);
 
+            // Registering the identity cache metrics service.
+            ctxt.getBundleContext().registerService(IdentityCacheMetricsService.class.getName(),
+                    IdentityCacheMetrics.getInstance(), null);
+
             IdentityCoreServiceDataHolder.getInstance()
                     .setTenantQualifiedUrlsEnabled(Boolean.parseBoolean(IdentityUtil.getProperty(
                             IdentityCoreConstants.ENABLE_TENANT_QUALIFIED_URLS)));
@@ -219,6 +226,23 @@ public class IdentityCoreServiceComponent {
         }
     }
 
+    @Reference(
+            name = "identity.cache.metrics.listener",
+            service = CacheMetricsListener.class,
+            cardinality = ReferenceCardinality.MULTIPLE,
+            policy = ReferencePolicy.DYNAMIC,
+            unbind = "unsetCacheMetricsListener"
+    )
+    protected void setCacheMetricsListener(CacheMetricsListener cacheMetricsListener) {
+
+        IdentityCacheMetrics.getInstance().addListener(cacheMetricsListener);
+    }
+
+    protected void unsetCacheMetricsListener(CacheMetricsListener cacheMetricsListener) {
+
+        IdentityCacheMetrics.getInstance().removeListener(cacheMetricsListener);
+    }
+
     @Reference(
             name = "registry.service",
             service = RegistryService.class,
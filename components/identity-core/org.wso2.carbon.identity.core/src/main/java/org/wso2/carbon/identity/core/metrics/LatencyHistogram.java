@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock free latency histogram with fixed, exponentially growing buckets. Recording a value only increments striped
+ * counters, hence it is cheap enough to be used on request paths. The upper bounds of the buckets are expressed in
+ * microseconds and the last bucket collects all the values above the largest bound.
+ */
+public class LatencyHistogram {
+
+    private static final long[] BUCKET_UPPER_BOUNDS_MICROS = {100, 250, 500, 1_000, 2_500, 5_000, 10_000, 25_000,
+            50_000, 100_000, 250_000, 500_000, 1_000_000, 2_500_000, 5_000_000};
+
+    private final LongAdder[] buckets;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0);
+
+    public LatencyHistogram() {
+
+        buckets = new LongAdder[BUCKET_UPPER_BOUNDS_MICROS.length + 1];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Record a latency value.
+     *
+     * @param elapsedNanos Elapsed time in nanoseconds.
+     */
+    public void record(long elapsedNanos) {
+
+        if (elapsedNanos < 0) {
+            return;
+        }
+        long elapsedMicros = TimeUnit.NANOSECONDS.toMicros(elapsedNanos);
+        int index = 0;
+        while (index < BUCKET_UPPER_BOUNDS_MICROS.length && elapsedMicros > BUCKET_UPPER_BOUNDS_MICROS[index]) {
+            index++;
+        }
+        buckets[index].increment();
+        count.increment();
+        totalNanos.add(elapsedNanos);
+        maxNanos.accumulate(elapsedNanos);
+    }
+
+    /**
+     * Get the number of recorded values.
+     *
+     * @return Number of recorded values.
+     */
+    public long getCount() {
+
+        return count.sum();
+    }
+
+    /**
+     * Get the sum of all the recorded values in nanoseconds.
+     *
+     * @return Sum of recorded values.
+     */
+    public long getTotalNanos() {
+
+        return totalNanos.sum();
+    }
+
+    /**
+     * Get the largest recorded value in nanoseconds.
+     *
+     * @return Largest recorded value.
+     */
+    public long getMaxNanos() {
+
+        return maxNanos.get();
+    }
+
+    /**
+     * Get the mean of the recorded values in nanoseconds.
+     *
+     * @return Mean of recorded values or 0 if nothing is recorded.
+     */
+    public double getMeanNanos() {
+
+        long recorded = getCount();
+        return recorded == 0 ? 0 : (double) getTotalNanos() / recorded;
+    }
+
+    /**
+     * Get the upper bounds of the buckets in microseconds. The bucket following the last bound is unbounded.
+     *
+     * @return Upper bounds of the buckets.
+     */
+    public long[] getBucketUpperBoundsMicros() {
+
+        return BUCKET_UPPER_BOUNDS_MICROS.clone();
+    }
+
+    /**
+     * Get a snapshot of the bucket counts. The array has one more element than the bucket bounds.
+     *
+     * @return Counts of each bucket.
+     */
+    public long[] getBucketCounts() {
+
+        long[] counts = new long[buckets.length];
+        for (int i = 0; i < buckets.length; i++) {
+            counts[i] = buckets[i].sum();
+        }
+        return counts;
+    }
+
+    /**
+     * Get an estimation of the given percentile, as the upper bound of the bucket the percentile falls into.
+     *
+     * @param percentile Percentile between 0 and 100.
+     * @return Estimated percentile in microseconds, or the largest recorded value for the unbounded bucket.
+     */
+    public long getPercentileMicros(double percentile) {
+
+        long[] counts = getBucketCounts();
+        long total = 0;
+        for (long bucketCount : counts) {
+            total += bucketCount;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long threshold = (long) Math.ceil(total * percentile / 100);
+        long cumulative = 0;
+        for (int i = 0; i < BUCKET_UPPER_BOUNDS_MICROS.length; i++) {
+            cumulative += counts[i];
+            if (cumulative >= threshold) {
+                return BUCKET_UPPER_BOUNDS_MICROS[i];
+            }
+        }
+        return TimeUnit.NANOSECONDS.toMicros(getMaxNanos());
+    }
+
+    /**
+     * Reset all the recorded values.
+     */
+    public void reset() {
+
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+        count.reset();
+        totalNanos.reset();
+        maxNanos.reset();
+    }
+}
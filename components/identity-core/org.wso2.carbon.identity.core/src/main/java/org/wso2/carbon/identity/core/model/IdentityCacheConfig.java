@@ -19,12 +19,16 @@ package org.wso2.carbon.identity.core.model;
 
 public class IdentityCacheConfig {
 
+    public static final int DEFAULT_NEAR_CACHE_TIMEOUT = 60;
+
     private IdentityCacheConfigKey identityCacheConfigKey;
     private boolean isEnabled;
     private int timeout;
     private int capacity;
     private boolean isDistributed = true;
     private boolean isTemporary = false;
+    private int nearCacheCapacity;
+    private int nearCacheTimeout;
 
     public IdentityCacheConfig(IdentityCacheConfigKey identityCacheConfigKey) {
         this.identityCacheConfigKey = identityCacheConfigKey;
@@ -73,4 +77,20 @@ public class IdentityCacheConfig {
     public void setDistributed(boolean isDistributed) {
         this.isDistributed = isDistributed;
     }
+
+    public int getNearCacheCapacity() {
+        return nearCacheCapacity;
+    }
+
+    public void setNearCacheCapacity(int nearCacheCapacity) {
+        this.nearCacheCapacity = nearCacheCapacity;
+    }
+
+    public int getNearCacheTimeout() {
+        return nearCacheTimeout;
+    }
+
+    public void setNearCacheTimeout(int nearCacheTimeout) {
+        this.nearCacheTimeout = nearCacheTimeout;
+    }
 }
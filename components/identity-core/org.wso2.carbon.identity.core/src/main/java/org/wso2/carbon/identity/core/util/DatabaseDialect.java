@@ -0,0 +1,294 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.util;
+
+import org.wso2.carbon.database.utils.jdbc.exceptions.DataAccessException;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import static org.wso2.carbon.identity.core.util.IdentityCoreConstants.DB2;
+import static org.wso2.carbon.identity.core.util.IdentityCoreConstants.H2;
+import static org.wso2.carbon.identity.core.util.IdentityCoreConstants.INFORMIX;
+import static org.wso2.carbon.identity.core.util.IdentityCoreConstants.MARIADB;
+import static org.wso2.carbon.identity.core.util.IdentityCoreConstants.MICROSOFT;
+import static org.wso2.carbon.identity.core.util.IdentityCoreConstants.MY_SQL;
+import static org.wso2.carbon.identity.core.util.IdentityCoreConstants.ORACLE;
+import static org.wso2.carbon.identity.core.util.IdentityCoreConstants.POSTGRE_SQL;
+import static org.wso2.carbon.identity.core.util.IdentityCoreConstants.S_MICROSOFT;
+
+/**
+ * Dialect of a database.
+ * This class holds the vendor, version and capabilities of a database, detected once from the connection metadata,
+ * so that the database type checks and the selection of vendor specific SQL don't need a metadata round trip.
+ * Use {@link JdbcUtils#getDatabaseDialect(JdbcUtils.Database)} to get the dialect of a database.
+ */
+public class DatabaseDialect {
+
+    /**
+     * Database vendors with vendor specific SQL.
+     */
+    public enum Vendor {
+        H2, MYSQL, MARIADB, POSTGRESQL, ORACLE, MSSQL, DB2, INFORMIX, UNKNOWN
+    }
+
+    private final String driverName;
+    private final String productName;
+    private final String productVersion;
+    private final int majorVersion;
+    private final int minorVersion;
+    private final Vendor vendor;
+
+    public DatabaseDialect(String driverName, String productName, String productVersion, int majorVersion,
+                           int minorVersion) {
+
+        this.driverName = driverName != null ? driverName : "";
+        this.productName = productName != null ? productName : "";
+        this.productVersion = productVersion;
+        this.majorVersion = majorVersion;
+        this.minorVersion = minorVersion;
+        this.vendor = resolveVendor();
+    }
+
+    /**
+     * Detect the dialect of the given data source from its connection metadata.
+     *
+     * @param dataSource Data source.
+     * @return Dialect of the database.
+     * @throws DataAccessException If an error occurred while reading the connection metadata.
+     */
+    public static DatabaseDialect detect(DataSource dataSource) throws DataAccessException {
+
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            return new DatabaseDialect(metaData.getDriverName(), metaData.getDatabaseProductName(),
+                    metaData.getDatabaseProductVersion(), metaData.getDatabaseMajorVersion(),
+                    metaData.getDatabaseMinorVersion());
+        } catch (SQLException e) {
+            throw new DataAccessException("Error while reading the database metadata.", e);
+        }
+    }
+
+    /**
+     * Check whether the DB type string contains in the driver name or db product name.
+     *
+     * @param dbType Database type string, e.g. {@link IdentityCoreConstants#H2}.
+     * @return True if the database type matches the driver name or the product name.
+     */
+    public boolean isTypeOf(String dbType) {
+
+        return driverName.contains(dbType) || productName.contains(dbType);
+    }
+
+    public boolean isH2() {
+
+        return isTypeOf(H2);
+    }
+
+    public boolean isMySQL() {
+
+        return isTypeOf(MY_SQL);
+    }
+
+    public boolean isMariaDB() {
+
+        return isTypeOf(MARIADB);
+    }
+
+    public boolean isPostgreSQL() {
+
+        return isTypeOf(POSTGRE_SQL);
+    }
+
+    public boolean isOracle() {
+
+        return isTypeOf(ORACLE);
+    }
+
+    public boolean isMSSql() {
+
+        return isTypeOf(MICROSOFT) || isTypeOf(S_MICROSOFT);
+    }
+
+    public boolean isDB2() {
+
+        return isTypeOf(DB2);
+    }
+
+    public boolean isInformix() {
+
+        return isTypeOf(INFORMIX);
+    }
+
+    /**
+     * Check whether the database supports the LIMIT ... OFFSET ... pagination syntax.
+     *
+     * @return True if LIMIT and OFFSET are supported.
+     */
+    public boolean supportsLimitOffset() {
+
+        return vendor == Vendor.H2 || vendor == Vendor.MYSQL || vendor == Vendor.MARIADB ||
+                vendor == Vendor.POSTGRESQL;
+    }
+
+    /**
+     * Check whether the database supports the OFFSET ... ROWS FETCH NEXT ... ROWS ONLY pagination syntax.
+     *
+     * @return True if OFFSET and FETCH are supported.
+     */
+    public boolean supportsOffsetFetch() {
+
+        switch (vendor) {
+            case H2:
+            case POSTGRESQL:
+            case DB2:
+                return true;
+            case ORACLE:
+                // Supported from Oracle 12c.
+                return majorVersion >= 12;
+            case MSSQL:
+                // Supported from SQL Server 2012.
+                return majorVersion >= 11;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Select the SQL variant of this database.
+     *
+     * @param sqlVariants SQL variants.
+     * @return SQL of the vendor of this database, or the default SQL if there is no vendor specific SQL.
+     */
+    public String select(SQLVariants sqlVariants) {
+
+        return sqlVariants.get(vendor);
+    }
+
+    public Vendor getVendor() {
+
+        return vendor;
+    }
+
+    public String getDriverName() {
+
+        return driverName;
+    }
+
+    public String getProductName() {
+
+        return productName;
+    }
+
+    public String getProductVersion() {
+
+        return productVersion;
+    }
+
+    public int getMajorVersion() {
+
+        return majorVersion;
+    }
+
+    public int getMinorVersion() {
+
+        return minorVersion;
+    }
+
+    private Vendor resolveVendor() {
+
+        // MariaDB is checked before MySQL, as MariaDB may report MySQL as the product name.
+        if (isMariaDB()) {
+            return Vendor.MARIADB;
+        } else if (isMySQL()) {
+            return Vendor.MYSQL;
+        } else if (isH2()) {
+            return Vendor.H2;
+        } else if (isPostgreSQL()) {
+            return Vendor.POSTGRESQL;
+        } else if (isOracle()) {
+            return Vendor.ORACLE;
+        } else if (isMSSql()) {
+            return Vendor.MSSQL;
+        } else if (isDB2()) {
+            return Vendor.DB2;
+        } else if (isInformix()) {
+            return Vendor.INFORMIX;
+        }
+        return Vendor.UNKNOWN;
+    }
+
+    /**
+     * Vendor specific variants of an SQL statement.
+     * Variants are expected to be built once, e.g. as constants of a DAO, and selected by the dialect of the database.
+     */
+    public static class SQLVariants {
+
+        private final String defaultSQL;
+        private final Map<Vendor, String> vendorSQL;
+
+        private SQLVariants(Builder builder) {
+
+            this.defaultSQL = builder.defaultSQL;
+            this.vendorSQL = Collections.unmodifiableMap(new EnumMap<>(builder.vendorSQL));
+        }
+
+        public static Builder builder(String defaultSQL) {
+
+            return new Builder(defaultSQL);
+        }
+
+        String get(Vendor vendor) {
+
+            String sql = vendorSQL.get(vendor);
+            return sql != null ? sql : defaultSQL;
+        }
+
+        /**
+         * Builder for the SQL variants.
+         */
+        public static class Builder {
+
+            private final String defaultSQL;
+            private final Map<Vendor, String> vendorSQL = new EnumMap<>(Vendor.class);
+
+            private Builder(String defaultSQL) {
+
+                this.defaultSQL = defaultSQL;
+            }
+
+            public Builder vendor(Vendor vendor, String sql) {
+
+                vendorSQL.put(vendor, sql);
+                return this;
+            }
+
+            public SQLVariants build() {
+
+                return new SQLVariants(this);
+            }
+        }
+    }
+}
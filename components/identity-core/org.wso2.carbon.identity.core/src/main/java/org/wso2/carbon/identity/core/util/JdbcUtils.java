@@ -22,6 +22,9 @@ import org.wso2.carbon.database.utils.jdbc.JdbcTemplate;
 import org.wso2.carbon.database.utils.jdbc.NamedJdbcTemplate;
 import org.wso2.carbon.database.utils.jdbc.exceptions.DataAccessException;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import javax.sql.DataSource;
 
 import static org.wso2.carbon.identity.core.util.IdentityCoreConstants.DB2;
@@ -39,6 +42,9 @@ import static org.wso2.carbon.identity.core.util.IdentityCoreConstants.S_MICROSO
  */
 public class JdbcUtils {
 
+    // Dialects are keyed by the data source, so that a re-initialized data source is detected again.
+    private static final Map<DataSource, DatabaseDialect> DATABASE_DIALECTS = new ConcurrentHashMap<>();
+
     /**
      * Enum to select the database type.
      */
@@ -64,13 +70,7 @@ public class JdbcUtils {
      */
     public static JdbcTemplate getNewTemplate(Database database) {
 
-        DataSource dataSource;
-        if (Database.SESSION.equals(database)) {
-            dataSource = IdentityDatabaseUtil.getSessionDataSource();
-        } else {
-            dataSource = IdentityDatabaseUtil.getDataSource();
-        }
-        return new JdbcTemplate(dataSource);
+        return new JdbcTemplate(getDataSource(database));
     }
 
     /**
@@ -294,7 +294,47 @@ public class JdbcUtils {
      */
     private static boolean isDBTypeOf(String dbType, Database database) throws DataAccessException {
 
-        JdbcTemplate jdbcTemplate = JdbcUtils.getNewTemplate(database);
-        return jdbcTemplate.getDriverName().contains(dbType) || jdbcTemplate.getDatabaseProductName().contains(dbType);
+        return getDatabaseDialect(database).isTypeOf(dbType);
+    }
+
+    /**
+     * Get the dialect of the given database. The dialect is detected from the connection metadata once per data
+     * source and cached.
+     *
+     * @param database Database type.
+     * @return Dialect of the database.
+     * @throws DataAccessException if error occurred while checking the DB metadata.
+     */
+    public static DatabaseDialect getDatabaseDialect(Database database) throws DataAccessException {
+
+        DataSource dataSource = getDataSource(database);
+        if (dataSource == null) {
+            throw new DataAccessException("Data source is not available for the database: " + database);
+        }
+        DatabaseDialect databaseDialect = DATABASE_DIALECTS.get(dataSource);
+        if (databaseDialect == null) {
+            databaseDialect = DatabaseDialect.detect(dataSource);
+            DATABASE_DIALECTS.put(dataSource, databaseDialect);
+        }
+        return databaseDialect;
+    }
+
+    /**
+     * Get the dialect of the identity database.
+     *
+     * @return Dialect of the identity database.
+     * @throws DataAccessException if error occurred while checking the DB metadata.
+     */
+    public static DatabaseDialect getDatabaseDialect() throws DataAccessException {
+
+        return getDatabaseDialect(Database.IDENTITY);
+    }
+
+    private static DataSource getDataSource(Database database) {
+
+        if (Database.SESSION.equals(database)) {
+            return IdentityDatabaseUtil.getSessionDataSource();
+        }
+        return IdentityDatabaseUtil.getDataSource();
     }
 }
@@ -22,6 +22,7 @@ import org.mockito.MockedStatic;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
+import org.wso2.carbon.caching.impl.CachingConstants;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.context.internal.OSGiDataHolder;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
@@ -30,6 +31,7 @@ import org.wso2.carbon.user.core.tenant.TenantManager;
 
 import java.io.File;
 import java.net.URL;
+import javax.cache.Caching;
 
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
@@ -155,4 +157,35 @@ public class BaseCacheTest {
         entry = TestCache.getInstance().getValueFromCache(new TestCacheKey("test2"), "bar.com");
         assertEquals("value2", entry.getValue());
     }
+
+    @Test
+    public void testAccessFromDifferentTenantContext() {
+
+        TestCache.getInstance().addToCache(new TestCacheKey("test"), new TestCacheEntry("value"), 2);
+
+        // Thread context belongs to foo.com, hence the entry of bar.com should be accessed through a tenant flow.
+        TestCacheEntry entry = TestCache.getInstance().getValueFromCache(new TestCacheKey("test"), "bar.com");
+        assertEquals(entry.getValue(), "value");
+        entry = TestCache.getInstance().getValueFromCache(new TestCacheKey("test"), 1);
+        assertNull(entry);
+        assertEquals(PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId(), 1);
+        assertEquals(PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain(), "foo.com");
+    }
+
+    @Test
+    public void testCacheHandleResolvedAfterCacheRemoval() {
+
+        TestCache.getInstance().addToCache(new TestCacheKey("test"), new TestCacheEntry("value"), 1);
+        TestCacheEntry entry = TestCache.getInstance().getValueFromCache(new TestCacheKey("test"), 1);
+        assertEquals(entry.getValue(), "value");
+
+        Caching.getCacheManagerFactory().getCacheManager("IdentityApplicationManagementCacheManager")
+                .removeCache(CachingConstants.LOCAL_CACHE_PREFIX + "TestCache");
+
+        entry = TestCache.getInstance().getValueFromCache(new TestCacheKey("test"), 1);
+        assertNull(entry);
+        TestCache.getInstance().addToCache(new TestCacheKey("test"), new TestCacheEntry("newValue"), 1);
+        entry = TestCache.getInstance().getValueFromCache(new TestCacheKey("test"), "foo.com");
+        assertEquals(entry.getValue(), "newValue");
+    }
 }
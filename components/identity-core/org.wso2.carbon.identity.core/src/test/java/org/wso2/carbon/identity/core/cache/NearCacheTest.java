@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.cache;
+
+import org.testng.annotations.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test for the W-TinyLFU near cache.
+ */
+public class NearCacheTest {
+
+    @Test
+    public void testPutAndGet() {
+
+        NearCache<String, String> nearCache = new NearCache<>(100, 0, null);
+        nearCache.put("key1", "value1");
+        nearCache.put("key2", "value2");
+
+        assertEquals(nearCache.get("key1"), "value1");
+        assertEquals(nearCache.get("key2"), "value2");
+        assertNull(nearCache.get("key3"));
+
+        nearCache.put("key1", "newValue1");
+        assertEquals(nearCache.get("key1"), "newValue1");
+        assertEquals(nearCache.size(), 2);
+
+        nearCache.remove("key1");
+        assertNull(nearCache.get("key1"));
+        nearCache.clear();
+        assertEquals(nearCache.size(), 0);
+    }
+
+    @Test
+    public void testPutIfUnchanged() {
+
+        NearCache<String, String> nearCache = new NearCache<>(100, 0, null);
+
+        long version = nearCache.getVersion("key");
+        nearCache.putIfUnchanged("key", "value", version);
+        assertEquals(nearCache.get("key"), "value");
+
+        // A value loaded before the key is removed must not bring the removed entry back.
+        version = nearCache.getVersion("key");
+        nearCache.remove("key");
+        nearCache.putIfUnchanged("key", "staleValue", version);
+        assertNull(nearCache.get("key"));
+
+        // The same applies to the values loaded before the near cache is cleared.
+        version = nearCache.getVersion("otherKey");
+        nearCache.clear();
+        nearCache.putIfUnchanged("otherKey", "staleValue", version);
+        assertNull(nearCache.get("otherKey"));
+    }
+
+    @Test
+    public void testSizeBoundAndFrequentEntriesRetained() {
+
+        AtomicInteger evictions = new AtomicInteger();
+        NearCache<String, String> nearCache = new NearCache<>(50, 0, evictions::incrementAndGet);
+        for (int i = 0; i < 10; i++) {
+            nearCache.put("hot" + i, "value");
+        }
+        // Moves the last hot entry out of the admission window.
+        nearCache.put("warm", "value");
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < 10; i++) {
+                nearCache.get("hot" + i);
+            }
+        }
+        // Scan of entries accessed only once should not flush the frequently accessed ones.
+        for (int i = 0; i < 1000; i++) {
+            nearCache.put("cold" + i, "value");
+        }
+
+        assertTrue(nearCache.size() <= 50);
+        assertEquals(evictions.get() + nearCache.size(), 1011);
+        for (int i = 0; i < 10; i++) {
+            assertEquals(nearCache.get("hot" + i), "value");
+        }
+    }
+
+    @Test
+    public void testExpiry() throws Exception {
+
+        NearCache<String, String> nearCache = new NearCache<>(100, 10, null);
+        nearCache.put("key", "value");
+        assertEquals(nearCache.get("key"), "value");
+
+        Thread.sleep(50);
+        assertNull(nearCache.get("key"));
+        assertEquals(nearCache.size(), 0);
+    }
+}
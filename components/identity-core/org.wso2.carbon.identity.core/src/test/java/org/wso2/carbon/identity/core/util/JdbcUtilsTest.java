@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.util;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+
+import javax.sql.DataSource;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class JdbcUtilsTest {
+
+    private MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil;
+
+    @BeforeMethod
+    public void setUp() {
+
+        identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        identityDatabaseUtil.close();
+    }
+
+    @DataProvider(name = "databaseMetadataProvider")
+    public Object[][] databaseMetadataProvider() {
+
+        return new Object[][]{
+                {"H2 JDBC Driver", "H2", 2, DatabaseDialect.Vendor.H2},
+                {"MySQL Connector/J", "MySQL", 8, DatabaseDialect.Vendor.MYSQL},
+                {"MariaDB Connector/J", "MySQL", 10, DatabaseDialect.Vendor.MARIADB},
+                {"PostgreSQL JDBC Driver", "PostgreSQL", 15, DatabaseDialect.Vendor.POSTGRESQL},
+                {"Oracle JDBC driver", "Oracle", 19, DatabaseDialect.Vendor.ORACLE},
+                {"Microsoft JDBC Driver 12.4 for SQL Server", "Microsoft SQL Server", 16,
+                        DatabaseDialect.Vendor.MSSQL},
+                {"IBM Data Server Driver for JDBC and SQLJ", "DB2/LINUXX8664", 11, DatabaseDialect.Vendor.DB2},
+                {"Unknown Driver", "Unknown", 1, DatabaseDialect.Vendor.UNKNOWN}
+        };
+    }
+
+    @Test(dataProvider = "databaseMetadataProvider")
+    public void testGetDatabaseDialect(String driverName, String productName, int majorVersion,
+                                       DatabaseDialect.Vendor expectedVendor) throws Exception {
+
+        DataSource dataSource = mockDataSource(driverName, productName, majorVersion);
+        identityDatabaseUtil.when(IdentityDatabaseUtil::getDataSource).thenReturn(dataSource);
+
+        DatabaseDialect databaseDialect = JdbcUtils.getDatabaseDialect();
+        assertEquals(databaseDialect.getVendor(), expectedVendor);
+        assertEquals(databaseDialect.getMajorVersion(), majorVersion);
+        assertEquals(JdbcUtils.isH2DB(), expectedVendor == DatabaseDialect.Vendor.H2);
+        assertEquals(JdbcUtils.isOracleDB(), expectedVendor == DatabaseDialect.Vendor.ORACLE);
+        assertEquals(JdbcUtils.isMSSqlDB(), expectedVendor == DatabaseDialect.Vendor.MSSQL);
+    }
+
+    @Test
+    public void testDatabaseDialectIsDetectedOncePerDataSource() throws Exception {
+
+        DataSource identityDataSource = mockDataSource("H2 JDBC Driver", "H2", 2);
+        DataSource sessionDataSource = mockDataSource("PostgreSQL JDBC Driver", "PostgreSQL", 15);
+        identityDatabaseUtil.when(IdentityDatabaseUtil::getDataSource).thenReturn(identityDataSource);
+        identityDatabaseUtil.when(IdentityDatabaseUtil::getSessionDataSource).thenReturn(sessionDataSource);
+
+        DatabaseDialect databaseDialect = JdbcUtils.getDatabaseDialect(JdbcUtils.Database.IDENTITY);
+        assertTrue(JdbcUtils.isH2DB());
+        assertFalse(JdbcUtils.isMySQLDB());
+        assertFalse(JdbcUtils.isPostgreSQLDB());
+        assertTrue(JdbcUtils.isPostgreSQLDB(JdbcUtils.Database.SESSION));
+        assertFalse(JdbcUtils.isH2DB(JdbcUtils.Database.SESSION));
+
+        assertSame(JdbcUtils.getDatabaseDialect(JdbcUtils.Database.IDENTITY), databaseDialect);
+        verify(identityDataSource, times(1)).getConnection();
+        verify(sessionDataSource, times(1)).getConnection();
+    }
+
+    @Test
+    public void testSelectSQLVariant() {
+
+        DatabaseDialect.SQLVariants sqlVariants = DatabaseDialect.SQLVariants.builder("SELECT DEFAULT")
+                .vendor(DatabaseDialect.Vendor.ORACLE, "SELECT ORACLE")
+                .vendor(DatabaseDialect.Vendor.MSSQL, "SELECT MSSQL")
+                .build();
+
+        assertEquals(new DatabaseDialect("Oracle JDBC driver", "Oracle", "19c", 19, 0).select(sqlVariants),
+                "SELECT ORACLE");
+        assertEquals(new DatabaseDialect("H2 JDBC Driver", "H2", "2.2", 2, 2).select(sqlVariants),
+                "SELECT DEFAULT");
+    }
+
+    @Test
+    public void testPaginationCapabilities() {
+
+        assertTrue(new DatabaseDialect("MySQL Connector/J", "MySQL", "8.0", 8, 0).supportsLimitOffset());
+        assertFalse(new DatabaseDialect("Oracle JDBC driver", "Oracle", "11g", 11, 2).supportsOffsetFetch());
+        assertTrue(new DatabaseDialect("Oracle JDBC driver", "Oracle", "19c", 19, 0).supportsOffsetFetch());
+        assertFalse(new DatabaseDialect("Microsoft JDBC Driver", "Microsoft SQL Server", "10.5", 10, 50)
+                .supportsOffsetFetch());
+    }
+
+    private DataSource mockDataSource(String driverName, String productName, int majorVersion) throws Exception {
+
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.getMetaData()).thenReturn(metaData);
+        when(metaData.getDriverName()).thenReturn(driverName);
+        when(metaData.getDatabaseProductName()).thenReturn(productName);
+        when(metaData.getDatabaseProductVersion()).thenReturn(String.valueOf(majorVersion));
+        when(metaData.getDatabaseMajorVersion()).thenReturn(majorVersion);
+        return dataSource;
+    }
+}
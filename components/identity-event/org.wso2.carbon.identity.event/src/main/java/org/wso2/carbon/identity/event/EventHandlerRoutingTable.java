@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.bean.context.MessageContext;
+import org.wso2.carbon.identity.event.bean.ModuleConfiguration;
+import org.wso2.carbon.identity.event.bean.Subscription;
+import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable routing table from event names to the ordered list of handlers subscribed to them.
+ * <p>
+ * For handlers relying on the subscription based {@link AbstractEventHandler#canHandle(MessageContext)}, the
+ * subscriptions are resolved when the table is built, along with the sync/async association of each subscription.
+ * Handlers overriding these methods may decide per event, hence they are routed for every event and evaluated at
+ * dispatch time, in the same order as the rest of the handlers.
+ */
+public class EventHandlerRoutingTable {
+
+    private static final Log log = LogFactory.getLog(EventHandlerRoutingTable.class);
+
+    private final List<AbstractEventHandler> handlers;
+    private final Map<String, List<Route>> routes;
+    private final List<Route> defaultRoutes;
+
+    private EventHandlerRoutingTable(List<AbstractEventHandler> handlers, Map<String, List<Route>> routes,
+                                     List<Route> defaultRoutes) {
+
+        this.handlers = handlers;
+        this.routes = routes;
+        this.defaultRoutes = defaultRoutes;
+    }
+
+    /**
+     * Build the routing table for the given handlers.
+     *
+     * @param handlers Registered event handlers, in the order they should handle the events.
+     * @return Routing table.
+     */
+    public static EventHandlerRoutingTable build(List<AbstractEventHandler> handlers) {
+
+        List<AbstractEventHandler> handlerSnapshot = handlers == null ? Collections.emptyList() :
+                Collections.unmodifiableList(new ArrayList<>(handlers));
+
+        Set<String> eventNames = new LinkedHashSet<>();
+        Map<AbstractEventHandler, Set<String>> subscriptions = new HashMap<>();
+        for (AbstractEventHandler handler : handlerSnapshot) {
+            if (!isDeclaredByAbstractHandler(handler, "canHandle", MessageContext.class)) {
+                continue;
+            }
+            Set<String> subscribedEvents = getSubscribedEvents(handler);
+            subscriptions.put(handler, subscribedEvents);
+            eventNames.addAll(subscribedEvents);
+        }
+
+        List<Route> defaultRoutes = new ArrayList<>();
+        for (AbstractEventHandler handler : handlerSnapshot) {
+            if (!subscriptions.containsKey(handler)) {
+                defaultRoutes.add(new Route(handler, true, null));
+            }
+        }
+
+        Map<String, List<Route>> routes = new HashMap<>();
+        for (String eventName : eventNames) {
+            List<Route> eventRoutes = new ArrayList<>();
+            for (AbstractEventHandler handler : handlerSnapshot) {
+                Set<String> subscribedEvents = subscriptions.get(handler);
+                if (subscribedEvents == null) {
+                    eventRoutes.add(new Route(handler, true, null));
+                } else if (subscribedEvents.contains(eventName)) {
+                    eventRoutes.add(new Route(handler, false, resolveAsync(handler, eventName)));
+                }
+            }
+            routes.put(eventName, Collections.unmodifiableList(eventRoutes));
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Built the event routing table for " + handlerSnapshot.size() + " handlers and " +
+                    routes.size() + " subscribed events.");
+        }
+        return new EventHandlerRoutingTable(handlerSnapshot, routes, Collections.unmodifiableList(defaultRoutes));
+    }
+
+    /**
+     * Get the routes of the given event, in the order the handlers should be invoked.
+     *
+     * @param eventName Event name.
+     * @return Routes of the event.
+     */
+    public List<Route> getRoutes(String eventName) {
+
+        List<Route> eventRoutes = eventName == null ? null : routes.get(eventName);
+        return eventRoutes != null ? eventRoutes : defaultRoutes;
+    }
+
+    /**
+     * @return Handlers the table was built for.
+     */
+    public List<AbstractEventHandler> getHandlers() {
+
+        return handlers;
+    }
+
+    private static Set<String> getSubscribedEvents(AbstractEventHandler handler) {
+
+        Set<String> subscribedEvents = new HashSet<>();
+        ModuleConfiguration configs = handler.getModuleConfiguration();
+        if (configs == null || configs.getSubscriptions() == null) {
+            return subscribedEvents;
+        }
+        for (Subscription subscription : configs.getSubscriptions()) {
+            if (subscription.getSubscriptionName() != null) {
+                subscribedEvents.add(subscription.getSubscriptionName());
+            }
+        }
+        return subscribedEvents;
+    }
+
+    private static Boolean resolveAsync(AbstractEventHandler handler, String eventName) {
+
+        if (!isDeclaredByAbstractHandler(handler, "isAssociationAsync", String.class) ||
+                !isDeclaredByAbstractHandler(handler, "getSubscriptionProperty", String.class, String.class) ||
+                !isDeclaredByAbstractHandler(handler, "getSubscriptionProperties", String.class)) {
+            // The association is decided by the handler, hence it is resolved at dispatch time.
+            return null;
+        }
+        try {
+            return handler.isAssociationAsync(eventName);
+        } catch (IdentityEventException | RuntimeException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Error while resolving the association of event: " + eventName + " for handler: " +
+                        handler.getName() + ". It will be resolved at dispatch time.", e);
+            }
+            return null;
+        }
+    }
+
+    private static boolean isDeclaredByAbstractHandler(AbstractEventHandler handler, String methodName,
+                                                       Class<?>... parameterTypes) {
+
+        try {
+            return handler.getClass().getMethod(methodName, parameterTypes).getDeclaringClass() ==
+                    AbstractEventHandler.class;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * A handler to which an event is routed.
+     */
+    public static class Route {
+
+        private final AbstractEventHandler handler;
+        private final boolean canHandleCheckRequired;
+        private final Boolean async;
+
+        Route(AbstractEventHandler handler, boolean canHandleCheckRequired, Boolean async) {
+
+            this.handler = handler;
+            this.canHandleCheckRequired = canHandleCheckRequired;
+            this.async = async;
+        }
+
+        public AbstractEventHandler getHandler() {
+
+            return handler;
+        }
+
+        /**
+         * @return True if the handler decides whether it handles the event at dispatch time.
+         */
+        public boolean isCanHandleCheckRequired() {
+
+            return canHandleCheckRequired;
+        }
+
+        /**
+         * Check whether the handler handles the given event asynchronously.
+         *
+         * @param eventName Event name.
+         * @return True if the event should be handled asynchronously.
+         * @throws IdentityEventException If the association of the subscription can't be resolved.
+         */
+        public boolean isAsync(String eventName) throws IdentityEventException {
+
+            if (async != null) {
+                return async;
+            }
+            return handler.isAssociationAsync(eventName);
+        }
+    }
+}
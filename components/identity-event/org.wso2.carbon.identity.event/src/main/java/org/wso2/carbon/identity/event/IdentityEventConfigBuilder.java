@@ -24,6 +24,7 @@ import org.wso2.carbon.identity.base.IdentityRuntimeException;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.event.bean.ModuleConfiguration;
 import org.wso2.carbon.identity.event.bean.Subscription;
+import org.wso2.carbon.identity.event.dispatcher.AsyncEventDispatcherConfig;
 import org.wso2.securevault.SecretResolver;
 import org.wso2.securevault.SecretResolverFactory;
 import org.wso2.securevault.commons.MiscellaneousUtil;
@@ -62,6 +63,10 @@ public class IdentityEventConfigBuilder {
      * Thread pool size for message sending task
      */
     private String threadPoolSize;
+    /**
+     * Configuration of the asynchronous event dispatcher
+     */
+    private AsyncEventDispatcherConfig asyncEventDispatcherConfig;
 
     private static IdentityEventConfigBuilder notificationMgtConfigBuilder = new IdentityEventConfigBuilder();
 
@@ -79,6 +84,7 @@ public class IdentityEventConfigBuilder {
 
         setThreadPoolSize();
         resolveSecrets();
+        setAsyncEventDispatcherConfig();
         moduleConfiguration = new HashMap<>();
         build();
     }
@@ -98,6 +104,14 @@ public class IdentityEventConfigBuilder {
         threadPoolSize = (String) notificationMgtConfigProperties.remove("threadPool.size");
     }
 
+    /**
+     * Sets the asynchronous event dispatcher configuration read from configurations
+     */
+    private void setAsyncEventDispatcherConfig() {
+        asyncEventDispatcherConfig = AsyncEventDispatcherConfig.build(IdentityEventUtils.getPropertiesWithPrefix(
+                AsyncEventDispatcherConfig.PREFIX + ".", notificationMgtConfigProperties));
+    }
+
     /**
      * Load properties which are defined in msg-mgt.properties file
      *
@@ -222,6 +236,10 @@ public class IdentityEventConfigBuilder {
         return threadPoolSize;
     }
 
+    public AsyncEventDispatcherConfig getAsyncEventDispatcherConfig() {
+        return asyncEventDispatcherConfig;
+    }
+
     /**
      * There can be sensitive information like passwords in configuration file. If they are encrypted using secure
      * vault, this method will resolve them and replace with original values.
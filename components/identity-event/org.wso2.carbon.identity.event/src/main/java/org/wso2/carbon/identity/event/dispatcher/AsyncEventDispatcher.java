@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.dispatcher;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.event.IdentityEventConstants;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Dispatches the events of the asynchronously associated subscriptions to their handlers. Each handler gets its own
+ * bounded, partitioned {@link HandlerDispatchQueue}, hence a slow handler can't exhaust the memory or starve the other
+ * handlers. The events of the same user are handled in the order they were published.
+ * <p>
+ * An event is delivered only to the handler it is dispatched to, i.e. the handler whose subscription of the event is
+ * asynchronous. This differs from the shared event distribution task, which delivers a queued event to every enabled
+ * handler.
+ */
+public class AsyncEventDispatcher {
+
+    private static final Log log = LogFactory.getLog(AsyncEventDispatcher.class);
+
+    private final AsyncEventDispatcherConfig config;
+    private final Map<AbstractEventHandler, HandlerDispatchQueue> handlerQueues = new ConcurrentHashMap<>();
+    // Guarded by the lock, which also guards the creation and removal of the handler queues.
+    private final Set<AbstractEventHandler> removedHandlers = Collections.newSetFromMap(new WeakHashMap<>());
+    private final Object lock = new Object();
+    private volatile boolean running = true;
+
+    public AsyncEventDispatcher(AsyncEventDispatcherConfig config) {
+
+        this.config = config;
+    }
+
+    /**
+     * Dispatch an event to the given handler.
+     *
+     * @param handler Event handler.
+     * @param event   Event.
+     * @return True if the event was accepted.
+     */
+    public boolean dispatch(AbstractEventHandler handler, Event event) {
+
+        HandlerDispatchQueue handlerQueue = handlerQueues.get(handler);
+        if (handlerQueue == null) {
+            synchronized (lock) {
+                if (!running) {
+                    log.warn("Event: " + event.getEventName() + " is rejected as the event dispatcher is shut down.");
+                    return false;
+                }
+                if (removedHandlers.contains(handler)) {
+                    if (log.isDebugEnabled()) {
+                        log.debug("Event: " + event.getEventName() + " is rejected as the handler: " +
+                                handler.getName() + " is removed.");
+                    }
+                    return false;
+                }
+                handlerQueue = handlerQueues.computeIfAbsent(handler,
+                        eventHandler -> new HandlerDispatchQueue(eventHandler, config.forHandler(eventHandler)));
+            }
+        }
+        // A queue removed after the lookup rejects the event, as it is shut down before being removed.
+        return handlerQueue.dispatch(event, getOrderingKey(event));
+    }
+
+    /**
+     * Allow dispatching events to a handler registered again after being removed.
+     *
+     * @param handler Event handler.
+     */
+    public void addHandler(AbstractEventHandler handler) {
+
+        synchronized (lock) {
+            removedHandlers.remove(handler);
+        }
+    }
+
+    /**
+     * Stop dispatching events to the given handler, after handling the events already queued for it.
+     *
+     * @param handler Event handler.
+     */
+    public void removeHandler(AbstractEventHandler handler) {
+
+        HandlerDispatchQueue handlerQueue;
+        synchronized (lock) {
+            removedHandlers.add(handler);
+            handlerQueue = handlerQueues.remove(handler);
+        }
+        if (handlerQueue != null) {
+            handlerQueue.shutdown(config.getShutdownTimeoutInMillis());
+        }
+    }
+
+    /**
+     * Stop accepting events and drain the handler queues, waiting up to the configured shutdown timeout.
+     */
+    public void shutdown() {
+
+        List<HandlerDispatchQueue> queuesToShutdown;
+        synchronized (lock) {
+            running = false;
+            queuesToShutdown = new ArrayList<>(handlerQueues.values());
+            handlerQueues.clear();
+        }
+        long deadline = System.currentTimeMillis() + config.getShutdownTimeoutInMillis();
+        for (HandlerDispatchQueue handlerQueue : queuesToShutdown) {
+            handlerQueue.shutdown(Math.max(0L, deadline - System.currentTimeMillis()));
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Asynchronous event dispatcher is shut down.");
+        }
+    }
+
+    /**
+     * Get the dispatch queues of the handlers, to inspect their queue depth, lag and rejected events.
+     *
+     * @return Dispatch queues of the handlers which received asynchronous events.
+     */
+    public List<HandlerDispatchQueue> getHandlerQueues() {
+
+        return Collections.unmodifiableList(new ArrayList<>(handlerQueues.values()));
+    }
+
+    public AsyncEventDispatcherConfig getConfig() {
+
+        return config;
+    }
+
+    /**
+     * Resolve the key used to order the events. Events of the same user in the same tenant share the key.
+     *
+     * @param event Event.
+     * @return Ordering key, or null if the event is not related to a user.
+     */
+    protected String getOrderingKey(Event event) {
+
+        Map<String, Object> properties = event.getEventProperties();
+        if (properties == null) {
+            return null;
+        }
+        Object userId = properties.get(IdentityEventConstants.EventProperty.USER_ID);
+        Object userName = userId != null ? userId : properties.get(IdentityEventConstants.EventProperty.USER_NAME);
+        if (userName == null) {
+            return null;
+        }
+        return properties.get(IdentityEventConstants.EventProperty.TENANT_DOMAIN) + "/" + userName;
+    }
+}
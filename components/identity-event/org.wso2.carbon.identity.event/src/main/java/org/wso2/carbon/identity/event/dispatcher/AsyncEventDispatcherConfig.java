@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.dispatcher;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.event.bean.ModuleConfiguration;
+import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
+
+import java.util.Properties;
+
+/**
+ * Configuration of the asynchronous event dispatcher, read from the identity-event.properties file.
+ * <pre>
+ * asyncDispatcher.enable = true
+ * asyncDispatcher.partitions = 2
+ * asyncDispatcher.queueCapacity = 1000
+ * asyncDispatcher.overflowPolicy = CALLER_RUNS
+ * asyncDispatcher.blockTimeout = 1000
+ * asyncDispatcher.shutdownTimeout = 5000
+ * </pre>
+ * The partitions, queue capacity, overflow policy and block timeout can be overridden per handler, e.g.
+ * {@code emailSend.asyncDispatcher.overflowPolicy = DROP_OLDEST}. The default overflow policy handles the overflowing
+ * events in the publishing thread, as the {@link OverflowPolicy#BLOCK} policy may hold the request threads for up to
+ * the block timeout.
+ */
+public class AsyncEventDispatcherConfig {
+
+    private static final Log log = LogFactory.getLog(AsyncEventDispatcherConfig.class);
+
+    public static final String PREFIX = "asyncDispatcher";
+    public static final String ENABLE = "enable";
+    public static final String PARTITIONS = "partitions";
+    public static final String QUEUE_CAPACITY = "queueCapacity";
+    public static final String OVERFLOW_POLICY = "overflowPolicy";
+    public static final String BLOCK_TIMEOUT = "blockTimeout";
+    public static final String SHUTDOWN_TIMEOUT = "shutdownTimeout";
+
+    public static final int DEFAULT_PARTITIONS = 2;
+    public static final int DEFAULT_QUEUE_CAPACITY = 1000;
+    public static final OverflowPolicy DEFAULT_OVERFLOW_POLICY = OverflowPolicy.CALLER_RUNS;
+    public static final long DEFAULT_BLOCK_TIMEOUT = 1000L;
+    public static final long DEFAULT_SHUTDOWN_TIMEOUT = 5000L;
+
+    private final boolean enabled;
+    private final int partitions;
+    private final int queueCapacity;
+    private final OverflowPolicy overflowPolicy;
+    private final long blockTimeoutInMillis;
+    private final long shutdownTimeoutInMillis;
+
+    public AsyncEventDispatcherConfig(boolean enabled, int partitions, int queueCapacity,
+                                      OverflowPolicy overflowPolicy, long blockTimeoutInMillis,
+                                      long shutdownTimeoutInMillis) {
+
+        this.enabled = enabled;
+        this.partitions = partitions;
+        this.queueCapacity = queueCapacity;
+        this.overflowPolicy = overflowPolicy;
+        this.blockTimeoutInMillis = blockTimeoutInMillis;
+        this.shutdownTimeoutInMillis = shutdownTimeoutInMillis;
+    }
+
+    /**
+     * Build the configuration from the dispatcher properties.
+     *
+     * @param properties Properties with the {@value #PREFIX} prefix.
+     * @return Dispatcher configuration.
+     */
+    public static AsyncEventDispatcherConfig build(Properties properties) {
+
+        Properties dispatcherProperties = properties != null ? properties : new Properties();
+        return new AsyncEventDispatcherConfig(
+                Boolean.parseBoolean(dispatcherProperties.getProperty(PREFIX + "." + ENABLE)),
+                getPositiveInt(dispatcherProperties, PREFIX + "." + PARTITIONS, DEFAULT_PARTITIONS),
+                getPositiveInt(dispatcherProperties, PREFIX + "." + QUEUE_CAPACITY, DEFAULT_QUEUE_CAPACITY),
+                OverflowPolicy.fromName(dispatcherProperties.getProperty(PREFIX + "." + OVERFLOW_POLICY),
+                        DEFAULT_OVERFLOW_POLICY),
+                getPositiveLong(dispatcherProperties, PREFIX + "." + BLOCK_TIMEOUT, DEFAULT_BLOCK_TIMEOUT),
+                getPositiveLong(dispatcherProperties, PREFIX + "." + SHUTDOWN_TIMEOUT, DEFAULT_SHUTDOWN_TIMEOUT));
+    }
+
+    /**
+     * Resolve the configuration of the given handler, applying the overrides in the module properties of the handler.
+     *
+     * @param handler Event handler.
+     * @return Dispatcher configuration of the handler.
+     */
+    public AsyncEventDispatcherConfig forHandler(AbstractEventHandler handler) {
+
+        ModuleConfiguration moduleConfiguration = handler.getModuleConfiguration();
+        if (moduleConfiguration == null || moduleConfiguration.getModuleProperties() == null) {
+            return this;
+        }
+        Properties moduleProperties = moduleConfiguration.getModuleProperties();
+        String prefix = handler.getName() + "." + PREFIX + ".";
+        return new AsyncEventDispatcherConfig(enabled,
+                getPositiveInt(moduleProperties, prefix + PARTITIONS, partitions),
+                getPositiveInt(moduleProperties, prefix + QUEUE_CAPACITY, queueCapacity),
+                OverflowPolicy.fromName(moduleProperties.getProperty(prefix + OVERFLOW_POLICY), overflowPolicy),
+                getPositiveLong(moduleProperties, prefix + BLOCK_TIMEOUT, blockTimeoutInMillis),
+                shutdownTimeoutInMillis);
+    }
+
+    public boolean isEnabled() {
+
+        return enabled;
+    }
+
+    public int getPartitions() {
+
+        return partitions;
+    }
+
+    public int getQueueCapacity() {
+
+        return queueCapacity;
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+
+        return overflowPolicy;
+    }
+
+    public long getBlockTimeoutInMillis() {
+
+        return blockTimeoutInMillis;
+    }
+
+    public long getShutdownTimeoutInMillis() {
+
+        return shutdownTimeoutInMillis;
+    }
+
+    private static int getPositiveInt(Properties properties, String key, int defaultValue) {
+
+        return (int) getPositiveLong(properties, key, defaultValue);
+    }
+
+    private static long getPositiveLong(Properties properties, String key, long defaultValue) {
+
+        String value = properties.getProperty(key);
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        try {
+            long parsedValue = Long.parseLong(value.trim());
+            if (parsedValue > 0 && parsedValue <= Integer.MAX_VALUE) {
+                return parsedValue;
+            }
+        } catch (NumberFormatException e) {
+            // Fall back to the default value below.
+        }
+        log.warn("Invalid value: " + value + " configured for " + key + ". Using the default value: " +
+                defaultValue);
+        return defaultValue;
+    }
+}
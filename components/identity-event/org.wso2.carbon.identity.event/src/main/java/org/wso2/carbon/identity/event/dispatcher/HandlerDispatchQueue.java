@@ -0,0 +1,298 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.dispatcher;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.metrics.LatencyHistogram;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded queue of the events dispatched to a single handler. The queue is split into partitions, each consumed by
+ * its own worker thread, so that the events with the same key are handled in the order they were dispatched, while
+ * a slow handler can only exhaust its own capacity.
+ */
+public class HandlerDispatchQueue {
+
+    private static final Log log = LogFactory.getLog(HandlerDispatchQueue.class);
+    private static final long POLL_TIMEOUT_IN_MILLIS = 100L;
+
+    private final AbstractEventHandler handler;
+    private final AsyncEventDispatcherConfig config;
+    private final Partition[] partitions;
+    private final AtomicInteger roundRobinCounter = new AtomicInteger();
+    private volatile boolean running = true;
+
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder processed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder droppedOldest = new LongAdder();
+    private final LongAdder callerRuns = new LongAdder();
+    private final LatencyHistogram lag = new LatencyHistogram();
+    private final LatencyHistogram processingLatency = new LatencyHistogram();
+
+    public HandlerDispatchQueue(AbstractEventHandler handler, AsyncEventDispatcherConfig config) {
+
+        this.handler = handler;
+        this.config = config;
+        this.partitions = new Partition[config.getPartitions()];
+        for (int i = 0; i < partitions.length; i++) {
+            partitions[i] = new Partition(i);
+        }
+    }
+
+    /**
+     * Dispatch an event to the handler.
+     *
+     * @param event Event.
+     * @param key   Ordering key of the event. Events with the same key are handled in order. A null key distributes
+     *              the events among the partitions without any ordering.
+     * @return True if the event was accepted.
+     */
+    public boolean dispatch(Event event, String key) {
+
+        if (!running) {
+            rejected.increment();
+            log.warn("Event: " + event.getEventName() + " is rejected as the dispatch queue of handler: " +
+                    handler.getName() + " is shut down.");
+            return false;
+        }
+        Partition partition = partitions[partitionOf(key)];
+        QueuedEvent queuedEvent = new QueuedEvent(event);
+        if (partition.queue.offer(queuedEvent)) {
+            enqueued.increment();
+            return true;
+        }
+        switch (config.getOverflowPolicy()) {
+            case BLOCK:
+                try {
+                    if (partition.queue.offer(queuedEvent, config.getBlockTimeoutInMillis(), TimeUnit.MILLISECONDS)) {
+                        enqueued.increment();
+                        return true;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                break;
+            case DROP_OLDEST:
+                while (!partition.queue.offer(queuedEvent)) {
+                    QueuedEvent dropped = partition.queue.poll();
+                    if (dropped != null) {
+                        droppedOldest.increment();
+                        logDroppedEvent(dropped.event);
+                    }
+                }
+                enqueued.increment();
+                return true;
+            case CALLER_RUNS:
+                callerRuns.increment();
+                handle(queuedEvent);
+                return true;
+            default:
+                break;
+        }
+        rejected.increment();
+        logDroppedEvent(event);
+        return false;
+    }
+
+    /**
+     * Stop accepting events and wait until the queued events are handled, up to the given timeout. The worker
+     * threads are interrupted if the events are not drained within the timeout.
+     *
+     * @param timeoutInMillis Maximum time to wait for the queued events to be handled.
+     */
+    public void shutdown(long timeoutInMillis) {
+
+        running = false;
+        long deadline = System.currentTimeMillis() + timeoutInMillis;
+        for (Partition partition : partitions) {
+            long remaining = deadline - System.currentTimeMillis();
+            try {
+                if (remaining > 0) {
+                    partition.worker.join(remaining);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (partition.worker.isAlive()) {
+                partition.worker.interrupt();
+                log.warn(partition.queue.size() + " events queued for handler: " + handler.getName() +
+                        " were not handled before the shutdown.");
+            }
+        }
+    }
+
+    public AbstractEventHandler getHandler() {
+
+        return handler;
+    }
+
+    public AsyncEventDispatcherConfig getConfig() {
+
+        return config;
+    }
+
+    /**
+     * @return Number of events waiting in the queue.
+     */
+    public int getQueueDepth() {
+
+        int depth = 0;
+        for (Partition partition : partitions) {
+            depth += partition.queue.size();
+        }
+        return depth;
+    }
+
+    public long getEnqueuedCount() {
+
+        return enqueued.sum();
+    }
+
+    public long getProcessedCount() {
+
+        return processed.sum();
+    }
+
+    public long getFailedCount() {
+
+        return failed.sum();
+    }
+
+    /**
+     * @return Number of events rejected as the queue was full or shut down.
+     */
+    public long getRejectedCount() {
+
+        return rejected.sum();
+    }
+
+    /**
+     * @return Number of queued events discarded by the {@link OverflowPolicy#DROP_OLDEST} policy.
+     */
+    public long getDroppedOldestCount() {
+
+        return droppedOldest.sum();
+    }
+
+    /**
+     * @return Number of events handled in the publishing thread by the {@link OverflowPolicy#CALLER_RUNS} policy.
+     */
+    public long getCallerRunsCount() {
+
+        return callerRuns.sum();
+    }
+
+    /**
+     * @return Time the events spent in the queue before the handler started handling them.
+     */
+    public LatencyHistogram getLag() {
+
+        return lag;
+    }
+
+    public LatencyHistogram getProcessingLatency() {
+
+        return processingLatency;
+    }
+
+    private int partitionOf(String key) {
+
+        int hash = key != null ? key.hashCode() : roundRobinCounter.getAndIncrement();
+        return (hash & Integer.MAX_VALUE) % partitions.length;
+    }
+
+    private void handle(QueuedEvent queuedEvent) {
+
+        long startTime = System.nanoTime();
+        lag.record(startTime - queuedEvent.enqueuedTime);
+        try {
+            if (log.isDebugEnabled()) {
+                log.debug("Executing " + handler.getName() + " on event " + queuedEvent.event.getEventName());
+            }
+            handler.handleEvent(queuedEvent.event);
+            processed.increment();
+        } catch (Throwable e) {
+            // A failing event must not stop the worker, as it would stop handling the rest of the partition.
+            failed.increment();
+            log.error("Error while invoking event handler " + handler.getName() + " for event " +
+                    queuedEvent.event.getEventName(), e);
+        } finally {
+            processingLatency.record(System.nanoTime() - startTime);
+        }
+    }
+
+    private void logDroppedEvent(Event event) {
+
+        if (log.isDebugEnabled()) {
+            log.debug("Event: " + event.getEventName() + " is dropped as the dispatch queue of handler: " +
+                    handler.getName() + " is full.");
+        }
+    }
+
+    private static class QueuedEvent {
+
+        private final Event event;
+        private final long enqueuedTime = System.nanoTime();
+
+        QueuedEvent(Event event) {
+
+            this.event = event;
+        }
+    }
+
+    private class Partition implements Runnable {
+
+        private final BlockingQueue<QueuedEvent> queue;
+        private final Thread worker;
+
+        Partition(int index) {
+
+            this.queue = new ArrayBlockingQueue<>(config.getQueueCapacity());
+            this.worker = new Thread(this, "IdentityEventDispatcher-" + handler.getName() + "-" + index);
+            this.worker.setDaemon(true);
+            this.worker.start();
+        }
+
+        @Override
+        public void run() {
+
+            while (running || !queue.isEmpty()) {
+                try {
+                    QueuedEvent queuedEvent = queue.poll(POLL_TIMEOUT_IN_MILLIS, TimeUnit.MILLISECONDS);
+                    if (queuedEvent != null) {
+                        handle(queuedEvent);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.dispatcher;
+
+/**
+ * Action taken when an event is dispatched to a handler whose queue is full.
+ */
+public enum OverflowPolicy {
+
+    /**
+     * Wait for free space in the queue up to the configured block timeout, and reject the event after that.
+     */
+    BLOCK,
+
+    /**
+     * Discard the oldest queued event of the partition to make room for the new event.
+     */
+    DROP_OLDEST,
+
+    /**
+     * Reject the new event.
+     */
+    DROP_NEWEST,
+
+    /**
+     * Handle the event in the publishing thread. The per key ordering is not guaranteed for such events.
+     */
+    CALLER_RUNS;
+
+    /**
+     * Resolve the overflow policy from its configured name.
+     *
+     * @param name          Configured policy name.
+     * @param defaultPolicy Policy to use if the name is empty or invalid.
+     * @return Overflow policy.
+     */
+    public static OverflowPolicy fromName(String name, OverflowPolicy defaultPolicy) {
+
+        if (name == null || name.trim().isEmpty()) {
+            return defaultPolicy;
+        }
+        for (OverflowPolicy policy : values()) {
+            if (policy.name().equalsIgnoreCase(name.trim().replace('-', '_'))) {
+                return policy;
+            }
+        }
+        return defaultPolicy;
+    }
+}
@@ -132,6 +132,16 @@ public abstract class AbstractEventHandler extends AbstractIdentityMessageHandle
         return Boolean.parseBoolean(getSubscriptionProperty("operationAsync", eventName));
     }
 
+    /**
+     * Get the module configuration the handler was initialized with.
+     *
+     * @return Module configuration of the handler, or null if the handler is not configured.
+     */
+    public ModuleConfiguration getModuleConfiguration() {
+
+        return configs;
+    }
+
     public abstract void handleEvent(Event event) throws IdentityEventException;
 
     @Override
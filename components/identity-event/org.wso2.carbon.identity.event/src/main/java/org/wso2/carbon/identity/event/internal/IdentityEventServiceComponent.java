@@ -26,14 +26,16 @@ import org.wso2.carbon.identity.core.handler.MessageHandlerComparator;
 import org.wso2.carbon.identity.core.util.IdentityCoreInitializedEvent;
 import org.wso2.carbon.identity.event.IdentityEventException;
 import org.wso2.carbon.identity.event.IdentityEventConfigBuilder;
+import org.wso2.carbon.identity.event.dispatcher.AsyncEventDispatcher;
+import org.wso2.carbon.identity.event.dispatcher.AsyncEventDispatcherConfig;
 import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
 import org.wso2.carbon.identity.event.services.IdentityEventService;
 import org.wso2.carbon.identity.event.services.IdentityEventServiceImpl;
 import org.wso2.carbon.stratos.common.listeners.TenantMgtListener;
 import org.wso2.carbon.user.core.service.RealmService;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
@@ -52,13 +54,20 @@ public class IdentityEventServiceComponent {
 
     private ServiceRegistration serviceRegistration = null;
 
-    // list of all registered event handlers
-    public static List<AbstractEventHandler> eventHandlerList = new ArrayList<>();
+    // list of all registered event handlers, iterated by the event distribution task while handlers are registered
+    public static List<AbstractEventHandler> eventHandlerList = new CopyOnWriteArrayList<>();
 
     @Activate
     protected void activate(ComponentContext context) {
         try {
-            IdentityEventServiceDataHolder.getInstance().setEventMgtService(new IdentityEventServiceImpl(eventHandlerList, Integer.parseInt(IdentityEventConfigBuilder.getInstance().getThreadPoolSize())));
+            IdentityEventConfigBuilder configBuilder = IdentityEventConfigBuilder.getInstance();
+            AsyncEventDispatcherConfig dispatcherConfig = configBuilder.getAsyncEventDispatcherConfig();
+            AsyncEventDispatcher asyncEventDispatcher = null;
+            if (dispatcherConfig != null && dispatcherConfig.isEnabled()) {
+                asyncEventDispatcher = new AsyncEventDispatcher(dispatcherConfig);
+            }
+            IdentityEventServiceDataHolder.getInstance().setEventMgtService(new IdentityEventServiceImpl(
+                    eventHandlerList, Integer.parseInt(configBuilder.getThreadPoolSize()), asyncEventDispatcher));
             context.getBundleContext().registerService(IdentityEventService.class.getName(), IdentityEventServiceDataHolder.getInstance().getEventMgtService(), null);
         } catch (IdentityEventException e) {
             log.error("Error while initiating IdentityMgtService.");
@@ -70,6 +79,10 @@ public class IdentityEventServiceComponent {
 
     @Deactivate
     protected void deactivate(ComponentContext context) {
+        IdentityEventService eventService = IdentityEventServiceDataHolder.getInstance().getEventMgtService();
+        if (eventService instanceof IdentityEventServiceImpl) {
+            ((IdentityEventServiceImpl) eventService).shutdown();
+        }
         if (log.isDebugEnabled()) {
             log.debug("Identity Management bundle is de-activated");
         }
@@ -88,12 +101,40 @@ public class IdentityEventServiceComponent {
         } catch (IdentityEventException | IdentityRuntimeException e) {
             log.warn("Properties for " + handlerName + " is not configured. This event handler will not be activated");
         }
-        eventHandlerList.add(eventHandler);
-        MessageHandlerComparator messageHandlerComparator = new MessageHandlerComparator(null);
-        Collections.sort(eventHandlerList, messageHandlerComparator);
+        synchronized (eventHandlerList) {
+            eventHandlerList.add(eventHandler);
+            MessageHandlerComparator messageHandlerComparator = new MessageHandlerComparator(null);
+            Collections.sort(eventHandlerList, messageHandlerComparator);
+        }
+        IdentityEventService eventService = IdentityEventServiceDataHolder.getInstance().getEventMgtService();
+        if (eventService instanceof IdentityEventServiceImpl) {
+            ((IdentityEventServiceImpl) eventService).addHandler(eventHandler);
+        }
+        refreshEventRoutingTable();
     }
 
     protected void unRegisterEventHandler(AbstractEventHandler eventHandler) {
+
+        synchronized (eventHandlerList) {
+            eventHandlerList.remove(eventHandler);
+        }
+        refreshEventRoutingTable();
+        IdentityEventService eventService = IdentityEventServiceDataHolder.getInstance().getEventMgtService();
+        if (eventService instanceof IdentityEventServiceImpl) {
+            ((IdentityEventServiceImpl) eventService).removeHandler(eventHandler);
+        }
+    }
+
+    /**
+     * Rebuild the event routing table of the event service. This should be invoked after re-initializing a registered
+     * event handler with a different module configuration.
+     */
+    public static void refreshEventRoutingTable() {
+
+        IdentityEventService eventService = IdentityEventServiceDataHolder.getInstance().getEventMgtService();
+        if (eventService instanceof IdentityEventServiceImpl) {
+            ((IdentityEventServiceImpl) eventService).refreshRoutingTable();
+        }
     }
 
     @Reference(
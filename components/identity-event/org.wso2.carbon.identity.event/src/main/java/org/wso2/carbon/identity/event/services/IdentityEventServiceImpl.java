@@ -21,41 +21,175 @@ package org.wso2.carbon.identity.event.services;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
+import org.wso2.carbon.identity.core.metrics.LatencyHistogram;
 import org.wso2.carbon.identity.event.EventDistributionTask;
+import org.wso2.carbon.identity.event.EventHandlerRoutingTable;
 import org.wso2.carbon.identity.event.IdentityEventException;
 import org.wso2.carbon.identity.event.bean.IdentityEventMessageContext;
+import org.wso2.carbon.identity.event.dispatcher.AsyncEventDispatcher;
 import org.wso2.carbon.identity.event.event.Event;
 import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
 import org.wso2.carbon.identity.event.internal.IdentityEventServiceComponent;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class IdentityEventServiceImpl implements IdentityEventService {
 
     private static final Log log = LogFactory.getLog(IdentityEventServiceImpl.class);
     private EventDistributionTask eventDistributionTask;
+    private final AsyncEventDispatcher asyncEventDispatcher;
+    private volatile EventHandlerRoutingTable routingTable;
+    private volatile List<AbstractEventHandler> routedHandlerList;
+    private final Map<String, LatencyHistogram> dispatchLatencies = new ConcurrentHashMap<>();
 
     public IdentityEventServiceImpl(List<AbstractEventHandler> handlerList, int threadPoolSize) {
+        this(handlerList, threadPoolSize, null);
+    }
+
+    /**
+     * Create the event service with an asynchronous event dispatcher. When the dispatcher is given, the events of
+     * asynchronously associated subscriptions are dispatched to the bounded queue of the subscribed handler, instead
+     * of the shared event distribution task. Such an event is then handled only by the subscribed handler, whereas the
+     * event distribution task delivers it to every enabled handler.
+     *
+     * @param handlerList          Registered event handlers.
+     * @param threadPoolSize       Thread pool size of the event distribution task.
+     * @param asyncEventDispatcher Asynchronous event dispatcher, or null to use the event distribution task.
+     */
+    public IdentityEventServiceImpl(List<AbstractEventHandler> handlerList, int threadPoolSize,
+                                    AsyncEventDispatcher asyncEventDispatcher) {
+        this.asyncEventDispatcher = asyncEventDispatcher;
         this.eventDistributionTask = new EventDistributionTask(handlerList, threadPoolSize);
         if (log.isDebugEnabled()) {
             log.debug("Starting event distribution task from Notification Management component");
         }
         new Thread(eventDistributionTask).start();
+        refreshRoutingTable();
     }
     @Override
     public void handleEvent(Event event) throws IdentityEventException {
 
-        List<AbstractEventHandler> eventHandlerList = IdentityEventServiceComponent.eventHandlerList;
-        IdentityEventMessageContext eventContext = new IdentityEventMessageContext(event);
-        for (final AbstractEventHandler handler : eventHandlerList) {
-
-            if (handler.canHandle(eventContext)) {
-                if (handler.isAssociationAsync(event.getEventName())) {
-                    eventDistributionTask.addEventToQueue(event);
+        long startTime = System.nanoTime();
+        String eventName = event.getEventName();
+        IdentityEventMessageContext eventContext = null;
+        try {
+            for (EventHandlerRoutingTable.Route route : getRoutingTable().getRoutes(eventName)) {
+                AbstractEventHandler handler = route.getHandler();
+                if (route.isCanHandleCheckRequired()) {
+                    if (eventContext == null) {
+                        eventContext = new IdentityEventMessageContext(event);
+                    }
+                    if (!handler.canHandle(eventContext)) {
+                        continue;
+                    }
+                }
+                if (route.isAsync(eventName)) {
+                    if (asyncEventDispatcher != null) {
+                        asyncEventDispatcher.dispatch(handler, event);
+                    } else {
+                        eventDistributionTask.addEventToQueue(event);
+                    }
                 } else {
                     handler.handleEvent(event);
                 }
             }
+        } finally {
+            if (eventName != null) {
+                dispatchLatencies.computeIfAbsent(eventName, name -> new LatencyHistogram())
+                        .record(System.nanoTime() - startTime);
+            }
+        }
+    }
+
+    /**
+     * Rebuild the event routing table from the registered event handlers. This should be invoked whenever a handler
+     * is registered, unregistered or re-initialized with a different configuration.
+     */
+    public void refreshRoutingTable() {
+
+        List<AbstractEventHandler> handlerList = IdentityEventServiceComponent.eventHandlerList;
+        synchronized (handlerList) {
+            routingTable = EventHandlerRoutingTable.build(handlerList);
+        }
+        routedHandlerList = handlerList;
+    }
+
+    /**
+     * Stop the event distribution and drain the events queued in the asynchronous event dispatcher.
+     */
+    public void shutdown() {
+
+        eventDistributionTask.shutdown();
+        if (asyncEventDispatcher != null) {
+            asyncEventDispatcher.shutdown();
+        }
+    }
+
+    /**
+     * Allow the asynchronous event dispatcher to dispatch events to a handler registered again after being removed.
+     *
+     * @param handler Registered event handler.
+     */
+    public void addHandler(AbstractEventHandler handler) {
+
+        if (asyncEventDispatcher != null) {
+            asyncEventDispatcher.addHandler(handler);
+        }
+    }
+
+    /**
+     * Remove a handler from the asynchronous event dispatcher, after handling the events already queued for it.
+     *
+     * @param handler Unregistered event handler.
+     */
+    public void removeHandler(AbstractEventHandler handler) {
+
+        if (asyncEventDispatcher != null) {
+            asyncEventDispatcher.removeHandler(handler);
+        }
+    }
+
+    /**
+     * @return Asynchronous event dispatcher, or null if the events are distributed by the event distribution task.
+     */
+    public AsyncEventDispatcher getAsyncEventDispatcher() {
+
+        return asyncEventDispatcher;
+    }
+
+    /**
+     * Get the latency of dispatching the given event to its handlers in the publishing thread, which includes the
+     * time taken by the synchronous handlers.
+     *
+     * @param eventName Event name.
+     * @return Dispatch latency of the event, or null if the event was never published.
+     */
+    public LatencyHistogram getDispatchLatency(String eventName) {
+
+        return dispatchLatencies.get(eventName);
+    }
+
+    /**
+     * @return Dispatch latencies keyed by the event name.
+     */
+    public Map<String, LatencyHistogram> getDispatchLatencies() {
+
+        return Collections.unmodifiableMap(dispatchLatencies);
+    }
+
+    private EventHandlerRoutingTable getRoutingTable() {
+
+        EventHandlerRoutingTable table = routingTable;
+        List<AbstractEventHandler> handlerList = IdentityEventServiceComponent.eventHandlerList;
+        if (table == null || routedHandlerList != handlerList) {
+            // The handler list was replaced. Changes to the list are applied by refreshing the routing table when
+            // registering and unregistering the handlers.
+            refreshRoutingTable();
+            table = routingTable;
         }
+        return table;
     }
 }
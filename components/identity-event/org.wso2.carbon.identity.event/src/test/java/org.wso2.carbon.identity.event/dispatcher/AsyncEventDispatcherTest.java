@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.identity.event.dispatcher;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.event.IdentityEventConstants;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class AsyncEventDispatcherTest {
+
+    @Test
+    public void testEventsOfSameUserAreHandledInOrder() {
+
+        AsyncEventDispatcher dispatcher = new AsyncEventDispatcher(
+                new AsyncEventDispatcherConfig(true, 4, 100, OverflowPolicy.BLOCK, 1000L, 5000L));
+        RecordingEventHandler handler = new RecordingEventHandler(null);
+        for (int i = 0; i < 50; i++) {
+            Assert.assertTrue(dispatcher.dispatch(handler, createEvent("alice", "event" + i)));
+            Assert.assertTrue(dispatcher.dispatch(handler, createEvent("bob", "event" + i)));
+        }
+        dispatcher.shutdown();
+
+        Assert.assertEquals(handler.getHandledEvents("alice").size(), 50);
+        for (int i = 0; i < 50; i++) {
+            Assert.assertEquals(handler.getHandledEvents("alice").get(i), "event" + i);
+            Assert.assertEquals(handler.getHandledEvents("bob").get(i), "event" + i);
+        }
+        HandlerDispatchQueue handlerQueue = dispatcher.getHandlerQueues().get(0);
+        Assert.assertEquals(handlerQueue.getProcessedCount(), 100);
+        Assert.assertEquals(handlerQueue.getQueueDepth(), 0);
+        Assert.assertEquals(handlerQueue.getLag().getCount(), 100);
+    }
+
+    @Test
+    public void testOverflowPolicies() throws InterruptedException {
+
+        CountDownLatch release = new CountDownLatch(1);
+        AsyncEventDispatcher dispatcher = new AsyncEventDispatcher(
+                new AsyncEventDispatcherConfig(true, 1, 2, OverflowPolicy.DROP_NEWEST, 10L, 5000L));
+        RecordingEventHandler handler = new RecordingEventHandler(release);
+
+        // The first event is taken by the worker, which then blocks until released.
+        Assert.assertTrue(dispatcher.dispatch(handler, createEvent("alice", "event0")));
+        HandlerDispatchQueue handlerQueue = dispatcher.getHandlerQueues().get(0);
+        while (handlerQueue.getQueueDepth() > 0) {
+            TimeUnit.MILLISECONDS.sleep(5);
+        }
+        Assert.assertTrue(dispatcher.dispatch(handler, createEvent("alice", "event1")));
+        Assert.assertTrue(dispatcher.dispatch(handler, createEvent("alice", "event2")));
+        Assert.assertFalse(dispatcher.dispatch(handler, createEvent("alice", "event3")));
+        Assert.assertEquals(handlerQueue.getRejectedCount(), 1);
+        Assert.assertEquals(handlerQueue.getQueueDepth(), 2);
+
+        release.countDown();
+        dispatcher.shutdown();
+        Assert.assertEquals(handler.getHandledEvents("alice").size(), 3);
+        Assert.assertFalse(dispatcher.dispatch(handler, createEvent("alice", "event4")));
+    }
+
+    @Test
+    public void testDropOldestPolicy() throws InterruptedException {
+
+        CountDownLatch release = new CountDownLatch(1);
+        AsyncEventDispatcher dispatcher = new AsyncEventDispatcher(
+                new AsyncEventDispatcherConfig(true, 1, 2, OverflowPolicy.DROP_OLDEST, 10L, 5000L));
+        RecordingEventHandler handler = new RecordingEventHandler(release);
+
+        Assert.assertTrue(dispatcher.dispatch(handler, createEvent("alice", "event0")));
+        HandlerDispatchQueue handlerQueue = dispatcher.getHandlerQueues().get(0);
+        while (handlerQueue.getQueueDepth() > 0) {
+            TimeUnit.MILLISECONDS.sleep(5);
+        }
+        for (int i = 1; i <= 4; i++) {
+            Assert.assertTrue(dispatcher.dispatch(handler, createEvent("alice", "event" + i)));
+        }
+        Assert.assertEquals(handlerQueue.getDroppedOldestCount(), 2);
+
+        release.countDown();
+        dispatcher.shutdown();
+        List<String> handledEvents = handler.getHandledEvents("alice");
+        Assert.assertEquals(handledEvents.size(), 3);
+        Assert.assertEquals(handledEvents.get(1), "event3");
+        Assert.assertEquals(handledEvents.get(2), "event4");
+    }
+
+    @Test
+    public void testDispatchToRemovedHandlerIsRejected() {
+
+        AsyncEventDispatcher dispatcher = new AsyncEventDispatcher(
+                new AsyncEventDispatcherConfig(true, 1, 10, OverflowPolicy.DROP_NEWEST, 10L, 5000L));
+        RecordingEventHandler handler = new RecordingEventHandler(null);
+        Assert.assertTrue(dispatcher.dispatch(handler, createEvent("alice", "event0")));
+
+        // A dispatch racing with the removal must not create a new queue for the removed handler.
+        dispatcher.removeHandler(handler);
+        Assert.assertFalse(dispatcher.dispatch(handler, createEvent("alice", "event1")));
+        Assert.assertTrue(dispatcher.getHandlerQueues().isEmpty());
+
+        dispatcher.addHandler(handler);
+        Assert.assertTrue(dispatcher.dispatch(handler, createEvent("alice", "event2")));
+        dispatcher.shutdown();
+        Assert.assertEquals(handler.getHandledEvents("alice"), Arrays.asList("event0", "event2"));
+    }
+
+    @Test
+    public void testDefaultOverflowPolicyDoesNotBlock() throws InterruptedException {
+
+        AsyncEventDispatcherConfig config = AsyncEventDispatcherConfig.build(null);
+        Assert.assertEquals(config.getOverflowPolicy(), OverflowPolicy.CALLER_RUNS);
+
+        CountDownLatch release = new CountDownLatch(1);
+        AsyncEventDispatcher dispatcher = new AsyncEventDispatcher(
+                new AsyncEventDispatcherConfig(true, 1, 1, config.getOverflowPolicy(), 1000L, 5000L));
+        RecordingEventHandler handler = new RecordingEventHandler(release);
+        Assert.assertTrue(dispatcher.dispatch(handler, createEvent("alice", "event0")));
+        HandlerDispatchQueue handlerQueue = dispatcher.getHandlerQueues().get(0);
+        while (handlerQueue.getQueueDepth() > 0) {
+            TimeUnit.MILLISECONDS.sleep(5);
+        }
+        Assert.assertTrue(dispatcher.dispatch(handler, createEvent("alice", "event1")));
+
+        // The overflowing event is handled in the publishing thread instead of waiting for free queue space.
+        Thread releaser = new Thread(() -> {
+            try {
+                TimeUnit.MILLISECONDS.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            release.countDown();
+        });
+        releaser.start();
+        Assert.assertTrue(dispatcher.dispatch(handler, createEvent("alice", "event2")));
+        releaser.join();
+        Assert.assertEquals(handlerQueue.getCallerRunsCount(), 1);
+        Assert.assertEquals(handlerQueue.getRejectedCount(), 0);
+        dispatcher.shutdown();
+        Assert.assertEquals(handler.getHandledEvents("alice").size(), 3);
+    }
+
+    private Event createEvent(String userName, String name) {
+
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(IdentityEventConstants.EventProperty.USER_NAME, userName);
+        properties.put(IdentityEventConstants.EventProperty.TENANT_DOMAIN, "carbon.super");
+        properties.put("name", name);
+        return new Event("TEST_EVENT", properties);
+    }
+
+    private static class RecordingEventHandler extends AbstractEventHandler {
+
+        private final Map<String, List<String>> handledEvents = new HashMap<>();
+        private final CountDownLatch release;
+
+        RecordingEventHandler(CountDownLatch release) {
+
+            this.release = release;
+        }
+
+        @Override
+        public String getName() {
+
+            return "recordingHandler";
+        }
+
+        @Override
+        public void handleEvent(Event event) {
+
+            if (release != null) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            String userName = (String) event.getEventProperties().get(IdentityEventConstants.EventProperty.USER_NAME);
+            synchronized (handledEvents) {
+                handledEvents.computeIfAbsent(userName, key -> new ArrayList<>())
+                        .add((String) event.getEventProperties().get("name"));
+            }
+        }
+
+        List<String> getHandledEvents(String userName) {
+
+            synchronized (handledEvents) {
+                return handledEvents.getOrDefault(userName, Collections.emptyList());
+            }
+        }
+    }
+}
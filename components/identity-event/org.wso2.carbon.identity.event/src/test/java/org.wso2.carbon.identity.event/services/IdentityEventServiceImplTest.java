@@ -22,14 +22,21 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 import org.wso2.carbon.identity.core.bean.context.MessageContext;
 import org.wso2.carbon.identity.event.IdentityEventException;
+import org.wso2.carbon.identity.event.bean.ModuleConfiguration;
+import org.wso2.carbon.identity.event.bean.Subscription;
+import org.wso2.carbon.identity.event.dispatcher.AsyncEventDispatcher;
+import org.wso2.carbon.identity.event.dispatcher.AsyncEventDispatcherConfig;
+import org.wso2.carbon.identity.event.dispatcher.OverflowPolicy;
 import org.wso2.carbon.identity.event.event.Event;
 import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
 import org.wso2.carbon.identity.event.internal.IdentityEventServiceComponent;
 import org.wso2.carbon.identity.testutil.IdentityBaseTest;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Properties;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.any;
@@ -68,4 +75,85 @@ public class IdentityEventServiceImplTest extends IdentityBaseTest {
 
         Mockito.verify(abstractEventHandler).canHandle(any(MessageContext.class));
     }
+
+    @Test
+    public void testHandleEventRoutedBySubscriptions() throws IdentityEventException {
+
+        RecordingEventHandler subscribedHandler = new RecordingEventHandler("subscribedHandler", "eventA", "eventB");
+        RecordingEventHandler otherHandler = new RecordingEventHandler("otherHandler", "eventB");
+        List<AbstractEventHandler> list = new ArrayList<>(Arrays.asList(subscribedHandler, otherHandler));
+        IdentityEventServiceComponent.eventHandlerList = list;
+
+        IdentityEventServiceImpl identityEventService = new IdentityEventServiceImpl(list, 1);
+        identityEventService.handleEvent(new Event("eventA"));
+        identityEventService.handleEvent(new Event("eventB"));
+        identityEventService.handleEvent(new Event("eventC"));
+
+        Assert.assertEquals(subscribedHandler.handledEvents, Arrays.asList("eventA", "eventB"));
+        Assert.assertEquals(otherHandler.handledEvents, Collections.singletonList("eventB"));
+        Assert.assertEquals(identityEventService.getDispatchLatency("eventA").getCount(), 1);
+        Assert.assertEquals(identityEventService.getDispatchLatency("eventC").getCount(), 1);
+
+        // Handlers added to the list are routed once the routing table is refreshed.
+        RecordingEventHandler lateHandler = new RecordingEventHandler("lateHandler", "eventC");
+        list.add(lateHandler);
+        identityEventService.refreshRoutingTable();
+        identityEventService.handleEvent(new Event("eventC"));
+
+        Assert.assertEquals(lateHandler.handledEvents, Collections.singletonList("eventC"));
+    }
+
+    @Test
+    public void testAsyncEventIsHandledOnlyBySubscribedHandler() throws IdentityEventException {
+
+        RecordingEventHandler asyncHandler = new RecordingEventHandler("asyncHandler", true, "eventA");
+        RecordingEventHandler otherHandler = new RecordingEventHandler("otherHandler", "eventB");
+        List<AbstractEventHandler> list = new ArrayList<>(Arrays.asList(asyncHandler, otherHandler));
+        IdentityEventServiceComponent.eventHandlerList = list;
+
+        AsyncEventDispatcher dispatcher = new AsyncEventDispatcher(
+                new AsyncEventDispatcherConfig(true, 1, 10, OverflowPolicy.CALLER_RUNS, 1000L, 5000L));
+        IdentityEventServiceImpl identityEventService = new IdentityEventServiceImpl(list, 1, dispatcher);
+        identityEventService.handleEvent(new Event("eventA"));
+        identityEventService.shutdown();
+
+        // Unlike the event distribution task, the dispatcher does not deliver the event to the other handlers.
+        Assert.assertEquals(asyncHandler.handledEvents, Collections.singletonList("eventA"));
+        Assert.assertTrue(otherHandler.handledEvents.isEmpty());
+    }
+
+    private static class RecordingEventHandler extends AbstractEventHandler {
+
+        private final String name;
+        private final List<String> handledEvents = Collections.synchronizedList(new ArrayList<>());
+
+        RecordingEventHandler(String name, String... subscribedEvents) {
+
+            this(name, false, subscribedEvents);
+        }
+
+        RecordingEventHandler(String name, boolean async, String... subscribedEvents) {
+
+            this.name = name;
+            List<Subscription> subscriptions = new ArrayList<>();
+            for (String subscribedEvent : subscribedEvents) {
+                Properties subscriptionProperties = new Properties();
+                subscriptionProperties.setProperty("operationAsync", String.valueOf(async));
+                subscriptions.add(new Subscription(subscribedEvent, subscriptionProperties));
+            }
+            init(new ModuleConfiguration(new Properties(), subscriptions));
+        }
+
+        @Override
+        public String getName() {
+
+            return name;
+        }
+
+        @Override
+        public void handleEvent(Event event) {
+
+            handledEvents.add(event.getEventName());
+        }
+    }
 }
@@ -27,6 +27,7 @@ import org.wso2.carbon.identity.application.common.model.Property;
 import org.wso2.carbon.user.core.UserCoreConstants;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -56,6 +57,38 @@ public abstract class AbstractOutboundProvisioningConnector implements Serializa
     public abstract ProvisionedIdentifier provision(ProvisioningEntity provisioningEntity)
             throws IdentityProvisioningException;
 
+    /**
+     * Override only if the connector can provision a batch of entities in a single call to the identity provider,
+     * along with {@link #provisionBatch(List)}.
+     *
+     * @return Whether the connector supports batch provisioning.
+     */
+    public boolean isBatchProvisioningSupported() {
+
+        return false;
+    }
+
+    /**
+     * Provision a batch of entities. The entities are in the order the operations were triggered, and the operations
+     * of an entity must be applied in that order. By default, the entities are provisioned one by one.
+     * If the batch fails, the entities are provisioned again one by one with {@link #provision(ProvisioningEntity)}.
+     * Hence an exception should only be thrown if none of the entities were provisioned, unless provisioning an
+     * entity again is harmless for the identity provider.
+     *
+     * @param provisioningEntities Provisioning entities.
+     * @return Provisioned identifiers, in the order of the provisioning entities.
+     * @throws IdentityProvisioningException If the batch could not be provisioned.
+     */
+    public List<ProvisionedIdentifier> provisionBatch(List<ProvisioningEntity> provisioningEntities)
+            throws IdentityProvisioningException {
+
+        List<ProvisionedIdentifier> provisionedIdentifiers = new ArrayList<>(provisioningEntities.size());
+        for (ProvisioningEntity provisioningEntity : provisioningEntities) {
+            provisionedIdentifiers.add(provision(provisioningEntity));
+        }
+        return provisionedIdentifiers;
+    }
+
     /**
      * override only if needed - if claims are controlled by the identity provider, this will return
      * null. If it is connector specific this must return the corresponding claim dialect.
@@ -50,6 +50,13 @@ public class IdentityProvisioningConstants {
     public static final String USE_USER_TENANT_DOMAIN_FOR_OUTBOUND_PROVISIONING_IN_SAAS_APPS = "OutboundProvisioning.useUserTenantDomainInSaasApps";
     public static final String APPLICATION_BASED_OUTBOUND_PROVISIONING_ENABLED = "OutboundProvisioning.enableApplicationBasedOutboundProvisioning";
     public static final String FAIL_ON_BLOCKING_OUTBOUND_PROVISION_FAILURE = "OutboundProvisioning.FailOnBlockingOutboundProvisionFailure";
+    public static final String OUTBOUND_PROVISIONING_EXECUTOR_POOL_SIZE = "OutboundProvisioning.Executor.PoolSizePerConnector";
+    public static final String OUTBOUND_PROVISIONING_EXECUTOR_QUEUE_CAPACITY = "OutboundProvisioning.Executor.QueueCapacityPerConnector";
+    public static final String OUTBOUND_PROVISIONING_EXECUTOR_RETRY_COUNT = "OutboundProvisioning.Executor.RetryCount";
+    public static final String OUTBOUND_PROVISIONING_EXECUTOR_RETRY_BACKOFF = "OutboundProvisioning.Executor.RetryBackoffInMillis";
+    public static final String OUTBOUND_PROVISIONING_BATCH_ENABLED = "OutboundProvisioning.Batch.Enable";
+    public static final String OUTBOUND_PROVISIONING_BATCH_MAX_SIZE = "OutboundProvisioning.Batch.MaxSize";
+    public static final String OUTBOUND_PROVISIONING_BATCH_WINDOW = "OutboundProvisioning.Batch.WindowInMillis";
 
     public static class SQLQueries {
 
@@ -0,0 +1,371 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.provisioning;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.OUTBOUND_PROVISIONING_BATCH_ENABLED;
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.OUTBOUND_PROVISIONING_BATCH_MAX_SIZE;
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.OUTBOUND_PROVISIONING_BATCH_WINDOW;
+
+/**
+ * Accumulates the asynchronous outbound provisioning operations of a provisioning connector over a time and size
+ * window, and provisions them together in the bulkhead of the connector. Connectors that support batch provisioning
+ * get the operations in a single {@link AbstractOutboundProvisioningConnector#provisionBatch(List)} call, while the
+ * operations are provisioned one by one for the other connectors.
+ * A connector has at most one batch in progress, and the operations are provisioned in the order they were added.
+ * Hence the operations of an entity are provisioned in the order they were triggered. If a batch fails as a whole,
+ * its operations are provisioned one by one, so that the outcome of each operation is recorded. The operations
+ * provisioned one by one are retried on failure, as configured for the {@link OutboundProvisioningExecutor}.
+ * The pending operations of a connector are bounded by the queue capacity of the executor. Once the bound is
+ * reached, e.g. while a slow batch is in progress, the operation is provisioned in the calling thread, which applies
+ * back-pressure as done by the executor.
+ * Batching is disabled by default.
+ */
+public class OutboundProvisioningBatcher {
+
+    private static final Log log = LogFactory.getLog(OutboundProvisioningBatcher.class);
+
+    private static final int DEFAULT_MAX_BATCH_SIZE = 100;
+    private static final int DEFAULT_BATCH_WINDOW_IN_MILLIS = 1000;
+
+    private static volatile OutboundProvisioningBatcher instance;
+
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final long batchWindowInMillis;
+    private final int maxPendingOperations;
+    private final OutboundProvisioningExecutor executor;
+    private final Map<String, ConnectorBatch> batches = new ConcurrentHashMap<>();
+    private volatile ScheduledExecutorService flushScheduler;
+
+    OutboundProvisioningBatcher(boolean enabled, int maxBatchSize, long batchWindowInMillis,
+                                OutboundProvisioningExecutor executor) {
+
+        this.enabled = enabled;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.batchWindowInMillis = Math.max(0, batchWindowInMillis);
+        this.executor = executor;
+        this.maxPendingOperations = Math.max(this.maxBatchSize, executor.getQueueCapacity());
+        this.flushScheduler = createFlushScheduler();
+    }
+
+    public static OutboundProvisioningBatcher getInstance() {
+
+        if (instance == null) {
+            synchronized (OutboundProvisioningBatcher.class) {
+                if (instance == null) {
+                    instance = new OutboundProvisioningBatcher(
+                            Boolean.parseBoolean(IdentityUtil.getProperty(OUTBOUND_PROVISIONING_BATCH_ENABLED)),
+                            OutboundProvisioningExecutor.readIntProperty(OUTBOUND_PROVISIONING_BATCH_MAX_SIZE,
+                                    DEFAULT_MAX_BATCH_SIZE),
+                            OutboundProvisioningExecutor.readIntProperty(OUTBOUND_PROVISIONING_BATCH_WINDOW,
+                                    DEFAULT_BATCH_WINDOW_IN_MILLIS),
+                            OutboundProvisioningExecutor.getInstance());
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Check whether batching of the asynchronous outbound provisioning operations is enabled.
+     *
+     * @return Whether batching is enabled.
+     */
+    public boolean isEnabled() {
+
+        return enabled;
+    }
+
+    /**
+     * Add a provisioning operation to the batch of the provisioning connector. The batch is provisioned once it
+     * reaches the maximum batch size, or once the batch window elapses.
+     *
+     * @param tenantDomain  Tenant domain of the identity provider.
+     * @param idPName       Name of the identity provider.
+     * @param connectorType Type of the provisioning connector.
+     * @param operation     Provisioning operation.
+     */
+    public void add(String tenantDomain, String idPName, String connectorType, ProvisioningThread operation) {
+
+        String key = tenantDomain + ":" + idPName + ":" + connectorType;
+        batches.computeIfAbsent(key, batchKey -> new ConnectorBatch(tenantDomain, idPName, connectorType))
+                .add(operation);
+    }
+
+    /**
+     * Provision the pending operations of all the provisioning connectors, without waiting for the batch window.
+     */
+    public void flush() {
+
+        batches.values().forEach(ConnectorBatch::flush);
+    }
+
+    /**
+     * Provision the pending operations of the provisioning connectors of an identity provider and remove their
+     * batches, e.g. when the identity provider is updated or deleted.
+     *
+     * @param tenantDomain Tenant domain of the identity provider.
+     * @param idPName      Name of the identity provider, or null to remove the batches of all the identity
+     *                     providers of the tenant.
+     */
+    public void removeBatches(String tenantDomain, String idPName) {
+
+        String keyPrefix = idPName == null ? tenantDomain + ":" : tenantDomain + ":" + idPName + ":";
+        for (String key : batches.keySet()) {
+            if (key.startsWith(keyPrefix)) {
+                ConnectorBatch batch = batches.remove(key);
+                if (batch != null) {
+                    batch.flush();
+                }
+            }
+        }
+    }
+
+    /**
+     * Start the batch window timers, if the batcher was shut down, e.g. when the component is reactivated.
+     */
+    public synchronized void start() {
+
+        if (flushScheduler.isShutdown()) {
+            flushScheduler = createFlushScheduler();
+        }
+    }
+
+    /**
+     * Stop the batch window timers and provision the pending operations. The operations added until the batcher is
+     * started again are provisioned without waiting for the batch window.
+     */
+    public synchronized void shutdown() {
+
+        flushScheduler.shutdownNow();
+        flush();
+    }
+
+    private static ScheduledExecutorService createFlushScheduler() {
+
+        return Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "OutboundProvisioningBatchScheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Provision a batch of operations. The operations are split into consecutive runs of operations that share the
+     * connector instance and the tenant domain of the provisioning flow, as a batch is provisioned in a single
+     * tenant flow.
+     */
+    private void provision(String tenantDomain, String idPName, String connectorType,
+                           List<ProvisioningThread> operations) {
+
+        int start = 0;
+        while (start < operations.size()) {
+            ProvisioningThread first = operations.get(start);
+            int end = start + 1;
+            while (end < operations.size() && isSameRun(first, operations.get(end))) {
+                end++;
+            }
+            List<ProvisioningThread> run = operations.subList(start, end);
+            if (first.getConnector().isBatchProvisioningSupported()) {
+                try {
+                    if (!executor.call(tenantDomain, idPName, connectorType, () -> provisionBatch(run))) {
+                        log.error("Batch outbound provisioning of " + run.size() + " entities with the connector: "
+                                + connectorType + " of the identity provider: " + idPName + " partially failed.");
+                    }
+                } catch (Exception e) {
+                    // The outcome of each entity is unknown, hence the entities are provisioned one by one.
+                    log.error("Batch outbound provisioning of " + run.size() + " entities with the connector: " +
+                            connectorType + " of the identity provider: " + idPName + " failed. Provisioning " +
+                            "the entities one by one.", e);
+                    for (ProvisioningThread operation : run) {
+                        provisionEntity(tenantDomain, idPName, connectorType, operation);
+                    }
+                }
+            } else {
+                for (ProvisioningThread operation : run) {
+                    provisionEntity(tenantDomain, idPName, connectorType, operation);
+                }
+            }
+            start = end;
+        }
+    }
+
+    private boolean provisionBatch(List<ProvisioningThread> operations) throws IdentityProvisioningException {
+
+        try {
+            PrivilegedCarbonContext.startTenantFlow();
+            PrivilegedCarbonContext.getThreadLocalCarbonContext()
+                    .setTenantDomain(operations.get(0).getProvisioningTenantDomain(), true);
+
+            List<ProvisioningThread> provisionedOperations = new ArrayList<>(operations.size());
+            List<ProvisioningEntity> provisioningEntities = new ArrayList<>(operations.size());
+            for (ProvisioningThread operation : operations) {
+                if (!operation.isProvisioningSkipped()) {
+                    provisionedOperations.add(operation);
+                    provisioningEntities.add(operation.getProvisioningEntity());
+                }
+            }
+            if (provisioningEntities.isEmpty()) {
+                return true;
+            }
+
+            List<ProvisionedIdentifier> provisionedIdentifiers = operations.get(0).getConnector()
+                    .provisionBatch(provisioningEntities);
+
+            // The provisioned identifier of each entity is recorded, as done for a single entity.
+            boolean success = true;
+            for (int i = 0; i < provisionedOperations.size(); i++) {
+                ProvisionedIdentifier provisionedIdentifier = null;
+                if (provisionedIdentifiers != null && i < provisionedIdentifiers.size()) {
+                    provisionedIdentifier = provisionedIdentifiers.get(i);
+                }
+                try {
+                    provisionedOperations.get(i).recordProvisionedIdentifier(provisionedIdentifier);
+                } catch (IdentityProvisioningException e) {
+                    log.error("Error while recording the outbound provisioning of the entity: " +
+                            provisioningEntities.get(i).getEntityName(), e);
+                    success = false;
+                }
+            }
+            return success;
+        } finally {
+            PrivilegedCarbonContext.endTenantFlow();
+        }
+    }
+
+    private void provisionEntity(String tenantDomain, String idPName, String connectorType,
+                                 ProvisioningThread operation) {
+
+        // Failures are logged and retried by the executor.
+        executor.run(tenantDomain, idPName, connectorType, operation, false);
+    }
+
+    private boolean isSameRun(ProvisioningThread operation, ProvisioningThread otherOperation) {
+
+        return operation.getConnector() == otherOperation.getConnector() &&
+                StringUtils.equals(operation.getProvisioningTenantDomain(),
+                        otherOperation.getProvisioningTenantDomain());
+    }
+
+    /**
+     * Pending operations of a provisioning connector.
+     */
+    private class ConnectorBatch {
+
+        private final String tenantDomain;
+        private final String idPName;
+        private final String connectorType;
+        private final List<ProvisioningThread> pendingOperations = new ArrayList<>();
+        private boolean inProgress;
+        private ScheduledFuture<?> scheduledFlush;
+
+        private ConnectorBatch(String tenantDomain, String idPName, String connectorType) {
+
+            this.tenantDomain = tenantDomain;
+            this.idPName = idPName;
+            this.connectorType = connectorType;
+        }
+
+        private void add(ProvisioningThread operation) {
+
+            boolean flush = false;
+            boolean callerRuns = false;
+            synchronized (this) {
+                if (pendingOperations.size() >= maxPendingOperations) {
+                    callerRuns = true;
+                } else {
+                    pendingOperations.add(operation);
+                    flush = pendingOperations.size() >= maxBatchSize;
+                    if (!flush && scheduledFlush == null) {
+                        try {
+                            scheduledFlush = flushScheduler.schedule(this::flush, batchWindowInMillis,
+                                    TimeUnit.MILLISECONDS);
+                        } catch (RejectedExecutionException e) {
+                            // The batcher is shutting down. Hence the operation is provisioned without waiting.
+                            flush = true;
+                        }
+                    }
+                }
+            }
+            if (callerRuns) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Pending operations of the provisioning connector: " + connectorType + " of the " +
+                            "identity provider: " + idPName + " reached the limit: " + maxPendingOperations +
+                            ". Hence provisioning in the calling thread.");
+                }
+                executor.run(tenantDomain, idPName, connectorType, operation, true);
+            } else if (flush) {
+                flush();
+            }
+        }
+
+        private void flush() {
+
+            List<ProvisioningThread> operations;
+            synchronized (this) {
+                if (scheduledFlush != null) {
+                    scheduledFlush.cancel(false);
+                    scheduledFlush = null;
+                }
+                // The pending operations are flushed once the batch in progress completes.
+                if (inProgress || pendingOperations.isEmpty()) {
+                    return;
+                }
+                List<ProvisioningThread> nextOperations = pendingOperations.subList(0,
+                        Math.min(maxBatchSize, pendingOperations.size()));
+                operations = new ArrayList<>(nextOperations);
+                nextOperations.clear();
+                inProgress = true;
+            }
+            executor.execute(tenantDomain, idPName, connectorType, () -> provisionOperations(operations));
+        }
+
+        private void provisionOperations(List<ProvisioningThread> operations) {
+
+            try {
+                provision(tenantDomain, idPName, connectorType, operations);
+            } finally {
+                boolean flush;
+                synchronized (this) {
+                    inProgress = false;
+                    flush = !pendingOperations.isEmpty();
+                }
+                if (flush) {
+                    flush();
+                }
+            }
+        }
+    }
+}
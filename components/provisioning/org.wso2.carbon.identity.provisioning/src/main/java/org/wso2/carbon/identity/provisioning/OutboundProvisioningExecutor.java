@@ -0,0 +1,478 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.provisioning;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.OUTBOUND_PROVISIONING_EXECUTOR_POOL_SIZE;
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.OUTBOUND_PROVISIONING_EXECUTOR_QUEUE_CAPACITY;
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.OUTBOUND_PROVISIONING_EXECUTOR_RETRY_BACKOFF;
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.OUTBOUND_PROVISIONING_EXECUTOR_RETRY_COUNT;
+
+/**
+ * Long-lived execution engine for the outbound provisioning operations.
+ * Each provisioning connector of an identity provider gets its own bulkhead, i.e. a bounded queue drained by a
+ * bounded number of workers, so that a slow or unavailable identity provider only exhausts its own bulkhead. Once the
+ * queue of a bulkhead is full, the operation runs in the calling thread, which applies back-pressure to bulk
+ * operations instead of dropping the operation. Failed operations are retried with an exponential backoff if retries
+ * are configured. Retries are disabled by default, as connectors are not required to be idempotent.
+ */
+public class OutboundProvisioningExecutor {
+
+    private static final Log log = LogFactory.getLog(OutboundProvisioningExecutor.class);
+
+    private static final int DEFAULT_POOL_SIZE = 5;
+    private static final int DEFAULT_QUEUE_CAPACITY = 1000;
+    private static final int DEFAULT_RETRY_COUNT = 0;
+    private static final long DEFAULT_RETRY_BACKOFF_IN_MILLIS = 1000;
+    private static final long MAX_RETRY_BACKOFF_IN_MILLIS = 60000;
+    private static final long IDLE_WORKER_KEEP_ALIVE_IN_SECONDS = 60;
+
+    private static volatile OutboundProvisioningExecutor instance;
+
+    private final int poolSize;
+    private final int queueCapacity;
+    private final int retryCount;
+    private final long retryBackoffInMillis;
+    private final Map<String, ConnectorBulkhead> bulkheads = new ConcurrentHashMap<>();
+    private volatile ScheduledExecutorService retryScheduler;
+
+    OutboundProvisioningExecutor(int poolSize, int queueCapacity, int retryCount, long retryBackoffInMillis) {
+
+        this.poolSize = Math.max(1, poolSize);
+        this.queueCapacity = Math.max(1, queueCapacity);
+        this.retryCount = Math.max(0, retryCount);
+        this.retryBackoffInMillis = Math.max(0, retryBackoffInMillis);
+        this.retryScheduler = createRetryScheduler();
+    }
+
+    public static OutboundProvisioningExecutor getInstance() {
+
+        if (instance == null) {
+            synchronized (OutboundProvisioningExecutor.class) {
+                if (instance == null) {
+                    instance = new OutboundProvisioningExecutor(
+                            readIntProperty(OUTBOUND_PROVISIONING_EXECUTOR_POOL_SIZE, DEFAULT_POOL_SIZE),
+                            readIntProperty(OUTBOUND_PROVISIONING_EXECUTOR_QUEUE_CAPACITY, DEFAULT_QUEUE_CAPACITY),
+                            readIntProperty(OUTBOUND_PROVISIONING_EXECUTOR_RETRY_COUNT, DEFAULT_RETRY_COUNT),
+                            readIntProperty(OUTBOUND_PROVISIONING_EXECUTOR_RETRY_BACKOFF,
+                                    (int) DEFAULT_RETRY_BACKOFF_IN_MILLIS));
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Execute a provisioning operation in the bulkhead of the provisioning connector.
+     *
+     * @param tenantDomain  Tenant domain of the identity provider.
+     * @param idPName       Name of the identity provider.
+     * @param connectorType Type of the provisioning connector.
+     * @param operation     Provisioning operation.
+     */
+    public void submit(String tenantDomain, String idPName, String connectorType, Callable<Boolean> operation) {
+
+        ConnectorBulkhead bulkhead = getBulkhead(tenantDomain, idPName, connectorType);
+        bulkhead.metrics.submitted.incrementAndGet();
+        bulkhead.execute(new ProvisioningTask(bulkhead, operation, 0));
+    }
+
+    /**
+     * Run a task in the bulkhead of the provisioning connector, without retries. The task is responsible for
+     * recording its provisioning operations, e.g. through {@link #call(String, String, String, Callable)}.
+     *
+     * @param tenantDomain  Tenant domain of the identity provider.
+     * @param idPName       Name of the identity provider.
+     * @param connectorType Type of the provisioning connector.
+     * @param task          Task to run.
+     */
+    void execute(String tenantDomain, String idPName, String connectorType, Runnable task) {
+
+        getBulkhead(tenantDomain, idPName, connectorType).execute(task);
+    }
+
+    /**
+     * Run a provisioning operation in the calling thread. The operation is recorded in the metrics of the
+     * provisioning connector and retried in the bulkhead of the connector on failure, as a submitted operation.
+     *
+     * @param tenantDomain  Tenant domain of the identity provider.
+     * @param idPName       Name of the identity provider.
+     * @param connectorType Type of the provisioning connector.
+     * @param operation     Provisioning operation.
+     * @param callerRuns    Whether the operation runs in the calling thread as the bulkhead is full.
+     */
+    void run(String tenantDomain, String idPName, String connectorType, Callable<Boolean> operation,
+             boolean callerRuns) {
+
+        ConnectorBulkhead bulkhead = getBulkhead(tenantDomain, idPName, connectorType);
+        bulkhead.metrics.submitted.incrementAndGet();
+        if (callerRuns) {
+            bulkhead.metrics.callerRuns.incrementAndGet();
+        }
+        new ProvisioningTask(bulkhead, operation, 0).run();
+    }
+
+    /**
+     * Get the capacity of the queue of each bulkhead.
+     *
+     * @return Queue capacity.
+     */
+    int getQueueCapacity() {
+
+        return queueCapacity;
+    }
+
+    /**
+     * Execute a provisioning operation in the calling thread, recording it in the metrics of the provisioning
+     * connector. This is used for the blocking provisioning operations.
+     *
+     * @param tenantDomain  Tenant domain of the identity provider.
+     * @param idPName       Name of the identity provider.
+     * @param connectorType Type of the provisioning connector.
+     * @param operation     Provisioning operation.
+     * @return Result of the provisioning operation.
+     * @throws Exception If the provisioning operation failed.
+     */
+    public boolean call(String tenantDomain, String idPName, String connectorType, Callable<Boolean> operation)
+            throws Exception {
+
+        ConnectorMetrics metrics = getBulkhead(tenantDomain, idPName, connectorType).metrics;
+        metrics.submitted.incrementAndGet();
+        long startTime = System.nanoTime();
+        boolean success = false;
+        try {
+            success = Boolean.TRUE.equals(operation.call());
+            return success;
+        } finally {
+            metrics.record(System.nanoTime() - startTime, success);
+        }
+    }
+
+    /**
+     * Get the metrics of the provisioning connectors, by the connector key, i.e.
+     * {@code tenantDomain:idPName:connectorType}.
+     *
+     * @return Metrics of the provisioning connectors.
+     */
+    public Map<String, ConnectorMetrics> getMetrics() {
+
+        Map<String, ConnectorMetrics> metrics = new HashMap<>();
+        bulkheads.forEach((key, bulkhead) -> metrics.put(key, bulkhead.metrics));
+        return Collections.unmodifiableMap(metrics);
+    }
+
+    /**
+     * Remove the bulkheads of the provisioning connectors of an identity provider, e.g. when the identity provider is
+     * updated or deleted. Queued operations are completed before the workers stop, while their retries are dropped.
+     * A bulkhead is created again on demand.
+     *
+     * @param tenantDomain Tenant domain of the identity provider.
+     * @param idPName      Name of the identity provider, or null to remove the bulkheads of all the identity
+     *                     providers of the tenant.
+     */
+    public void removeBulkheads(String tenantDomain, String idPName) {
+
+        String keyPrefix = idPName == null ? tenantDomain + ":" : tenantDomain + ":" + idPName + ":";
+        for (String key : bulkheads.keySet()) {
+            if (key.startsWith(keyPrefix)) {
+                ConnectorBulkhead bulkhead = bulkheads.remove(key);
+                if (bulkhead != null) {
+                    bulkhead.executor.shutdown();
+                }
+            }
+        }
+    }
+
+    /**
+     * Shut down the bulkheads. Queued operations are completed before the workers stop.
+     */
+    public synchronized void shutdown() {
+
+        retryScheduler.shutdownNow();
+        bulkheads.values().forEach(bulkhead -> bulkhead.executor.shutdown());
+        bulkheads.clear();
+    }
+
+    /**
+     * Start the retry scheduler, if the executor was shut down, e.g. when the component is reactivated. The bulkheads
+     * are created on demand.
+     */
+    public synchronized void start() {
+
+        if (retryScheduler.isShutdown()) {
+            retryScheduler = createRetryScheduler();
+        }
+    }
+
+    private static ScheduledExecutorService createRetryScheduler() {
+
+        return Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "OutboundProvisioningRetryScheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private ConnectorBulkhead getBulkhead(String tenantDomain, String idPName, String connectorType) {
+
+        String key = tenantDomain + ":" + idPName + ":" + connectorType;
+        return bulkheads.computeIfAbsent(key, ConnectorBulkhead::new);
+    }
+
+    private long getRetryBackoff(int attempt) {
+
+        return Math.min(retryBackoffInMillis << Math.min(attempt, 16), MAX_RETRY_BACKOFF_IN_MILLIS);
+    }
+
+    static int readIntProperty(String property, int defaultValue) {
+
+        String value = IdentityUtil.getProperty(property);
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            log.warn("Invalid value: " + value + " configured for the property: " + property +
+                    ". Using the default value: " + defaultValue);
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Provisioning operation with its attempt, retried on failure.
+     */
+    private class ProvisioningTask implements Runnable {
+
+        private final ConnectorBulkhead bulkhead;
+        private final Callable<Boolean> operation;
+        private final int attempt;
+
+        private ProvisioningTask(ConnectorBulkhead bulkhead, Callable<Boolean> operation, int attempt) {
+
+            this.bulkhead = bulkhead;
+            this.operation = operation;
+            this.attempt = attempt;
+        }
+
+        @Override
+        public void run() {
+
+            long startTime = System.nanoTime();
+            boolean success = false;
+            Exception error = null;
+            try {
+                success = Boolean.TRUE.equals(operation.call());
+            } catch (Exception e) {
+                error = e;
+            }
+            bulkhead.metrics.record(System.nanoTime() - startTime, success);
+            if (success) {
+                return;
+            }
+
+            ScheduledExecutorService scheduler = retryScheduler;
+            if (attempt < retryCount && !scheduler.isShutdown()) {
+                long backoff = getRetryBackoff(attempt);
+                if (log.isDebugEnabled()) {
+                    log.debug("Outbound provisioning failed with the connector: " + bulkhead.key + ". Retrying in "
+                            + backoff + " ms. Attempt: " + (attempt + 1));
+                }
+                bulkhead.metrics.retried.incrementAndGet();
+                try {
+                    scheduler.schedule(this::retry, backoff, TimeUnit.MILLISECONDS);
+                    return;
+                } catch (RejectedExecutionException e) {
+                    // The executor is shutting down. Hence the operation is not retried.
+                }
+            }
+            logFailure(error);
+        }
+
+        private void retry() {
+
+            if (bulkhead.executor.isShutdown()) {
+                log.warn("Outbound provisioning connector: " + bulkhead.key + " is removed. Hence the failed " +
+                        "operation is not retried.");
+                return;
+            }
+            bulkhead.execute(new ProvisioningTask(bulkhead, operation, attempt + 1));
+        }
+
+        private void logFailure(Exception error) {
+
+            if (error != null) {
+                log.error("Outbound provisioning failed with the connector: " + bulkhead.key + " after " +
+                        (attempt + 1) + " attempt(s).", error);
+            } else {
+                log.error("Outbound provisioning failed with the connector: " + bulkhead.key + " after " +
+                        (attempt + 1) + " attempt(s).");
+            }
+        }
+    }
+
+    /**
+     * Bounded queue and workers of a provisioning connector.
+     */
+    private class ConnectorBulkhead {
+
+        private final String key;
+        private final ThreadPoolExecutor executor;
+        private final ConnectorMetrics metrics;
+
+        private ConnectorBulkhead(String key) {
+
+            this.key = key;
+            AtomicInteger threadCount = new AtomicInteger();
+            this.executor = new ThreadPoolExecutor(poolSize, poolSize, IDLE_WORKER_KEEP_ALIVE_IN_SECONDS,
+                    TimeUnit.SECONDS, new LinkedBlockingQueue<>(queueCapacity), runnable -> {
+                Thread thread = new Thread(runnable, "OutboundProvisioning-" + key + "-" +
+                        threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            // Idle bulkheads don't hold any threads.
+            this.executor.allowCoreThreadTimeOut(true);
+            this.metrics = new ConnectorMetrics(executor);
+        }
+
+        private void execute(Runnable task) {
+
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException e) {
+                metrics.callerRuns.incrementAndGet();
+                if (log.isDebugEnabled()) {
+                    log.debug("Queue of the provisioning connector: " + key + " is full. Hence provisioning in " +
+                            "the calling thread.");
+                }
+                task.run();
+            }
+        }
+    }
+
+    /**
+     * Metrics of a provisioning connector.
+     */
+    public static class ConnectorMetrics {
+
+        private final ThreadPoolExecutor executor;
+        private final AtomicLong submitted = new AtomicLong();
+        private final AtomicLong succeeded = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final AtomicLong retried = new AtomicLong();
+        private final AtomicLong callerRuns = new AtomicLong();
+        private final AtomicLong totalLatencyInNanos = new AtomicLong();
+
+        private ConnectorMetrics(ThreadPoolExecutor executor) {
+
+            this.executor = executor;
+        }
+
+        private void record(long latencyInNanos, boolean success) {
+
+            totalLatencyInNanos.addAndGet(latencyInNanos);
+            if (success) {
+                succeeded.incrementAndGet();
+            } else {
+                failed.incrementAndGet();
+            }
+        }
+
+        public int getQueueDepth() {
+
+            return executor.getQueue().size();
+        }
+
+        public int getActiveCount() {
+
+            return executor.getActiveCount();
+        }
+
+        public long getSubmittedCount() {
+
+            return submitted.get();
+        }
+
+        public long getSucceededCount() {
+
+            return succeeded.get();
+        }
+
+        public long getFailedCount() {
+
+            return failed.get();
+        }
+
+        public long getRetriedCount() {
+
+            return retried.get();
+        }
+
+        /**
+         * Get the number of operations run in the calling thread as the queue was full.
+         *
+         * @return Number of operations run in the calling thread.
+         */
+        public long getCallerRunsCount() {
+
+            return callerRuns.get();
+        }
+
+        /**
+         * Get the average latency of the provisioning attempts.
+         *
+         * @return Average latency in milliseconds.
+         */
+        public double getAverageLatencyInMillis() {
+
+            long attempts = succeeded.get() + failed.get();
+            return attempts == 0 ? 0 : totalLatencyInNanos.get() / 1_000_000.0 / attempts;
+        }
+
+        /**
+         * Get the failure rate of the provisioning attempts.
+         *
+         * @return Failure rate as a percentage.
+         */
+        public double getFailureRate() {
+
+            long attempts = succeeded.get() + failed.get();
+            return attempts == 0 ? 0 : failed.get() * 100.0 / attempts;
+        }
+    }
+}
@@ -19,7 +19,6 @@
 package org.wso2.carbon.identity.provisioning;
 
 import org.apache.commons.collections.CollectionUtils;
-import org.apache.commons.collections.MapUtils;
 import org.apache.commons.lang.ArrayUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
@@ -68,9 +67,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import static org.wso2.carbon.identity.application.mgt.ApplicationConstants.CONSOLE_APPLICATION_NAME;
@@ -388,19 +385,12 @@ public class OutboundProvisioningManager {
             }
 
             // get all the provisioning connectors associated with local service provider for
-            // out-bound provisioning.
-            // TODO: stop loading connectors all the time.
+            // out-bound provisioning. connectors are cached per service provider.
             Map<String, RuntimeProvisioningConfig> connectors =
                     getOutboundProvisioningConnectors(serviceProvider, spTenantDomainName);
 
             ProvisioningEntity outboundProEntity;
 
-            ExecutorService executors = null;
-
-            if (MapUtils.isNotEmpty(connectors)) {
-                executors = Executors.newFixedThreadPool(connectors.size());
-            }
-
             for (Iterator<Entry<String, RuntimeProvisioningConfig>> iterator = connectors
                     .entrySet().iterator(); iterator.hasNext(); ) {
 
@@ -534,12 +524,13 @@ public class OutboundProvisioningManager {
 
                         outboundProEntity = new ProvisioningEntity(ProvisioningEntityType.USER,
                                                                    user, ProvisioningOperation.POST, mappedUserClaims);
-                        Callable<Boolean> proThread = new ProvisioningThread(outboundProEntity, spTenantDomainName,
+                        ProvisioningThread proThread = new ProvisioningThread(outboundProEntity, spTenantDomainName,
                                 provisioningEntityTenantDomainName, connector, connectorType, idPName, dao);
                         outboundProEntity.setIdentifier(provisionedIdentifier);
                         outboundProEntity.setJitProvisioning(jitProvisioning);
                         boolean isBlocking = entry.getValue().isBlocking();
-                        executeOutboundProvisioning(provisioningEntity, executors, connectorType, idPName, proThread, isBlocking);
+                        executeOutboundProvisioning(provisioningEntity, spTenantDomainName, connectorType, idPName,
+                                    proThread, isBlocking);
 
                     }
 
@@ -559,12 +550,13 @@ public class OutboundProvisioningManager {
 
                             outboundProEntity = new ProvisioningEntity(ProvisioningEntityType.USER,
                                                                        user, ProvisioningOperation.DELETE, mappedUserClaims);
-                            Callable<Boolean> proThread = new ProvisioningThread(outboundProEntity, spTenantDomainName,
+                            ProvisioningThread proThread = new ProvisioningThread(outboundProEntity, spTenantDomainName,
                                     provisioningEntityTenantDomainName, connector, connectorType, idPName, dao);
                             outboundProEntity.setIdentifier(provisionedUserIdentifier);
                             outboundProEntity.setJitProvisioning(jitProvisioning);
                             boolean isBlocking = entry.getValue().isBlocking();
-                            executeOutboundProvisioning(provisioningEntity, executors, connectorType, idPName, proThread, isBlocking);
+                            executeOutboundProvisioning(provisioningEntity, spTenantDomainName, connectorType, idPName,
+                                    proThread, isBlocking);
                         }
                     }
 
@@ -585,7 +577,7 @@ public class OutboundProvisioningManager {
                         outboundProEntity = new ProvisioningEntity(provisioningEntity.getEntityType(),
                                 provisioningEntity.getEntityName(), provisioningOp, mapppedClaims);
 
-                        Callable<Boolean> proThread = new ProvisioningThread(outboundProEntity, spTenantDomainName,
+                        ProvisioningThread proThread = new ProvisioningThread(outboundProEntity, spTenantDomainName,
                                 provisioningEntityTenantDomainName, connector, connectorType, idPName, dao);
                         outboundProEntity.setIdentifier(provisionedIdentifier);
                         outboundProEntity.setJitProvisioning(jitProvisioning);
@@ -606,16 +598,13 @@ public class OutboundProvisioningManager {
                         }
 
                         if (isAllowed) {
-                            executeOutboundProvisioning(provisioningEntity, executors, connectorType, idPName, proThread, isBlocking);
+                            executeOutboundProvisioning(provisioningEntity, spTenantDomainName, connectorType, idPName,
+                                    proThread, isBlocking);
                         }
                     }
                 }
             }
 
-            if (executors != null) {
-                executors.shutdown();
-            }
-
         } catch (CarbonException | IdentityApplicationManagementException | IdentityProviderManagementException | UserStoreException e) {
             throw new IdentityProvisioningException("Error occurred while checking for user " +
                                                     "provisioning", e);
@@ -654,31 +643,34 @@ public class OutboundProvisioningManager {
         return true;
     }
 
-    private void executeOutboundProvisioning(ProvisioningEntity provisioningEntity, ExecutorService executors,
+    private void executeOutboundProvisioning(ProvisioningEntity provisioningEntity, String tenantDomain,
                                              String connectorType,
-                                             String idPName, Callable<Boolean> proThread, boolean isBlocking)
+                                             String idPName, ProvisioningThread proThread, boolean isBlocking)
             throws IdentityProvisioningException {
 
+        OutboundProvisioningExecutor executor = OutboundProvisioningExecutor.getInstance();
         if (!isBlocking && needToWaitForUserProvisioning(provisioningEntity)) {
             try {
-                boolean success = proThread.call();
+                boolean success = executor.call(tenantDomain, idPName, connectorType, proThread);
                 if (!success) {
                     log.error(generateMessageOnFailureProvisioningOperation(idPName, connectorType, provisioningEntity));
                     //DO not roll back since non-blocking configuration was enabled.
                 }
             } catch (Exception e) {
-                handleException(idPName, connectorType, provisioningEntity, executors, e);
+                handleException(idPName, connectorType, provisioningEntity, e);
             }
         } else if (!isBlocking) {
-            executors.submit(proThread);
+            OutboundProvisioningBatcher batcher = OutboundProvisioningBatcher.getInstance();
+            if (batcher.isEnabled()) {
+                batcher.add(tenantDomain, idPName, connectorType, proThread);
+            } else {
+                executor.submit(tenantDomain, idPName, connectorType, proThread);
+            }
         } else {
             try {
 
-                boolean success = proThread.call();
+                boolean success = executor.call(tenantDomain, idPName, connectorType, proThread);
                 if (!success) {
-                    if (executors != null) {
-                        executors.shutdown();
-                    }
                     throw new IdentityProvisioningException
                             (generateMessageOnFailureProvisioningOperation(idPName,
                                                                            connectorType, provisioningEntity));
@@ -688,7 +680,7 @@ public class OutboundProvisioningManager {
                 if (isFailOnBlockingOutBoundProvisionEnabled()) {
                     throw new IdentityProvisioningException(e.getMessage());
                 }
-                handleException(idPName, connectorType, provisioningEntity, executors, e);
+                handleException(idPName, connectorType, provisioningEntity, e);
             }
         }
     }
@@ -1076,17 +1068,34 @@ public class OutboundProvisioningManager {
      * @param idPName
      * @param connectorType
      * @param provisioningEntity
-     * @param executors
      * @param e
      */
     protected void handleException(String idPName, String connectorType, ProvisioningEntity provisioningEntity,
-                                   ExecutorService executors, Exception e) {
+                                   Exception e) {
 
         if (log.isDebugEnabled()) {
             log.debug(generateMessageOnFailureProvisioningOperation(idPName, connectorType, provisioningEntity), e);
         }
     }
 
+    /**
+     * introduce extendability for handling provisioning exceptions
+     *
+     * @param idPName
+     * @param connectorType
+     * @param provisioningEntity
+     * @param executors
+     * @param e
+     * @deprecated The provisioning operations are no longer run in a per call executor service. Use
+     * {@link #handleException(String, String, ProvisioningEntity, Exception)} instead.
+     */
+    @Deprecated
+    protected void handleException(String idPName, String connectorType, ProvisioningEntity provisioningEntity,
+                                   ExecutorService executors, Exception e) {
+
+        handleException(idPName, connectorType, provisioningEntity, e);
+    }
+
     /**
      * If ProvisioningEntity does not contains entity name, load it from from IDP_PROVISIONING_ENTITY table
      *
@@ -83,13 +83,55 @@ public class ProvisioningThread implements Callable<Boolean> {
 
             /* Skip outbound provisioning triggered for JIT provisioning flow, where the JIT outbound is disabled for
                the configured connector. */
-            if (provisioningEntity.isJitProvisioning() && !connector.isJitProvisioningEnabled()) {
+            if (isProvisioningSkipped()) {
                 return true;
             }
             ProvisionedIdentifier provisionedIdentifier = null;
             // real provisioning happens now.
             provisionedIdentifier = connector.provision(provisioningEntity);
+            recordProvisionedIdentifier(provisionedIdentifier);
+            success = true;
+        } catch (Exception e) {
+            String errMsg = "Fail the Provisioning for Entity " + provisioningEntity.getEntityName() +
+                    " For operation = " + provisioningEntity.getOperation();
+            log.warn(errMsg);
+            throw new IdentityProvisioningException(errMsg, e);
+        } finally {
+            PrivilegedCarbonContext.endTenantFlow();
+
+            if (isUserTenantBasedOutboundProvisioningEnabled && provisioningEntityTenantDomainName != null) {
+                PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(provisioningEntityTenantDomainName, true);
+            }else if (tenantDomainName != null) {
+                PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(tenantDomainName, true);
+            }
+        }
+
+        return success;
+    }
+
+    /**
+     * Check whether the provisioning is skipped for the entity, i.e. the provisioning is triggered by a JIT
+     * provisioning flow while JIT outbound provisioning is disabled for the connector.
+     *
+     * @return Whether the provisioning is skipped.
+     * @throws IdentityProvisioningException If the connector configuration could not be read.
+     */
+    boolean isProvisioningSkipped() throws IdentityProvisioningException {
+
+        return provisioningEntity.isJitProvisioning() && !connector.isJitProvisioningEnabled();
+    }
+
+    /**
+     * Record the outcome of the provisioning of the entity, i.e. store or delete the provisioned identifier of the
+     * entity, or update the provisioned entity name.
+     *
+     * @param provisionedIdentifier Identifier returned by the connector.
+     * @throws IdentityProvisioningException If the provisioned identifier could not be recorded.
+     */
+    void recordProvisionedIdentifier(ProvisionedIdentifier provisionedIdentifier)
+            throws IdentityProvisioningException {
 
+        try {
             if (provisioningEntity.getOperation() == ProvisioningOperation.DELETE) {
                 deleteProvisionedEntityIdentifier(idPName, connectorType, provisioningEntity,
                         tenantDomainName);
@@ -116,23 +158,33 @@ public class ProvisioningThread implements Callable<Boolean> {
                     dao.updateProvisionedEntityName(provisioningEntity);
                 }
             }
-            success = true;
-        } catch (Exception e) {
-            String errMsg = "Fail the Provisioning for Entity " + provisioningEntity.getEntityName() +
-                    " For operation = " + provisioningEntity.getOperation();
-            log.warn(errMsg);
-            throw new IdentityProvisioningException(errMsg, e);
-        } finally {
-            PrivilegedCarbonContext.endTenantFlow();
+        } catch (IdentityApplicationManagementException e) {
+            throw new IdentityProvisioningException("Error while recording the provisioned identifier of the entity: "
+                    + provisioningEntity.getEntityName(), e);
+        }
+    }
 
-            if (isUserTenantBasedOutboundProvisioningEnabled && provisioningEntityTenantDomainName != null) {
-                PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(provisioningEntityTenantDomainName, true);
-            }else if (tenantDomainName != null) {
-                PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(tenantDomainName, true);
-            }
+    /**
+     * Get the tenant domain the entity is provisioned in.
+     *
+     * @return Tenant domain of the provisioning flow.
+     */
+    String getProvisioningTenantDomain() {
+
+        if (isUserTenantBasedOutboundProvisioningEnabled() && provisioningEntityTenantDomainName != null) {
+            return provisioningEntityTenantDomainName;
         }
+        return tenantDomainName;
+    }
 
-        return success;
+    ProvisioningEntity getProvisioningEntity() {
+
+        return provisioningEntity;
+    }
+
+    AbstractOutboundProvisioningConnector getConnector() {
+
+        return connector;
     }
 
     /**
@@ -32,6 +32,8 @@ import org.wso2.carbon.identity.application.common.model.ProvisioningConnectorCo
 import org.wso2.carbon.identity.application.mgt.listener.ApplicationMgtListener;
 import org.wso2.carbon.identity.provisioning.rules.ProvisioningHandler;
 import org.wso2.carbon.identity.provisioning.AbstractProvisioningConnectorFactory;
+import org.wso2.carbon.identity.provisioning.OutboundProvisioningBatcher;
+import org.wso2.carbon.identity.provisioning.OutboundProvisioningExecutor;
 import org.wso2.carbon.identity.provisioning.listener.DefaultInboundUserProvisioningListener;
 import org.wso2.carbon.identity.provisioning.listener.ProvisioningApplicationMgtListener;
 import org.wso2.carbon.identity.provisioning.listener.ProvisioningErrorListener;
@@ -90,6 +92,8 @@ public class IdentityProvisionServiceComponent {
     @Activate
     protected void activate(ComponentContext context) {
         try {
+            OutboundProvisioningExecutor.getInstance().start();
+            OutboundProvisioningBatcher.getInstance().start();
             ProvisioningServiceDataHolder.getInstance().setBundleContext(context.getBundleContext());
             DefaultInboundUserProvisioningListener provisioningListener = new DefaultInboundUserProvisioningListener();
             ProvisioningServiceDataHolder.getInstance().setDefaultInboundUserProvisioningListener(provisioningListener);
@@ -125,6 +129,8 @@ public class IdentityProvisionServiceComponent {
      */
     @Deactivate
     protected void deactivate(ComponentContext context) {
+        OutboundProvisioningBatcher.getInstance().shutdown();
+        OutboundProvisioningExecutor.getInstance().shutdown();
         if (log.isDebugEnabled()) {
             log.debug("Identity Provision bundle is de-activated");
         }
@@ -23,6 +23,8 @@ import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.application.common.IdentityApplicationManagementException;
 import org.wso2.carbon.identity.application.common.model.IdentityProvider;
 import org.wso2.carbon.identity.provisioning.IdentityProvisioningException;
+import org.wso2.carbon.identity.provisioning.OutboundProvisioningBatcher;
+import org.wso2.carbon.identity.provisioning.OutboundProvisioningExecutor;
 import org.wso2.carbon.identity.provisioning.cache.ProvisioningConnectorCache;
 import org.wso2.carbon.identity.provisioning.cache.ProvisioningConnectorCacheEntry;
 import org.wso2.carbon.identity.provisioning.cache.ProvisioningConnectorCacheKey;
@@ -64,6 +66,7 @@ public class ProvisioningIdentityProviderMgtListener extends AbstractIdentityPro
     @Override
     public boolean doPreDeleteIdPs(String tenantDomain) throws IdentityProviderManagementException {
 
+        removeConnectorWorkers(tenantDomain, null);
         return super.doPreDeleteIdPs(tenantDomain);
     }
 
@@ -87,6 +90,8 @@ public class ProvisioningIdentityProviderMgtListener extends AbstractIdentityPro
     public void destroyConnector(String identityProviderName, String tenantDomain)
             throws IdentityProvisioningException {
 
+        removeConnectorWorkers(tenantDomain, identityProviderName);
+
         ProvisioningConnectorCacheKey cacheKey =
                 new ProvisioningConnectorCacheKey(identityProviderName);
         ProvisioningConnectorCacheEntry entry =
@@ -146,6 +151,20 @@ public class ProvisioningIdentityProviderMgtListener extends AbstractIdentityPro
         }
     }
 
+    /**
+     * Remove the batches and the bulkheads of the provisioning connectors of the identity provider, as they are keyed
+     * by the identity provider name and would otherwise be kept after the identity provider is deleted or renamed.
+     *
+     * @param tenantDomain         Tenant domain of the identity provider.
+     * @param identityProviderName Name of the identity provider, or null for all the identity providers of the
+     *                             tenant.
+     */
+    private void removeConnectorWorkers(String tenantDomain, String identityProviderName) {
+
+        OutboundProvisioningBatcher.getInstance().removeBatches(tenantDomain, identityProviderName);
+        OutboundProvisioningExecutor.getInstance().removeBulkheads(tenantDomain, identityProviderName);
+    }
+
     public int getDefaultOrderId() {
 
         return 20;
@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.provisioning;
+
+import org.mockito.InOrder;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.common.testng.WithCarbonHome;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test class for OutboundProvisioningBatcher test cases.
+ */
+@WithCarbonHome
+public class OutboundProvisioningBatcherTest {
+
+    private static final String TENANT_DOMAIN = "carbon.super";
+    private static final String IDP_NAME = "idp";
+    private static final String CONNECTOR_TYPE = "scim";
+
+    private OutboundProvisioningExecutor executor;
+    private OutboundProvisioningBatcher batcher;
+
+    @BeforeMethod
+    public void setUp() {
+
+        executor = new OutboundProvisioningExecutor(2, 100, 0, 0);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        batcher.shutdown();
+        executor.shutdown();
+    }
+
+    @Test
+    public void testBatchIsProvisionedWhenMaxSizeIsReached() throws Exception {
+
+        batcher = new OutboundProvisioningBatcher(true, 3, 60000, executor);
+        AbstractOutboundProvisioningConnector connector = mock(AbstractOutboundProvisioningConnector.class);
+        when(connector.isBatchProvisioningSupported()).thenReturn(true);
+        List<ProvisionedIdentifier> provisionedIdentifiers = Arrays.asList(new ProvisionedIdentifier(),
+                new ProvisionedIdentifier(), new ProvisionedIdentifier());
+        when(connector.provisionBatch(anyList())).thenReturn(provisionedIdentifiers);
+
+        List<ProvisioningThread> operations = new ArrayList<>();
+        List<ProvisioningEntity> provisioningEntities = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            ProvisioningThread operation = mockOperation(connector);
+            operations.add(operation);
+            provisioningEntities.add(operation.getProvisioningEntity());
+            batcher.add(TENANT_DOMAIN, IDP_NAME, CONNECTOR_TYPE, operation);
+        }
+
+        verify(connector, timeout(5000)).provisionBatch(provisioningEntities);
+        for (int i = 0; i < 3; i++) {
+            verify(operations.get(i), timeout(5000)).recordProvisionedIdentifier(provisionedIdentifiers.get(i));
+            verify(operations.get(i), never()).call();
+        }
+    }
+
+    @Test
+    public void testBatchIsProvisionedWhenWindowElapses() throws Exception {
+
+        batcher = new OutboundProvisioningBatcher(true, 100, 10, executor);
+        AbstractOutboundProvisioningConnector connector = mock(AbstractOutboundProvisioningConnector.class);
+        when(connector.isBatchProvisioningSupported()).thenReturn(true);
+        ProvisioningThread operation = mockOperation(connector);
+
+        batcher.add(TENANT_DOMAIN, IDP_NAME, CONNECTOR_TYPE, operation);
+
+        verify(connector, timeout(5000)).provisionBatch(Arrays.asList(operation.getProvisioningEntity()));
+        verify(operation, timeout(5000)).recordProvisionedIdentifier(null);
+    }
+
+    @Test
+    public void testBatchIsProvisionedWhenWindowElapsesAfterRestart() throws Exception {
+
+        batcher = new OutboundProvisioningBatcher(true, 100, 500, executor);
+        batcher.shutdown();
+        batcher.start();
+        AbstractOutboundProvisioningConnector connector = mock(AbstractOutboundProvisioningConnector.class);
+        when(connector.isBatchProvisioningSupported()).thenReturn(true);
+        ProvisioningThread firstOperation = mockOperation(connector);
+        ProvisioningThread secondOperation = mockOperation(connector);
+
+        batcher.add(TENANT_DOMAIN, IDP_NAME, CONNECTOR_TYPE, firstOperation);
+        batcher.add(TENANT_DOMAIN, IDP_NAME, CONNECTOR_TYPE, secondOperation);
+
+        // Both operations are provisioned in a single batch once the window elapses, rather than one by one.
+        verify(connector, timeout(5000)).provisionBatch(Arrays.asList(firstOperation.getProvisioningEntity(),
+                secondOperation.getProvisioningEntity()));
+    }
+
+    @Test
+    public void testOperationsAreProvisionedOneByOneWhenBatchFails() throws Exception {
+
+        batcher = new OutboundProvisioningBatcher(true, 2, 60000, executor);
+        AbstractOutboundProvisioningConnector connector = mock(AbstractOutboundProvisioningConnector.class);
+        when(connector.isBatchProvisioningSupported()).thenReturn(true);
+        when(connector.provisionBatch(anyList())).thenThrow(new IdentityProvisioningException("Batch failed."));
+        ProvisioningThread firstOperation = mockOperation(connector);
+        ProvisioningThread secondOperation = mockOperation(connector);
+        when(firstOperation.call()).thenReturn(true);
+        when(secondOperation.call()).thenReturn(true);
+
+        batcher.add(TENANT_DOMAIN, IDP_NAME, CONNECTOR_TYPE, firstOperation);
+        batcher.add(TENANT_DOMAIN, IDP_NAME, CONNECTOR_TYPE, secondOperation);
+
+        verify(secondOperation, timeout(5000)).call();
+        InOrder inOrder = inOrder(connector, firstOperation, secondOperation);
+        inOrder.verify(connector).provisionBatch(anyList());
+        inOrder.verify(firstOperation).call();
+        inOrder.verify(secondOperation).call();
+    }
+
+    @Test
+    public void testFailedOperationIsRetriedWhenBatchFails() throws Exception {
+
+        executor.shutdown();
+        executor = new OutboundProvisioningExecutor(2, 100, 1, 0);
+        batcher = new OutboundProvisioningBatcher(true, 1, 60000, executor);
+        AbstractOutboundProvisioningConnector connector = mock(AbstractOutboundProvisioningConnector.class);
+        when(connector.isBatchProvisioningSupported()).thenReturn(true);
+        when(connector.provisionBatch(anyList())).thenThrow(new IdentityProvisioningException("Batch failed."));
+        ProvisioningThread operation = mockOperation(connector);
+        when(operation.call()).thenThrow(new IdentityProvisioningException("Provisioning failed.")).thenReturn(true);
+
+        batcher.add(TENANT_DOMAIN, IDP_NAME, CONNECTOR_TYPE, operation);
+
+        verify(operation, timeout(5000).times(2)).call();
+    }
+
+    @Test
+    public void testOperationIsProvisionedInCallingThreadWhenPendingOperationsAreFull() throws Exception {
+
+        executor.shutdown();
+        executor = new OutboundProvisioningExecutor(2, 1, 0, 0);
+        batcher = new OutboundProvisioningBatcher(true, 1, 60000, executor);
+        CountDownLatch batchStarted = new CountDownLatch(1);
+        CountDownLatch releaseBatch = new CountDownLatch(1);
+        AbstractOutboundProvisioningConnector connector = mock(AbstractOutboundProvisioningConnector.class);
+        when(connector.isBatchProvisioningSupported()).thenReturn(true);
+        when(connector.provisionBatch(anyList())).thenAnswer(invocation -> {
+            batchStarted.countDown();
+            releaseBatch.await(5, TimeUnit.SECONDS);
+            return null;
+        });
+        ProvisioningThread inProgressOperation = mockOperation(connector);
+        ProvisioningThread pendingOperation = mockOperation(connector);
+        ProvisioningThread callerRunsOperation = mockOperation(connector);
+        when(callerRunsOperation.call()).thenReturn(true);
+
+        try {
+            batcher.add(TENANT_DOMAIN, IDP_NAME, CONNECTOR_TYPE, inProgressOperation);
+            assertTrue(batchStarted.await(5, TimeUnit.SECONDS));
+            batcher.add(TENANT_DOMAIN, IDP_NAME, CONNECTOR_TYPE, pendingOperation);
+            batcher.add(TENANT_DOMAIN, IDP_NAME, CONNECTOR_TYPE, callerRunsOperation);
+
+            // The pending operations are full while the batch is in progress.
+            verify(callerRunsOperation).call();
+            assertEquals(executor.getMetrics().get(TENANT_DOMAIN + ":" + IDP_NAME + ":" + CONNECTOR_TYPE)
+                    .getCallerRunsCount(), 1);
+        } finally {
+            releaseBatch.countDown();
+        }
+        verify(pendingOperation, timeout(5000)).recordProvisionedIdentifier(null);
+    }
+
+    @Test
+    public void testOperationsAreProvisionedInOrderWithoutBatchSupport() throws Exception {
+
+        batcher = new OutboundProvisioningBatcher(true, 100, 60000, executor);
+        AbstractOutboundProvisioningConnector connector = mock(AbstractOutboundProvisioningConnector.class);
+        ProvisioningThread firstOperation = mockOperation(connector);
+        ProvisioningThread secondOperation = mockOperation(connector);
+        when(firstOperation.call()).thenThrow(new IdentityProvisioningException("Provisioning failed."));
+        when(secondOperation.call()).thenReturn(true);
+
+        batcher.add(TENANT_DOMAIN, IDP_NAME, CONNECTOR_TYPE, firstOperation);
+        batcher.add(TENANT_DOMAIN, IDP_NAME, CONNECTOR_TYPE, secondOperation);
+        batcher.flush();
+
+        // A failed operation doesn't prevent provisioning the rest of the batch.
+        verify(secondOperation, timeout(5000)).call();
+        InOrder inOrder = inOrder(firstOperation, secondOperation);
+        inOrder.verify(firstOperation).call();
+        inOrder.verify(secondOperation).call();
+        verify(connector, never()).provisionBatch(anyList());
+        verify(firstOperation, never()).recordProvisionedIdentifier(any());
+    }
+
+    private ProvisioningThread mockOperation(AbstractOutboundProvisioningConnector connector) {
+
+        ProvisioningThread operation = mock(ProvisioningThread.class);
+        when(operation.getConnector()).thenReturn(connector);
+        when(operation.getProvisioningEntity()).thenReturn(new ProvisioningEntity(ProvisioningEntityType.USER,
+                ProvisioningOperation.POST, null));
+        when(operation.getProvisioningTenantDomain()).thenReturn(TENANT_DOMAIN);
+        return operation;
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.provisioning;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class OutboundProvisioningExecutorTest {
+
+    private static final String TENANT_DOMAIN = "carbon.super";
+    private static final String IDP_NAME = "idp";
+    private static final String CONNECTOR_TYPE = "scim";
+    private static final String CONNECTOR_KEY = TENANT_DOMAIN + ":" + IDP_NAME + ":" + CONNECTOR_TYPE;
+
+    private OutboundProvisioningExecutor executor;
+
+    @AfterMethod
+    public void tearDown() {
+
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testSubmitRunsInConnectorBulkhead() throws Exception {
+
+        executor = new OutboundProvisioningExecutor(2, 10, 0, 0);
+        CountDownLatch latch = new CountDownLatch(3);
+        for (int i = 0; i < 3; i++) {
+            executor.submit(TENANT_DOMAIN, IDP_NAME, CONNECTOR_TYPE, () -> {
+                latch.countDown();
+                return true;
+            });
+        }
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        OutboundProvisioningExecutor.ConnectorMetrics metrics = executor.getMetrics().get(CONNECTOR_KEY);
+        waitForAttempts(metrics, 3);
+        assertEquals(metrics.getSubmittedCount(), 3);
+        assertEquals(metrics.getSucceededCount(), 3);
+        assertEquals(metrics.getFailureRate(), 0.0);
+    }
+
+    @Test
+    public void testConnectorsHaveSeparateBulkheads() throws Exception {
+
+        executor = new OutboundProvisioningExecutor(1, 10, 0, 0);
+        CountDownLatch blockingLatch = new CountDownLatch(1);
+        CountDownLatch otherConnectorLatch = new CountDownLatch(1);
+        executor.submit(TENANT_DOMAIN, IDP_NAME, CONNECTOR_TYPE, () -> blockingLatch.await(5, TimeUnit.SECONDS));
+        executor.submit(TENANT_DOMAIN, "other-idp", CONNECTOR_TYPE, () -> {
+            otherConnectorLatch.countDown();
+            return true;
+        });
+
+        // A slow connector doesn't hold back the other connectors.
+        assertTrue(otherConnectorLatch.await(5, TimeUnit.SECONDS));
+        blockingLatch.countDown();
+        assertEquals(executor.getMetrics().size(), 2);
+    }
+
+    @Test
+    public void testBulkheadsOfIdentityProviderAreRemoved() throws Exception {
+
+        executor = new OutboundProvisioningExecutor(1, 10, 0, 0);
+        CountDownLatch latch = new CountDownLatch(3);
+        executor.submit(TENANT_DOMAIN, IDP_NAME, CONNECTOR_TYPE, () -> {
+            latch.countDown();
+            return true;
+        });
+        executor.submit(TENANT_DOMAIN, IDP_NAME, "salesforce", () -> {
+            latch.countDown();
+            return true;
+        });
+        executor.submit(TENANT_DOMAIN, "other-idp", CONNECTOR_TYPE, () -> {
+            latch.countDown();
+            return true;
+        });
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+
+        executor.removeBulkheads(TENANT_DOMAIN, IDP_NAME);
+        assertEquals(executor.getMetrics().keySet(),
+                Collections.singleton(TENANT_DOMAIN + ":other-idp:" + CONNECTOR_TYPE));
+
+        executor.removeBulkheads(TENANT_DOMAIN, null);
+        assertTrue(executor.getMetrics().isEmpty());
+    }
+
+    @Test
+    public void testFailedOperationIsRetried() throws Exception {
+
+        executor = new OutboundProvisioningExecutor(1, 10, 2, 1);
+        AtomicInteger attempts = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(1);
+        executor.submit(TENANT_DOMAIN, IDP_NAME, CONNECTOR_TYPE, () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new IdentityProvisioningException("Provisioning failed.");
+            }
+            latch.countDown();
+            return true;
+        });
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        OutboundProvisioningExecutor.ConnectorMetrics metrics = executor.getMetrics().get(CONNECTOR_KEY);
+        waitForAttempts(metrics, 3);
+        assertEquals(attempts.get(), 3);
+        assertEquals(metrics.getRetriedCount(), 2);
+        assertEquals(metrics.getFailedCount(), 2);
+        assertEquals(metrics.getSucceededCount(), 1);
+    }
+
+    @Test
+    public void testFailedOperationIsRetriedAfterRestart() throws Exception {
+
+        executor = new OutboundProvisioningExecutor(1, 10, 1, 1);
+        executor.shutdown();
+        executor.start();
+        AtomicInteger attempts = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(1);
+        executor.submit(TENANT_DOMAIN, IDP_NAME, CONNECTOR_TYPE, () -> {
+            if (attempts.incrementAndGet() < 2) {
+                throw new IdentityProvisioningException("Provisioning failed.");
+            }
+            latch.countDown();
+            return true;
+        });
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(attempts.get(), 2);
+    }
+
+    @Test
+    public void testOperationRunsInCallerWhenQueueIsFull() throws Exception {
+
+        executor = new OutboundProvisioningExecutor(1, 1, 0, 0);
+        CountDownLatch blockingLatch = new CountDownLatch(1);
+        CountDownLatch startedLatch = new CountDownLatch(1);
+        executor.submit(TENANT_DOMAIN, IDP_NAME, CONNECTOR_TYPE, () -> {
+            startedLatch.countDown();
+            return blockingLatch.await(5, TimeUnit.SECONDS);
+        });
+        assertTrue(startedLatch.await(5, TimeUnit.SECONDS));
+        executor.submit(TENANT_DOMAIN, IDP_NAME, CONNECTOR_TYPE, () -> true);
+
+        Thread callerThread = Thread.currentThread();
+        AtomicInteger callerRuns = new AtomicInteger();
+        executor.submit(TENANT_DOMAIN, IDP_NAME, CONNECTOR_TYPE, () -> {
+            if (Thread.currentThread() == callerThread) {
+                callerRuns.incrementAndGet();
+            }
+            return true;
+        });
+        blockingLatch.countDown();
+
+        assertEquals(callerRuns.get(), 1);
+        assertEquals(executor.getMetrics().get(CONNECTOR_KEY).getCallerRunsCount(), 1);
+    }
+
+    @Test
+    public void testCallRecordsMetrics() throws Exception {
+
+        executor = new OutboundProvisioningExecutor(1, 10, 0, 0);
+
+        assertTrue(executor.call(TENANT_DOMAIN, IDP_NAME, CONNECTOR_TYPE, () -> true));
+        assertFalse(executor.call(TENANT_DOMAIN, IDP_NAME, CONNECTOR_TYPE, () -> false));
+
+        OutboundProvisioningExecutor.ConnectorMetrics metrics = executor.getMetrics().get(CONNECTOR_KEY);
+        assertEquals(metrics.getSubmittedCount(), 2);
+        assertEquals(metrics.getSucceededCount(), 1);
+        assertEquals(metrics.getFailedCount(), 1);
+        assertEquals(metrics.getFailureRate(), 50.0);
+    }
+
+    private void waitForAttempts(OutboundProvisioningExecutor.ConnectorMetrics metrics, long attempts)
+            throws InterruptedException {
+
+        // Metrics are recorded after the operation returns, hence wait for the worker to record the last attempt.
+        for (int i = 0; i < 500 && metrics.getSucceededCount() + metrics.getFailedCount() < attempts; i++) {
+            Thread.sleep(10);
+        }
+    }
+}
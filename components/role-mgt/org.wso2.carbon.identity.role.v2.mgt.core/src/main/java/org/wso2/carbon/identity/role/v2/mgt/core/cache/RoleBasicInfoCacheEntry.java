@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.role.v2.mgt.core.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheEntry;
+import org.wso2.carbon.identity.role.v2.mgt.core.model.RoleBasicInfo;
+
+/**
+ * Cache entry for the basic info of a role. A new role basic info object is returned for each cache hit, as the
+ * callers may modify the returned object.
+ */
+public class RoleBasicInfoCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = 4285131964127350112L;
+
+    private final String id;
+    private final String name;
+    private final String audience;
+    private final String audienceId;
+    private final String audienceName;
+
+    public RoleBasicInfoCacheEntry(RoleBasicInfo roleBasicInfo) {
+
+        this.id = roleBasicInfo.getId();
+        this.name = roleBasicInfo.getName();
+        this.audience = roleBasicInfo.getAudience();
+        this.audienceId = roleBasicInfo.getAudienceId();
+        this.audienceName = roleBasicInfo.getAudienceName();
+    }
+
+    public RoleBasicInfo getRoleBasicInfo() {
+
+        RoleBasicInfo roleBasicInfo = new RoleBasicInfo(id, name);
+        roleBasicInfo.setAudience(audience);
+        roleBasicInfo.setAudienceId(audienceId);
+        roleBasicInfo.setAudienceName(audienceName);
+        return roleBasicInfo;
+    }
+}
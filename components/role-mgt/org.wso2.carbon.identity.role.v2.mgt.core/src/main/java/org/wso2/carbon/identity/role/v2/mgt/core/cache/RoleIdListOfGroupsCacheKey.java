@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.role.v2.mgt.core.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheKey;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Cache key for the role IDs of a set of groups. The group IDs are kept sorted and distinct, so that the same set of
+ * groups maps to the same key irrespective of the order of the group IDs.
+ */
+public class RoleIdListOfGroupsCacheKey extends CacheKey {
+
+    private static final long serialVersionUID = -2657311407851926473L;
+
+    private final ArrayList<String> groupIds;
+    private final boolean idpGroups;
+
+    public RoleIdListOfGroupsCacheKey(Collection<String> groupIds, boolean idpGroups) {
+
+        this.groupIds = new ArrayList<>(new TreeSet<>(groupIds));
+        this.idpGroups = idpGroups;
+    }
+
+    public List<String> getGroupIds() {
+
+        return groupIds;
+    }
+
+    public boolean isIdpGroups() {
+
+        return idpGroups;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        RoleIdListOfGroupsCacheKey that = (RoleIdListOfGroupsCacheKey) o;
+        return idpGroups == that.idpGroups && groupIds.equals(that.groupIds);
+    }
+
+    @Override
+    public int hashCode() {
+
+        return 31 * groupIds.hashCode() + (idpGroups ? 1 : 0);
+    }
+}
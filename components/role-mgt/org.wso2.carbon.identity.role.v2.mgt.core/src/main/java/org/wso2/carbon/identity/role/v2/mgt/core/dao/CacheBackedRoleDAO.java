@@ -0,0 +1,520 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.role.v2.mgt.core.dao;
+
+import org.apache.commons.collections.CollectionUtils;
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.model.ExpressionNode;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
+import org.wso2.carbon.identity.organization.management.service.util.OrganizationManagementUtil;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.PermissionListOfRoleCache;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RoleBasicInfoCache;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RoleBasicInfoCacheEntry;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RoleIdListOfGroupsCache;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RoleIdListOfGroupsCacheKey;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RoleIdListOfUserCache;
+import org.wso2.carbon.identity.role.v2.mgt.core.exception.IdentityRoleManagementException;
+import org.wso2.carbon.identity.role.v2.mgt.core.exception.IdentityRoleManagementServerException;
+import org.wso2.carbon.identity.role.v2.mgt.core.model.GroupBasicInfo;
+import org.wso2.carbon.identity.role.v2.mgt.core.model.IdpGroup;
+import org.wso2.carbon.identity.role.v2.mgt.core.model.Permission;
+import org.wso2.carbon.identity.role.v2.mgt.core.model.Role;
+import org.wso2.carbon.identity.role.v2.mgt.core.model.RoleBasicInfo;
+import org.wso2.carbon.identity.role.v2.mgt.core.model.RoleDTO;
+import org.wso2.carbon.identity.role.v2.mgt.core.model.UserBasicInfo;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.wso2.carbon.identity.role.v2.mgt.core.RoleConstants.Error.UNEXPECTED_SERVER_ERROR;
+
+/**
+ * Cache backed implementation of {@link RoleDAO}. Caches the basic info and the permissions of roles, and the role
+ * IDs of users and groups, which are read on each token issuance. The cache entries are cleared on the writes
+ * through this DAO, while the role assignments changed through the user store are cleared by the role management
+ * user store listener, and the permissions removed through the API resource management are cleared by the role
+ * management API resource event handler.
+ */
+public class CacheBackedRoleDAO implements RoleDAO {
+
+    private static final Log LOG = LogFactory.getLog(CacheBackedRoleDAO.class);
+
+    private final RoleDAO roleDAO;
+    private final RoleBasicInfoCache roleBasicInfoCache;
+    private final RoleIdListOfUserCache roleIdListOfUserCache;
+    private final RoleIdListOfGroupsCache roleIdListOfGroupsCache;
+    private final PermissionListOfRoleCache permissionListOfRoleCache;
+
+    public CacheBackedRoleDAO(RoleDAO roleDAO) {
+
+        this.roleDAO = roleDAO;
+        this.roleBasicInfoCache = RoleBasicInfoCache.getInstance();
+        this.roleIdListOfUserCache = RoleIdListOfUserCache.getInstance();
+        this.roleIdListOfGroupsCache = RoleIdListOfGroupsCache.getInstance();
+        this.permissionListOfRoleCache = PermissionListOfRoleCache.getInstance();
+    }
+
+    @Override
+    public RoleBasicInfo addRole(String roleName, List<String> userList, List<String> groupList,
+                                 List<Permission> permissions, String audience, String audienceId,
+                                 String tenantDomain) throws IdentityRoleManagementException {
+
+        RoleBasicInfo roleBasicInfo = roleDAO.addRole(roleName, userList, groupList, permissions, audience,
+                audienceId, tenantDomain);
+        clearRoleIdListOfUsers(userList, tenantDomain);
+        if (CollectionUtils.isNotEmpty(groupList)) {
+            roleIdListOfGroupsCache.clear(tenantDomain);
+        }
+        return roleBasicInfo;
+    }
+
+    @Override
+    public List<RoleBasicInfo> getRoles(Integer limit, Integer offset, String sortBy, String sortOrder,
+                                        String tenantDomain) throws IdentityRoleManagementException {
+
+        return roleDAO.getRoles(limit, offset, sortBy, sortOrder, tenantDomain);
+    }
+
+    @Override
+    public List<Role> getRoles(Integer limit, Integer offset, String sortBy, String sortOrder, String tenantDomain,
+                               List<String> requiredAttributes) throws IdentityRoleManagementException {
+
+        return roleDAO.getRoles(limit, offset, sortBy, sortOrder, tenantDomain, requiredAttributes);
+    }
+
+    @Override
+    public List<RoleBasicInfo> getRoles(List<ExpressionNode> expressionNodes, Integer limit, Integer offset,
+                                        String sortBy, String sortOrder, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        return roleDAO.getRoles(expressionNodes, limit, offset, sortBy, sortOrder, tenantDomain);
+    }
+
+    @Override
+    public List<Role> getRoles(List<ExpressionNode> expressionNodes, Integer limit, Integer offset, String sortBy,
+                               String sortOrder, String tenantDomain, List<String> requiredAttributes)
+            throws IdentityRoleManagementException {
+
+        return roleDAO.getRoles(expressionNodes, limit, offset, sortBy, sortOrder, tenantDomain, requiredAttributes);
+    }
+
+    @Override
+    public Role getRole(String roleId, String tenantDomain) throws IdentityRoleManagementException {
+
+        return roleDAO.getRole(roleId, tenantDomain);
+    }
+
+    @Override
+    public Role getRole(String roleId) throws IdentityRoleManagementException {
+
+        return roleDAO.getRole(roleId);
+    }
+
+    @Override
+    public List<Permission> getPermissionListOfRole(String roleId, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        return roleDAO.getPermissionListOfRole(roleId, tenantDomain);
+    }
+
+    @Override
+    public List<String> getPermissionListOfRoles(List<String> roleIds, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        if (isOrganization(tenantDomain)) {
+            // Shared roles of an organization inherit the permissions of their main roles, whose changes in the
+            // parent organization can't be tracked by the cache entries of this organization.
+            return roleDAO.getPermissionListOfRoles(roleIds, tenantDomain);
+        }
+        Set<String> permissions = new LinkedHashSet<>();
+        List<String> uncachedRoleIds = new ArrayList<>();
+        for (String roleId : roleIds) {
+            if (StringUtils.isBlank(roleId)) {
+                continue;
+            }
+            ArrayList<String> permissionsOfRole = permissionListOfRoleCache.getValueFromCache(roleId, tenantDomain);
+            if (permissionsOfRole == null) {
+                uncachedRoleIds.add(roleId);
+            } else {
+                permissions.addAll(permissionsOfRole);
+            }
+        }
+        if (!uncachedRoleIds.isEmpty()) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Permissions of the roles: " + uncachedRoleIds + " not found in cache for the tenant: " +
+                        tenantDomain);
+            }
+            Map<String, List<String>> permissionsOfRoles =
+                    roleDAO.getPermissionNamesOfRoles(uncachedRoleIds, tenantDomain);
+            for (String roleId : uncachedRoleIds) {
+                ArrayList<String> permissionsOfRole = new ArrayList<>(
+                        permissionsOfRoles.getOrDefault(roleId, Collections.emptyList()));
+                permissionListOfRoleCache.addToCache(roleId, permissionsOfRole, tenantDomain);
+                permissions.addAll(permissionsOfRole);
+            }
+        }
+        return new ArrayList<>(permissions);
+    }
+
+    @Override
+    public Map<String, List<String>> getPermissionNamesOfRoles(List<String> roleIds, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        return roleDAO.getPermissionNamesOfRoles(roleIds, tenantDomain);
+    }
+
+    @Override
+    public void updatePermissionListOfRole(String roleId, List<Permission> addedPermissions,
+                                           List<Permission> deletedPermissions, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        // Shared roles inherit the permissions of the main role.
+        List<RoleDTO> sharedRoles = getSharedRoles(roleId, tenantDomain);
+        roleDAO.updatePermissionListOfRole(roleId, addedPermissions, deletedPermissions, tenantDomain);
+        permissionListOfRoleCache.clearCacheEntry(roleId, tenantDomain);
+        for (RoleDTO sharedRole : sharedRoles) {
+            permissionListOfRoleCache.clearCacheEntry(sharedRole.getId(), sharedRole.getTenantId());
+        }
+    }
+
+    @Override
+    public List<IdpGroup> getIdpGroupListOfRole(String roleId, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        return roleDAO.getIdpGroupListOfRole(roleId, tenantDomain);
+    }
+
+    @Override
+    public void updateIdpGroupListOfRole(String roleId, List<IdpGroup> newGroupList, List<IdpGroup> deletedGroupList,
+                                         String tenantDomain) throws IdentityRoleManagementException {
+
+        roleDAO.updateIdpGroupListOfRole(roleId, newGroupList, deletedGroupList, tenantDomain);
+        roleIdListOfGroupsCache.clear(tenantDomain);
+    }
+
+    @Override
+    public void deleteRole(String roleId, String tenantDomain) throws IdentityRoleManagementException {
+
+        List<RoleDTO> sharedRoles = getSharedRoles(roleId, tenantDomain);
+        roleDAO.deleteRole(roleId, tenantDomain);
+        clearRoleCaches(roleId, IdentityTenantUtil.getTenantId(tenantDomain));
+        for (RoleDTO sharedRole : sharedRoles) {
+            clearRoleCaches(sharedRole.getId(), sharedRole.getTenantId());
+        }
+    }
+
+    @Override
+    public void updateRoleName(String roleId, String newRoleName, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        // The shared roles are renamed along with the main role.
+        List<RoleDTO> sharedRoles = getSharedRoles(roleId, tenantDomain);
+        roleDAO.updateRoleName(roleId, newRoleName, tenantDomain);
+        roleBasicInfoCache.clearCacheEntry(roleId, tenantDomain);
+        for (RoleDTO sharedRole : sharedRoles) {
+            roleBasicInfoCache.clearCacheEntry(sharedRole.getId(), sharedRole.getTenantId());
+        }
+    }
+
+    @Override
+    public List<UserBasicInfo> getUserListOfRole(String roleId, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        return roleDAO.getUserListOfRole(roleId, tenantDomain);
+    }
+
+    @Override
+    public void updateGroupListOfRole(String roleId, List<String> newGroupIDList, List<String> deletedGroupIDList,
+                                      String tenantDomain) throws IdentityRoleManagementException {
+
+        roleDAO.updateGroupListOfRole(roleId, newGroupIDList, deletedGroupIDList, tenantDomain);
+        roleIdListOfGroupsCache.clear(tenantDomain);
+    }
+
+    @Override
+    public List<GroupBasicInfo> getGroupListOfRole(String roleId, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        return roleDAO.getGroupListOfRole(roleId, tenantDomain);
+    }
+
+    @Override
+    public void updateUserListOfRole(String roleId, List<String> newUserIDList, List<String> deletedUserIDList,
+                                     String tenantDomain) throws IdentityRoleManagementException {
+
+        roleDAO.updateUserListOfRole(roleId, newUserIDList, deletedUserIDList, tenantDomain);
+        clearRoleIdListOfUsers(newUserIDList, tenantDomain);
+        clearRoleIdListOfUsers(deletedUserIDList, tenantDomain);
+    }
+
+    @Override
+    public String getRoleNameByID(String roleId, String tenantDomain) throws IdentityRoleManagementException {
+
+        return roleDAO.getRoleNameByID(roleId, tenantDomain);
+    }
+
+    @Override
+    public String getRoleIdByName(String roleName, String audience, String audienceId, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        return roleDAO.getRoleIdByName(roleName, audience, audienceId, tenantDomain);
+    }
+
+    @Override
+    public boolean isExistingRoleName(String roleName, String audience, String audienceId, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        return roleDAO.isExistingRoleName(roleName, audience, audienceId, tenantDomain);
+    }
+
+    @Override
+    public boolean isExistingRoleID(String roleId, String tenantDomain) throws IdentityRoleManagementException {
+
+        return roleDAO.isExistingRoleID(roleId, tenantDomain);
+    }
+
+    @Override
+    public RoleBasicInfo getRoleBasicInfoById(String roleId, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        if (StringUtils.isBlank(roleId)) {
+            return roleDAO.getRoleBasicInfoById(roleId, tenantDomain);
+        }
+        RoleBasicInfoCacheEntry cacheEntry = roleBasicInfoCache.getValueFromCache(roleId, tenantDomain);
+        if (cacheEntry != null) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Basic info of the role: " + roleId + " found in cache for the tenant: " + tenantDomain);
+            }
+            return cacheEntry.getRoleBasicInfo();
+        }
+        RoleBasicInfo roleBasicInfo = roleDAO.getRoleBasicInfoById(roleId, tenantDomain);
+        if (roleBasicInfo != null) {
+            roleBasicInfoCache.addToCache(roleId, new RoleBasicInfoCacheEntry(roleBasicInfo), tenantDomain);
+        }
+        return roleBasicInfo;
+    }
+
+    @Override
+    public Set<String> getSystemRoles() {
+
+        return roleDAO.getSystemRoles();
+    }
+
+    @Override
+    public int getRolesCount(String tenantDomain) throws IdentityRoleManagementException {
+
+        return roleDAO.getRolesCount(tenantDomain);
+    }
+
+    @Override
+    public int getRolesCount(List<ExpressionNode> expressionNodes, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        return roleDAO.getRolesCount(expressionNodes, tenantDomain);
+    }
+
+    @Override
+    public Role getRoleWithoutUsers(String roleId, String tenantDomain) throws IdentityRoleManagementException {
+
+        return roleDAO.getRoleWithoutUsers(roleId, tenantDomain);
+    }
+
+    @Override
+    public void addMainRoleToSharedRoleRelationship(String mainRoleUUID, String sharedRoleUUID,
+                                                    String mainRoleTenantDomain, String sharedRoleTenantDomain)
+            throws IdentityRoleManagementException {
+
+        roleDAO.addMainRoleToSharedRoleRelationship(mainRoleUUID, sharedRoleUUID, mainRoleTenantDomain,
+                sharedRoleTenantDomain);
+        permissionListOfRoleCache.clearCacheEntry(sharedRoleUUID, sharedRoleTenantDomain);
+    }
+
+    @Override
+    public List<RoleBasicInfo> getRoleListOfUser(String userId, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        return roleDAO.getRoleListOfUser(userId, tenantDomain);
+    }
+
+    @Override
+    public List<RoleBasicInfo> getRoleListOfGroups(List<String> groupIds, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        return roleDAO.getRoleListOfGroups(groupIds, tenantDomain);
+    }
+
+    @Override
+    public List<RoleBasicInfo> getRoleListOfIdpGroups(List<String> groupIds, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        return roleDAO.getRoleListOfIdpGroups(groupIds, tenantDomain);
+    }
+
+    @Override
+    public List<String> getRoleIdListOfUser(String userId, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        if (StringUtils.isBlank(userId)) {
+            return roleDAO.getRoleIdListOfUser(userId, tenantDomain);
+        }
+        ArrayList<String> roleIds = roleIdListOfUserCache.getValueFromCache(userId, tenantDomain);
+        if (roleIds == null) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Roles of the user: " + userId + " not found in cache for the tenant: " + tenantDomain);
+            }
+            roleIds = new ArrayList<>(roleDAO.getRoleIdListOfUser(userId, tenantDomain));
+            roleIdListOfUserCache.addToCache(userId, roleIds, tenantDomain);
+        }
+        return new ArrayList<>(roleIds);
+    }
+
+    @Override
+    public List<String> getRoleIdListOfGroups(List<String> groupIds, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        if (!isCacheableGroupIds(groupIds)) {
+            return roleDAO.getRoleIdListOfGroups(groupIds, tenantDomain);
+        }
+        RoleIdListOfGroupsCacheKey cacheKey = new RoleIdListOfGroupsCacheKey(groupIds, false);
+        ArrayList<String> roleIds = roleIdListOfGroupsCache.getValueFromCache(cacheKey, tenantDomain);
+        if (roleIds == null) {
+            roleIds = new ArrayList<>(roleDAO.getRoleIdListOfGroups(groupIds, tenantDomain));
+            roleIdListOfGroupsCache.addToCache(cacheKey, roleIds, tenantDomain);
+        }
+        return new ArrayList<>(roleIds);
+    }
+
+    @Override
+    public List<String> getRoleIdListOfIdpGroups(List<String> groupIds, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        if (!isCacheableGroupIds(groupIds)) {
+            return roleDAO.getRoleIdListOfIdpGroups(groupIds, tenantDomain);
+        }
+        RoleIdListOfGroupsCacheKey cacheKey = new RoleIdListOfGroupsCacheKey(groupIds, true);
+        ArrayList<String> roleIds = roleIdListOfGroupsCache.getValueFromCache(cacheKey, tenantDomain);
+        if (roleIds == null) {
+            roleIds = new ArrayList<>(roleDAO.getRoleIdListOfIdpGroups(groupIds, tenantDomain));
+            roleIdListOfGroupsCache.addToCache(cacheKey, roleIds, tenantDomain);
+        }
+        return new ArrayList<>(roleIds);
+    }
+
+    @Override
+    public void deleteRolesByApplication(String applicationId, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        roleDAO.deleteRolesByApplication(applicationId, tenantDomain);
+        roleBasicInfoCache.clear(tenantDomain);
+        permissionListOfRoleCache.clear(tenantDomain);
+        roleIdListOfUserCache.clear(tenantDomain);
+        roleIdListOfGroupsCache.clear(tenantDomain);
+    }
+
+    @Override
+    public Map<String, String> getMainRoleToSharedRoleMappingsBySubOrg(List<String> roleIds,
+                                                                       String subOrgTenantDomain)
+            throws IdentityRoleManagementException {
+
+        return roleDAO.getMainRoleToSharedRoleMappingsBySubOrg(roleIds, subOrgTenantDomain);
+    }
+
+    @Override
+    public Map<String, String> getSharedRoleToMainRoleMappingsBySubOrg(List<String> roleIds,
+                                                                       String subOrgTenantDomain)
+            throws IdentityRoleManagementException {
+
+        return roleDAO.getSharedRoleToMainRoleMappingsBySubOrg(roleIds, subOrgTenantDomain);
+    }
+
+    @Override
+    public List<String> getAssociatedApplicationIdsByRoleId(String roleId, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        return roleDAO.getAssociatedApplicationIdsByRoleId(roleId, tenantDomain);
+    }
+
+    @Override
+    public int getRoleAudienceRefId(String audience, String audienceId) throws IdentityRoleManagementException {
+
+        return roleDAO.getRoleAudienceRefId(audience, audienceId);
+    }
+
+    @Override
+    public List<RoleDTO> getSharedHybridRoles(String roleId, int tenantId) throws IdentityRoleManagementException {
+
+        return roleDAO.getSharedHybridRoles(roleId, tenantId);
+    }
+
+    @Override
+    public boolean isSharedRole(String roleId, String tenantDomain) throws IdentityRoleManagementException {
+
+        return roleDAO.isSharedRole(roleId, tenantDomain);
+    }
+
+    private boolean isOrganization(String tenantDomain) throws IdentityRoleManagementException {
+
+        try {
+            return OrganizationManagementUtil.isOrganization(tenantDomain);
+        } catch (OrganizationManagementException e) {
+            String errorMessage = "Error while checking is sub org by tenant domain: " + tenantDomain;
+            throw new IdentityRoleManagementServerException(UNEXPECTED_SERVER_ERROR.getCode(), errorMessage, e);
+        }
+    }
+
+    private List<RoleDTO> getSharedRoles(String roleId, String tenantDomain) throws IdentityRoleManagementException {
+
+        List<RoleDTO> sharedRoles = roleDAO.getSharedHybridRoles(roleId, IdentityTenantUtil.getTenantId(tenantDomain));
+        return sharedRoles != null ? sharedRoles : Collections.emptyList();
+    }
+
+    private void clearRoleCaches(String roleId, int tenantId) {
+
+        roleBasicInfoCache.clearCacheEntry(roleId, tenantId);
+        permissionListOfRoleCache.clearCacheEntry(roleId, tenantId);
+        // The users and groups of the deleted role are not known, hence the role IDs of all of them are cleared.
+        roleIdListOfUserCache.clear(tenantId);
+        roleIdListOfGroupsCache.clear(tenantId);
+    }
+
+    private void clearRoleIdListOfUsers(List<String> userIds, String tenantDomain) {
+
+        if (userIds == null) {
+            return;
+        }
+        for (String userId : userIds) {
+            if (StringUtils.isBlank(userId)) {
+                continue;
+            }
+            roleIdListOfUserCache.clearCacheEntry(userId, tenantDomain);
+        }
+    }
+
+    private boolean isCacheableGroupIds(List<String> groupIds) {
+
+        return CollectionUtils.isNotEmpty(groupIds) && !groupIds.contains(null);
+    }
+}
@@ -164,6 +164,20 @@ public interface RoleDAO {
     List<String> getPermissionListOfRoles(List<String> roleIds, String tenantDomain)
             throws IdentityRoleManagementException;
 
+    /**
+     * Get the permission names of each of the given role ids, which are not shared roles.
+     *
+     * @param roleIds      Role IDs.
+     * @param tenantDomain Tenant domain.
+     * @return Map of role ID to the permission names of the role. Roles without permissions are not included.
+     * @throws IdentityRoleManagementException IdentityRoleManagementException.
+     */
+    default Map<String, List<String>> getPermissionNamesOfRoles(List<String> roleIds, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        throw new NotImplementedException("getPermissionNamesOfRoles method is not implemented");
+    }
+
     /**
      * Get permission list of the given role.
      *
@@ -40,6 +40,7 @@ import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
+import org.wso2.carbon.identity.organization.management.service.model.BasicOrganization;
 import org.wso2.carbon.identity.organization.management.service.util.OrganizationManagementUtil;
 import org.wso2.carbon.identity.role.v2.mgt.core.FilterQueryBuilder;
 import org.wso2.carbon.identity.role.v2.mgt.core.RoleConstants;
@@ -184,6 +185,7 @@ import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_ROLE_
 import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_ROLE_LIST_OF_IDP_GROUPS_SQL;
 import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_ROLE_LIST_OF_USER_SQL;
 import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_ROLE_NAME_BY_ID_SQL;
+import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_ROLE_SCOPE_NAMES_BY_ROLE_IDS_SQL;
 import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_ROLE_SCOPE_NAMES_SQL;
 import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_ROLE_SCOPE_SQL;
 import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_ROLE_TENANT_DOMAIN_BY_ID;
@@ -611,6 +613,36 @@ public class RoleDAOImpl implements RoleDAO {
         return permissions;
     }
 
+    @Override
+    public Map<String, List<String>> getPermissionNamesOfRoles(List<String> roleIds, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        Map<String, List<String>> permissionsOfRoles = new HashMap<>();
+        if (CollectionUtils.isEmpty(roleIds)) {
+            return permissionsOfRoles;
+        }
+        String query = GET_ROLE_SCOPE_NAMES_BY_ROLE_IDS_SQL +
+                String.join(", ", Collections.nCopies(roleIds.size(), "?")) + ")";
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(false);
+             NamedPreparedStatement statement = new NamedPreparedStatement(connection, query)) {
+
+            for (int i = 0; i < roleIds.size(); i++) {
+                statement.setString(i + 1, roleIds.get(i));
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    permissionsOfRoles.computeIfAbsent(resultSet.getString(1), roleId -> new ArrayList<>())
+                            .add(resultSet.getString(2));
+                }
+            }
+        } catch (SQLException e) {
+            String errorMessage = "Error while retrieving permissions of the roles in the tenantDomain : " +
+                    tenantDomain;
+            throw new IdentityRoleManagementServerException(UNEXPECTED_SERVER_ERROR.getCode(), errorMessage, e);
+        }
+        return permissionsOfRoles;
+    }
+
     @Override
     public void updatePermissionListOfRole(String roleId, List<Permission> addedPermissions,
                                            List<Permission> deletedPermissions, String tenantDomain)
@@ -1103,10 +1135,10 @@ public class RoleDAOImpl implements RoleDAO {
                     RoleBasicInfo roleBasicInfo = new RoleBasicInfo(roleId, roleName);
                     roleBasicInfo.setAudience(audience);
                     roleBasicInfo.setAudienceId(audienceId);
-                    roleBasicInfo.setAudienceName(getAudienceName(audience, audienceId, tenantDomain));
                     roles.add(roleBasicInfo);
                 }
             }
+            setAudienceNames(roles);
             if (!isOrganization(tenantDomain)) {
                 roles.add(getEveryOneRole(tenantDomain));
             }
@@ -1215,7 +1247,6 @@ public class RoleDAOImpl implements RoleDAO {
                         RoleBasicInfo roleBasicInfo = new RoleBasicInfo(roleId, roleName);
                         roleBasicInfo.setAudience(audience);
                         roleBasicInfo.setAudienceId(audienceId);
-                        roleBasicInfo.setAudienceName(getAudienceName(audience, audienceId, tenantDomain));
                         roles.add(roleBasicInfo);
                     }
                 }
@@ -1226,9 +1257,11 @@ public class RoleDAOImpl implements RoleDAO {
                             + " and tenantDomain : " + tenantDomain;
             throw new IdentityRoleManagementServerException(UNEXPECTED_SERVER_ERROR.getCode(), errorMessage, e);
         }
-        return new ArrayList<>(roles.stream()
+        List<RoleBasicInfo> distinctRoles = new ArrayList<>(roles.stream()
                 .collect(Collectors.toMap(RoleBasicInfo::getId, role -> role, (existing, replacement) -> existing))
                 .values());
+        setAudienceNames(distinctRoles);
+        return distinctRoles;
     }
 
     @Override
@@ -1252,7 +1285,6 @@ public class RoleDAOImpl implements RoleDAO {
                         RoleBasicInfo roleBasicInfo = new RoleBasicInfo(roleId, roleName);
                         roleBasicInfo.setAudience(audience);
                         roleBasicInfo.setAudienceId(audienceId);
-                        roleBasicInfo.setAudienceName(getAudienceName(audience, audienceId, tenantDomain));
                         roles.add(roleBasicInfo);
                     }
                 }
@@ -1263,9 +1295,11 @@ public class RoleDAOImpl implements RoleDAO {
                             + " and tenantDomain : " + tenantDomain;
             throw new IdentityRoleManagementServerException(UNEXPECTED_SERVER_ERROR.getCode(), errorMessage, e);
         }
-        return new ArrayList<>(roles.stream()
+        List<RoleBasicInfo> distinctRoles = new ArrayList<>(roles.stream()
                 .collect(Collectors.toMap(RoleBasicInfo::getId, role -> role, (existing, replacement) -> existing))
                 .values());
+        setAudienceNames(distinctRoles);
+        return distinctRoles;
     }
 
     @Override
@@ -2400,6 +2434,63 @@ public class RoleDAOImpl implements RoleDAO {
         return null;
     }
 
+    /**
+     * Set the audience names of the given roles. The names of the organization audiences are resolved with a single
+     * lookup, instead of a lookup per role.
+     *
+     * @param roles Roles.
+     * @throws IdentityRoleManagementServerException IdentityRoleManagementServerException.
+     */
+    private void setAudienceNames(List<RoleBasicInfo> roles) throws IdentityRoleManagementServerException {
+
+        Set<String> organizationIds = new HashSet<>();
+        for (RoleBasicInfo role : roles) {
+            if (ORGANIZATION.equalsIgnoreCase(role.getAudience()) && role.getAudienceId() != null) {
+                organizationIds.add(role.getAudienceId());
+            }
+        }
+        Map<String, BasicOrganization> organizations = getOrganizations(organizationIds);
+        for (RoleBasicInfo role : roles) {
+            if (!ORGANIZATION.equalsIgnoreCase(role.getAudience())) {
+                continue;
+            }
+            BasicOrganization organization = organizations.get(role.getAudienceId());
+            if (organization != null) {
+                role.setAudienceName(organization.getName());
+            } else {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Returning an empty string as the organization name as the " +
+                            "name is not returned for the given id :" + role.getAudienceId());
+                }
+                role.setAudienceName(StringUtils.EMPTY);
+            }
+        }
+    }
+
+    /**
+     * Get basic details of the given organizations.
+     *
+     * @param organizationIds Organization IDs.
+     * @return Map of organization ID to the basic organization details.
+     * @throws IdentityRoleManagementServerException IdentityRoleManagementServerException.
+     */
+    private Map<String, BasicOrganization> getOrganizations(Set<String> organizationIds)
+            throws IdentityRoleManagementServerException {
+
+        if (organizationIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        try {
+            Map<String, BasicOrganization> organizations = RoleManagementServiceComponentHolder.getInstance()
+                    .getOrganizationManager().getBasicOrganizationDetailsByOrgIDs(new ArrayList<>(organizationIds));
+            return organizations != null ? organizations : Collections.emptyMap();
+        } catch (OrganizationManagementException e) {
+            String errorMessage = "Error while retrieving the organization names for the given ids: " +
+                    String.join(", ", organizationIds);
+            throw new IdentityRoleManagementServerException(UNEXPECTED_SERVER_ERROR.getCode(), errorMessage, e);
+        }
+    }
+
     /**
      * Get organization name.
      *
@@ -2713,11 +2804,10 @@ public class RoleDAOImpl implements RoleDAO {
             if (roleAudience != null) {
                 roleBasicInfo.setAudience(roleAudience.getAudience());
                 roleBasicInfo.setAudienceId(roleAudience.getAudienceId());
-                roleBasicInfo.setAudienceName(getAudienceName(roleAudience.getAudience(),
-                        roleAudience.getAudienceId(), tenantDomain));
             }
             roles.add(roleBasicInfo);
         }
+        setAudienceNames(roles);
         return roles;
     }
 
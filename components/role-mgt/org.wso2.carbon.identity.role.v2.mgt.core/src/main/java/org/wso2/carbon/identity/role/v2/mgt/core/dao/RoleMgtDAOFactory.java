@@ -29,7 +29,7 @@ public class RoleMgtDAOFactory {
 
     private RoleMgtDAOFactory() {
 
-        this.roleDAO = new RoleDAOImpl();
+        this.roleDAO = new CacheBackedRoleDAO(new RoleDAOImpl());
         this.groupDAO = new GroupDAOImpl();
     }
 
@@ -50,6 +50,9 @@ public class SQLQueries {
     public static final String GET_ROLE_SCOPE_NAMES_SQL = "SELECT NAME FROM ROLE_SCOPE INNER JOIN " +
             "SCOPE ON ROLE_SCOPE.SCOPE_ID = SCOPE.ID WHERE ROLE_ID =:ROLE_ID;";
 
+    public static final String GET_ROLE_SCOPE_NAMES_BY_ROLE_IDS_SQL = "SELECT ROLE_ID, NAME FROM ROLE_SCOPE INNER " +
+            "JOIN SCOPE ON ROLE_SCOPE.SCOPE_ID = SCOPE.ID WHERE ROLE_ID IN (";
+
     public static final String GET_SCOPE_BY_ROLES_SQL = "SELECT NAME FROM ROLE_SCOPE INNER JOIN SCOPE ON " +
             "ROLE_SCOPE.SCOPE_ID = SCOPE.ID WHERE ROLE_ID IN (";
 
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.role.v2.mgt.core.internal;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.bean.context.MessageContext;
+import org.wso2.carbon.identity.event.IdentityEventConstants;
+import org.wso2.carbon.identity.event.IdentityEventException;
+import org.wso2.carbon.identity.event.bean.IdentityEventMessageContext;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.PermissionListOfRoleCache;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Event handler which clears the cached permissions of roles, when the scopes assigned to the roles are removed
+ * through the API resource management, which cascades the removal to the role permissions in the database.
+ * <p>
+ * The handler decides on the events it handles by itself, instead of the subscriptions in identity-event.properties,
+ * as the permissions of roles must not be served from the cache after their scopes are removed.
+ */
+public class RoleMgtAPIResourceEventHandler extends AbstractEventHandler {
+
+    private static final Log log = LogFactory.getLog(RoleMgtAPIResourceEventHandler.class);
+    private static final String HANDLER_NAME = "roleMgtAPIResourceEventHandler";
+    private static final Set<String> HANDLED_EVENTS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            IdentityEventConstants.Event.POST_DELETE_API_RESOURCE,
+            IdentityEventConstants.Event.POST_UPDATE_API_RESOURCE,
+            IdentityEventConstants.Event.POST_DELETE_API_RESOURCE_SCOPES,
+            IdentityEventConstants.Event.POST_DELETE_SCOPE,
+            IdentityEventConstants.Event.POST_PUT_API_RESOURCE_SCOPES)));
+
+    @Override
+    public String getName() {
+
+        return HANDLER_NAME;
+    }
+
+    @Override
+    public boolean canHandle(MessageContext messageContext) {
+
+        Event event = ((IdentityEventMessageContext) messageContext).getEvent();
+        return event != null && HANDLED_EVENTS.contains(event.getEventName());
+    }
+
+    @Override
+    public boolean isAssociationAsync(String eventName) {
+
+        return false;
+    }
+
+    @Override
+    public void handleEvent(Event event) throws IdentityEventException {
+
+        String tenantDomain =
+                (String) event.getEventProperties().get(IdentityEventConstants.EventProperty.TENANT_DOMAIN);
+        if (StringUtils.isBlank(tenantDomain)) {
+            return;
+        }
+        // The roles of the removed scopes are not known, hence the permissions of all the roles are cleared.
+        PermissionListOfRoleCache.getInstance().clear(tenantDomain);
+        if (log.isDebugEnabled()) {
+            log.debug("Cleared the permissions of roles in the tenant: " + tenantDomain + " on the event: " +
+                    event.getEventName());
+        }
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.role.v2.mgt.core.internal;
+
+import org.apache.commons.lang.ArrayUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.AbstractIdentityUserOperationEventListener;
+import org.wso2.carbon.identity.core.util.IdentityCoreConstants;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.PermissionListOfRoleCache;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RoleBasicInfoCache;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RoleIdListOfGroupsCache;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RoleIdListOfUserCache;
+import org.wso2.carbon.user.api.Permission;
+import org.wso2.carbon.user.core.UserStoreException;
+import org.wso2.carbon.user.core.UserStoreManager;
+import org.wso2.carbon.user.core.common.AbstractUserStoreManager;
+
+import java.util.Map;
+
+/**
+ * User operation event listener which clears the cached role assignments, when the roles are assigned or deleted
+ * through the user store instead of the role management service.
+ */
+public class RoleMgtUserStoreListener extends AbstractIdentityUserOperationEventListener {
+
+    private static final Log log = LogFactory.getLog(RoleMgtUserStoreListener.class);
+
+    @Override
+    public int getExecutionOrderId() {
+
+        int orderId = getOrderId();
+        if (orderId != IdentityCoreConstants.EVENT_LISTENER_ORDER_ID) {
+            return orderId;
+        }
+        return 25;
+    }
+
+    @Override
+    public boolean doPostAddUser(String userName, Object credential, String[] roleList, Map<String, String> claims,
+                                 String profile, UserStoreManager userStoreManager) throws UserStoreException {
+
+        if (isEnable() && ArrayUtils.isNotEmpty(roleList)) {
+            clearRoleAssignmentsOfUser(userName, userStoreManager);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean doPostAddRole(String roleName, String[] userList, Permission[] permissions,
+                                 UserStoreManager userStoreManager) throws UserStoreException {
+
+        if (isEnable() && ArrayUtils.isNotEmpty(userList)) {
+            clearRoleAssignments(userStoreManager);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean doPostAddInternalRole(String roleName, String[] userList, Permission[] permissions,
+                                         UserStoreManager userStoreManager) throws UserStoreException {
+
+        if (isEnable() && ArrayUtils.isNotEmpty(userList)) {
+            clearRoleAssignments(userStoreManager);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean doPostUpdateRoleListOfUser(String userName, String[] deletedRoles, String[] newRoles,
+                                              UserStoreManager userStoreManager) throws UserStoreException {
+
+        if (isEnable()) {
+            clearRoleAssignments(userStoreManager);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean doPostUpdateUserListOfRole(String roleName, String[] deletedUsers, String[] newUsers,
+                                              UserStoreManager userStoreManager) throws UserStoreException {
+
+        if (isEnable()) {
+            clearRoleAssignments(userStoreManager);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean doPostUpdateUserListOfInternalRole(String roleName, String[] deletedUsers, String[] newUsers,
+                                                      UserStoreManager userStoreManager) throws UserStoreException {
+
+        if (isEnable()) {
+            clearRoleAssignments(userStoreManager);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean doPostUpdateRoleName(String roleName, String newRoleName, UserStoreManager userStoreManager)
+            throws UserStoreException {
+
+        if (isEnable()) {
+            RoleBasicInfoCache.getInstance().clear(userStoreManager.getTenantId());
+        }
+        return true;
+    }
+
+    @Override
+    public boolean doPostDeleteRole(String roleName, UserStoreManager userStoreManager) throws UserStoreException {
+
+        if (isEnable()) {
+            int tenantId = userStoreManager.getTenantId();
+            RoleBasicInfoCache.getInstance().clear(tenantId);
+            PermissionListOfRoleCache.getInstance().clear(tenantId);
+            clearRoleAssignments(userStoreManager);
+        }
+        return true;
+    }
+
+    /**
+     * Clear the cached role IDs of the given user. The role IDs of the groups don't change when a user is added to
+     * them, hence they are kept.
+     *
+     * @param userName         Name of the user.
+     * @param userStoreManager User store manager.
+     * @throws UserStoreException If an error occurs while resolving the user ID.
+     */
+    private void clearRoleAssignmentsOfUser(String userName, UserStoreManager userStoreManager)
+            throws UserStoreException {
+
+        if (!(userStoreManager instanceof AbstractUserStoreManager)) {
+            clearRoleAssignments(userStoreManager);
+            return;
+        }
+        String userId = ((AbstractUserStoreManager) userStoreManager).getUserIDFromUserName(userName);
+        if (userId == null) {
+            return;
+        }
+        int tenantId = userStoreManager.getTenantId();
+        if (log.isDebugEnabled()) {
+            log.debug("Clearing the cached role assignments of the user: " + userId + " of the tenant: " + tenantId);
+        }
+        RoleIdListOfUserCache.getInstance().clearCacheEntry(userId, tenantId);
+    }
+
+    /**
+     * Clear the cached role IDs of the users and groups of the tenant, as the user store events carry the names of
+     * the users and roles instead of their IDs.
+     *
+     * @param userStoreManager User store manager.
+     * @throws UserStoreException If an error occurs while resolving the tenant.
+     */
+    private void clearRoleAssignments(UserStoreManager userStoreManager) throws UserStoreException {
+
+        int tenantId = userStoreManager.getTenantId();
+        if (log.isDebugEnabled()) {
+            log.debug("Clearing the cached role assignments of the tenant: " + tenantId);
+        }
+        RoleIdListOfUserCache.getInstance().clear(tenantId);
+        RoleIdListOfGroupsCache.getInstance().clear(tenantId);
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.role.v2.mgt.core.dao;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.common.testng.WithCarbonHome;
+import org.wso2.carbon.identity.common.testng.WithRealmService;
+import org.wso2.carbon.identity.core.internal.component.IdentityCoreServiceDataHolder;
+import org.wso2.carbon.identity.event.IdentityEventConstants;
+import org.wso2.carbon.identity.event.bean.IdentityEventMessageContext;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.organization.management.service.util.OrganizationManagementUtil;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.PermissionListOfRoleCache;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RoleBasicInfoCache;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RoleIdListOfGroupsCache;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RoleIdListOfUserCache;
+import org.wso2.carbon.identity.role.v2.mgt.core.internal.RoleMgtAPIResourceEventHandler;
+import org.wso2.carbon.identity.role.v2.mgt.core.model.RoleBasicInfo;
+import org.wso2.carbon.identity.role.v2.mgt.core.model.RoleDTO;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test class for CacheBackedRoleDAO test cases.
+ */
+@WithCarbonHome
+@WithRealmService(injectToSingletons = {IdentityCoreServiceDataHolder.class})
+public class CacheBackedRoleDAOTest {
+
+    private static final String TENANT_DOMAIN = "carbon.super";
+    private static final int TENANT_ID = -1234;
+    private static final String USER_ID = "user-id";
+    private static final String ROLE_ID_1 = "role-id-1";
+    private static final String ROLE_ID_2 = "role-id-2";
+    private static final String ROLE_ID_3 = "role-id-3";
+
+    private RoleDAO roleDAO;
+    private CacheBackedRoleDAO cacheBackedRoleDAO;
+
+    private MockedStatic<OrganizationManagementUtil> organizationManagementUtil;
+
+    @BeforeMethod
+    public void setUp() {
+
+        RoleBasicInfoCache.getInstance().clear(TENANT_ID);
+        RoleIdListOfUserCache.getInstance().clear(TENANT_ID);
+        RoleIdListOfGroupsCache.getInstance().clear(TENANT_ID);
+        PermissionListOfRoleCache.getInstance().clear(TENANT_ID);
+        roleDAO = mock(RoleDAO.class);
+        cacheBackedRoleDAO = new CacheBackedRoleDAO(roleDAO);
+        organizationManagementUtil = mockStatic(OrganizationManagementUtil.class);
+        organizationManagementUtil.when(() -> OrganizationManagementUtil.isOrganization(anyString())).thenReturn(false);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        organizationManagementUtil.close();
+    }
+
+    @Test
+    public void testGetRoleIdListOfUser() throws Exception {
+
+        when(roleDAO.getRoleIdListOfUser(USER_ID, TENANT_DOMAIN)).thenReturn(Arrays.asList(ROLE_ID_1, ROLE_ID_2));
+
+        List<String> roleIds = cacheBackedRoleDAO.getRoleIdListOfUser(USER_ID, TENANT_DOMAIN);
+        // Modifying the returned role IDs must not modify the cached role IDs.
+        roleIds.clear();
+
+        assertEquals(cacheBackedRoleDAO.getRoleIdListOfUser(USER_ID, TENANT_DOMAIN),
+                Arrays.asList(ROLE_ID_1, ROLE_ID_2));
+        verify(roleDAO, times(1)).getRoleIdListOfUser(USER_ID, TENANT_DOMAIN);
+    }
+
+    @Test
+    public void testUpdateUserListOfRoleClearsRoleIdListOfUser() throws Exception {
+
+        when(roleDAO.getRoleIdListOfUser(USER_ID, TENANT_DOMAIN)).thenReturn(Collections.singletonList(ROLE_ID_1));
+        cacheBackedRoleDAO.getRoleIdListOfUser(USER_ID, TENANT_DOMAIN);
+
+        cacheBackedRoleDAO.updateUserListOfRole(ROLE_ID_2, Collections.singletonList(USER_ID), new ArrayList<>(),
+                TENANT_DOMAIN);
+        when(roleDAO.getRoleIdListOfUser(USER_ID, TENANT_DOMAIN)).thenReturn(Arrays.asList(ROLE_ID_1, ROLE_ID_2));
+
+        assertEquals(cacheBackedRoleDAO.getRoleIdListOfUser(USER_ID, TENANT_DOMAIN),
+                Arrays.asList(ROLE_ID_1, ROLE_ID_2));
+        verify(roleDAO, times(2)).getRoleIdListOfUser(USER_ID, TENANT_DOMAIN);
+    }
+
+    @Test
+    public void testGetRoleIdListOfGroups() throws Exception {
+
+        List<String> groupIds = Arrays.asList("group-id-1", "group-id-2");
+        when(roleDAO.getRoleIdListOfGroups(groupIds, TENANT_DOMAIN)).thenReturn(Collections.singletonList(ROLE_ID_1));
+
+        cacheBackedRoleDAO.getRoleIdListOfGroups(groupIds, TENANT_DOMAIN);
+        // The same set of groups in a different order is served from the cache.
+        assertEquals(cacheBackedRoleDAO.getRoleIdListOfGroups(Arrays.asList("group-id-2", "group-id-1"),
+                TENANT_DOMAIN), Collections.singletonList(ROLE_ID_1));
+        verify(roleDAO, times(1)).getRoleIdListOfGroups(groupIds, TENANT_DOMAIN);
+
+        cacheBackedRoleDAO.updateGroupListOfRole(ROLE_ID_2, groupIds, new ArrayList<>(), TENANT_DOMAIN);
+        cacheBackedRoleDAO.getRoleIdListOfGroups(groupIds, TENANT_DOMAIN);
+        verify(roleDAO, times(2)).getRoleIdListOfGroups(groupIds, TENANT_DOMAIN);
+    }
+
+    @Test
+    public void testGetPermissionListOfRoles() throws Exception {
+
+        when(roleDAO.getPermissionNamesOfRoles(Arrays.asList(ROLE_ID_1, ROLE_ID_2), TENANT_DOMAIN))
+                .thenReturn(permissionsOfRoles(ROLE_ID_1, Arrays.asList("read", "write"), ROLE_ID_2,
+                        Collections.singletonList("write")));
+        when(roleDAO.getPermissionNamesOfRoles(Collections.singletonList(ROLE_ID_3), TENANT_DOMAIN))
+                .thenReturn(new HashMap<>());
+
+        assertEquals(cacheBackedRoleDAO.getPermissionListOfRoles(Arrays.asList(ROLE_ID_1, ROLE_ID_2), TENANT_DOMAIN),
+                Arrays.asList("read", "write"));
+        assertEquals(cacheBackedRoleDAO.getPermissionListOfRoles(Arrays.asList(ROLE_ID_2, ROLE_ID_3), TENANT_DOMAIN),
+                Collections.singletonList("write"));
+        assertEquals(cacheBackedRoleDAO.getPermissionListOfRoles(Collections.singletonList(ROLE_ID_3), TENANT_DOMAIN),
+                Collections.emptyList());
+
+        // The permissions of the roles which are not in the cache are retrieved at once, including the roles
+        // without permissions.
+        verify(roleDAO, times(1)).getPermissionNamesOfRoles(Arrays.asList(ROLE_ID_1, ROLE_ID_2), TENANT_DOMAIN);
+        verify(roleDAO, times(1)).getPermissionNamesOfRoles(Collections.singletonList(ROLE_ID_3), TENANT_DOMAIN);
+    }
+
+    @Test
+    public void testGetPermissionListOfRolesInOrganization() throws Exception {
+
+        organizationManagementUtil.when(() -> OrganizationManagementUtil.isOrganization(TENANT_DOMAIN))
+                .thenReturn(true);
+        when(roleDAO.getPermissionListOfRoles(Collections.singletonList(ROLE_ID_1), TENANT_DOMAIN))
+                .thenReturn(Collections.singletonList("read"));
+
+        cacheBackedRoleDAO.getPermissionListOfRoles(Collections.singletonList(ROLE_ID_1), TENANT_DOMAIN);
+        cacheBackedRoleDAO.getPermissionListOfRoles(Collections.singletonList(ROLE_ID_1), TENANT_DOMAIN);
+
+        // Shared roles inherit the permissions of the parent organization, hence they are not cached.
+        verify(roleDAO, times(2)).getPermissionListOfRoles(Collections.singletonList(ROLE_ID_1), TENANT_DOMAIN);
+        verify(roleDAO, never()).getPermissionNamesOfRoles(anyList(), anyString());
+    }
+
+    @Test
+    public void testUpdatePermissionListOfRoleClearsSharedRoles() throws Exception {
+
+        when(roleDAO.getPermissionNamesOfRoles(anyList(), anyString())).thenReturn(permissionsOfRoles(
+                ROLE_ID_1, Collections.singletonList("read"), ROLE_ID_2, Collections.singletonList("read")));
+        when(roleDAO.getSharedHybridRoles(anyString(), anyInt())).thenReturn(
+                Collections.singletonList(new RoleDTO("role", ROLE_ID_2, 1, TENANT_ID)));
+        cacheBackedRoleDAO.getPermissionListOfRoles(Arrays.asList(ROLE_ID_1, ROLE_ID_2), TENANT_DOMAIN);
+
+        cacheBackedRoleDAO.updatePermissionListOfRole(ROLE_ID_1, new ArrayList<>(), new ArrayList<>(),
+                TENANT_DOMAIN);
+        cacheBackedRoleDAO.getPermissionListOfRoles(Arrays.asList(ROLE_ID_1, ROLE_ID_2), TENANT_DOMAIN);
+
+        verify(roleDAO, times(2)).getPermissionNamesOfRoles(Arrays.asList(ROLE_ID_1, ROLE_ID_2), TENANT_DOMAIN);
+    }
+
+    @Test
+    public void testAPIResourceScopeDeletionClearsPermissionsOfRoles() throws Exception {
+
+        when(roleDAO.getPermissionNamesOfRoles(Collections.singletonList(ROLE_ID_1), TENANT_DOMAIN))
+                .thenReturn(Collections.singletonMap(ROLE_ID_1, Collections.singletonList("read")));
+        cacheBackedRoleDAO.getPermissionListOfRoles(Collections.singletonList(ROLE_ID_1), TENANT_DOMAIN);
+
+        RoleMgtAPIResourceEventHandler eventHandler = new RoleMgtAPIResourceEventHandler();
+        Map<String, Object> eventProperties = new HashMap<>();
+        eventProperties.put(IdentityEventConstants.EventProperty.TENANT_DOMAIN, TENANT_DOMAIN);
+        Event event = new Event(IdentityEventConstants.Event.POST_DELETE_SCOPE, eventProperties);
+        assertTrue(eventHandler.canHandle(new IdentityEventMessageContext(event)));
+        eventHandler.handleEvent(event);
+
+        when(roleDAO.getPermissionNamesOfRoles(Collections.singletonList(ROLE_ID_1), TENANT_DOMAIN))
+                .thenReturn(new HashMap<>());
+        assertEquals(cacheBackedRoleDAO.getPermissionListOfRoles(Collections.singletonList(ROLE_ID_1),
+                TENANT_DOMAIN), Collections.emptyList());
+    }
+
+    @Test
+    public void testGetRoleBasicInfoById() throws Exception {
+
+        RoleBasicInfo roleBasicInfo = new RoleBasicInfo(ROLE_ID_1, "role");
+        roleBasicInfo.setAudience("organization");
+        when(roleDAO.getRoleBasicInfoById(ROLE_ID_1, TENANT_DOMAIN)).thenReturn(roleBasicInfo);
+
+        cacheBackedRoleDAO.getRoleBasicInfoById(ROLE_ID_1, TENANT_DOMAIN);
+        RoleBasicInfo cachedRoleBasicInfo = cacheBackedRoleDAO.getRoleBasicInfoById(ROLE_ID_1, TENANT_DOMAIN);
+        assertEquals(cachedRoleBasicInfo.getName(), "role");
+        assertEquals(cachedRoleBasicInfo.getAudience(), "organization");
+        verify(roleDAO, times(1)).getRoleBasicInfoById(ROLE_ID_1, TENANT_DOMAIN);
+
+        cacheBackedRoleDAO.updateRoleName(ROLE_ID_1, "new-role", TENANT_DOMAIN);
+        cacheBackedRoleDAO.getRoleBasicInfoById(ROLE_ID_1, TENANT_DOMAIN);
+        verify(roleDAO, times(2)).getRoleBasicInfoById(ROLE_ID_1, TENANT_DOMAIN);
+    }
+
+    private Map<String, List<String>> permissionsOfRoles(String roleId1, List<String> permissionsOfRole1,
+                                                         String roleId2, List<String> permissionsOfRole2) {
+
+        Map<String, List<String>> permissionsOfRoles = new HashMap<>();
+        permissionsOfRoles.put(roleId1, permissionsOfRole1);
+        permissionsOfRoles.put(roleId2, permissionsOfRole2);
+        return permissionsOfRoles;
+    }
+}
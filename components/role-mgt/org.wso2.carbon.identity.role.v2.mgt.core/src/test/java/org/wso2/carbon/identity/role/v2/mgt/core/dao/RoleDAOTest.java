@@ -79,6 +79,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -583,6 +584,29 @@ public class RoleDAOTest {
         Assert.assertEquals(rolePermissions, getPermissionNameList(permissions));
     }
 
+    @Test
+    public void testGetPermissionNamesOfRoles() throws Exception {
+
+        RoleDAOImpl roleDAO = spy(new RoleDAOImpl());
+        mockCacheClearing(roleDAO);
+        identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getUserDBConnection(anyBoolean()))
+                .thenAnswer(invocation -> getConnection());
+        identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean()))
+                .thenAnswer(invocation -> getConnection());
+        identityUtil.when(IdentityUtil::getPrimaryDomainName).thenReturn(USER_DOMAIN_PRIMARY);
+        identityUtil.when(() -> IdentityUtil.extractDomainFromName(anyString())).thenCallRealMethod();
+        identityTenantUtil.when(() -> IdentityTenantUtil.getTenantId(anyString())).thenReturn(SAMPLE_TENANT_ID);
+        userCoreUtil.when(() -> UserCoreUtil.isEveryoneRole(anyString(), any(RealmConfiguration.class)))
+                .thenReturn(false);
+        userCoreUtil.when(() -> UserCoreUtil.removeDomainFromName(anyString())).thenCallRealMethod();
+        RoleBasicInfo role = addRole(roleNamesList.get(0), APPLICATION_AUD, SAMPLE_APP_ID, roleDAO);
+        Map<String, List<String>> rolePermissions = roleDAO.getPermissionNamesOfRoles(
+                Arrays.asList(role.getId(), "non-existing-role-id"), SAMPLE_TENANT_DOMAIN);
+        Assert.assertEquals(rolePermissions.size(), 1);
+        Assert.assertEquals(new HashSet<>(rolePermissions.get(role.getId())),
+                new HashSet<>(getPermissionNameList(permissions)));
+    }
+
     @Test
     public void testGetPermissionListOfSharedRolesInSubOrganization() throws Exception {
 
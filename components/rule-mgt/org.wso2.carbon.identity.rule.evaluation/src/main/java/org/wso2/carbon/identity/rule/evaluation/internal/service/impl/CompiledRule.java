@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.rule.evaluation.internal.service.impl;
+
+import org.wso2.carbon.identity.rule.evaluation.api.exception.RuleEvaluationException;
+import org.wso2.carbon.identity.rule.evaluation.api.model.Field;
+import org.wso2.carbon.identity.rule.evaluation.api.model.FieldValue;
+import org.wso2.carbon.identity.rule.evaluation.api.model.FlowType;
+import org.wso2.carbon.identity.rule.management.api.model.Rule;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compiled form of a rule.
+ * This class holds an immutable predicate tree built from a rule, along with the fields used in the rule, so that the
+ * rule can be evaluated without interpreting it again.
+ */
+public class CompiledRule {
+
+    private final Rule sourceRule;
+    private final FlowType flowType;
+    private final List<Field> fields;
+    private final RulePredicate predicate;
+
+    CompiledRule(Rule sourceRule, FlowType flowType, List<Field> fields, RulePredicate predicate) {
+
+        this.sourceRule = sourceRule;
+        this.flowType = flowType;
+        this.fields = Collections.unmodifiableList(fields);
+        this.predicate = predicate;
+    }
+
+    /**
+     * Check whether this compiled rule is built from the given rule for the given flow.
+     * Rules are cached by the rule management service, and a new rule instance is returned once the rule is updated,
+     * hence the rule instance identifies the version of the rule.
+     *
+     * @param rule     Rule.
+     * @param flowType Flow type.
+     * @return True if the compiled rule is up to date.
+     */
+    public boolean isCompiledFrom(Rule rule, FlowType flowType) {
+
+        return sourceRule == rule && this.flowType == flowType;
+    }
+
+    /**
+     * Get the unique fields used in the rule.
+     *
+     * @return Fields used in the rule.
+     */
+    public List<Field> getFields() {
+
+        return fields;
+    }
+
+    /**
+     * Evaluate the rule.
+     *
+     * @param evaluationData Evaluation data.
+     * @return Evaluation result.
+     * @throws RuleEvaluationException If an error occurs while evaluating the rule.
+     */
+    public boolean evaluate(Map<String, FieldValue> evaluationData) throws RuleEvaluationException {
+
+        return predicate.test(evaluationData);
+    }
+
+    /**
+     * Predicate of a node in the compiled rule.
+     */
+    @FunctionalInterface
+    interface RulePredicate {
+
+        boolean test(Map<String, FieldValue> evaluationData) throws RuleEvaluationException;
+    }
+}
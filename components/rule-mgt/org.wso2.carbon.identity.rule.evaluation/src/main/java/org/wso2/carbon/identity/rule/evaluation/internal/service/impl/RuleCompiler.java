@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.rule.evaluation.internal.service.impl;
+
+import org.wso2.carbon.identity.rule.evaluation.api.exception.RuleEvaluationException;
+import org.wso2.carbon.identity.rule.evaluation.api.model.Field;
+import org.wso2.carbon.identity.rule.evaluation.api.model.FieldValue;
+import org.wso2.carbon.identity.rule.evaluation.api.model.FlowType;
+import org.wso2.carbon.identity.rule.evaluation.api.model.Operator;
+import org.wso2.carbon.identity.rule.evaluation.api.model.ValueType;
+import org.wso2.carbon.identity.rule.management.api.model.ANDCombinedRule;
+import org.wso2.carbon.identity.rule.management.api.model.Expression;
+import org.wso2.carbon.identity.rule.management.api.model.ORCombinedRule;
+import org.wso2.carbon.identity.rule.management.api.model.Rule;
+
+import java.util.List;
+
+import static org.wso2.carbon.identity.rule.evaluation.api.model.ValueType.BOOLEAN;
+import static org.wso2.carbon.identity.rule.evaluation.api.model.ValueType.LIST;
+import static org.wso2.carbon.identity.rule.evaluation.api.model.ValueType.NUMBER;
+import static org.wso2.carbon.identity.rule.evaluation.api.model.ValueType.REFERENCE;
+import static org.wso2.carbon.identity.rule.evaluation.api.model.ValueType.STRING;
+
+/**
+ * Compiles a rule into an immutable predicate tree.
+ * Operators are resolved and the expression values are parsed to the typed values once, at compile time, instead of
+ * on each evaluation as done by the {@link RuleEvaluator}.
+ */
+public class RuleCompiler {
+
+    // Operators
+    private static final String EQUALS = "equals";
+    private static final String NOT_EQUALS = "notEquals";
+
+    private final OperatorRegistry operatorRegistry;
+
+    public RuleCompiler(OperatorRegistry operatorRegistry) {
+
+        this.operatorRegistry = operatorRegistry;
+    }
+
+    /**
+     * Compile a given rule.
+     *
+     * @param rule     Rule to compile.
+     * @param flowType Flow type the rule is evaluated for.
+     * @param fields   Unique fields used in the rule.
+     * @return Compiled rule.
+     * @throws RuleEvaluationException If the rule contains an unsupported operator.
+     */
+    public CompiledRule compile(Rule rule, FlowType flowType, List<Field> fields) throws RuleEvaluationException {
+
+        return new CompiledRule(rule, flowType, fields, compileORCombinedRule((ORCombinedRule) rule));
+    }
+
+    private CompiledRule.RulePredicate compileORCombinedRule(ORCombinedRule orRule) throws RuleEvaluationException {
+
+        List<ANDCombinedRule> andRules = orRule.getRules();
+        CompiledRule.RulePredicate[] andPredicates = new CompiledRule.RulePredicate[andRules.size()];
+        for (int i = 0; i < andPredicates.length; i++) {
+            andPredicates[i] = compileANDCombinedRule(andRules.get(i));
+        }
+
+        return evaluationData -> {
+            for (CompiledRule.RulePredicate andPredicate : andPredicates) {
+                if (andPredicate.test(evaluationData)) {
+                    return true; // If any ANDCombinedRule evaluates to true, the ORCombinedRule passes
+                }
+            }
+            return false; // If none of the ANDCombinedRules pass, the ORCombinedRule fails
+        };
+    }
+
+    private CompiledRule.RulePredicate compileANDCombinedRule(ANDCombinedRule andRule)
+            throws RuleEvaluationException {
+
+        List<Expression> expressions = andRule.getExpressions();
+        CompiledRule.RulePredicate[] expressionPredicates = new CompiledRule.RulePredicate[expressions.size()];
+        for (int i = 0; i < expressionPredicates.length; i++) {
+            expressionPredicates[i] = compileExpression(expressions.get(i));
+        }
+
+        return evaluationData -> {
+            for (CompiledRule.RulePredicate expressionPredicate : expressionPredicates) {
+                if (!expressionPredicate.test(evaluationData)) {
+                    return false; // If any expression fails, the ANDCombinedRule fails
+                }
+            }
+            return true; // All expressions passed, the ANDCombinedRule passes
+        };
+    }
+
+    private CompiledRule.RulePredicate compileExpression(Expression expression) throws RuleEvaluationException {
+
+        String field = expression.getField();
+        Operator operator = operatorRegistry.getOperator(expression.getOperator());
+        if (operator == null) {
+            throw new RuleEvaluationException("Unsupported operator: " + expression.getOperator() + " for the field: "
+                    + field);
+        }
+
+        String stringValue = expression.getValue().getFieldValue();
+        Boolean booleanValue = Boolean.parseBoolean(stringValue);
+        Double numberValue = parseNumber(stringValue);
+        Boolean listContainsResult = resolveListContainsResult(operator);
+
+        return evaluationData -> {
+            FieldValue fieldValue = evaluationData.get(field);
+            if (fieldValue == null) {
+                throw new RuleEvaluationException("Field value not found for the field: " + field);
+            }
+
+            // Evaluate based on the value type of the field
+            ValueType valueType = fieldValue.getValueType();
+            if (valueType == STRING || valueType == REFERENCE) {
+                return operator.apply(fieldValue.getValue(), stringValue);
+            } else if (valueType == BOOLEAN) {
+                return operator.apply(fieldValue.getValue(), booleanValue);
+            } else if (valueType == NUMBER) {
+                if (numberValue == null) {
+                    throw new RuleEvaluationException("Invalid number value: " + stringValue + " for the field: "
+                            + field);
+                }
+                return operator.apply(fieldValue.getValue(), numberValue);
+            } else if (valueType == LIST) {
+                if (listContainsResult == null) {
+                    throw new IllegalStateException("Unsupported operator: " + operator.getName() +
+                            " for LIST value type");
+                }
+                return ((List<?>) fieldValue.getValue()).contains(stringValue) == listContainsResult;
+            }
+
+            throw new IllegalStateException("Unsupported value type: " + valueType);
+        };
+    }
+
+    private Boolean resolveListContainsResult(Operator operator) {
+
+        if (operator.getName().equals(EQUALS)) {
+            return true;
+        } else if (operator.getName().equals(NOT_EQUALS)) {
+            return false;
+        }
+        return null;
+    }
+
+    private Double parseNumber(String value) {
+
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException | NullPointerException e) {
+            // The value is not used as a number unless the field resolves to a number.
+            return null;
+        }
+    }
+}
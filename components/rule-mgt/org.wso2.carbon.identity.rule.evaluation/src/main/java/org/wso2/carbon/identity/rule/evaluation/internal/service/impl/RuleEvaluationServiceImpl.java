@@ -37,6 +37,7 @@ import org.wso2.carbon.identity.rule.metadata.api.model.FieldDefinition;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -45,6 +46,10 @@ import java.util.stream.Collectors;
 public class RuleEvaluationServiceImpl implements RuleEvaluationService {
 
     private static final Log LOG = LogFactory.getLog(RuleEvaluationServiceImpl.class);
+    private static final int MAX_COMPILED_RULES_PER_TENANT = 1000;
+
+    // Compiled rules keyed by the tenant domain and the rule id.
+    private final Map<String, Map<String, CompiledRule>> compiledRules = new ConcurrentHashMap<>();
 
     @Override
     public RuleEvaluationResult evaluate(String ruleId, FlowContext flowContext, String tenantDomain)
@@ -59,21 +64,42 @@ public class RuleEvaluationServiceImpl implements RuleEvaluationService {
 
         LOG.debug("Starting to evaluate rule: " + rule.getId() + ".");
 
-        FieldExtractor fieldExtractor =
-                new FieldExtractor(getRuleMetaFromRuleMetadataService(flowContext.getFlowType(), tenantDomain));
-        List<Field> fieldsInRule = fieldExtractor.extractFields(rule);
+        CompiledRule compiledRule = getCompiledRule(rule, flowContext.getFlowType(), tenantDomain);
 
         Map<String, FieldValue> evaluationData =
-                getEvaluationData(ruleId, flowContext, tenantDomain, fieldsInRule);
+                getEvaluationData(ruleId, flowContext, tenantDomain, compiledRule.getFields());
 
-        RuleEvaluator ruleEvaluator = new RuleEvaluator(RuleEvaluationComponentServiceHolder.getInstance()
-                .getOperatorRegistry());
-        boolean evaluationStatus = ruleEvaluator.evaluate(rule, evaluationData);
+        boolean evaluationStatus = compiledRule.evaluate(evaluationData);
         LOG.debug("Evaluated rule: " + rule.getId() + " to: " + evaluationStatus + ".");
 
         return new RuleEvaluationResult(ruleId, evaluationStatus);
     }
 
+    private CompiledRule getCompiledRule(Rule rule, FlowType flowType, String tenantDomain)
+            throws RuleEvaluationException {
+
+        Map<String, CompiledRule> tenantCompiledRules =
+                compiledRules.computeIfAbsent(tenantDomain, key -> new ConcurrentHashMap<>());
+        CompiledRule compiledRule = tenantCompiledRules.get(rule.getId());
+        if (compiledRule != null && compiledRule.isCompiledFrom(rule, flowType)) {
+            return compiledRule;
+        }
+
+        LOG.debug("Compiling rule: " + rule.getId() + ".");
+        FieldExtractor fieldExtractor =
+                new FieldExtractor(getRuleMetaFromRuleMetadataService(flowType, tenantDomain));
+        List<Field> fieldsInRule = fieldExtractor.extractFields(rule);
+        compiledRule = new RuleCompiler(RuleEvaluationComponentServiceHolder.getInstance().getOperatorRegistry())
+                .compile(rule, flowType, fieldsInRule);
+
+        // Compiled rules of deleted rules are not removed, hence the compiled rules of a tenant are bounded.
+        if (tenantCompiledRules.size() >= MAX_COMPILED_RULES_PER_TENANT) {
+            tenantCompiledRules.clear();
+        }
+        tenantCompiledRules.put(rule.getId(), compiledRule);
+        return compiledRule;
+    }
+
     private Map<String, FieldValue> getEvaluationData(String ruleId, FlowContext flowContext,
                                                       String tenantDomain, List<Field> fieldsInRule)
             throws RuleEvaluationException {
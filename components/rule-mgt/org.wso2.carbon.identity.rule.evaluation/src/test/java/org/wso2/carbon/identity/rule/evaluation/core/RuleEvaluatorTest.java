@@ -28,7 +28,9 @@ import org.wso2.carbon.identity.rule.evaluation.api.exception.RuleEvaluationExce
 import org.wso2.carbon.identity.rule.evaluation.api.model.FieldValue;
 import org.wso2.carbon.identity.rule.evaluation.api.model.ValueType;
 import org.wso2.carbon.identity.rule.evaluation.internal.component.RuleEvaluationComponentServiceHolder;
+import org.wso2.carbon.identity.rule.evaluation.internal.service.impl.CompiledRule;
 import org.wso2.carbon.identity.rule.evaluation.internal.service.impl.OperatorRegistry;
+import org.wso2.carbon.identity.rule.evaluation.internal.service.impl.RuleCompiler;
 import org.wso2.carbon.identity.rule.evaluation.internal.service.impl.RuleEvaluator;
 import org.wso2.carbon.identity.rule.management.api.model.Expression;
 import org.wso2.carbon.identity.rule.management.api.model.FlowType;
@@ -60,12 +62,17 @@ import java.util.Objects;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 
 public class RuleEvaluatorTest {
 
+    private static final org.wso2.carbon.identity.rule.evaluation.api.model.FlowType PRE_ISSUE_ACCESS_TOKEN_FLOW =
+            org.wso2.carbon.identity.rule.evaluation.api.model.FlowType.PRE_ISSUE_ACCESS_TOKEN;
+
     private RuleEvaluator ruleEvaluator;
+    private RuleCompiler ruleCompiler;
     private OperatorRegistry operatorRegistry;
     private MockedStatic<RuleMetadataConfigFactory> ruleMetadataConfigFactoryMockedStatic;
 
@@ -97,6 +104,7 @@ public class RuleEvaluatorTest {
     public void setUpMethod() {
 
         ruleEvaluator = new RuleEvaluator(operatorRegistry);
+        ruleCompiler = new RuleCompiler(operatorRegistry);
     }
 
     @AfterClass
@@ -149,6 +157,58 @@ public class RuleEvaluatorTest {
                 Collections.emptyMap());
     }
 
+    @Test(dataProvider = "ruleEvaluationDataProvider")
+    public void testEvaluateCompiledRule(Rule rule, Map<String, FieldValue> evaluationData, boolean expectedResult)
+            throws RuleEvaluationException {
+
+        CompiledRule compiledRule = ruleCompiler.compile(rule, PRE_ISSUE_ACCESS_TOKEN_FLOW, Collections.emptyList());
+        assertEquals(compiledRule.evaluate(evaluationData), expectedResult);
+        assertTrue(compiledRule.isCompiledFrom(rule, PRE_ISSUE_ACCESS_TOKEN_FLOW));
+    }
+
+    @Test(expectedExceptions = RuleEvaluationException.class,
+            expectedExceptionsMessageRegExp = "Field value not found for the field: application")
+    public void testEvaluateCompiledRuleFieldValueNotFound() throws Exception {
+
+        ruleCompiler.compile(createRuleWithTwoANDExpressionsUsingReferenceAndStringValueTypes(),
+                PRE_ISSUE_ACCESS_TOKEN_FLOW, Collections.emptyList()).evaluate(Collections.emptyMap());
+    }
+
+    @Test
+    public void testCompiledRuleMatchesInterpretedEvaluationForManyBranches() throws Exception {
+
+        Rule rule = createRuleWithManyORAndANDBranches();
+        CompiledRule compiledRule = ruleCompiler.compile(rule, PRE_ISSUE_ACCESS_TOKEN_FLOW, Collections.emptyList());
+
+        for (int app = 0; app < 12; app++) {
+            for (int riskScore = 0; riskScore < 12; riskScore++) {
+                Map<String, FieldValue> evaluationData = createEvaluationData("testapp" + app, riskScore);
+                evaluationData.put("grantType", new FieldValue("grantType", "authorization_code", ValueType.STRING));
+                assertEquals(compiledRule.evaluate(evaluationData), ruleEvaluator.evaluate(rule, evaluationData),
+                        "Mismatch for application: testapp" + app + " risk score: " + riskScore);
+            }
+        }
+    }
+
+    private Rule createRuleWithManyORAndANDBranches() throws Exception {
+
+        RuleBuilder ruleBuilder = RuleBuilder.create(FlowType.PRE_ISSUE_ACCESS_TOKEN, "tenant1");
+
+        for (int i = 0; i < 10; i++) {
+            if (i > 0) {
+                ruleBuilder.addOrCondition();
+            }
+            ruleBuilder.addAndExpression(new Expression.Builder().field("application").operator("equals")
+                    .value(new Value(Value.Type.REFERENCE, "testapp" + i)).build());
+            ruleBuilder.addAndExpression(new Expression.Builder().field("riskScore").operator("notEquals")
+                    .value(new Value(Value.Type.NUMBER, String.valueOf(i))).build());
+            ruleBuilder.addAndExpression(new Expression.Builder().field("grantType").operator("equals")
+                    .value(new Value(Value.Type.STRING, "authorization_code")).build());
+        }
+
+        return ruleBuilder.build();
+    }
+
     private Rule createRuleWithTwoANDExpressionsUsingReferenceAndStringValueTypes() throws Exception {
 
         RuleBuilder ruleBuilder = RuleBuilder.create(FlowType.PRE_ISSUE_ACCESS_TOKEN, "tenant1");
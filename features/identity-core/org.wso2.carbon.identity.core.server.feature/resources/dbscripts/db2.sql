@@ -2724,6 +2724,9 @@ CREATE TABLE IF NOT EXISTS IDN_ASYNC_OPERATION_STATUS (
 	CREATED_AT TIMESTAMP NOT NULL,
 	LAST_MODIFIED TIMESTAMP NOT NULL,
 	POLICY VARCHAR(127),
+	SUCCESS_COUNT INTEGER,
+	FAILED_COUNT INTEGER,
+	PARTIALLY_COMPLETED_COUNT INTEGER,
 
 	PRIMARY KEY (OPERATION_ID),
 	CONSTRAINT ASYNC_OP_STATUS_CK_UNQ UNIQUE (CURSOR_KEY)
@@ -3038,3 +3041,7 @@ CREATE INDEX IDX_SAML2_SP_PROPERTIES ON IDN_SAML2_SP_PROPERTIES (SP_ID)
 --SP_CLAIM_MAPPING--
 CREATE INDEX IDX_SPCM_APP ON SP_CLAIM_MAPPING (APP_ID)
 /
+
+-- FLOW EXECUTION --
+CREATE INDEX IDX_FLOW_CONTEXT_EXPIRES_AT ON IDN_FLOW_CONTEXT_STORE (EXPIRES_AT)
+/
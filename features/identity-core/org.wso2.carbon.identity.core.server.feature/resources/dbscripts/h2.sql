@@ -1717,6 +1717,9 @@ CREATE TABLE IF NOT EXISTS IDN_ASYNC_OPERATION_STATUS (
     CREATED_AT TIMESTAMP NOT NULL,
     LAST_MODIFIED TIMESTAMP NOT NULL,
     POLICY VARCHAR(127),
+    SUCCESS_COUNT INTEGER,
+    FAILED_COUNT INTEGER,
+    PARTIALLY_COMPLETED_COUNT INTEGER,
     PRIMARY KEY (OPERATION_ID),
     CONSTRAINT ASYNC_OP_STATUS_CK_UNQ UNIQUE (CURSOR_KEY)
 );
@@ -1999,4 +2002,4 @@ CREATE INDEX IDX_WF_APPROVAL_STATE ON WF_WORKFLOW_APPROVAL_STATE(EVENT_ID,WORKFL
 CREATE INDEX IDX_WF_APPROVAL_RELATION ON WF_WORKFLOW_APPROVAL_RELATION(TASK_ID, APPROVER_TYPE, APPROVER_NAME);
 
 -- FLOW EXECUTION --
-CREATE INDEX IDX_FLOW_CONTEXT_EXPIRES_AT ON FLOW_CONTEXT_STORE (EXPIRES_AT);
+CREATE INDEX IDX_FLOW_CONTEXT_EXPIRES_AT ON IDN_FLOW_CONTEXT_STORE (EXPIRES_AT);
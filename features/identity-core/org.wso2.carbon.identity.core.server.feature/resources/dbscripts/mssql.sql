@@ -1894,6 +1894,9 @@ CREATE TABLE IDN_ASYNC_OPERATION_STATUS (
     CREATED_AT DATETIME2 NOT NULL,
     LAST_MODIFIED DATETIME2 NOT NULL,
     POLICY VARCHAR(127),
+    SUCCESS_COUNT INTEGER,
+    FAILED_COUNT INTEGER,
+    PARTIALLY_COMPLETED_COUNT INTEGER,
     PRIMARY KEY (OPERATION_ID),
     CONSTRAINT ASYNC_OP_STATUS_CK_UNQ UNIQUE (CURSOR_KEY)
 );
@@ -2186,6 +2189,9 @@ CREATE INDEX IDX_SPCM_APP ON SP_CLAIM_MAPPING (APP_ID);
 CREATE INDEX IDX_OAUTH2_ACCESS_TOKEN_ATTRIBUTES_TOKEN_ID ON IDN_OAUTH2_ACCESS_TOKEN_ATTRIBUTES (TOKEN_ID);
 CREATE INDEX IDX_OAUTH2_ACCESS_TOKEN_ATTRIBUTES_TOKEN_ATTR_NAME ON IDN_OAUTH2_ACCESS_TOKEN_ATTRIBUTES (TOKEN_ATTR_NAME);
 
+-- FLOW EXECUTION --
+CREATE INDEX IDX_FLOW_CONTEXT_EXPIRES_AT ON IDN_FLOW_CONTEXT_STORE (EXPIRES_AT);
+
 GO
 
 -- Trigger IDN_CLAIM delete by dialect on IDN_CLAIM_DIALECT deletion --